@@ -2,6 +2,8 @@ package io.releasehub.application.auth;
 
 import io.releasehub.domain.user.User;
 
+import java.util.Optional;
+
 public interface TokenPort {
     TokenInfo createToken(User user);
 
@@ -12,4 +14,9 @@ public interface TokenPort {
 
     boolean validateToken(String token);
     String getUsernameFromToken(String token);
+
+    /**
+     * 一次解析完成验签并读取主体，令牌无效或已过期时返回 empty
+     */
+    Optional<VerifiedToken> verify(String token);
 }
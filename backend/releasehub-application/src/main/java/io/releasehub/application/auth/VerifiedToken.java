@@ -0,0 +1,9 @@
+package io.releasehub.application.auth;
+
+import java.time.Instant;
+
+/**
+ * 验签通过的令牌：主体用户名与令牌过期时间
+ */
+public record VerifiedToken(String username, Instant expiresAt) {
+}
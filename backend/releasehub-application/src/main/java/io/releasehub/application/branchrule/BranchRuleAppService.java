@@ -7,6 +7,7 @@ import io.releasehub.domain.branchrule.BranchRuleId;
 import io.releasehub.domain.branchrule.BranchRuleScope;
 import io.releasehub.domain.branchrule.BranchRuleType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +22,8 @@ import java.util.List;
 public class BranchRuleAppService implements BranchRuleUseCase {
 
     private final BranchRulePort branchRulePort;
+    private final BranchRuleEngine branchRuleEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<BranchRule> list() {
@@ -44,6 +47,7 @@ public class BranchRuleAppService implements BranchRuleUseCase {
         Instant now = Instant.now();
         BranchRule rule = BranchRule.create(name, pattern, type, description, scope, now);
         branchRulePort.save(rule);
+        publishChanged(rule.getId().value());
         return rule;
     }
 
@@ -53,6 +57,7 @@ public class BranchRuleAppService implements BranchRuleUseCase {
         BranchRule rule = get(id);
         rule.update(name, pattern, type, description, scope, Instant.now());
         branchRulePort.save(rule);
+        publishChanged(id);
         return rule;
     }
 
@@ -62,6 +67,7 @@ public class BranchRuleAppService implements BranchRuleUseCase {
         branchRulePort.findById(ruleId)
                 .orElseThrow(() -> NotFoundException.branchRule(id));
         branchRulePort.deleteById(ruleId);
+        publishChanged(id);
     }
 
     @Transactional
@@ -69,6 +75,7 @@ public class BranchRuleAppService implements BranchRuleUseCase {
         BranchRule rule = get(id);
         rule.enable(Instant.now());
         branchRulePort.save(rule);
+        publishChanged(id);
     }
 
     @Transactional
@@ -76,41 +83,24 @@ public class BranchRuleAppService implements BranchRuleUseCase {
         BranchRule rule = get(id);
         rule.disable(Instant.now());
         branchRulePort.save(rule);
+        publishChanged(id);
     }
 
     /**
      * 检查分支名称是否符合规则
      * 新模型：所有规则都是允许规则，只匹配已启用的规则
      */
-    @Transactional(readOnly = true)
     public boolean isCompliant(String branchName) {
         return isCompliant(branchName, null, null);
     }
 
     /**
-     * 检查指定作用域下的分支名称是否符合规则。
+     * 检查指定作用域下的分支名称是否符合规则，由 {@link BranchRuleEngine} 在内存中判断。
      * 规则按 SUB_PROJECT > PROJECT > GLOBAL 解析；存在更具体规则时不再回退到全局规则。
      */
     @Override
-    @Transactional(readOnly = true)
     public boolean isCompliant(String branchName, String projectId, String subProjectId) {
-        List<BranchRule> enabledRules = branchRulePort.findAllEnabled();
-        if (enabledRules.isEmpty()) {
-            return true; // 无启用规则时默认允许
-        }
-        List<BranchRule> scopedRules = enabledRules.stream()
-                .filter(rule -> rule.getScope().matches(projectId, subProjectId))
-                .toList();
-        if (scopedRules.isEmpty()) {
-            return true;
-        }
-        int maxSpecificity = scopedRules.stream()
-                .mapToInt(rule -> rule.getScope().specificity())
-                .max()
-                .orElse(0);
-        return scopedRules.stream()
-                .filter(rule -> rule.getScope().specificity() == maxSpecificity)
-                .anyMatch(rule -> rule.matches(branchName));
+        return branchRuleEngine.isCompliant(branchName, projectId, subProjectId);
     }
 
     @Transactional(readOnly = true)
@@ -132,4 +122,8 @@ public class BranchRuleAppService implements BranchRuleUseCase {
             return new BranchRuleTestResult(false, null, List.of(e.getMessage()));
         }
     }
+
+    private void publishChanged(String ruleId) {
+        eventPublisher.publishEvent(new BranchRulesChangedEvent(ruleId));
+    }
 }
@@ -0,0 +1,137 @@
+package io.releasehub.application.branchrule;
+
+import io.releasehub.domain.branchrule.BranchRule;
+import io.releasehub.domain.branchrule.BranchRuleScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * 分支规则引擎。
+ * <p>
+ * 把已启用的规则按作用域建立索引并预编译正则，合规检查只在内存中进行。
+ * 规则变更事务提交后整体失效重建；多实例部署时其他实例的变更最迟在 cache-seconds 后生效。
+ */
+@Slf4j
+@Component
+public class BranchRuleEngine {
+
+    private final BranchRulePort branchRulePort;
+    private final long maxAgeNanos;
+    private final AtomicReference<RuleSet> ruleSet = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public BranchRuleEngine(BranchRulePort branchRulePort,
+                            @Value("${releasehub.branch-rule.cache-seconds:300}") long cacheSeconds) {
+        this.branchRulePort = branchRulePort;
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(Math.max(1, cacheSeconds));
+    }
+
+    /**
+     * 规则按 SUB_PROJECT > PROJECT > GLOBAL 解析；存在更具体规则时不再回退到全局规则。
+     * 没有任何适用规则时默认允许。
+     */
+    public boolean isCompliant(String branchName, String projectId, String subProjectId) {
+        List<Pattern> patterns = current().resolve(projectId, subProjectId);
+        if (patterns.isEmpty()) {
+            return true;
+        }
+        if (branchName == null || branchName.isBlank()) {
+            return false;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(branchName).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRulesChanged(BranchRulesChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        ruleSet.set(null);
+    }
+
+    private RuleSet current() {
+        RuleSet cached = ruleSet.get();
+        if (cached != null && System.nanoTime() - cached.loadedAt < maxAgeNanos) {
+            return cached;
+        }
+        long loadingGeneration = generation.get();
+        RuleSet loaded = RuleSet.of(branchRulePort.findAllEnabled());
+        // 加载期间规则又发生变更时不缓存本次结果，避免覆盖更新后的失效
+        if (generation.get() == loadingGeneration) {
+            ruleSet.compareAndSet(cached, loaded);
+        }
+        log.debug("[BranchRule] Loaded {} enabled rule(s)", loaded.size);
+        return loaded;
+    }
+
+    private record ProjectKey(String projectId, String subProjectId) {
+    }
+
+    private static final class RuleSet {
+        private final List<Pattern> global;
+        private final Map<String, List<Pattern>> byProject;
+        private final Map<ProjectKey, List<Pattern>> bySubProject;
+        private final int size;
+        private final long loadedAt = System.nanoTime();
+
+        private RuleSet(List<Pattern> global, Map<String, List<Pattern>> byProject,
+                        Map<ProjectKey, List<Pattern>> bySubProject, int size) {
+            this.global = global;
+            this.byProject = byProject;
+            this.bySubProject = bySubProject;
+            this.size = size;
+        }
+
+        static RuleSet of(List<BranchRule> rules) {
+            List<Pattern> global = new ArrayList<>();
+            Map<String, List<Pattern>> byProject = new HashMap<>();
+            Map<ProjectKey, List<Pattern>> bySubProject = new HashMap<>();
+            for (BranchRule rule : rules) {
+                BranchRuleScope scope = rule.getScope();
+                Pattern pattern = rule.compiledPattern();
+                switch (scope.getLevel()) {
+                    case GLOBAL -> global.add(pattern);
+                    case PROJECT -> byProject.computeIfAbsent(scope.getProjectId(), k -> new ArrayList<>()).add(pattern);
+                    case SUB_PROJECT -> bySubProject.computeIfAbsent(
+                            new ProjectKey(scope.getProjectId(), scope.getSubProjectId()), k -> new ArrayList<>()).add(pattern);
+                }
+            }
+            return new RuleSet(List.copyOf(global), byProject, bySubProject, rules.size());
+        }
+
+        List<Pattern> resolve(String projectId, String subProjectId) {
+            if (projectId != null) {
+                if (subProjectId != null) {
+                    List<Pattern> subProjectRules = bySubProject.get(new ProjectKey(projectId, subProjectId));
+                    if (subProjectRules != null) {
+                        return subProjectRules;
+                    }
+                }
+                List<Pattern> projectRules = byProject.get(projectId);
+                if (projectRules != null) {
+                    return projectRules;
+                }
+            }
+            return global;
+        }
+    }
+}
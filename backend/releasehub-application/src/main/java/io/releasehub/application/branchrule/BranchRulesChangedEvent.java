@@ -0,0 +1,16 @@
+package io.releasehub.application.branchrule;
+
+/**
+ * 分支规则变更事件。规则创建、更新、删除、启用或禁用时发布，供规则引擎在事务提交后重建规则集。
+ */
+public class BranchRulesChangedEvent {
+    private final String ruleId;
+
+    public BranchRulesChangedEvent(String ruleId) {
+        this.ruleId = ruleId;
+    }
+
+    public String getRuleId() {
+        return ruleId;
+    }
+}
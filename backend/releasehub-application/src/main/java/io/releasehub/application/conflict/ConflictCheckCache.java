@@ -0,0 +1,134 @@
+package io.releasehub.application.conflict;
+
+import io.releasehub.application.releasewindow.WindowClosedEvent;
+import io.releasehub.domain.conflict.ConflictItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 冲突检查结果缓存，以分支头提交 SHA 作为输入指纹。
+ * <p>
+ * 每个 (仓库, 迭代, feature/release/默认分支) 记录上次扫描时的 (feature SHA, release SHA, 默认分支 SHA)
+ * 及各项检查结果。再次扫描时仅当某项检查依赖的 SHA 发生变化才重新执行：
+ * <ul>
+ *     <li>版本号检测依赖 feature SHA 与系统记录的开发版本</li>
+ *     <li>feature → release 合并预检依赖 feature SHA 与 release SHA</li>
+ *     <li>release → 默认分支合并预检依赖 release SHA 与默认分支 SHA</li>
+ * </ul>
+ * 权限不足、服务不可用等瞬时失败不会被缓存。
+ * <p>
+ * 条目数超过 max-entries 时淘汰最久未访问的条目，写入超过 expire-minutes 的条目视为失效；
+ * 窗口关闭事务提交后移除该窗口的全部条目。
+ */
+@Component
+public class ConflictCheckCache {
+
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final Map<Scope, Stored> entries;
+
+    public ConflictCheckCache(@Value("${releasehub.conflict.check-cache.max-entries:5000}") int maxEntries,
+                              @Value("${releasehub.conflict.check-cache.expire-minutes:720}") long expireMinutes) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxAgeNanos = TimeUnit.MINUTES.toNanos(Math.max(1, expireMinutes));
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Scope, Stored> eldest) {
+                return size() > ConflictCheckCache.this.maxEntries;
+            }
+        });
+    }
+
+    Optional<Entry> get(Scope scope) {
+        Stored stored = entries.get(scope);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        if (System.nanoTime() - stored.storedAt() >= maxAgeNanos) {
+            entries.remove(scope, stored);
+            return Optional.empty();
+        }
+        return Optional.of(stored.entry());
+    }
+
+    void put(Scope scope, Entry entry) {
+        entries.put(scope, new Stored(entry, System.nanoTime()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWindowClosed(WindowClosedEvent event) {
+        evictWindow(event.getWindowId());
+    }
+
+    public void evictWindow(String windowId) {
+        synchronized (entries) {
+            entries.keySet().removeIf(scope -> scope.windowId().equals(windowId));
+        }
+    }
+
+    /**
+     * 缓存范围：同一窗口内同一仓库在同一迭代下的一组分支
+     */
+    record Scope(String windowId, String repoId, String iterationKey,
+                 String featureBranch, String releaseBranch, String defaultBranch) {
+    }
+
+    private record Stored(Entry entry, long storedAt) {
+    }
+
+    /**
+     * 分支头提交 SHA，分支不存在或读取失败时为 null
+     */
+    record BranchHeads(String feature, String release, String defaultBranch) {
+    }
+
+    /**
+     * 一次扫描的检查结果，值为 null 表示该检查未执行或结果不可复用
+     */
+    record Entry(
+            BranchHeads heads,
+            String systemVersion,
+            List<ConflictItem> versionConflicts,
+            List<ConflictItem> featureMergeConflicts,
+            List<ConflictItem> releaseMergeConflicts
+    ) {
+        Optional<List<ConflictItem>> versionConflicts(BranchHeads current, String currentSystemVersion) {
+            return versionConflicts != null
+                    && sameHead(heads.feature(), current.feature())
+                    && Objects.equals(systemVersion, currentSystemVersion)
+                    ? Optional.of(versionConflicts) : Optional.empty();
+        }
+
+        Optional<List<ConflictItem>> featureMergeConflicts(BranchHeads current) {
+            return featureMergeConflicts != null
+                    && sameHead(heads.feature(), current.feature())
+                    && sameHead(heads.release(), current.release())
+                    ? Optional.of(featureMergeConflicts) : Optional.empty();
+        }
+
+        Optional<List<ConflictItem>> releaseMergeConflicts(BranchHeads current) {
+            return releaseMergeConflicts != null
+                    && sameHead(heads.release(), current.release())
+                    && sameHead(heads.defaultBranch(), current.defaultBranch())
+                    ? Optional.of(releaseMergeConflicts) : Optional.empty();
+        }
+
+        private static boolean sameHead(String previous, String current) {
+            return previous != null && previous.equals(current);
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package io.releasehub.application.conflict;
 
 import io.releasehub.application.branchrule.BranchRuleUseCase;
-import io.releasehub.application.iteration.IterationPort;
-import io.releasehub.application.iteration.IterationRepoPort;
+import io.releasehub.application.conflict.ConflictScanSummary.CheckType;
 import io.releasehub.application.iteration.IterationRepoVersionInfo;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.application.releasewindow.ReleaseWindowPort;
-import io.releasehub.application.repo.CodeRepositoryPort;
 import io.releasehub.application.version.VersionDeriverUseCase;
 import io.releasehub.application.version.VersionExtractorUseCase;
+import io.releasehub.application.window.WindowContext;
+import io.releasehub.application.window.WindowContextLoader;
 import io.releasehub.application.window.WindowIterationPort;
 import io.releasehub.domain.conflict.ConflictItem;
 import io.releasehub.domain.conflict.ConflictReport;
@@ -27,6 +27,12 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -35,14 +41,14 @@ public class ConflictDetectionAppService {
 
     private final ReleaseWindowPort releaseWindowPort;
     private final WindowIterationPort windowIterationPort;
-    private final IterationPort iterationPort;
-    private final IterationRepoPort iterationRepoPort;
-    private final CodeRepositoryPort codeRepositoryPort;
     private final GitBranchAdapterFactory gitBranchAdapterFactory;
     private final VersionExtractorUseCase versionExtractorUseCase;
     private final VersionDeriverUseCase versionDeriverUseCase;
     private final BranchRuleUseCase branchRuleUseCase;
     private final ConflictDetectionPort conflictDetectionPort;
+    private final ConflictScanExecutor conflictScanExecutor;
+    private final ConflictCheckCache conflictCheckCache;
+    private final WindowContextLoader windowContextLoader;
 
     private static final String RELEASE_PREFIX = "release/";
     private static final String FEATURE_PREFIX = "feature/";
@@ -51,78 +57,235 @@ public class ConflictDetectionAppService {
      * 扫描指定发布窗口的所有冲突
      */
     public ConflictReport checkWindowConflicts(String windowId) {
-        List<ConflictItem> allConflicts = new ArrayList<>();
+        return scanWindowConflicts(windowId, progress -> { }).report();
+    }
+
+    /**
+     * 扫描指定发布窗口的所有冲突。
+     * <p>
+     * 各仓库的版本/分支/合并预检由 {@link ConflictScanExecutor} 并发执行，每个仓库完成后通过
+     * {@code progress} 推送该仓库的部分结果；跨仓库版本一致性检测在所有仓库完成后按迭代执行。
+     * 同一仓库挂在多个迭代下时，release → 默认分支的合并预检在本次扫描中只执行一次，结果由各迭代共享。
+     */
+    public ConflictScanResult scanWindowConflicts(String windowId, Consumer<ConflictScanProgress> progress) {
+        ConflictScanMetrics metrics = new ConflictScanMetrics();
 
         ReleaseWindow rw = releaseWindowPort.findById(ReleaseWindowId.of(windowId)).orElse(null);
         if (rw == null) {
-            return ConflictReport.empty(windowId);
+            return new ConflictScanResult(ConflictReport.empty(windowId), metrics.summarize(windowId, 0, 0));
         }
 
         String releaseBranch = RELEASE_PREFIX + rw.getWindowKey();
 
+        List<Iteration> iterations = new ArrayList<>();
+        List<Integer> taskCounts = new ArrayList<>();
+        List<RepoScanTask> tasks = new ArrayList<>();
         List<WindowIteration> bindings = windowIterationPort.listByWindow(ReleaseWindowId.of(windowId));
+        WindowContext context = windowContextLoader.load(bindings.stream().map(WindowIteration::getIterationKey).toList());
         for (WindowIteration wi : bindings) {
-            Iteration iteration = iterationPort.findByKey(wi.getIterationKey()).orElse(null);
+            Iteration iteration = context.iteration(wi.getIterationKey()).orElse(null);
             if (iteration == null) continue;
+            iterations.add(iteration);
+            int tasksBefore = tasks.size();
 
             String iterationKey = iteration.getId().value();
             for (RepoId repoId : iteration.getRepos()) {
-                Optional<CodeRepository> repoOpt = codeRepositoryPort.findById(repoId);
+                Optional<CodeRepository> repoOpt = context.repo(repoId);
                 if (repoOpt.isEmpty()) continue;
                 CodeRepository repo = repoOpt.get();
 
-                Optional<IterationRepoVersionInfo> versionInfoOpt =
-                        iterationRepoPort.getVersionInfo(iterationKey, repoId.value());
+                Optional<IterationRepoVersionInfo> versionInfoOpt = context.versionInfo(iterationKey, repoId.value());
                 String featureBranch = versionInfoOpt
                         .map(IterationRepoVersionInfo::getFeatureBranch)
                         .orElse(FEATURE_PREFIX + iterationKey);
                 String systemVersion = versionInfoOpt
                         .map(IterationRepoVersionInfo::getDevVersion)
                         .orElse(null);
+                tasks.add(new RepoScanTask(repo, iterationKey, featureBranch, systemVersion));
+            }
+            taskCounts.add(tasks.size() - tasksBefore);
+        }
 
-                // 1. 版本号冲突检测
-                allConflicts.addAll(detectVersionConflicts(repo, featureBranch, systemVersion, iterationKey));
-
-                // 2. 分支冲突检测
-                allConflicts.addAll(detectBranchConflicts(repo, featureBranch, releaseBranch, iterationKey));
+        AtomicInteger completed = new AtomicInteger();
+        SharedMergeChecks sharedMergeChecks = new SharedMergeChecks();
+        List<List<ConflictItem>> repoConflicts = conflictScanExecutor.execute(
+                tasks,
+                task -> ConflictScanExecutor.gitHost(task.repo().getCloneUrl()),
+                task -> scanRepo(windowId, task, releaseBranch, metrics, sharedMergeChecks),
+                (task, conflicts) -> progress.accept(new ConflictScanProgress(
+                        task.repo().getId().value(), task.iterationKey(), conflicts,
+                        completed.incrementAndGet(), tasks.size())));
 
-                // 3. 合并冲突预检
-                allConflicts.addAll(detectMergeConflicts(repo, featureBranch, releaseBranch, iterationKey));
-            }
+        List<ConflictItem> allConflicts = new ArrayList<>();
+        int offset = 0;
+        for (int i = 0; i < iterations.size(); i++) {
+            int end = offset + taskCounts.get(i);
+            repoConflicts.subList(offset, end).forEach(allConflicts::addAll);
+            offset = end;
 
             // 4. 跨仓库版本一致性检测
-            allConflicts.addAll(detectCrossRepoConflicts(iteration));
+            allConflicts.addAll(detectCrossRepoConflicts(iterations.get(i), context));
         }
 
         ConflictReport report = ConflictReport.of(windowId, allConflicts);
         conflictDetectionPort.saveReport(windowId, report);
-        return report;
+
+        ConflictScanSummary summary = metrics.summarize(windowId, tasks.size(), allConflicts.size());
+        log.info("[ConflictScan] window={} repoScans={} conflicts={} reused={} duration={}ms checks={}",
+                windowId, summary.repoScans(), summary.conflictCount(), summary.reusedChecks(),
+                summary.duration().toMillis(), summary.checks());
+        return new ConflictScanResult(report, summary);
     }
 
-    private List<ConflictItem> detectVersionConflicts(CodeRepository repo, String branch,
-                                                       String systemVersion, String iterationKey) {
-        List<ConflictItem> results = new ArrayList<>();
-        if (systemVersion == null) return results;
+    private List<ConflictItem> scanRepo(String windowId, RepoScanTask task, String releaseBranch,
+                                        ConflictScanMetrics metrics, SharedMergeChecks sharedMergeChecks) {
+        CodeRepository repo = task.repo();
+        String iterationKey = task.iterationKey();
+        String featureBranch = task.featureBranch();
+        String defaultBranch = repo.getDefaultBranch();
+        GitBranchPort gitPort = gitBranchAdapterFactory.getAdapter(repo.getGitProvider());
+
+        BranchStatusProbe featureStatus = readBranchStatus(gitPort, repo, featureBranch, null, iterationKey, metrics);
+        BranchStatusProbe releaseStatus = readBranchStatus(gitPort, repo, releaseBranch, null, iterationKey, metrics);
+        String defaultHead = releaseStatus.status().exists()
+                ? readBranchHead(gitPort, repo, defaultBranch, metrics) : null;
+        ConflictCheckCache.BranchHeads heads = new ConflictCheckCache.BranchHeads(
+                featureStatus.status().latestCommit(), releaseStatus.status().latestCommit(), defaultHead);
+        ConflictCheckCache.Scope scope = new ConflictCheckCache.Scope(
+                windowId, repo.getId().value(), iterationKey, featureBranch, releaseBranch, defaultBranch);
+        Optional<ConflictCheckCache.Entry> previous = conflictCheckCache.get(scope);
+
+        List<ConflictItem> conflicts = new ArrayList<>();
+
+        // 1. 版本号冲突检测
+        CheckOutcome version = previous.flatMap(e -> e.versionConflicts(heads, task.systemVersion()))
+                .map(cached -> CheckOutcome.reused(cached, metrics))
+                .orElseGet(() -> detectVersionConflicts(repo, featureBranch, task.systemVersion(), iterationKey, metrics));
+        conflicts.addAll(version.conflicts());
+
+        // 2. 分支冲突检测
+        conflicts.addAll(detectBranchConflicts(repo, featureBranch, releaseBranch, iterationKey));
+
+        // 3. 合并冲突预检
+        CheckOutcome featureMerge = CheckOutcome.NOT_RUN;
+        CheckOutcome releaseMerge = CheckOutcome.NOT_RUN;
+        if (featureStatus.conflict().isPresent() || releaseStatus.conflict().isPresent()) {
+            featureStatus.conflict().ifPresent(conflicts::add);
+            releaseStatus.conflict().ifPresent(conflicts::add);
+        } else {
+            if (featureStatus.status().exists() && releaseStatus.status().exists()) {
+                featureMerge = previous.flatMap(e -> e.featureMergeConflicts(heads))
+                        .map(cached -> CheckOutcome.reused(cached, metrics))
+                        .orElseGet(() -> checkMergeability(repo, featureBranch, releaseBranch, iterationKey,
+                                () -> fetchMergeability(gitPort, repo, featureBranch, releaseBranch, metrics)));
+                conflicts.addAll(featureMerge.conflicts());
+            }
+            if (releaseStatus.status().exists()) {
+                releaseMerge = previous.flatMap(e -> e.releaseMergeConflicts(heads))
+                        .map(cached -> CheckOutcome.reused(cached, metrics))
+                        .orElseGet(() -> checkMergeability(repo, releaseBranch, defaultBranch, iterationKey,
+                                () -> sharedMergeChecks.get(repo.getId().value(), releaseBranch, defaultBranch, metrics,
+                                        () -> fetchMergeability(gitPort, repo, releaseBranch, defaultBranch, metrics))));
+                conflicts.addAll(releaseMerge.conflicts());
+            }
+        }
+
+        conflictCheckCache.put(scope, new ConflictCheckCache.Entry(heads, task.systemVersion(),
+                version.cacheable(heads.feature()), featureMerge.cacheable(heads.feature(), heads.release()),
+                releaseMerge.cacheable(heads.release(), heads.defaultBranch())));
+        return conflicts;
+    }
+
+    /**
+     * 单项检查结果，cacheable 为 false 时（如瞬时失败）下次扫描必须重新执行
+     */
+    private record CheckOutcome(List<ConflictItem> conflicts, boolean cacheable) {
+        static final CheckOutcome NOT_RUN = new CheckOutcome(List.of(), false);
+
+        static CheckOutcome reused(List<ConflictItem> conflicts, ConflictScanMetrics metrics) {
+            metrics.recordReuse();
+            return new CheckOutcome(conflicts, true);
+        }
+
+        /**
+         * 输入 SHA 全部已知且结果确定时返回可缓存的结果，否则返回 null
+         */
+        List<ConflictItem> cacheable(String... heads) {
+            if (!cacheable) {
+                return null;
+            }
+            for (String head : heads) {
+                if (head == null) {
+                    return null;
+                }
+            }
+            return conflicts;
+        }
+    }
+
+    private record RepoScanTask(CodeRepository repo, String iterationKey, String featureBranch, String systemVersion) {
+    }
+
+    /**
+     * 单次扫描内共享的合并预检结果：同一 (仓库, 源分支, 目标分支) 只由首个任务调用 Git 平台，
+     * 其余任务等待并复用其结果（包括异常），避免并发创建重复的临时 MR。
+     */
+    private static final class SharedMergeChecks {
+        private record Key(String repoId, String sourceBranch, String targetBranch) {
+        }
+
+        private final ConcurrentHashMap<Key, CompletableFuture<GitBranchPort.MergeabilityResult>> checks =
+                new ConcurrentHashMap<>();
+
+        GitBranchPort.MergeabilityResult get(String repoId, String sourceBranch, String targetBranch,
+                                             ConflictScanMetrics metrics,
+                                             Supplier<GitBranchPort.MergeabilityResult> check) {
+            CompletableFuture<GitBranchPort.MergeabilityResult> created = new CompletableFuture<>();
+            CompletableFuture<GitBranchPort.MergeabilityResult> existing =
+                    checks.putIfAbsent(new Key(repoId, sourceBranch, targetBranch), created);
+            if (existing == null) {
+                try {
+                    GitBranchPort.MergeabilityResult result = check.get();
+                    created.complete(result);
+                    return result;
+                } catch (RuntimeException e) {
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+            metrics.recordReuse();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+    }
+
+    private CheckOutcome detectVersionConflicts(CodeRepository repo, String branch,
+                                                String systemVersion, String iterationKey,
+                                                ConflictScanMetrics metrics) {
+        if (systemVersion == null) return new CheckOutcome(List.of(), true);
 
         String repoId = repo.getId().value();
         String repoName = repo.getName();
 
         Optional<VersionExtractorUseCase.VersionInfo> extractedOpt;
         try {
-            extractedOpt = versionExtractorUseCase.extractVersion(repo.getCloneUrl(), branch);
+            extractedOpt = metrics.time(CheckType.VERSION_EXTRACT,
+                    () -> versionExtractorUseCase.extractVersion(repo.getCloneUrl(), branch));
         } catch (RuntimeException e) {
             log.warn("Skip version conflict detection for repo {} on branch {}: {}",
                     repoId, branch, e.getMessage());
-            return results;
+            return new CheckOutcome(List.of(), false);
         }
 
-        if (extractedOpt.isEmpty()) return results;
+        if (extractedOpt.isEmpty()) return new CheckOutcome(List.of(), true);
 
         String repoVersion = extractedOpt.get().version();
-        if (systemVersion.equals(repoVersion)) return results;
+        if (systemVersion.equals(repoVersion)) return new CheckOutcome(List.of(), true);
 
-        results.add(buildVersionConflict(repoId, repoName, iterationKey, systemVersion, repoVersion));
-        return results;
+        return new CheckOutcome(List.of(buildVersionConflict(repoId, repoName, iterationKey, systemVersion, repoVersion)), true);
     }
 
     private ConflictItem buildVersionConflict(String repoId, String repoName, String iterationKey,
@@ -157,38 +320,13 @@ public class ConflictDetectionAppService {
         return branchRuleUseCase.isCompliant(branchName, repo.getGroupCode(), repo.getId().value());
     }
 
-    private List<ConflictItem> detectMergeConflicts(CodeRepository repo, String featureBranch,
-                                                     String releaseBranch, String iterationKey) {
-        List<ConflictItem> results = new ArrayList<>();
-        GitBranchPort gitPort = gitBranchAdapterFactory.getAdapter(repo.getGitProvider());
-
-        BranchStatusProbe featureStatus = readBranchStatus(gitPort, repo, featureBranch, null, iterationKey);
-        BranchStatusProbe releaseStatus = readBranchStatus(gitPort, repo, releaseBranch, null, iterationKey);
-        featureStatus.conflict().ifPresent(results::add);
-        releaseStatus.conflict().ifPresent(results::add);
-        if (!results.isEmpty()) {
-            return results;
-        }
-
-        String masterBranch = repo.getDefaultBranch();
-        if (featureStatus.status().exists() && releaseStatus.status().exists()) {
-            checkMergeability(gitPort, repo, featureBranch, releaseBranch, iterationKey)
-                    .ifPresent(results::add);
-        }
-
-        if (releaseStatus.status().exists()) {
-            checkMergeability(gitPort, repo, releaseBranch, masterBranch, iterationKey)
-                    .ifPresent(results::add);
-        }
-
-        return results;
-    }
-
     private BranchStatusProbe readBranchStatus(GitBranchPort gitPort, CodeRepository repo, String sourceBranch,
-                                               String targetBranch, String iterationKey) {
+                                               String targetBranch, String iterationKey,
+                                               ConflictScanMetrics metrics) {
         try {
             return new BranchStatusProbe(
-                    gitPort.getBranchStatus(repo.getCloneUrl(), repo.getGitAccessToken(), sourceBranch),
+                    metrics.time(CheckType.BRANCH_STATUS,
+                            () -> gitPort.getBranchStatus(repo.getCloneUrl(), repo.getGitAccessToken(), sourceBranch)),
                     Optional.empty());
         } catch (RuntimeException e) {
             log.warn("Git branch status check failed for repo {} branch {}: {}",
@@ -198,32 +336,58 @@ public class ConflictDetectionAppService {
         }
     }
 
-    private Optional<ConflictItem> checkMergeability(GitBranchPort gitPort, CodeRepository repo,
-                                                     String sourceBranch, String targetBranch, String iterationKey) {
+    /**
+     * 读取分支头 SHA 仅用于判断缓存是否可复用，失败时返回 null 使相关检查重新执行
+     */
+    private String readBranchHead(GitBranchPort gitPort, CodeRepository repo, String branch,
+                                  ConflictScanMetrics metrics) {
+        try {
+            return metrics.time(CheckType.BRANCH_STATUS,
+                    () -> gitPort.getBranchStatus(repo.getCloneUrl(), repo.getGitAccessToken(), branch)).latestCommit();
+        } catch (RuntimeException e) {
+            log.debug("Git branch head read failed for repo {} branch {}: {}",
+                    repo.getId().value(), branch, e.getMessage());
+            return null;
+        }
+    }
+
+    private GitBranchPort.MergeabilityResult fetchMergeability(GitBranchPort gitPort, CodeRepository repo,
+                                                               String sourceBranch, String targetBranch,
+                                                               ConflictScanMetrics metrics) {
+        return metrics.time(CheckType.MERGEABILITY, () -> gitPort.checkMergeability(
+                repo.getCloneUrl(), repo.getGitAccessToken(), sourceBranch, targetBranch));
+    }
+
+    /**
+     * 合并预检；只有可合并或平台按 merge_status 判定冲突的结果可以按 SHA 复用，
+     * 分支无效、重复 MR 等结果下次扫描需重新执行
+     */
+    private CheckOutcome checkMergeability(CodeRepository repo, String sourceBranch, String targetBranch,
+                                           String iterationKey, Supplier<GitBranchPort.MergeabilityResult> check) {
         GitBranchPort.MergeabilityResult mrCheck;
         try {
-            mrCheck = gitPort.checkMergeability(
-                    repo.getCloneUrl(), repo.getGitAccessToken(), sourceBranch, targetBranch);
+            mrCheck = check.get();
         } catch (RuntimeException e) {
             log.warn("Git mergeability check failed for repo {} {} -> {}: {}",
                     repo.getId().value(), sourceBranch, targetBranch, e.getMessage());
-            return Optional.of(buildGitAccessConflict(repo, iterationKey, sourceBranch, targetBranch, e));
+            return new CheckOutcome(List.of(buildGitAccessConflict(repo, iterationKey, sourceBranch, targetBranch, e)), false);
         }
         if (mrCheck.canMerge()) {
-            return Optional.empty();
+            return new CheckOutcome(List.of(), true);
         }
         String repoId = repo.getId().value();
         String repoName = repo.getName();
-        return Optional.of(switch (mrCheck.failure()) {
-            case CONFLICT -> ConflictItem.mergeConflict(repoId, repoName, iterationKey,
+        ConflictItem conflict = switch (mrCheck.failure()) {
+            case CONFLICT, INVALID_BRANCH -> ConflictItem.mergeConflict(repoId, repoName, iterationKey,
                     sourceBranch, targetBranch, mrCheck.detail());
             case PERMISSION_DENIED -> ConflictItem.gitPermissionDenied(repoId, repoName, iterationKey,
                     sourceBranch, targetBranch, mrCheck.detail());
-            case UNAVAILABLE, UNKNOWN -> ConflictItem.gitUnavailable(repoId, repoName, iterationKey,
+            case DUPLICATE_REQUEST, UNAVAILABLE, UNKNOWN -> ConflictItem.gitUnavailable(repoId, repoName, iterationKey,
                     sourceBranch, targetBranch, mrCheck.detail());
             case NONE -> ConflictItem.gitUnavailable(repoId, repoName, iterationKey,
                     sourceBranch, targetBranch, "Mergeability check returned non-mergeable without a failure reason");
-        });
+        };
+        return new CheckOutcome(List.of(conflict), mrCheck.failure() == GitBranchPort.MergeabilityFailure.CONFLICT);
     }
 
     private ConflictItem buildGitAccessConflict(CodeRepository repo, String iterationKey,
@@ -257,7 +421,7 @@ public class ConflictDetectionAppService {
     ) {
     }
 
-    private List<ConflictItem> detectCrossRepoConflicts(Iteration iteration) {
+    private List<ConflictItem> detectCrossRepoConflicts(Iteration iteration, WindowContext context) {
         List<ConflictItem> results = new ArrayList<>();
         List<RepoId> repos = List.copyOf(iteration.getRepos());
         if (repos.size() < 2) return results;
@@ -268,7 +432,7 @@ public class ConflictDetectionAppService {
 
         List<RepoVersionPair> pairs = new ArrayList<>();
         for (RepoId repoId : repos) {
-            iterationRepoPort.getVersionInfo(iterationKey, repoId.value())
+            context.versionInfo(iterationKey, repoId.value())
                     .ifPresent(info -> {
                         if (info.getTargetVersion() != null) {
                             pairs.add(new RepoVersionPair(repoId.value(), info.getTargetVersion()));
@@ -280,7 +444,7 @@ public class ConflictDetectionAppService {
             String firstVersion = pairs.get(0).version;
             for (int i = 1; i < pairs.size(); i++) {
                 if (!firstVersion.equals(pairs.get(i).version)) {
-                    String repoName = codeRepositoryPort.findById(RepoId.of(pairs.get(i).repoId))
+                    String repoName = context.repo(RepoId.of(pairs.get(i).repoId))
                             .map(CodeRepository::getName).orElse(pairs.get(i).repoId);
                     results.add(ConflictItem.crossRepoVersionMismatch(
                             pairs.get(i).repoId, repoName, iterationKey,
@@ -0,0 +1,126 @@
+package io.releasehub.application.conflict;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 冲突扫描并发执行器。
+ * <p>
+ * 每个仓库扫描任务运行在独立的虚拟线程上，总并发受 {@code releasehub.conflict.scan.parallelism} 限制，
+ * 同一 Git 主机上的并发另受 {@code releasehub.conflict.scan.per-host-limit} 限制，避免压垮单个 GitLab 实例。
+ * 每个任务完成后立即回调，结果列表仍按任务提交顺序返回。
+ */
+@Slf4j
+@Component
+public class ConflictScanExecutor {
+
+    private static final Pattern GIT_HOST_PATTERN = Pattern.compile("^(?:[a-z+]+://)?(?:[^@/]+@)?([^:/]+)");
+
+    private final int parallelism;
+    private final int perHostLimit;
+
+    public ConflictScanExecutor(@Value("${releasehub.conflict.scan.parallelism:8}") int parallelism,
+                                @Value("${releasehub.conflict.scan.per-host-limit:4}") int perHostLimit) {
+        this.parallelism = Math.max(1, parallelism);
+        this.perHostLimit = Math.max(1, perHostLimit);
+    }
+
+    /**
+     * 解析 clone URL 中的 Git 主机（https 与 ssh 形式），作为按主机限流的键
+     */
+    public static String gitHost(String cloneUrl) {
+        if (cloneUrl == null) {
+            return "";
+        }
+        Matcher matcher = GIT_HOST_PATTERN.matcher(cloneUrl.trim());
+        return matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : cloneUrl;
+    }
+
+    /**
+     * 并发执行扫描任务。
+     *
+     * @param tasks      扫描任务
+     * @param hostOf     任务所属的 Git 主机，用于按主机限流
+     * @param worker     任务执行函数
+     * @param onComplete 单个任务完成回调，串行调用
+     * @return 与 tasks 顺序一致的结果
+     */
+    public <T, R> List<R> execute(List<T> tasks, Function<T, String> hostOf,
+                                  Function<T, R> worker, BiConsumer<T, R> onComplete) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        Object[] results = new Object[tasks.size()];
+        Semaphore permits = new Semaphore(parallelism);
+        Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        Object callbackLock = new Object();
+        RuntimeException failure = null;
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("conflict-scan-", 0).factory())) {
+            for (int i = 0; i < tasks.size(); i++) {
+                int index = i;
+                T task = tasks.get(i);
+                Semaphore host = hostPermits.computeIfAbsent(hostOf.apply(task), h -> new Semaphore(perHostLimit));
+                futures.add(executor.submit(() -> {
+                    host.acquire();
+                    try {
+                        permits.acquire();
+                        try {
+                            R result = worker.apply(task);
+                            results[index] = result;
+                            synchronized (callbackLock) {
+                                onComplete.accept(task, result);
+                            }
+                        } finally {
+                            permits.release();
+                        }
+                    } finally {
+                        host.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException re
+                                ? re : new IllegalStateException(e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    throw new IllegalStateException("Conflict scan interrupted", e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        log.debug("[ConflictScanExecutor] tasks={} hosts={} parallelism={} perHostLimit={}",
+                tasks.size(), hostPermits.size(), parallelism, perHostLimit);
+        @SuppressWarnings("unchecked")
+        List<R> ordered = (List<R>) Arrays.asList(results);
+        return ordered;
+    }
+}
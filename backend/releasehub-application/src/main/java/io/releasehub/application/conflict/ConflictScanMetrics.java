@@ -0,0 +1,67 @@
+package io.releasehub.application.conflict;
+
+import io.releasehub.application.conflict.ConflictScanSummary.CheckType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 单次冲突扫描的耗时统计，线程安全。
+ */
+class ConflictScanMetrics {
+
+    private final long startedAt = System.nanoTime();
+    private final Map<CheckType, Counter> counters = new EnumMap<>(CheckType.class);
+    private final LongAdder reused = new LongAdder();
+
+    ConflictScanMetrics() {
+        for (CheckType type : CheckType.values()) {
+            counters.put(type, new Counter());
+        }
+    }
+
+    <T> T time(CheckType type, Supplier<T> check) {
+        long start = System.nanoTime();
+        try {
+            return check.get();
+        } finally {
+            counters.get(type).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 记录一次因分支头 SHA 未变化而复用上次结果的检查
+     */
+    void recordReuse() {
+        reused.increment();
+    }
+
+    ConflictScanSummary summarize(String windowId, int repoScans, int conflictCount) {
+        Map<CheckType, ConflictScanSummary.CheckLatency> latencies = new EnumMap<>(CheckType.class);
+        counters.forEach((type, counter) -> latencies.put(type, counter.snapshot()));
+        return new ConflictScanSummary(windowId, repoScans, conflictCount, reused.intValue(),
+                Duration.ofNanos(System.nanoTime() - startedAt), latencies);
+    }
+
+    private static final class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        ConflictScanSummary.CheckLatency snapshot() {
+            long n = count.sum();
+            Duration avg = n == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / n);
+            return new ConflictScanSummary.CheckLatency(n, avg, Duration.ofNanos(maxNanos.get()));
+        }
+    }
+}
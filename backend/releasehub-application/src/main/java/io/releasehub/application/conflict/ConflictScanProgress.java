@@ -0,0 +1,23 @@
+package io.releasehub.application.conflict;
+
+import io.releasehub.domain.conflict.ConflictItem;
+
+import java.util.List;
+
+/**
+ * 单个仓库扫描完成时推送的部分结果
+ *
+ * @param completed 已完成的仓库扫描数
+ * @param total     本次扫描的仓库扫描总数
+ */
+public record ConflictScanProgress(
+        String repoId,
+        String iterationKey,
+        List<ConflictItem> conflicts,
+        int completed,
+        int total
+) {
+    public ConflictScanProgress {
+        conflicts = List.copyOf(conflicts);
+    }
+}
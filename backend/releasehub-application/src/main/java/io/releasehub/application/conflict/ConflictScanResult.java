@@ -0,0 +1,9 @@
+package io.releasehub.application.conflict;
+
+import io.releasehub.domain.conflict.ConflictReport;
+
+/**
+ * 冲突扫描结果：报告与扫描统计
+ */
+public record ConflictScanResult(ConflictReport report, ConflictScanSummary summary) {
+}
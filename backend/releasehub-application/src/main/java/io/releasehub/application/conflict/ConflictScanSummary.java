@@ -0,0 +1,32 @@
+package io.releasehub.application.conflict;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 冲突扫描统计：总耗时、各类检查的调用次数与平均/最大耗时，以及因分支头未变化而复用的检查数
+ */
+public record ConflictScanSummary(
+        String windowId,
+        int repoScans,
+        int conflictCount,
+        int reusedChecks,
+        Duration duration,
+        Map<CheckType, CheckLatency> checks
+) {
+    public ConflictScanSummary {
+        checks = Map.copyOf(checks);
+    }
+
+    /**
+     * 扫描中调用外部 Git 服务的检查类型
+     */
+    public enum CheckType {
+        VERSION_EXTRACT,
+        BRANCH_STATUS,
+        MERGEABILITY
+    }
+
+    public record CheckLatency(long count, Duration avg, Duration max) {
+    }
+}
@@ -4,64 +4,100 @@ import io.releasehub.application.iteration.IterationPort;
 import io.releasehub.application.releasewindow.ReleaseWindowPort;
 import io.releasehub.application.repo.CodeRepositoryPort;
 import io.releasehub.application.run.RunPort;
-import io.releasehub.domain.releasewindow.ReleaseWindow;
 import io.releasehub.domain.releasewindow.ReleaseWindowStatus;
-import io.releasehub.domain.run.Run;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
  * Dashboard 应用服务
  * <p>
- * 提供仪表盘所需的统计数据
+ * 提供仪表盘所需的统计数据。总数优先读取计数表，未启用或缺少计数项时回退到 COUNT 查询；
+ * 近期运行数与每日运行数按创建时间做范围统计，不加载任何聚合。
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DashboardAppService {
 
+    static final int RECENT_DAYS = 7;
+
     private final ReleaseWindowPort releaseWindowPort;
     private final CodeRepositoryPort codeRepositoryPort;
     private final IterationPort iterationPort;
     private final RunPort runPort;
+    private final DashboardCounterPort dashboardCounterPort;
+    private final Clock clock;
+    private final boolean countersEnabled;
+
+    public DashboardAppService(ReleaseWindowPort releaseWindowPort,
+                               CodeRepositoryPort codeRepositoryPort,
+                               IterationPort iterationPort,
+                               RunPort runPort,
+                               DashboardCounterPort dashboardCounterPort,
+                               Clock clock,
+                               @Value("${releasehub.dashboard.counters-enabled:true}") boolean countersEnabled) {
+        this.releaseWindowPort = releaseWindowPort;
+        this.codeRepositoryPort = codeRepositoryPort;
+        this.iterationPort = iterationPort;
+        this.runPort = runPort;
+        this.dashboardCounterPort = dashboardCounterPort;
+        this.clock = clock;
+        this.countersEnabled = countersEnabled;
+    }
 
     /**
      * 获取仪表盘统计数据
      */
     public DashboardStats getStats() {
-        long totalRepositories = codeRepositoryPort.findAll().size();
-        long totalIterations = iterationPort.findAll().size();
-        long activeWindows = countActiveWindows();
-        long totalRuns = runPort.findAll().size();
-        long recentRuns = countRecentRuns();
+        long totalRepositories = total(DashboardCounter.REPOSITORIES, codeRepositoryPort::count);
+        long totalIterations = total(DashboardCounter.ITERATIONS, iterationPort::count);
+        long activeWindows = releaseWindowPort.countByStatusIn(
+                EnumSet.of(ReleaseWindowStatus.DRAFT, ReleaseWindowStatus.PUBLISHED));
+        long totalRuns = total(DashboardCounter.RUNS, runPort::count);
+        long recentRuns = runPort.countCreatedSince(Instant.now(clock).minus(RECENT_DAYS, ChronoUnit.DAYS));
+        List<DailyRunCount> recentRunsByDay = recentRunsByDay();
 
         return new DashboardStats(
                 totalRepositories,
                 totalIterations,
                 activeWindows,
                 totalRuns,
-                recentRuns
+                recentRuns,
+                recentRunsByDay
         );
     }
 
-    private long countActiveWindows() {
-        List<ReleaseWindow> all = releaseWindowPort.findAll();
-        return all.stream()
-                .filter(w -> w.getStatus() == ReleaseWindowStatus.DRAFT || w.getStatus() == ReleaseWindowStatus.PUBLISHED)
-                .count();
+    private long total(DashboardCounter counter, LongSupplier fallback) {
+        if (countersEnabled) {
+            return dashboardCounterPort.get(counter).orElseGet(fallback::getAsLong);
+        }
+        return fallback.getAsLong();
     }
 
-    private long countRecentRuns() {
-        Instant sevenDaysAgo = Instant.now().minus(7, ChronoUnit.DAYS);
-        List<Run> runs = runPort.findAll();
-        return runs.stream()
-                .filter(r -> r.getCreatedAt().isAfter(sevenDaysAgo))
-                .count();
+    /**
+     * 最近 7 天（含今天，UTC 自然日）每天的运行数，没有运行的日期补 0
+     */
+    private List<DailyRunCount> recentRunsByDay() {
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        LocalDate firstDay = today.minusDays(RECENT_DAYS - 1);
+        Instant since = firstDay.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Map<LocalDate, Long> counts = runPort.countCreatedByDay(since);
+        List<DailyRunCount> days = new ArrayList<>(RECENT_DAYS);
+        for (LocalDate day = firstDay; !day.isAfter(today); day = day.plusDays(1)) {
+            days.add(new DailyRunCount(day, counts.getOrDefault(day, 0L)));
+        }
+        return days;
     }
 
     /**
@@ -72,6 +108,12 @@ public class DashboardAppService {
             long totalIterations,
             long activeWindows,
             long totalRuns,
-            long recentRuns
+            long recentRuns,
+            List<DailyRunCount> recentRunsByDay
     ) {}
+
+    /**
+     * 单日运行数
+     */
+    public record DailyRunCount(LocalDate day, long runs) {}
 }
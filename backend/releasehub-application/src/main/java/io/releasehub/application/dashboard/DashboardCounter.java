@@ -0,0 +1,10 @@
+package io.releasehub.application.dashboard;
+
+/**
+ * 仪表盘计数项
+ */
+public enum DashboardCounter {
+    REPOSITORIES,
+    ITERATIONS,
+    RUNS
+}
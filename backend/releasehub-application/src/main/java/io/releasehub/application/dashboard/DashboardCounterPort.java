@@ -0,0 +1,19 @@
+package io.releasehub.application.dashboard;
+
+import java.util.Optional;
+
+/**
+ * 仪表盘计数表。由持久化适配器在新增/删除仓库、迭代、运行时增量维护。
+ */
+public interface DashboardCounterPort {
+
+    /**
+     * 读取计数；计数表中没有该项时为空，调用方应回退到 COUNT 查询
+     */
+    Optional<Long> get(DashboardCounter counter);
+
+    /**
+     * 原子地调整计数；计数表中没有该项时忽略
+     */
+    void increment(DashboardCounter counter, long delta);
+}
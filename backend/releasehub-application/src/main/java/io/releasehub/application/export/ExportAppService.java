@@ -1,158 +1,235 @@
 package io.releasehub.application.export;
 
 import io.releasehub.application.releasewindow.ReleaseWindowPort;
+import io.releasehub.application.run.RunItemFilter;
 import io.releasehub.application.run.RunPort;
+import io.releasehub.application.run.RunResultCount;
+import io.releasehub.application.run.RunSummary;
 import io.releasehub.common.exception.NotFoundException;
 import io.releasehub.domain.releasewindow.ReleaseWindow;
 import io.releasehub.domain.releasewindow.ReleaseWindowId;
 import io.releasehub.domain.run.Run;
 import io.releasehub.domain.run.RunItem;
+import io.releasehub.domain.run.RunStatus;
 import io.releasehub.domain.run.RunStep;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class ExportAppService {
+    private static final String RUN_CSV_HEADER =
+            "runId,windowKey,repo,iterationKey,plannedOrder,executedOrder,stepType,stepResult,stepStart,stepEnd,message,finalResult";
+    private static final String WINDOW_CSV_HEADER =
+            "windowId,windowKey,runId,runType,runStatus,repo,iterationKey,finalResult,stepType,stepResult,stepStart,stepEnd,message";
+
     private final RunPort runPort;
     private final ReleaseWindowPort releaseWindowPort;
 
-    public String exportCsv(String runId) {
-        Run run = runPort.findById(runId).orElseThrow();
-        StringJoiner joiner = new StringJoiner("\n");
-        joiner.add("runId,windowKey,repo,iterationKey,plannedOrder,executedOrder,stepType,stepResult,stepStart,stepEnd,message,finalResult");
-        for (RunItem item : run.getItems()) {
-            for (RunStep step : item.getSteps()) {
-                joiner.add(csvRow(List.of(
-                        run.getId().value(),
-                        item.getWindowKey(),
-                        item.getRepo().value(),
-                        item.getIterationKey() == null ? "" : item.getIterationKey().value(),
-                        String.valueOf(item.getPlannedOrder()),
-                        String.valueOf(item.getExecutedOrder()),
-                        step.actionType().name(),
-                        step.result().name(),
-                        step.startAt() == null ? "" : String.valueOf(step.startAt().toEpochMilli()),
-                        step.endAt() == null ? "" : String.valueOf(step.endAt().toEpochMilli()),
-                        valueOrEmpty(step.message()),
-                        item.getFinalResult() == null ? "" : item.getFinalResult().name()
-                )));
-            }
+    /**
+     * 流式导出前校验运行存在，保证不存在时返回 404 而不是写出半截响应
+     */
+    public void requireRun(String runId) {
+        if (!runPort.existsById(runId)) {
+            throw NotFoundException.run(runId);
         }
-        return joiner.toString();
+    }
+
+    public void requireReleaseWindow(String windowId) {
+        loadReleaseWindow(windowId);
+    }
+
+    /**
+     * 逐行写出运行的步骤明细，运行项按游标读取，内存占用与运行规模无关
+     */
+    @Transactional(readOnly = true)
+    public void writeRunCsv(String runId, OutputStream out) throws IOException {
+        ExportWriter writer = new ExportWriter(out);
+        writer.run(() -> {
+            writer.append(RUN_CSV_HEADER);
+            runPort.forEachItem(runId, RunItemFilter.none(), item -> {
+                for (RunStep step : item.getSteps()) {
+                    writer.append("\n").append(csvRow(List.of(
+                            runId,
+                            item.getWindowKey(),
+                            item.getRepo().value(),
+                            item.getIterationKey() == null ? "" : item.getIterationKey().value(),
+                            String.valueOf(item.getPlannedOrder()),
+                            String.valueOf(item.getExecutedOrder()),
+                            step.actionType().name(),
+                            step.result().name(),
+                            step.startAt() == null ? "" : String.valueOf(step.startAt().toEpochMilli()),
+                            step.endAt() == null ? "" : String.valueOf(step.endAt().toEpochMilli()),
+                            valueOrEmpty(step.message()),
+                            item.getFinalResult() == null ? "" : item.getFinalResult().name()
+                    )));
+                }
+            });
+        });
     }
 
     public ReleaseWindowReportView exportReleaseWindowReport(String windowId) {
-        ReleaseWindow window = releaseWindowPort.findById(ReleaseWindowId.of(windowId))
-                .orElseThrow(() -> NotFoundException.releaseWindow(windowId));
+        ReleaseWindow window = loadReleaseWindow(windowId);
         List<Run> runs = runPort.findByWindowKey(window.getWindowKey());
         return ReleaseWindowReportView.from(window, runs);
     }
 
-    public String exportReleaseWindowCsv(String windowId) {
-        ReleaseWindowReportView report = exportReleaseWindowReport(windowId);
-        StringJoiner joiner = new StringJoiner("\n");
-        joiner.add("windowId,windowKey,runId,runType,runStatus,repo,iterationKey,finalResult,stepType,stepResult,stepStart,stepEnd,message");
-        for (ReleaseWindowReportView.RunReport run : report.runs()) {
-            for (ReleaseWindowReportView.ItemReport item : run.items()) {
-                if (item.steps().isEmpty()) {
-                    joiner.add(csvRow(List.of(
-                            report.windowId(),
-                            report.windowKey(),
-                            run.runId(),
-                            run.runType(),
-                            run.status(),
-                            valueOrEmpty(item.repo()),
-                            valueOrEmpty(item.iterationKey()),
-                            valueOrEmpty(item.finalResult()),
-                            "",
-                            "",
-                            "",
-                            "",
-                            ""
-                    )));
-                    continue;
-                }
-                for (ReleaseWindowReportView.StepReport step : item.steps()) {
-                    joiner.add(csvRow(List.of(
-                            report.windowId(),
-                            report.windowKey(),
-                            run.runId(),
-                            run.runType(),
-                            run.status(),
-                            valueOrEmpty(item.repo()),
-                            valueOrEmpty(item.iterationKey()),
-                            valueOrEmpty(item.finalResult()),
-                            step.actionType(),
-                            step.result(),
-                            valueOrEmpty(step.startAt()),
-                            valueOrEmpty(step.endAt()),
-                            valueOrEmpty(step.message())
-                    )));
-                }
+    @Transactional(readOnly = true)
+    public void writeReleaseWindowCsv(String windowId, OutputStream out) throws IOException {
+        WindowRuns window = loadWindowRuns(windowId);
+        ExportWriter writer = new ExportWriter(out);
+        writer.run(() -> {
+            writer.append(WINDOW_CSV_HEADER);
+            for (WindowRun run : window.runs()) {
+                runPort.forEachItem(run.summary().id(), RunItemFilter.window(window.windowKey()), item -> {
+                    String finalResult = item.getFinalResult() == null ? null : item.getFinalResult().name();
+                    if (item.getSteps().isEmpty()) {
+                        writer.append("\n").append(csvRow(List.of(
+                                window.windowId(),
+                                window.windowKey(),
+                                run.summary().id(),
+                                run.summary().runType().name(),
+                                run.status(),
+                                valueOrEmpty(item.getRepo().value()),
+                                valueOrEmpty(item.getIterationKey() == null ? null : item.getIterationKey().value()),
+                                valueOrEmpty(finalResult),
+                                "",
+                                "",
+                                "",
+                                "",
+                                ""
+                        )));
+                        return;
+                    }
+                    for (RunStep step : item.getSteps()) {
+                        writer.append("\n").append(csvRow(List.of(
+                                window.windowId(),
+                                window.windowKey(),
+                                run.summary().id(),
+                                run.summary().runType().name(),
+                                run.status(),
+                                valueOrEmpty(item.getRepo().value()),
+                                valueOrEmpty(item.getIterationKey() == null ? null : item.getIterationKey().value()),
+                                valueOrEmpty(finalResult),
+                                step.actionType().name(),
+                                step.result().name(),
+                                step.startAt() == null ? "" : step.startAt().toString(),
+                                step.endAt() == null ? "" : step.endAt().toString(),
+                                valueOrEmpty(step.message())
+                        )));
+                    }
+                });
             }
-        }
-        return joiner.toString();
-    }
-
-    public String exportReleaseWindowMarkdown(String windowId) {
-        ReleaseWindowReportView report = exportReleaseWindowReport(windowId);
-        StringBuilder markdown = new StringBuilder();
-        markdown.append("# Release Window Report: ").append(markdownText(report.windowKey())).append("\n\n");
-        markdown.append("| Field | Value |\n");
-        markdown.append("| --- | --- |\n");
-        appendMarkdownRow(markdown, "Window ID", report.windowId());
-        appendMarkdownRow(markdown, "Window Key", report.windowKey());
-        appendMarkdownRow(markdown, "Name", report.name());
-        appendMarkdownRow(markdown, "Status", report.status());
-        appendMarkdownRow(markdown, "Group Code", report.groupCode());
-        appendMarkdownRow(markdown, "Planned Release At", report.plannedReleaseAt());
-        appendMarkdownRow(markdown, "Published At", report.publishedAt());
-        appendMarkdownRow(markdown, "Run Count", String.valueOf(report.runCount()));
-        appendMarkdownRow(markdown, "Item Count", String.valueOf(report.itemCount()));
-        appendMarkdownRow(markdown, "Step Count", String.valueOf(report.stepCount()));
-
-        markdown.append("\n## Result Counts\n\n");
-        if (report.resultCounts().isEmpty()) {
-            markdown.append("No final results recorded.\n");
-        } else {
-            markdown.append("| Result | Count |\n");
-            markdown.append("| --- | ---: |\n");
-            report.resultCounts().entrySet().stream()
-                    .sorted(java.util.Map.Entry.comparingByKey())
-                    .forEach(entry -> appendMarkdownRow(markdown, entry.getKey(), String.valueOf(entry.getValue())));
-        }
+        });
+    }
 
-        markdown.append("\n## Runs\n");
-        for (ReleaseWindowReportView.RunReport run : report.runs()) {
-            markdown.append("\n### ").append(markdownText(run.runId())).append("\n\n");
-            markdown.append("| Type | Status | Operator | Started At | Finished At |\n");
-            markdown.append("| --- | --- | --- | --- | --- |\n");
-            markdown.append("| ")
-                    .append(markdownCell(run.runType())).append(" | ")
-                    .append(markdownCell(run.status())).append(" | ")
-                    .append(markdownCell(run.operator())).append(" | ")
-                    .append(markdownCell(run.startedAt())).append(" | ")
-                    .append(markdownCell(run.finishedAt())).append(" |\n\n");
-            markdown.append("| Repo | Iteration | Planned | Executed | Final Result | Step | Step Result | Message |\n");
-            markdown.append("| --- | --- | ---: | ---: | --- | --- | --- | --- |\n");
-            for (ReleaseWindowReportView.ItemReport item : run.items()) {
-                if (item.steps().isEmpty()) {
-                    appendMarkdownItemRow(markdown, item, null);
-                    continue;
-                }
-                for (ReleaseWindowReportView.StepReport step : item.steps()) {
-                    appendMarkdownItemRow(markdown, item, step);
-                }
+    @Transactional(readOnly = true)
+    public void writeReleaseWindowMarkdown(String windowId, OutputStream out) throws IOException {
+        WindowRuns window = loadWindowRuns(windowId);
+        ReleaseWindow releaseWindow = window.window();
+        ExportWriter markdown = new ExportWriter(out);
+        markdown.run(() -> {
+            markdown.append("# Release Window Report: ").append(markdownText(window.windowKey())).append("\n\n");
+            markdown.append("| Field | Value |\n");
+            markdown.append("| --- | --- |\n");
+            appendMarkdownRow(markdown, "Window ID", window.windowId());
+            appendMarkdownRow(markdown, "Window Key", window.windowKey());
+            appendMarkdownRow(markdown, "Name", releaseWindow.getName());
+            appendMarkdownRow(markdown, "Status", releaseWindow.getStatus().name());
+            appendMarkdownRow(markdown, "Group Code", releaseWindow.getGroupCode());
+            appendMarkdownRow(markdown, "Planned Release At",
+                    releaseWindow.getPlannedReleaseAt() == null ? null : releaseWindow.getPlannedReleaseAt().toString());
+            appendMarkdownRow(markdown, "Published At",
+                    releaseWindow.getPublishedAt() == null ? null : releaseWindow.getPublishedAt().toString());
+            appendMarkdownRow(markdown, "Run Count", String.valueOf(window.runs().size()));
+            appendMarkdownRow(markdown, "Item Count", String.valueOf(window.itemCount()));
+            appendMarkdownRow(markdown, "Step Count", String.valueOf(runPort.countStepsByWindowKey(window.windowKey())));
+
+            markdown.append("\n## Result Counts\n\n");
+            if (window.resultCounts().isEmpty()) {
+                markdown.append("No final results recorded.\n");
+            } else {
+                markdown.append("| Result | Count |\n");
+                markdown.append("| --- | ---: |\n");
+                window.resultCounts().forEach((result, count) -> appendMarkdownRow(markdown, result, String.valueOf(count)));
+            }
+
+            markdown.append("\n## Runs\n");
+            for (WindowRun run : window.runs()) {
+                RunSummary summary = run.summary();
+                markdown.append("\n### ").append(markdownText(summary.id())).append("\n\n");
+                markdown.append("| Type | Status | Operator | Started At | Finished At |\n");
+                markdown.append("| --- | --- | --- | --- | --- |\n");
+                markdown.append("| ")
+                        .append(markdownCell(summary.runType().name())).append(" | ")
+                        .append(markdownCell(run.status())).append(" | ")
+                        .append(markdownCell(summary.operator())).append(" | ")
+                        .append(markdownCell(summary.startedAt() == null ? null : summary.startedAt().toString())).append(" | ")
+                        .append(markdownCell(summary.finishedAt() == null ? null : summary.finishedAt().toString())).append(" |\n\n");
+                markdown.append("| Repo | Iteration | Planned | Executed | Final Result | Step | Step Result | Message |\n");
+                markdown.append("| --- | --- | ---: | ---: | --- | --- | --- | --- |\n");
+                runPort.forEachItem(summary.id(), RunItemFilter.window(window.windowKey()), item -> {
+                    if (item.getSteps().isEmpty()) {
+                        appendMarkdownItemRow(markdown, item, null);
+                        return;
+                    }
+                    for (RunStep step : item.getSteps()) {
+                        appendMarkdownItemRow(markdown, item, step);
+                    }
+                });
             }
+        });
+    }
+
+    private ReleaseWindow loadReleaseWindow(String windowId) {
+        return releaseWindowPort.findById(ReleaseWindowId.of(windowId))
+                .orElseThrow(() -> NotFoundException.releaseWindow(windowId));
+    }
+
+    /**
+     * 只加载窗口相关运行的运行头，运行状态与结果统计由分组计数得出，运行项在写出时再按游标读取
+     */
+    private WindowRuns loadWindowRuns(String windowId) {
+        ReleaseWindow window = loadReleaseWindow(windowId);
+        String windowKey = window.getWindowKey();
+        Map<String, int[]> countsByRun = new HashMap<>();
+        Map<String, Long> resultCounts = new TreeMap<>();
+        long itemCount = 0;
+        for (RunResultCount count : runPort.countItemResultsByWindowKey(windowKey)) {
+            // [运行项数, 成功数, 失败数]
+            int[] counts = countsByRun.computeIfAbsent(count.runId(), k -> new int[3]);
+            counts[0] += (int) count.count();
+            if (count.result() != null) {
+                counts[1] += count.result().isSuccess() ? (int) count.count() : 0;
+                counts[2] += count.result().isFailure() ? (int) count.count() : 0;
+                resultCounts.merge(count.result().name(), count.count(), Long::sum);
+            }
+            itemCount += count.count();
+        }
+        List<WindowRun> runs = new ArrayList<>();
+        for (RunSummary summary : runPort.findSummariesByWindowKey(windowKey)) {
+            int[] counts = countsByRun.getOrDefault(summary.id(), new int[3]);
+            RunStatus status = RunStatus.of(summary.finishedAt() != null, summary.aborted(), counts[0], counts[1], counts[2]);
+            runs.add(new WindowRun(summary, status.name()));
         }
-        return markdown.toString();
+        return new WindowRuns(window, runs, itemCount, resultCounts);
     }
 
-    private void appendMarkdownRow(StringBuilder markdown, String field, String value) {
+    private void appendMarkdownRow(ExportWriter markdown, String field, String value) {
         markdown.append("| ")
                 .append(markdownCell(field))
                 .append(" | ")
@@ -160,17 +237,15 @@ public class ExportAppService {
                 .append(" |\n");
     }
 
-    private void appendMarkdownItemRow(StringBuilder markdown,
-                                       ReleaseWindowReportView.ItemReport item,
-                                       ReleaseWindowReportView.StepReport step) {
+    private void appendMarkdownItemRow(ExportWriter markdown, RunItem item, RunStep step) {
         markdown.append("| ")
-                .append(markdownCell(item.repo())).append(" | ")
-                .append(markdownCell(item.iterationKey())).append(" | ")
-                .append(item.plannedOrder()).append(" | ")
-                .append(item.executedOrder()).append(" | ")
-                .append(markdownCell(item.finalResult())).append(" | ")
-                .append(markdownCell(step == null ? null : step.actionType())).append(" | ")
-                .append(markdownCell(step == null ? null : step.result())).append(" | ")
+                .append(markdownCell(item.getRepo().value())).append(" | ")
+                .append(markdownCell(item.getIterationKey() == null ? null : item.getIterationKey().value())).append(" | ")
+                .append(String.valueOf(item.getPlannedOrder())).append(" | ")
+                .append(String.valueOf(item.getExecutedOrder())).append(" | ")
+                .append(markdownCell(item.getFinalResult() == null ? null : item.getFinalResult().name())).append(" | ")
+                .append(markdownCell(step == null ? null : step.actionType().name())).append(" | ")
+                .append(markdownCell(step == null ? null : step.result().name())).append(" | ")
                 .append(markdownCell(step == null ? null : step.message())).append(" |\n");
     }
 
@@ -199,4 +274,46 @@ public class ExportAppService {
     private String valueOrEmpty(String value) {
         return value == null ? "" : value;
     }
+
+    private record WindowRun(RunSummary summary, String status) {
+    }
+
+    private record WindowRuns(ReleaseWindow window, List<WindowRun> runs, long itemCount, Map<String, Long> resultCounts) {
+        String windowId() {
+            return window.getId().value();
+        }
+
+        String windowKey() {
+            return window.getWindowKey();
+        }
+    }
+
+    /**
+     * 带缓冲的 UTF-8 输出，写出失败以 UncheckedIOException 穿过游标回调，在 {@link #run} 中还原为 IOException
+     */
+    private static final class ExportWriter {
+        private final Writer writer;
+
+        ExportWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        ExportWriter append(String value) {
+            try {
+                writer.write(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        void run(Runnable body) throws IOException {
+            try {
+                body.run();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        }
+    }
 }
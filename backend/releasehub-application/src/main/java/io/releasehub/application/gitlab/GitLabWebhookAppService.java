@@ -0,0 +1,69 @@
+package io.releasehub.application.gitlab;
+
+import io.releasehub.common.exception.AuthenticationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * GitLab webhook 应用服务。
+ * <p>
+ * 校验 {@code X-Gitlab-Token} 后把 merge request 事件中的合并状态转交给 {@link MergeReadinessPort}。
+ * 未配置 {@code releasehub.gitlab.webhook-secret} 时拒绝所有 webhook 请求。
+ */
+@Slf4j
+@Service
+public class GitLabWebhookAppService {
+    private static final String MERGE_REQUEST_KIND = "merge_request";
+
+    private final MergeReadinessPort mergeReadinessPort;
+    private final String webhookSecret;
+
+    public GitLabWebhookAppService(MergeReadinessPort mergeReadinessPort,
+                                   @Value("${releasehub.gitlab.webhook-secret:}") String webhookSecret) {
+        this.mergeReadinessPort = mergeReadinessPort;
+        this.webhookSecret = webhookSecret;
+    }
+
+    /**
+     * 处理 merge request 事件
+     *
+     * @param projectWebUrl project.web_url，用于确定事件来自哪个 GitLab 实例
+     * @return 是否有等待中的合并检查因此结束
+     */
+    public boolean handleMergeRequestEvent(String token, String objectKind, String projectWebUrl, String projectPath,
+                                           Integer iid, String mergeStatus) {
+        verifyToken(token);
+        String host = hostOf(projectWebUrl);
+        if (!MERGE_REQUEST_KIND.equals(objectKind) || host == null || projectPath == null || iid == null
+                || mergeStatus == null || mergeStatus.isBlank()) {
+            log.debug("[GitLabWebhook] Ignored event: kind={} webUrl={} project={} iid={}",
+                    objectKind, projectWebUrl, projectPath, iid);
+            return false;
+        }
+        boolean completed = mergeReadinessPort.onMergeStatus(host, projectPath, iid, mergeStatus);
+        log.debug("[GitLabWebhook] Merge request event: host={} project={} iid={} status={} completed={}",
+                host, projectPath, iid, mergeStatus, completed);
+        return completed;
+    }
+
+    private String hostOf(String webUrl) {
+        try {
+            return webUrl == null ? null : URI.create(webUrl.trim()).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void verifyToken(String token) {
+        if (webhookSecret == null || webhookSecret.isBlank() || token == null
+                || !MessageDigest.isEqual(webhookSecret.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8))) {
+            throw AuthenticationException.tokenInvalid();
+        }
+    }
+}
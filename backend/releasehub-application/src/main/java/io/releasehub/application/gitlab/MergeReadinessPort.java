@@ -0,0 +1,20 @@
+package io.releasehub.application.gitlab;
+
+/**
+ * 合并请求可合并状态通知端口。
+ * <p>
+ * GitLab merge request webhook 到达时，通过该端口唤醒正在等待该 MR 可合并状态的调用方。
+ */
+public interface MergeReadinessPort {
+
+    /**
+     * 推送某个合并请求的最新合并状态
+     *
+     * @param host        GitLab 主机名（取自 project.web_url），区分不同实例上同名的项目
+     * @param projectPath 项目路径（path_with_namespace）
+     * @param iid         合并请求 iid
+     * @param mergeStatus detailed_merge_status 或 merge_status
+     * @return 是否有等待方因此结束等待
+     */
+    boolean onMergeStatus(String host, String projectPath, int iid, String mergeStatus);
+}
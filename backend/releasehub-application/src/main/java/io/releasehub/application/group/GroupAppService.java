@@ -9,25 +9,24 @@ import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.group.Group;
 import io.releasehub.domain.group.GroupId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GroupAppService {
-    private static final String ROOT = "__ROOT__";
     private final GroupPort groupPort;
     private final ReleaseWindowPort releaseWindowPort;
     private final IterationPort iterationPort;
     private final CodeRepositoryPort codeRepositoryPort;
+    private final GroupTreeCache groupTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
@@ -47,6 +46,7 @@ public class GroupAppService {
 
         Group group = Group.create(name, finalCode, normalizedParent, Instant.now(clock));
         groupPort.save(group);
+        eventPublisher.publishEvent(new GroupsChangedEvent(group.getCode()));
         return group;
     }
 
@@ -111,14 +111,27 @@ public class GroupAppService {
         if (normalizedParent != null && normalizedParent.equals(group.getCode())) {
             throw BusinessException.groupParentSelf();
         }
+        ensureNotMovedIntoOwnSubtree(group, normalizedParent);
 
         Instant now = Instant.now(clock);
         group.rename(name, now);
         group.changeParentCode(normalizedParent, now);
         groupPort.save(group);
+        eventPublisher.publishEvent(new GroupsChangedEvent(group.getCode()));
         return group;
     }
 
+    private void ensureNotMovedIntoOwnSubtree(Group group, String newParentCode) {
+        if (newParentCode == null || Objects.equals(newParentCode, group.getParentCode())) {
+            return;
+        }
+        GroupScope groupScope = groupPort.findScope(group.getCode()).orElse(null);
+        GroupScope parentScope = groupPort.findScope(newParentCode).orElse(null);
+        if (groupScope != null && parentScope != null && groupScope.contains(parentScope.path())) {
+            throw BusinessException.groupParentCycle(group.getCode(), newParentCode);
+        }
+    }
+
     public Group get(String id) {
         return groupPort.findById(GroupId.of(id))
                         .orElseThrow(() -> NotFoundException.group(id));
@@ -133,19 +146,13 @@ public class GroupAppService {
         }
         ensureNotReferenced(g.getCode());
         groupPort.deleteById(GroupId.of(id));
+        eventPublisher.publishEvent(new GroupsChangedEvent(g.getCode()));
     }
 
     private void ensureNotReferenced(String groupCode) {
-        boolean referenced = releaseWindowPort.findAll().stream()
-                                              .anyMatch(w -> groupCode.equals(w.getGroupCode()));
-        if (!referenced) {
-            referenced = iterationPort.findAll().stream()
-                                      .anyMatch(it -> groupCode.equals(it.getGroupCode()));
-        }
-        if (!referenced) {
-            referenced = codeRepositoryPort.findAll().stream()
-                                           .anyMatch(repo -> groupCode.equals(repo.getGroupCode()));
-        }
+        boolean referenced = releaseWindowPort.existsByGroupCode(groupCode)
+                || iterationPort.existsByGroupCode(groupCode)
+                || codeRepositoryPort.existsByGroupCode(groupCode);
         if (referenced) {
             throw BusinessException.groupReferenced(groupCode);
         }
@@ -159,6 +166,7 @@ public class GroupAppService {
         }
         ensureNotReferenced(code);
         groupPort.deleteByCode(code);
+        eventPublisher.publishEvent(new GroupsChangedEvent(code));
     }
 
     public List<Group> list() {
@@ -177,35 +185,10 @@ public class GroupAppService {
         return groupPort.findTopLevel();
     }
 
+    /**
+     * 分组树，读取进程内缓存，分组变更后失效重建
+     */
     public List<GroupNodeView> tree() {
-        List<Group> all = groupPort.findAll();
-        Map<String, List<Group>> byParent = all.stream()
-                                               .collect(Collectors.groupingBy(g -> {
-                                                   String pc = g.getParentCode();
-                                                   return pc == null ? ROOT : pc;
-                                               }));
-        Set<String> codes = all.stream().map(Group::getCode).collect(Collectors.toSet());
-        List<Group> roots = byParent.get(ROOT);
-        if (roots == null) {
-            return List.of();
-        }
-        return roots.stream()
-                    .map(root -> buildNode(root, byParent, codes))
-                    .collect(Collectors.toList());
-    }
-
-    private GroupNodeView buildNode(Group group, Map<String, List<Group>> byParent, Set<String> codes) {
-        GroupNodeView node = GroupNodeView.fromDomain(group);
-        List<Group> children = byParent.get(group.getCode());
-        if (children == null || children.isEmpty()) {
-            node.setChildren(List.of());
-            return node;
-        }
-        List<GroupNodeView> childNodes = children.stream()
-                                                 .filter(g -> !Objects.equals(g.getCode(), group.getCode()))
-                                                 .map(g -> buildNode(g, byParent, codes))
-                                                 .collect(Collectors.toList());
-        node.setChildren(childNodes);
-        return node;
+        return groupTreeCache.tree();
     }
 }
@@ -4,8 +4,12 @@ import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.group.Group;
 import io.releasehub.domain.group.GroupId;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface GroupPort {
     void save(Group group);
@@ -27,4 +31,30 @@ public interface GroupPort {
     void deleteByCode(String code);
 
     long countChildren(String parentCode);
+
+    /**
+     * 查询以该分组为根的子树范围，分组不存在时返回空。
+     * 默认沿 parentCode 逐级向上拼出路径；持久化实现直接读取物化路径。
+     */
+    default Optional<GroupScope> findScope(String code) {
+        Deque<String> chain = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        String current = code;
+        while (current != null && visited.add(current)) {
+            Optional<Group> group = findByCode(current);
+            if (group.isEmpty()) {
+                if (chain.isEmpty()) {
+                    return Optional.empty();
+                }
+                break;
+            }
+            chain.addFirst(current);
+            current = group.get().getParentCode();
+        }
+        String path = null;
+        for (String segment : chain) {
+            path = GroupScope.pathOf(path, segment);
+        }
+        return Optional.of(new GroupScope(code, path));
+    }
 }
@@ -0,0 +1,27 @@
+package io.releasehub.application.group;
+
+/**
+ * 分组子树范围。
+ * <p>
+ * path 为从顶级分组到当前分组的物化路径（如 {@code /001/001002/}），
+ * 子树内所有分组的 path 都以它为前缀，子树筛选只需一个前缀条件。
+ *
+ * @param rootCode 子树根分组编码
+ * @param path     根分组的物化路径
+ */
+public record GroupScope(String rootCode, String path) {
+
+    /**
+     * 由父分组路径与分组编码拼出分组路径，顶级分组的父路径为 null
+     */
+    public static String pathOf(String parentPath, String code) {
+        return (parentPath == null ? "/" : parentPath) + code + "/";
+    }
+
+    /**
+     * 指定分组是否位于本子树内（含根分组自身）
+     */
+    public boolean contains(String groupPath) {
+        return groupPath != null && groupPath.startsWith(path);
+    }
+}
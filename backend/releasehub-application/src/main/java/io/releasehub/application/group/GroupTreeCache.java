@@ -0,0 +1,96 @@
+package io.releasehub.application.group;
+
+import io.releasehub.domain.group.Group;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 分组树缓存。
+ * <p>
+ * 分组树整体构建后缓存在进程内，分组变更事务提交后失效重建；多实例部署时其他实例的变更最迟在 cache-seconds 后生效。
+ */
+@Slf4j
+@Component
+public class GroupTreeCache {
+    private static final String ROOT = "__ROOT__";
+
+    private final GroupPort groupPort;
+    private final long maxAgeNanos;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public GroupTreeCache(GroupPort groupPort,
+                          @Value("${releasehub.group.tree.cache-seconds:300}") long cacheSeconds) {
+        this.groupPort = groupPort;
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(Math.max(1, cacheSeconds));
+    }
+
+    public List<GroupNodeView> tree() {
+        Snapshot cached = snapshot.get();
+        if (cached != null && System.nanoTime() - cached.loadedAt < maxAgeNanos) {
+            return cached.roots;
+        }
+        long loadingGeneration = generation.get();
+        Snapshot loaded = new Snapshot(build(groupPort.findAll()), System.nanoTime());
+        // 加载期间分组又发生变更时不缓存本次结果，避免覆盖更新后的失效
+        if (generation.get() == loadingGeneration) {
+            snapshot.compareAndSet(cached, loaded);
+        }
+        log.debug("[Group] Loaded group tree with {} root(s)", loaded.roots.size());
+        return loaded.roots;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGroupsChanged(GroupsChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private static List<GroupNodeView> build(List<Group> all) {
+        Map<String, List<Group>> byParent = all.stream()
+                                               .collect(Collectors.groupingBy(g -> {
+                                                   String pc = g.getParentCode();
+                                                   return pc == null ? ROOT : pc;
+                                               }));
+        List<Group> roots = byParent.get(ROOT);
+        if (roots == null) {
+            return List.of();
+        }
+        return roots.stream()
+                    .map(root -> buildNode(root, byParent))
+                    .toList();
+    }
+
+    private static GroupNodeView buildNode(Group group, Map<String, List<Group>> byParent) {
+        GroupNodeView node = GroupNodeView.fromDomain(group);
+        List<Group> children = byParent.get(group.getCode());
+        if (children == null || children.isEmpty()) {
+            node.setChildren(List.of());
+            return node;
+        }
+        List<GroupNodeView> childNodes = children.stream()
+                                                 .filter(g -> !Objects.equals(g.getCode(), group.getCode()))
+                                                 .map(g -> buildNode(g, byParent))
+                                                 .toList();
+        node.setChildren(childNodes);
+        return node;
+    }
+
+    private record Snapshot(List<GroupNodeView> roots, long loadedAt) {
+    }
+}
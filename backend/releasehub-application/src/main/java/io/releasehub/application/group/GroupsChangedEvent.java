@@ -0,0 +1,16 @@
+package io.releasehub.application.group;
+
+/**
+ * 分组变更事件。分组创建、更新、删除时发布，供分组树缓存在事务提交后失效。
+ */
+public class GroupsChangedEvent {
+    private final String code;
+
+    public GroupsChangedEvent(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
@@ -3,7 +3,6 @@ package io.releasehub.application.iteration;
 import io.releasehub.application.branchrule.BranchRuleUseCase;
 import io.releasehub.application.group.GroupPort;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
-import io.releasehub.application.releasewindow.ReleaseWindowPort;
 import io.releasehub.application.repo.CodeRepositoryPort;
 import io.releasehub.application.version.VersionDeriverUseCase;
 import io.releasehub.application.version.VersionExtractorUseCase;
@@ -19,13 +18,11 @@ import io.releasehub.domain.iteration.BranchCreationMode;
 import io.releasehub.domain.iteration.Iteration;
 import io.releasehub.domain.iteration.IterationKey;
 import io.releasehub.domain.releasewindow.ReleaseWindow;
-import io.releasehub.domain.releasewindow.ReleaseWindowId;
 import io.releasehub.domain.repo.CodeRepository;
 import io.releasehub.domain.repo.RepoId;
 import io.releasehub.domain.version.BuildTool;
 import io.releasehub.domain.version.ConflictResolution;
 import io.releasehub.domain.version.VersionSource;
-import io.releasehub.domain.window.WindowIteration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -48,7 +45,6 @@ import java.util.UUID;
 public class IterationAppService {
     private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
     private final IterationPort iterationPort;
-    private final ReleaseWindowPort releaseWindowPort;
     private final WindowIterationPort windowIterationPort;
     private final CodeRepositoryPort codeRepositoryPort;
     private final IterationRepoPort iterationRepoPort;
@@ -395,15 +391,12 @@ public class IterationAppService {
     }
 
     private boolean isAttachedToWindow(IterationKey iterationKey) {
-        return !attachedWindowIds(iterationKey).isEmpty();
+        return windowIterationPort.existsByIteration(iterationKey);
     }
 
     private Set<String> attachedWindowIds(IterationKey iterationKey) {
-        return releaseWindowPort.findAll().stream()
-                .filter(window -> windowIterationPort.listByWindow(ReleaseWindowId.of(window.getId().value())).stream()
-                        .map(WindowIteration::getIterationKey)
-                        .anyMatch(iterationKey::equals))
-                .map(window -> window.getId().value())
+        return windowIterationPort.listByIteration(iterationKey).stream()
+                .map(wi -> wi.getWindowId().value())
                 .collect(java.util.stream.Collectors.toUnmodifiableSet());
     }
 
@@ -3,7 +3,9 @@ package io.releasehub.application.iteration;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.iteration.Iteration;
 import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.repo.RepoId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +14,25 @@ public interface IterationPort {
 
     Optional<Iteration> findByKey(IterationKey key);
 
+    /**
+     * 按 key 批量查询迭代（含关联仓库），不存在的 key 被忽略，结果顺序不保证
+     */
+    List<Iteration> findAllByKeys(Collection<IterationKey> keys);
+
     List<Iteration> findAll();
 
+    long count();
+
+    /**
+     * 是否存在归属该分组的迭代
+     */
+    boolean existsByGroupCode(String groupCode);
+
+    /**
+     * 仓库是否已加入任一迭代
+     */
+    boolean existsByRepo(RepoId repoId);
+
     PageResult<Iteration> findPaged(String keyword, int page, int size);
 
     void deleteByKey(IterationKey key);
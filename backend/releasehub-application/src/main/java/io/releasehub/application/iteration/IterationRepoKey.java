@@ -0,0 +1,7 @@
+package io.releasehub.application.iteration;
+
+/**
+ * 迭代-仓库关联键
+ */
+public record IterationRepoKey(String iterationKey, String repoId) {
+}
@@ -3,7 +3,9 @@ package io.releasehub.application.iteration;
 import io.releasehub.domain.iteration.BranchCreationMode;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,6 +30,11 @@ public interface IterationRepoPort {
      * 获取迭代的所有仓库版本信息
      */
     List<IterationRepoVersionInfo> listVersionInfo(String iterationKey);
+
+    /**
+     * 批量获取多个迭代-仓库关联的版本信息，结果携带 iterationKey，不存在的关联不出现在结果中
+     */
+    Map<IterationRepoKey, IterationRepoVersionInfo> getVersionInfos(Collection<IterationRepoKey> keys);
     
     /**
      * 更新版本信息
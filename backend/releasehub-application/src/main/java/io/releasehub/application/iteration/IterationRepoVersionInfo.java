@@ -13,6 +13,7 @@ import java.time.Instant;
 @Data
 @Builder
 public class IterationRepoVersionInfo {
+    private String iterationKey;
     private String repoId;
     private String repoName;
     private String baseVersion;              // 关联时 master 版本
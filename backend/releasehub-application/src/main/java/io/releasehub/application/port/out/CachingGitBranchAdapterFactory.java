@@ -0,0 +1,33 @@
+package io.releasehub.application.port.out;
+
+import io.releasehub.domain.repo.GitProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 运行级 Git 适配器工厂：同一作用域内按 provider 复用 {@link CachingGitBranchPort}。
+ * 每次运行（或请求）新建一个实例，作用域结束即丢弃。
+ */
+public class CachingGitBranchAdapterFactory implements GitBranchAdapterFactory {
+
+    private final GitBranchAdapterFactory delegate;
+    private final Map<GitProvider, CachingGitBranchPort> adapters = new ConcurrentHashMap<>();
+
+    public CachingGitBranchAdapterFactory(GitBranchAdapterFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CachingGitBranchPort getAdapter(GitProvider provider) {
+        return adapters.computeIfAbsent(provider, p -> new CachingGitBranchPort(delegate.getAdapter(p)));
+    }
+
+    public long getHits() {
+        return adapters.values().stream().mapToLong(CachingGitBranchPort::getHits).sum();
+    }
+
+    public long getMisses() {
+        return adapters.values().stream().mapToLong(CachingGitBranchPort::getMisses).sum();
+    }
+}
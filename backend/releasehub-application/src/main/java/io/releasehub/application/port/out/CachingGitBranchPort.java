@@ -0,0 +1,119 @@
+package io.releasehub.application.port.out;
+
+import io.releasehub.domain.repo.GitProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 带分支状态缓存的 GitBranchPort 装饰器。
+ * <p>
+ * 按 (cloneUrl, branch) 缓存 {@link BranchStatus}，仅用于一次运行或一次请求内，不跨请求共享。
+ * createBranch / deleteBranch / mergeBranch / archiveBranch 会使受影响分支的缓存失效。
+ * 线程安全，可在并行编排中共享。
+ */
+public class CachingGitBranchPort implements GitBranchPort {
+
+    private final GitBranchPort delegate;
+    private final Map<BranchKey, BranchStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingGitBranchPort(GitBranchPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(GitProvider provider) {
+        return delegate.supports(provider);
+    }
+
+    @Override
+    public BranchStatus getBranchStatus(String repoCloneUrl, String token, String branchName) {
+        BranchKey key = new BranchKey(repoCloneUrl, branchName);
+        BranchStatus cached = statuses.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        BranchStatus status = delegate.getBranchStatus(repoCloneUrl, token, branchName);
+        if (status != null) {
+            statuses.put(key, status);
+        }
+        return status;
+    }
+
+    @Override
+    public boolean createBranch(String repoCloneUrl, String token, String branchName, String fromBranch) {
+        try {
+            return delegate.createBranch(repoCloneUrl, token, branchName, fromBranch);
+        } finally {
+            invalidate(repoCloneUrl, branchName);
+        }
+    }
+
+    @Override
+    public boolean deleteBranch(String repoCloneUrl, String token, String branchName) {
+        try {
+            return delegate.deleteBranch(repoCloneUrl, token, branchName);
+        } finally {
+            invalidate(repoCloneUrl, branchName);
+        }
+    }
+
+    @Override
+    public MergeResult mergeBranch(String repoCloneUrl, String token, String sourceBranch, String targetBranch, String commitMessage) {
+        try {
+            return delegate.mergeBranch(repoCloneUrl, token, sourceBranch, targetBranch, commitMessage);
+        } finally {
+            invalidate(repoCloneUrl, targetBranch);
+        }
+    }
+
+    @Override
+    public boolean archiveBranch(String repoCloneUrl, String token, String branchName, String reason) {
+        try {
+            return delegate.archiveBranch(repoCloneUrl, token, branchName, reason);
+        } finally {
+            invalidate(repoCloneUrl, branchName);
+        }
+    }
+
+    @Override
+    public boolean createTag(String repoCloneUrl, String token, String tagName, String ref, String message) {
+        return delegate.createTag(repoCloneUrl, token, tagName, ref, message);
+    }
+
+    @Override
+    public MergeabilityResult checkMergeability(String repoCloneUrl, String token, String sourceBranch, String targetBranch) {
+        return delegate.checkMergeability(repoCloneUrl, token, sourceBranch, targetBranch);
+    }
+
+    @Override
+    public String triggerPipeline(String repoCloneUrl, String token, String ref) {
+        return delegate.triggerPipeline(repoCloneUrl, token, ref);
+    }
+
+    @Override
+    public List<String> listBranches(String repoCloneUrl, String token, String prefix) {
+        return delegate.listBranches(repoCloneUrl, token, prefix);
+    }
+
+    public void invalidate(String repoCloneUrl, String branchName) {
+        statuses.remove(new BranchKey(repoCloneUrl, branchName));
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private record BranchKey(String cloneUrl, String branch) {
+    }
+}
@@ -45,7 +45,18 @@ public interface GitBranchPort {
 
     enum MergeabilityFailure {
         NONE,
+        /**
+         * 平台按 merge_status 判定存在合并冲突，结果只取决于分支头，可按 SHA 复用
+         */
         CONFLICT,
+        /**
+         * 源/目标分支不存在或无效，无法比较
+         */
+        INVALID_BRANCH,
+        /**
+         * 已存在相同源/目标分支的 MR（如并发预检），本次未能判定
+         */
+        DUPLICATE_REQUEST,
         PERMISSION_DENIED,
         UNAVAILABLE,
         UNKNOWN
@@ -60,6 +71,14 @@ public interface GitBranchPort {
             return new MergeabilityResult(false, detail, MergeabilityFailure.CONFLICT);
         }
 
+        public static MergeabilityResult invalidBranch(String detail) {
+            return new MergeabilityResult(false, detail, MergeabilityFailure.INVALID_BRANCH);
+        }
+
+        public static MergeabilityResult duplicateRequest(String detail) {
+            return new MergeabilityResult(false, detail, MergeabilityFailure.DUPLICATE_REQUEST);
+        }
+
         public static MergeabilityResult permissionDenied(String detail) {
             return new MergeabilityResult(false, detail, MergeabilityFailure.PERMISSION_DENIED);
         }
@@ -1,5 +1,8 @@
 package io.releasehub.application.port.out;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,6 +19,23 @@ public interface GitLabFilePort {
      */
     Optional<String> readFile(String repoCloneUrl, String branch, String filePath);
     
+    /**
+     * 批量读取文件内容，默认逐个读取。
+     * 只有确认不存在的文件才从结果中省略；读取出错（超时、5xx、无权限等）时应抛出异常而不是当作缺失，
+     * 能区分两者的实现需覆盖此方法
+     * @param repoCloneUrl 仓库克隆地址
+     * @param branch 分支名
+     * @param filePaths 文件路径
+     * @return 文件路径 -> 内容，不存在的文件不包含在结果中
+     */
+    default Map<String, String> readFiles(String repoCloneUrl, String branch, Collection<String> filePaths) {
+        Map<String, String> files = new LinkedHashMap<>();
+        for (String filePath : filePaths) {
+            readFile(repoCloneUrl, branch, filePath).ifPresent(content -> files.put(filePath, content));
+        }
+        return files;
+    }
+
     /**
      * 检查文件是否存在
      * @param repoCloneUrl 仓库克隆地址
@@ -35,4 +55,14 @@ public interface GitLabFilePort {
      * @return 是否成功
      */
     boolean updateFile(String repoCloneUrl, String branch, String filePath, String content, String commitMessage);
+
+    /**
+     * 在一次提交中更新多个文件，任一文件失败时整个提交不生效
+     * @param repoCloneUrl 仓库克隆地址
+     * @param branch 分支名
+     * @param files 文件路径 -> 新内容
+     * @param commitMessage 提交信息
+     * @return 是否成功
+     */
+    boolean updateFiles(String repoCloneUrl, String branch, Map<String, String> files, String commitMessage);
 }
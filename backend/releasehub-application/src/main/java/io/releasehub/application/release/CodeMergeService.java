@@ -1,12 +1,11 @@
 package io.releasehub.application.release;
 
-import io.releasehub.application.iteration.IterationPort;
-import io.releasehub.application.iteration.IterationRepoPort;
 import io.releasehub.application.iteration.IterationRepoVersionInfo;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.common.exception.NotFoundException;
-import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.application.window.WindowContext;
+import io.releasehub.application.window.WindowContextLoader;
 import io.releasehub.application.window.WindowIterationPort;
 import io.releasehub.domain.iteration.Iteration;
 import io.releasehub.domain.iteration.IterationKey;
@@ -37,9 +36,7 @@ public class CodeMergeService {
     
     private final GitBranchAdapterFactory gitBranchAdapterFactory;
     private final WindowIterationPort windowIterationPort;
-    private final IterationPort iterationPort;
-    private final IterationRepoPort iterationRepoPort;
-    private final CodeRepositoryPort codeRepositoryPort;
+    private final WindowContextLoader windowContextLoader;
     private final Clock clock = Clock.systemUTC();
     
     /**
@@ -47,6 +44,11 @@ public class CodeMergeService {
      */
     @Transactional
     public List<CodeMergeResult> mergeFeatureToRelease(String windowId, String iterationKey) {
+        return mergeFeatureToRelease(windowId, iterationKey,
+                windowContextLoader.load(List.of(IterationKey.of(iterationKey))));
+    }
+
+    private List<CodeMergeResult> mergeFeatureToRelease(String windowId, String iterationKey, WindowContext context) {
         List<CodeMergeResult> results = new ArrayList<>();
         
         // 获取窗口-迭代关联信息，获取 release 分支名
@@ -66,12 +68,12 @@ public class CodeMergeService {
         }
         
         // 获取迭代信息
-        Iteration iteration = iterationPort.findByKey(IterationKey.of(iterationKey))
-                                           .orElseThrow(() -> NotFoundException.iteration(iterationKey));
+        Iteration iteration = context.iteration(IterationKey.of(iterationKey))
+                                     .orElseThrow(() -> NotFoundException.iteration(iterationKey));
         
         // 遍历迭代的所有仓库
         for (RepoId repoId : iteration.getRepos()) {
-            Optional<CodeRepository> repoOpt = codeRepositoryPort.findById(repoId);
+            Optional<CodeRepository> repoOpt = context.repo(repoId);
             if (repoOpt.isEmpty()) {
                 continue;
             }
@@ -82,7 +84,7 @@ public class CodeMergeService {
             String gitToken = repo.getGitAccessToken();
             
             // 获取仓库的 feature 分支信息
-            Optional<IterationRepoVersionInfo> versionInfo = iterationRepoPort.getVersionInfo(iterationKey, repoId.value());
+            Optional<IterationRepoVersionInfo> versionInfo = context.versionInfo(iterationKey, repoId.value());
             String featureBranch = versionInfo.map(IterationRepoVersionInfo::getFeatureBranch).orElse(null);
 
             try {
@@ -147,9 +149,10 @@ public class CodeMergeService {
         
         // 获取窗口下所有关联的迭代
         List<WindowIteration> iterations = windowIterationPort.listByWindow(ReleaseWindowId.of(windowId));
+        WindowContext context = windowContextLoader.load(iterations.stream().map(WindowIteration::getIterationKey).toList());
         
         for (WindowIteration wi : iterations) {
-            List<CodeMergeResult> results = mergeFeatureToRelease(windowId, wi.getIterationKey().value());
+            List<CodeMergeResult> results = mergeFeatureToRelease(windowId, wi.getIterationKey().value(), context);
             allResults.addAll(results);
         }
         
@@ -1,18 +1,18 @@
 package io.releasehub.application.releasewindow;
 
 import io.releasehub.application.group.GroupPort;
-import io.releasehub.application.iteration.IterationPort;
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.application.run.RunAppService;
-import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.application.window.WindowContext;
+import io.releasehub.application.window.WindowContextLoader;
 import io.releasehub.application.window.WindowIterationPort;
 import io.releasehub.common.exception.BusinessException;
 import io.releasehub.common.exception.NotFoundException;
 import io.releasehub.common.exception.ValidationException;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.iteration.Iteration;
-import io.releasehub.domain.iteration.IterationKey;
 import io.releasehub.domain.releasewindow.ReleaseWindow;
 import io.releasehub.domain.releasewindow.ReleaseWindowId;
 import io.releasehub.domain.releasewindow.ReleaseWindowStatus;
@@ -44,8 +44,7 @@ public class ReleaseWindowAppService {
     private final WindowIterationPort windowIterationPort;
     private final RunAppService runAppService;
     private final GroupPort groupPort;
-    private final IterationPort iterationPort;
-    private final CodeRepositoryPort codeRepositoryPort;
+    private final WindowContextLoader windowContextLoader;
     private final GitBranchAdapterFactory gitBranchAdapterFactory;
     private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
@@ -118,29 +117,15 @@ public class ReleaseWindowAppService {
         if (groupCode == null || groupCode.isBlank()) {
             return listPaged(name, status, page, size);
         }
-        groupPort.findByCode(groupCode)
-                 .orElseThrow(() -> NotFoundException.groupCode(groupCode));
-        List<String> groupCodes = collectGroupCodes(groupCode);
-        PageResult<ReleaseWindow> result = releaseWindowPort.findPaged(name, status, groupCodes, page, size);
+        GroupScope groupScope = groupPort.findScope(groupCode)
+                                         .orElseThrow(() -> NotFoundException.groupCode(groupCode));
+        PageResult<ReleaseWindow> result = releaseWindowPort.findPaged(name, status, groupScope, page, size);
         List<ReleaseWindowView> views = result.items().stream()
                                               .map(ReleaseWindowView::from)
                                               .toList();
         return new PageResult<>(views, result.total());
     }
 
-    private List<String> collectGroupCodes(String rootCode) {
-        List<String> codes = new ArrayList<>();
-        collectGroupCodes(rootCode, codes);
-        return codes;
-    }
-
-    private void collectGroupCodes(String code, List<String> result) {
-        result.add(code);
-        for (var child : groupPort.findByParentCode(code)) {
-            collectGroupCodes(child.getCode(), result);
-        }
-    }
-
     @Transactional
     public ReleaseWindowView publish(String id) {
         ReleaseWindow rw = findById(id);
@@ -195,6 +180,7 @@ public class ReleaseWindowAppService {
             log.error("Failed to execute cleanup for closing window {}: {}", id, e.getMessage());
             // 关闭成功但收尾任务失败时，不回滚关闭状态
         }
+        eventPublisher.publishEvent(new WindowClosedEvent(id));
 
         return ReleaseWindowView.from(rw);
     }
@@ -207,9 +193,12 @@ public class ReleaseWindowAppService {
         List<WindowIteration> windowIterations = windowIterationPort.listByWindow(ReleaseWindowId.of(id));
         List<BranchStatusView.RepoBranchStatus> repoStatuses = new ArrayList<>();
 
+        WindowContext context = windowContextLoader.load(
+                windowIterations.stream().map(WindowIteration::getIterationKey).toList());
+
         for (WindowIteration wi : windowIterations) {
             String iterationKey = wi.getIterationKey().value();
-            Iteration iteration = iterationPort.findByKey(wi.getIterationKey()).orElse(null);
+            Iteration iteration = context.iteration(wi.getIterationKey()).orElse(null);
             if (iteration == null) {
                 continue;
             }
@@ -221,7 +210,7 @@ public class ReleaseWindowAppService {
             String featureBranchName = "feature/" + iterationKey;
 
             for (RepoId repoId : iteration.getRepos()) {
-                CodeRepository repo = codeRepositoryPort.findById(repoId).orElse(null);
+                CodeRepository repo = context.repo(repoId).orElse(null);
                 if (repo == null) {
                     continue;
                 }
@@ -1,10 +1,12 @@
 package io.releasehub.application.releasewindow;
 
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.releasewindow.ReleaseWindow;
 import io.releasehub.domain.releasewindow.ReleaseWindowId;
 import io.releasehub.domain.releasewindow.ReleaseWindowStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,11 +20,19 @@ public interface ReleaseWindowPort {
 
     List<ReleaseWindow> findAll();
 
+    long countByStatusIn(Collection<ReleaseWindowStatus> statuses);
+
+    /**
+     * 是否存在归属该分组的发布窗口
+     */
+    boolean existsByGroupCode(String groupCode);
+
     PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, int page, int size);
 
-    default PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, List<String> groupCodes, int page, int size) {
-        return findPaged(name, status, page, size);
-    }
+    /**
+     * 分页查询归属于分组子树内任一分组的发布窗口
+     */
+    PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, GroupScope groupScope, int page, int size);
 
     default void deleteById(ReleaseWindowId id) {
         throw new UnsupportedOperationException("deleteById is not implemented");
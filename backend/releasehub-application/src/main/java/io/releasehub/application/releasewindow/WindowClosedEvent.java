@@ -0,0 +1,16 @@
+package io.releasehub.application.releasewindow;
+
+/**
+ * 发布窗口已关闭事件。由 close() 发布，供监听器在事务提交后释放该窗口相关的进程内状态。
+ */
+public class WindowClosedEvent {
+    private final String windowId;
+
+    public WindowClosedEvent(String windowId) {
+        this.windowId = windowId;
+    }
+
+    public String getWindowId() {
+        return windowId;
+    }
+}
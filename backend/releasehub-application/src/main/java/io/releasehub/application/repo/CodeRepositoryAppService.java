@@ -2,6 +2,7 @@ package io.releasehub.application.repo;
 
 import io.releasehub.application.gitlab.GitLabPort;
 import io.releasehub.application.group.GroupPort;
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.application.iteration.IterationPort;
 import io.releasehub.application.settings.SettingsPort;
 import io.releasehub.application.version.VersionExtractorUseCase;
@@ -22,14 +23,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CodeRepositoryAppService {
+    static final int MAX_SUGGEST_LIMIT = 50;
+    static final int MAX_SEARCH_LIMIT = 200;
+
     private final CodeRepositoryPort codeRepositoryPort;
     private final VersionExtractorUseCase versionExtractorUseCase;
     private final SettingsPort settingsPort;
@@ -138,30 +140,17 @@ public class CodeRepositoryAppService {
     }
 
     private void ensureCloneUrlUnique(CloneUrl candidate, RepoId excludedRepoId) {
-        codeRepositoryPort.findAll().stream()
-                .filter(existing -> excludedRepoId == null || !existing.getId().equals(excludedRepoId))
-                .filter(existing -> sameCloneUrl(existing, candidate))
-                .findFirst()
-                .ifPresent(existing -> {
-                    throw BusinessException.repoCloneUrlExists(candidate.value(), existing.getId().value());
+        codeRepositoryPort.findIdByCloneUrlKey(candidate.canonicalKey())
+                .filter(existingId -> !existingId.equals(excludedRepoId))
+                .ifPresent(existingId -> {
+                    throw BusinessException.repoCloneUrlExists(candidate.value(), existingId.value());
                 });
     }
 
-    private boolean sameCloneUrl(CodeRepository existing, CloneUrl candidate) {
-        try {
-            return CloneUrl.parse(existing.getCloneUrl()).canonicalKey().equals(candidate.canonicalKey());
-        } catch (ValidationException e) {
-            log.warn("Skip invalid existing cloneUrl while checking repository uniqueness, repoId={}", existing.getId().value());
-            return false;
-        }
-    }
-
     @Transactional
     public void delete(String repoId) {
         CodeRepository repo = get(repoId);
-        boolean attached = iterationPort.findAll().stream()
-                .anyMatch(it -> it.getRepos().stream().anyMatch(r -> r.value().equals(repoId)));
-        if (attached) {
+        if (iterationPort.existsByRepo(repo.getId())) {
             throw BusinessException.repoAttached(repoId);
         }
         codeRepositoryPort.deleteById(repo.getId());
@@ -171,8 +160,18 @@ public class CodeRepositoryAppService {
         return codeRepositoryPort.findAll();
     }
 
-    public List<CodeRepository> search(String keyword) {
-        return codeRepositoryPort.search(keyword);
+    /**
+     * 不分页搜索，最多返回 limit 条（不超过 MAX_SEARCH_LIMIT）；total 为全部命中数，调用方据此判断是否截断
+     */
+    public PageResult<CodeRepository> search(String keyword, int limit) {
+        return codeRepositoryPort.searchPaged(keyword, 1, Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT));
+    }
+
+    public List<RepoSearchHit> suggest(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return codeRepositoryPort.suggest(keyword.trim(), Math.min(Math.max(limit, 1), MAX_SUGGEST_LIMIT));
     }
 
     public PageResult<CodeRepository> searchPaged(String keyword, int page, int size) {
@@ -183,23 +182,9 @@ public class CodeRepositoryAppService {
         if (groupCode == null || groupCode.isBlank()) {
             return searchPaged(keyword, page, size);
         }
-        groupPort.findByCode(groupCode)
+        GroupScope groupScope = groupPort.findScope(groupCode)
                 .orElseThrow(() -> NotFoundException.groupCode(groupCode));
-        Set<String> groupCodes = collectGroupScopeCodes(groupCode);
-        return codeRepositoryPort.searchPaged(keyword, groupCodes, page, size);
-    }
-
-    private Set<String> collectGroupScopeCodes(String rootGroupCode) {
-        Set<String> codes = new LinkedHashSet<>();
-        collectGroupScopeCodes(rootGroupCode, codes);
-        return codes;
-    }
-
-    private void collectGroupScopeCodes(String groupCode, Set<String> codes) {
-        if (!codes.add(groupCode)) {
-            return;
-        }
-        groupPort.findByParentCode(groupCode).forEach(child -> collectGroupScopeCodes(child.getCode(), codes));
+        return codeRepositoryPort.searchPaged(keyword, groupScope, page, size);
     }
 
     public GateSummary getGateSummary(String repoId) {
@@ -1,12 +1,14 @@
 package io.releasehub.application.repo;
 
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.common.paging.PageResult;
+import io.releasehub.domain.repo.CloneUrl;
 import io.releasehub.domain.repo.CodeRepository;
 import io.releasehub.domain.repo.RepoId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Port/Gateway：用例层对外部能力的抽象
@@ -16,18 +18,43 @@ public interface CodeRepositoryPort {
 
     Optional<CodeRepository> findById(RepoId id);
 
+    /**
+     * 按 ID 批量查询仓库，不存在的 ID 被忽略，结果顺序不保证
+     */
+    List<CodeRepository> findAllByIds(Collection<RepoId> ids);
+
     List<CodeRepository> findAll();
 
+    long count();
+
     void deleteById(RepoId id);
 
-    List<CodeRepository> search(String keyword);
+    /**
+     * 按规范化 cloneUrl（{@link CloneUrl#canonicalKey()}）查找已纳管的仓库
+     */
+    Optional<RepoId> findIdByCloneUrlKey(String canonicalKey);
 
-    PageResult<CodeRepository> searchPaged(String keyword, int page, int size);
+    /**
+     * 是否存在归属该分组的仓库
+     */
+    boolean existsByGroupCode(String groupCode);
 
-    default PageResult<CodeRepository> searchPaged(String keyword, Set<String> groupCodes, int page, int size) {
-        throw new UnsupportedOperationException("group scoped repository search is not implemented");
+    /**
+     * 按名称 / cloneUrl 联想搜索，名称完全匹配、前缀匹配优先，最多返回 limit 条
+     */
+    default List<RepoSearchHit> suggest(String keyword, int limit) {
+        return searchPaged(keyword, 1, limit).items().stream()
+                .map(repo -> new RepoSearchHit(repo.getId().value(), repo.getName(), repo.getCloneUrl(), repo.getGroupCode()))
+                .toList();
     }
 
+    PageResult<CodeRepository> searchPaged(String keyword, int page, int size);
+
+    /**
+     * 分页搜索归属于分组子树内任一分组的仓库
+     */
+    PageResult<CodeRepository> searchPaged(String keyword, GroupScope groupScope, int page, int size);
+
     /**
      * 更新仓库的初始版本号
      */
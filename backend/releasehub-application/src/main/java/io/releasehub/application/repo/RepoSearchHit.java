@@ -0,0 +1,12 @@
+package io.releasehub.application.repo;
+
+/**
+ * 仓库搜索联想结果：只读取列表展示所需的列，不加载也不解密访问令牌。
+ */
+public record RepoSearchHit(
+        String id,
+        String name,
+        String cloneUrl,
+        String groupCode
+) {
+}
@@ -0,0 +1,106 @@
+package io.releasehub.application.run;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 按仓库分组的并行执行器。
+ * <p>
+ * 不同分组（仓库）之间并发执行，同一分组内的任务严格按顺序串行执行。
+ * 并发度受 {@code releasehub.run.orchestration.parallelism} 限制，工作线程使用虚拟线程。
+ * 任一结果命中停止条件后，尚未开始的任务不再执行，进行中的任务可通过传入的
+ * {@link BooleanSupplier} 在步骤边界感知取消。
+ */
+@Slf4j
+@Component
+public class RepoParallelExecutor {
+
+    private final int parallelism;
+
+    public RepoParallelExecutor(@Value("${releasehub.run.orchestration.parallelism:8}") int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 并行执行各分组任务。
+     *
+     * @param groups   任务分组，组内顺序即执行顺序
+     * @param worker   任务执行函数，第二个参数用于查询是否已被取消
+     * @param stopWhen 停止条件，命中后取消其余未完成的工作
+     * @return 已完成任务的结果（不保证顺序）
+     */
+    public <T, R> List<R> executeGroups(Collection<? extends List<T>> groups,
+                                        BiFunction<T, BooleanSupplier, R> worker,
+                                        Predicate<R> stopWhen) {
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        ConcurrentLinkedQueue<R> results = new ConcurrentLinkedQueue<>();
+        int threads = Math.min(parallelism, groups.size());
+        List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        RuntimeException failure = null;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads,
+                Thread.ofVirtual().name("repo-orchestrate-", 0).factory())) {
+            for (List<T> group : groups) {
+                futures.add(executor.submit(() -> {
+                    for (T task : group) {
+                        if (stopped.get()) {
+                            return;
+                        }
+                        R result = worker.apply(task, stopped::get);
+                        results.add(result);
+                        if (stopWhen.test(result) && stopped.compareAndSet(false, true)) {
+                            futures.forEach(f -> f.cancel(false));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (CancellationException ignored) {
+                    // 由于 failFast 被取消的分组
+                } catch (ExecutionException e) {
+                    stopped.set(true);
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException re
+                                ? re : new IllegalStateException(e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    stopped.set(true);
+                    futures.forEach(f -> f.cancel(true));
+                    throw new IllegalStateException("Parallel orchestration interrupted", e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        log.debug("[RepoParallelExecutor] groups={} threads={} results={} stopped={}",
+                groups.size(), threads, results.size(), stopped.get());
+        return new ArrayList<>(results);
+    }
+}
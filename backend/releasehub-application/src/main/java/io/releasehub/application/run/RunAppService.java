@@ -4,6 +4,7 @@ import io.releasehub.application.conflict.ConflictDetectionAppService;
 import io.releasehub.application.iteration.IterationPort;
 import io.releasehub.application.iteration.IterationRepoPort;
 import io.releasehub.application.iteration.IterationRepoVersionInfo;
+import io.releasehub.application.port.out.CachingGitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.application.releasewindow.ReleaseWindowPort;
@@ -12,6 +13,8 @@ import io.releasehub.application.version.VersionDeriverUseCase;
 import io.releasehub.application.version.VersionUpdateAppService;
 import io.releasehub.application.version.VersionUpdateRequest;
 import io.releasehub.application.version.VersionUpdateResult;
+import io.releasehub.application.window.WindowContext;
+import io.releasehub.application.window.WindowContextLoader;
 import io.releasehub.application.window.WindowIterationPort;
 import io.releasehub.common.exception.BusinessException;
 import io.releasehub.common.exception.NotFoundException;
@@ -28,6 +31,7 @@ import io.releasehub.domain.version.BuildTool;
 import io.releasehub.domain.run.MergeStatus;
 import io.releasehub.domain.run.Run;
 import io.releasehub.domain.run.RunItem;
+import io.releasehub.domain.run.RunItemId;
 import io.releasehub.domain.run.RunItemResult;
 import io.releasehub.domain.run.RunStep;
 import io.releasehub.domain.run.RunType;
@@ -44,6 +48,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -60,6 +67,8 @@ public class RunAppService {
     private final ConflictDetectionAppService conflictDetectionAppService;
     private final VersionDeriverUseCase versionDeriverUseCase;
     private final SettingsPort settingsPort;
+    private final RepoParallelExecutor repoParallelExecutor;
+    private final WindowContextLoader windowContextLoader;
     private final Clock clock;
 
     private static final String META_VERSION_BUILD_TOOL = "versionUpdate.buildTool";
@@ -70,6 +79,8 @@ public class RunAppService {
     private static final String META_VERSION_GRADLE_PROPERTIES_PATH = "versionUpdate.gradlePropertiesPath";
     private static final String META_RETRY_SOURCE_RUN_ID = "retry.sourceRunId";
     private static final String META_RETRY_SOURCE_ITEM_ID = "retry.sourceItemId";
+    private static final Consumer<RunItem> NO_PROGRESS = item -> {
+    };
 
     private String deriveReleaseBranch(String windowKey) {
         return settingsPort.getNaming()
@@ -85,50 +96,169 @@ public class RunAppService {
 
     @Transactional
     public Run startOrchestrate(String windowId, List<String> repoIds, List<String> iterationKeys, boolean failFast, String operator) {
-        Instant now = Instant.now(clock);
+        return startOrchestrate(windowId, repoIds, iterationKeys, failFast, false, operator);
+    }
+
+    /**
+     * 执行发布窗口编排。
+     * <p>
+     * {@code parallel=true} 时不同仓库并发执行，同一仓库内仍按迭代挂载顺序串行；
+     * RunItem 的 plannedOrder/executedOrder 与串行模式一致，均按计划顺序编号。
+     */
+    @Transactional
+    public Run startOrchestrate(String windowId, List<String> repoIds, List<String> iterationKeys, boolean failFast, boolean parallel, String operator) {
+        Run run = openOrchestrate(windowId, operator);
+        ReleaseWindow rw = releaseWindowPort.findById(ReleaseWindowId.of(windowId)).orElseThrow();
+        orchestrate(run, rw, repoIds, iterationKeys, failFast, parallel, NO_PROGRESS);
+        return finishRun(run);
+    }
+
+    /**
+     * 校验窗口状态并做冲突预检，创建（尚未执行的）编排运行；存在冲突时直接抛出，不创建运行。
+     */
+    public Run openOrchestrate(String windowId, String operator) {
         ReleaseWindow rw = releaseWindowPort.findById(ReleaseWindowId.of(windowId)).orElseThrow();
         ensureWindowNotClosed(rw);
-        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, operator, now);
+        ensureNoConflicts(windowId);
+        return Run.start(RunType.WINDOW_ORCHESTRATION, operator, Instant.now(clock));
+    }
+
+    /**
+     * 创建（尚未执行的）重试运行，运行类型与被重试的运行一致。
+     */
+    public Run openRetry(String sourceRunId, String operator) {
+        Run previous = runPort.findById(sourceRunId).orElseThrow(() -> NotFoundException.run(sourceRunId));
+        return Run.start(previous.getRunType(), operator, Instant.now(clock));
+    }
 
-        // 冲突预检
+    /**
+     * 执行（或恢复执行）异步作业对应的运行。
+     * <p>
+     * 运行头需已持久化。已结束的运行项原样保留，未结束的运行项从最后一个已记录的步骤之后继续；
+     * 每个步骤完成后立即通过 {@link RunPort#saveItem} 在独立事务中落库，进程中断后可再次调用本方法恢复。
+     * 编排作业首次执行时再做一次冲突预检（提交后窗口可能出现新的冲突），存在冲突则抛出异常使运行中止。
+     * 每个步骤落库前及结束运行前检查 {@code cancelled}，已取消时抛出 {@link CancellationException}，
+     * 不再写入任何进度。
+     */
+    public Run resume(RunJob job, BooleanSupplier cancelled) {
+        Run run = runPort.findById(job.runId()).orElseThrow(() -> NotFoundException.run(job.runId()));
+        if (run.isFinished()) {
+            return run;
+        }
+        log.info("[RunJob] Executing job: runId={} type={} existingItems={}", job.runId(), job.type(), run.getItems().size());
+        Consumer<RunItem> progress = item -> {
+            ensureNotCancelled(job, cancelled);
+            runPort.saveItem(job.runId(), item);
+        };
+        switch (job.type()) {
+            case ORCHESTRATE -> {
+                ReleaseWindow rw = releaseWindowPort.findById(ReleaseWindowId.of(job.windowId()))
+                        .orElseThrow(() -> NotFoundException.releaseWindow(job.windowId()));
+                if (run.getItems().isEmpty()) {
+                    ensureNoConflicts(job.windowId());
+                }
+                orchestrate(run, rw, job.repoIds(), job.iterationKeys(), job.failFast(), job.parallel(), progress);
+            }
+            case RETRY -> {
+                Run previous = runPort.findById(job.sourceRunId())
+                        .orElseThrow(() -> NotFoundException.run(job.sourceRunId()));
+                retryItems(run, previous, job.retryItems(), progress);
+            }
+        }
+        ensureNotCancelled(job, cancelled);
+        return finishRun(run);
+    }
+
+    private void ensureNotCancelled(RunJob job, BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Run job " + job.runId() + " was cancelled: lease lost");
+        }
+    }
+
+    private void ensureNoConflicts(String windowId) {
         ConflictReport conflictReport = conflictDetectionAppService.getLatestReport(windowId)
                 .orElseGet(() -> conflictDetectionAppService.checkWindowConflicts(windowId));
         if (conflictReport.hasConflicts()) {
             throw BusinessException.conflictDetected(
                     "发布窗口存在 " + conflictReport.totalCount() + " 个冲突，请先解决所有冲突");
         }
+    }
 
+    private Run finishRun(Run run) {
+        run.finish(Instant.now(clock));
+        runPort.save(run);
+        return run;
+    }
+
+    private void orchestrate(Run run, ReleaseWindow rw, List<String> repoIds, List<String> iterationKeys,
+                             boolean failFast, boolean parallel, Consumer<RunItem> progress) {
+        String windowId = rw.getId().value();
         String releaseBranch = deriveReleaseBranch(rw.getWindowKey());
         List<WindowIteration> bindings = new java.util.ArrayList<>(
                 windowIterationPort.listByWindow(ReleaseWindowId.of(windowId)));
         log.info("[Orchestrate] windowId={} windowIterationBindings={}", windowId, bindings.size());
         bindings.sort(Comparator.comparing(WindowIteration::getAttachAt));
         List<IterationKey> orderedIterations = bindings.stream().map(WindowIteration::getIterationKey).distinct().toList();
-        log.info("[Orchestrate] orderedIterations={} repoIds={} iterationKeys={}", orderedIterations, repoIds, iterationKeys);
+        log.info("[Orchestrate] orderedIterations={} repoIds={} iterationKeys={} parallel={}", orderedIterations, repoIds, iterationKeys, parallel);
         if (orderedIterations.isEmpty()) {
             log.warn("[Orchestrate] No iterations bound to window {}, orchestration will produce 0 items", windowId);
         }
 
-        int order = 0;
-        boolean blocked = false;
+        CachingGitBranchAdapterFactory gitPorts = new CachingGitBranchAdapterFactory(gitBranchAdapterFactory);
+        List<OrchestrationTask> plan = planOrchestration(run, gitPorts, rw.getWindowKey(), releaseBranch, repoIds, iterationKeys, orderedIterations, progress);
+        List<OrchestrationOutcome> outcomes = parallel
+                ? executeOrchestrationInParallel(plan, failFast)
+                : executeOrchestrationSerially(plan, failFast);
+
+        outcomes.stream()
+                .sorted(Comparator.comparingInt(o -> o.item().getPlannedOrder()))
+                .forEach(outcome -> {
+                    if (outcome.mergedAt() != null) {
+                        windowIterationPort.updateLastMergeAt(windowId, outcome.item().getIterationKey().value(), outcome.mergedAt());
+                    }
+                    run.putItem(outcome.item());
+                });
+
+        log.info("[Orchestrate] Complete: totalItems={} windowId={} branchStatusCacheHits={} misses={}",
+                run.getItems().size(), windowId, gitPorts.getHits(), gitPorts.getMisses());
+        if (run.getItems().isEmpty()) {
+            if (orderedIterations.isEmpty()) {
+                log.info("[Orchestrate] Window {} has no bound iterations — nothing to orchestrate", windowId);
+            } else {
+                throw BusinessException.runNoItemsCreated(orderedIterations.size(), windowId);
+            }
+        }
+    }
 
+    /**
+     * 按 repo × iteration 生成编排计划，计划顺序即 plannedOrder。
+     * 仓库、迭代与版本信息通过 {@link WindowContextLoader} 批量加载，执行阶段只访问 Git 平台。
+     * 运行中已存在的同 ID 运行项（恢复执行）会被复用。
+     */
+    private List<OrchestrationTask> planOrchestration(Run run, GitBranchAdapterFactory gitPorts, String windowKey, String releaseBranch, List<String> repoIds,
+                                                      List<String> iterationKeys, List<IterationKey> orderedIterations,
+                                                      Consumer<RunItem> progress) {
+        List<OrchestrationTask> plan = new java.util.ArrayList<>();
+        List<IterationKey> selectedIterations = orderedIterations.stream()
+                .filter(ik -> iterationKeys.isEmpty() || iterationKeys.contains(ik.value()))
+                .toList();
+        WindowContext context = windowContextLoader.load(selectedIterations, repoIds.stream().map(RepoId::of).toList());
+        int order = 0;
         for (String repoIdStr : repoIds) {
             RepoId repoId = RepoId.of(repoIdStr);
-            CodeRepository repo = codeRepositoryPort.findById(repoId).orElse(null);
+            CodeRepository repo = context.repo(repoId).orElse(null);
             if (repo == null) {
                 log.warn("[Orchestrate] FILTER_B: repo not found: {}", repoIdStr);
                 continue;
             }
-            GitBranchPort gitPort = gitBranchAdapterFactory.getAdapter(repo.getGitProvider());
-            String token = repo.getGitAccessToken();
-            String cloneUrl = repo.getCloneUrl();
+            GitBranchPort gitPort = gitPorts.getAdapter(repo.getGitProvider());
 
             for (IterationKey ik : orderedIterations) {
                 if (!iterationKeys.isEmpty() && iterationKeys.stream().noneMatch(k -> k.equals(ik.value()))) {
                     log.debug("[Orchestrate] FILTER_C: iterationKey mismatch, ik={} not in {}", ik.value(), iterationKeys);
                     continue;
                 }
-                Iteration it = iterationPort.findByKey(ik).orElse(null);
+                Iteration it = context.iteration(ik).orElse(null);
                 if (it == null) {
                     log.warn("[Orchestrate] FILTER_D: iteration not found for key={}", ik.value());
                     continue;
@@ -138,118 +268,208 @@ public class RunAppService {
                     continue;
                 }
 
-                log.info("[Orchestrate] Creating RunItem: repo={} iteration={} order={}", repoIdStr, ik.value(), order + 1);
-                RunItem item = RunItem.create(rw.getWindowKey(), repoId, ik, ++order, now);
-                String iterationKey = ik.value();
+                int plannedOrder = ++order;
+                log.info("[Orchestrate] Creating RunItem: repo={} iteration={} order={}", repoIdStr, ik.value(), plannedOrder);
+                RunItem item = run.findItem(RunItemId.generate(windowKey, repoId, ik))
+                        .orElseGet(() -> RunItem.create(windowKey, repoId, ik, plannedOrder, run.getStartedAt()));
+                String featureBranch = context.versionInfo(ik.value(), repoIdStr)
+                        .map(IterationRepoVersionInfo::getFeatureBranch)
+                        .orElse(null);
+                plan.add(new OrchestrationTask(item, repo, gitPort, featureBranch, releaseBranch, true, progress));
+            }
+        }
+        return plan;
+    }
 
-                Optional<IterationRepoVersionInfo> versionInfoOpt = iterationRepoPort.getVersionInfo(iterationKey, repoIdStr);
-                String featureBranch = versionInfoOpt.map(IterationRepoVersionInfo::getFeatureBranch).orElse(null);
+    private List<OrchestrationOutcome> executeOrchestrationSerially(List<OrchestrationTask> plan, boolean failFast) {
+        List<OrchestrationOutcome> outcomes = new java.util.ArrayList<>();
+        for (OrchestrationTask task : plan) {
+            OrchestrationOutcome outcome = executeOrchestrationTask(task, () -> false);
+            outcomes.add(outcome);
+            if (failFast && outcome.blocking()) {
+                break;
+            }
+        }
+        return outcomes;
+    }
 
-                // Step 1: ENSURE_FEATURE — check feature branch exists
-                Instant s1 = Instant.now(clock);
-                if (featureBranch == null) {
-                    item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SKIPPED, s1, s1, "featureBranch 未配置"));
-                    item.setExecutedOrder(order);
-                    item.finishWith(RunItemResult.SKIPPED, Instant.now(clock));
-                    run.addItem(item);
-                    continue;
-                }
-                boolean featureExists = gitPort.getBranchStatus(cloneUrl, token, featureBranch).exists();
-                if (!featureExists) {
-                    item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SKIPPED, s1, s1, "Feature branch not found: " + featureBranch));
-                    item.setExecutedOrder(order);
-                    item.finishWith(RunItemResult.SKIPPED, Instant.now(clock));
-                    run.addItem(item);
-                    continue;
-                }
-                item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SUCCESS, s1, s1, "Feature branch exists: " + featureBranch));
-
-                // Step 2: ENSURE_RELEASE — create release branch if not exists
-                Instant s2 = Instant.now(clock);
-                boolean releaseExists = gitPort.getBranchStatus(cloneUrl, token, releaseBranch).exists();
-                if (!releaseExists) {
-                    boolean created = gitPort.createBranch(cloneUrl, token, releaseBranch, repo.getDefaultBranch());
-                    if (!created) {
-                        item.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.FAILED, s2, s2, "Failed to create release branch: " + releaseBranch));
-                        item.setExecutedOrder(order);
-                        item.finishWith(RunItemResult.FAILED, Instant.now(clock));
-                        run.addItem(item);
-                        if (failFast) { blocked = true; break; }
-                        continue;
-                    }
-                    item.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.BRANCH_CREATED, s2, s2, "Created release branch: " + releaseBranch));
-                } else {
-                    item.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.BRANCH_EXISTS, s2, s2, "Release branch exists: " + releaseBranch));
-                }
+    private List<OrchestrationOutcome> executeOrchestrationInParallel(List<OrchestrationTask> plan, boolean failFast) {
+        Map<RepoId, List<OrchestrationTask>> byRepo = new java.util.LinkedHashMap<>();
+        for (OrchestrationTask task : plan) {
+            byRepo.computeIfAbsent(task.item().getRepo(), k -> new java.util.ArrayList<>()).add(task);
+        }
+        log.info("[Orchestrate] Parallel execution: repos={} items={} parallelism={}",
+                byRepo.size(), plan.size(), repoParallelExecutor.getParallelism());
+        return repoParallelExecutor.executeGroups(byRepo.values(), this::executeOrchestrationTask,
+                outcome -> failFast && outcome.blocking());
+    }
 
-                // Step 3: ENSURE_MR — verify both branches ready for merge
-                Instant s3 = Instant.now(clock);
-                if (!gitPort.getBranchStatus(cloneUrl, token, featureBranch).exists() || !gitPort.getBranchStatus(cloneUrl, token, releaseBranch).exists()) {
-                    item.addStep(new RunStep(ActionType.ENSURE_MR, RunItemResult.SKIPPED, s3, s3, "Branches not ready for merge"));
-                    item.setExecutedOrder(order);
-                    item.finishWith(RunItemResult.SKIPPED, Instant.now(clock));
-                    run.addItem(item);
-                    continue;
-                }
-                item.addStep(new RunStep(ActionType.ENSURE_MR, RunItemResult.SUCCESS, s3, s3, "Ready to merge " + featureBranch + " → " + releaseBranch));
-
-                // Step 4: TRY_MERGE — attempt merge
-                Instant s4 = Instant.now(clock);
-                GitBranchPort.MergeResult mergeResult = gitPort.mergeBranch(cloneUrl, token, featureBranch, releaseBranch,
-                        "Merge " + featureBranch + " into " + releaseBranch);
-                Instant s4End = Instant.now(clock);
-
-                RunItemResult mergeOutcome;
-                String mergeMessage;
-                switch (mergeResult.status()) {
-                    case SUCCESS -> {
-                        mergeOutcome = RunItemResult.MERGED;
-                        mergeMessage = "Merged " + featureBranch + " → " + releaseBranch;
-                        windowIterationPort.updateLastMergeAt(windowId, iterationKey, s4End);
-                    }
-                    case CONFLICT -> {
-                        mergeOutcome = RunItemResult.MERGE_BLOCKED;
-                        mergeMessage = "Merge conflict: " + mergeResult.detail();
-                        if (failFast) { blocked = true; }
-                    }
-                    default -> {
-                        mergeOutcome = RunItemResult.FAILED;
-                        mergeMessage = "Merge failed: " + mergeResult.detail();
-                        if (failFast) { blocked = true; }
-                    }
+    /**
+     * 执行单个编排项：ENSURE_FEATURE → ENSURE_RELEASE → ENSURE_MR → TRY_MERGE。
+     * 每个步骤开始前检查 {@code cancelled}，被其他仓库的 failFast 阻断时以 SKIPPED_DUE_TO_BLOCK 结束。
+     * 已结束的运行项直接返回，已记录的步骤不会重复执行。
+     */
+    private OrchestrationOutcome executeOrchestrationTask(OrchestrationTask task, BooleanSupplier cancelled) {
+        RunItem item = task.item();
+        if (item.isFinished()) {
+            return new OrchestrationOutcome(item);
+        }
+        GitBranchPort gitPort = task.gitPort();
+        CodeRepository repo = task.repo();
+        String token = repo.getGitAccessToken();
+        String cloneUrl = repo.getCloneUrl();
+        String featureBranch = task.featureBranch();
+        String releaseBranch = task.releaseBranch();
+        Consumer<RunItem> progress = task.progress();
+        int order = item.getPlannedOrder();
+
+        // Step 1: ENSURE_FEATURE — check feature branch exists
+        if (!item.hasStep(ActionType.ENSURE_FEATURE)) {
+            Instant s1 = Instant.now(clock);
+            if (featureBranch == null) {
+                item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SKIPPED, s1, s1, "featureBranch 未配置"));
+                completeItem(item, order, RunItemResult.SKIPPED, Instant.now(clock), progress);
+                return new OrchestrationOutcome(item);
+            }
+            boolean featureExists = gitPort.getBranchStatus(cloneUrl, token, featureBranch).exists();
+            if (!featureExists) {
+                item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SKIPPED, s1, s1, "Feature branch not found: " + featureBranch));
+                completeItem(item, order, RunItemResult.SKIPPED, Instant.now(clock), progress);
+                return new OrchestrationOutcome(item);
+            }
+            recordStep(item, new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SUCCESS, s1, s1, "Feature branch exists: " + featureBranch), progress);
+        }
+
+        // Step 2: ENSURE_RELEASE — create release branch if not exists
+        if (!item.hasStep(ActionType.ENSURE_RELEASE)) {
+            if (cancelled.getAsBoolean()) {
+                return cancelOrchestrationTask(item, ActionType.ENSURE_RELEASE, progress);
+            }
+            Instant s2 = Instant.now(clock);
+            boolean releaseExists = gitPort.getBranchStatus(cloneUrl, token, releaseBranch).exists();
+            if (!releaseExists) {
+                boolean created = gitPort.createBranch(cloneUrl, token, releaseBranch, repo.getDefaultBranch());
+                if (!created) {
+                    item.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.FAILED, s2, s2, "Failed to create release branch: " + releaseBranch));
+                    completeItem(item, order, RunItemResult.FAILED, Instant.now(clock), progress);
+                    return new OrchestrationOutcome(item);
                 }
-                item.addStep(new RunStep(ActionType.TRY_MERGE, mergeOutcome, s4, s4End, mergeMessage));
-                item.setExecutedOrder(order);
-                item.finishWith(mergeOutcome, s4End);
-                run.addItem(item);
+                recordStep(item, new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.BRANCH_CREATED, s2, s2, "Created release branch: " + releaseBranch), progress);
+            } else {
+                recordStep(item, new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.BRANCH_EXISTS, s2, s2, "Release branch exists: " + releaseBranch), progress);
+            }
+        }
 
-                if (blocked) break;
+        // Step 3: ENSURE_MR — verify both branches ready for merge
+        if (!item.hasStep(ActionType.ENSURE_MR)) {
+            if (cancelled.getAsBoolean()) {
+                return cancelOrchestrationTask(item, ActionType.ENSURE_MR, progress);
+            }
+            Instant s3 = Instant.now(clock);
+            if (task.verifyBeforeMerge()
+                    && (!gitPort.getBranchStatus(cloneUrl, token, featureBranch).exists() || !gitPort.getBranchStatus(cloneUrl, token, releaseBranch).exists())) {
+                item.addStep(new RunStep(ActionType.ENSURE_MR, RunItemResult.SKIPPED, s3, s3, "Branches not ready for merge"));
+                completeItem(item, order, RunItemResult.SKIPPED, Instant.now(clock), progress);
+                return new OrchestrationOutcome(item);
             }
-            if (blocked) break;
+            recordStep(item, new RunStep(ActionType.ENSURE_MR, RunItemResult.SUCCESS, s3, s3, "Ready to merge " + featureBranch + " → " + releaseBranch), progress);
         }
 
-        log.info("[Orchestrate] Complete: totalItems={} windowId={}", run.getItems().size(), windowId);
-        if (run.getItems().isEmpty()) {
-            if (orderedIterations.isEmpty()) {
-                log.info("[Orchestrate] Window {} has no bound iterations — nothing to orchestrate", windowId);
-            } else {
-                throw BusinessException.runNoItemsCreated(orderedIterations.size(), windowId);
+        // Step 4: TRY_MERGE — attempt merge
+        if (cancelled.getAsBoolean()) {
+            return cancelOrchestrationTask(item, ActionType.TRY_MERGE, progress);
+        }
+        Instant s4 = Instant.now(clock);
+        GitBranchPort.MergeResult mergeResult = gitPort.mergeBranch(cloneUrl, token, featureBranch, releaseBranch,
+                "Merge " + featureBranch + " into " + releaseBranch);
+        Instant s4End = Instant.now(clock);
+
+        RunItemResult mergeOutcome;
+        String mergeMessage;
+        switch (mergeResult.status()) {
+            case SUCCESS -> {
+                mergeOutcome = RunItemResult.MERGED;
+                mergeMessage = "Merged " + featureBranch + " → " + releaseBranch;
+            }
+            case CONFLICT -> {
+                mergeOutcome = RunItemResult.MERGE_BLOCKED;
+                mergeMessage = "Merge conflict: " + mergeResult.detail();
+            }
+            default -> {
+                mergeOutcome = RunItemResult.FAILED;
+                mergeMessage = "Merge failed: " + mergeResult.detail();
             }
         }
-        run.finish(Instant.now(clock));
-        runPort.save(run);
-        return run;
+        item.addStep(new RunStep(ActionType.TRY_MERGE, mergeOutcome, s4, s4End, mergeMessage));
+        completeItem(item, order, mergeOutcome, s4End, progress);
+        return new OrchestrationOutcome(item);
+    }
+
+    private OrchestrationOutcome cancelOrchestrationTask(RunItem item, ActionType nextAction, Consumer<RunItem> progress) {
+        Instant at = Instant.now(clock);
+        item.addStep(new RunStep(nextAction, RunItemResult.SKIPPED_DUE_TO_BLOCK, at, at,
+                "Cancelled: fail-fast triggered by another repository"));
+        completeItem(item, item.getPlannedOrder(), RunItemResult.SKIPPED_DUE_TO_BLOCK, at, progress);
+        return new OrchestrationOutcome(item);
+    }
+
+    private void recordStep(RunItem item, RunStep step, Consumer<RunItem> progress) {
+        item.addStep(step);
+        progress.accept(item);
+    }
+
+    private void completeItem(RunItem item, int executedOrder, RunItemResult result, Instant at, Consumer<RunItem> progress) {
+        item.setExecutedOrder(executedOrder);
+        item.finishWith(result, at);
+        progress.accept(item);
+    }
+
+    /**
+     * @param verifyBeforeMerge ENSURE_MR 时是否再次确认 feature/release 分支均存在（重试时跳过）
+     * @param progress          运行项每记录一个步骤后的回调，异步作业用于增量落库
+     */
+    private record OrchestrationTask(RunItem item, CodeRepository repo, GitBranchPort gitPort,
+                                     String featureBranch, String releaseBranch, boolean verifyBeforeMerge,
+                                     Consumer<RunItem> progress) {
+    }
+
+    /**
+     * 编排项执行结果，恢复执行时也可由已结束的运行项直接推导。
+     */
+    private record OrchestrationOutcome(RunItem item) {
+        /**
+         * 合并成功时间，用于回写 window_iteration.last_merge_at
+         */
+        Instant mergedAt() {
+            if (item.getFinalResult() != RunItemResult.MERGED) {
+                return null;
+            }
+            return item.findStep(ActionType.TRY_MERGE).map(RunStep::endAt).orElse(null);
+        }
+
+        /**
+         * 是否为 failFast 需要阻断的结果：release 分支创建失败或合并未成功
+         */
+        boolean blocking() {
+            return item.getFinalResult() == RunItemResult.FAILED || item.getFinalResult() == RunItemResult.MERGE_BLOCKED;
+        }
     }
 
     @Transactional
     public Run retry(String runId, List<String> items, String operator) {
         Instant now = Instant.now(clock);
         Run previous = runPort.findById(runId).orElseThrow();
-        if (previous.getRunType() == RunType.VERSION_UPDATE) {
-            return retryVersionUpdate(previous, items, operator, now);
-        }
         Run run = Run.start(previous.getRunType(), operator, now);
+        retryItems(run, previous, items, NO_PROGRESS);
+        return finishRun(run);
+    }
 
+    private void retryItems(Run run, Run previous, List<String> items, Consumer<RunItem> progress) {
+        if (previous.getRunType() == RunType.VERSION_UPDATE) {
+            retryVersionUpdate(run, previous, items, progress);
+            return;
+        }
+        CachingGitBranchAdapterFactory gitPorts = new CachingGitBranchAdapterFactory(gitBranchAdapterFactory);
         for (RunItem prevItem : previous.getItems()) {
             String key = prevItem.getWindowKey() + "::" + prevItem.getRepo().value() + "::" + prevItem.getIterationKey().value();
             if (items.stream().noneMatch(sel -> sel.equals(key))) {
@@ -264,12 +484,8 @@ public class RunAppService {
             CodeRepository repo = codeRepositoryPort.findById(repoId).orElse(null);
             if (repo == null) continue;
 
-            GitBranchPort gitPort = gitBranchAdapterFactory.getAdapter(repo.getGitProvider());
-            String token = repo.getGitAccessToken();
-            String cloneUrl = repo.getCloneUrl();
-
-            RunItem item = RunItem.createRetry(prevItem.getWindowKey(), repoId, iterationKey, prevItem.getPlannedOrder(), run.getId().value(), now);
-            addRetryTrace(item, previous, prevItem);
+            GitBranchPort gitPort = gitPorts.getAdapter(repo.getGitProvider());
+            RunItem item = resolveRetryItem(run, previous, prevItem);
 
             Optional<IterationRepoVersionInfo> versionInfoOpt = iterationRepoPort.getVersionInfo(iterationKey.value(), repoId.value());
             String featureBranch = versionInfoOpt.map(IterationRepoVersionInfo::getFeatureBranch).orElse(null);
@@ -278,94 +494,52 @@ public class RunAppService {
                 releaseBranch = "release/" + prevItem.getWindowKey();
             }
 
-            // Step 1: ENSURE_FEATURE
-            Instant s1 = Instant.now(clock);
-            if (featureBranch == null) {
-                item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SKIPPED, s1, s1, "featureBranch 未配置"));
-                item.setExecutedOrder(prevItem.getPlannedOrder());
-                item.finishWith(RunItemResult.SKIPPED, Instant.now(clock));
-                run.addItem(item);
-                continue;
-            }
-            if (!gitPort.getBranchStatus(cloneUrl, token, featureBranch).exists()) {
-                item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SKIPPED, s1, s1, "Feature branch not found: " + featureBranch));
-                item.setExecutedOrder(prevItem.getPlannedOrder());
-                item.finishWith(RunItemResult.SKIPPED, Instant.now(clock));
-                run.addItem(item);
-                continue;
-            }
-            item.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SUCCESS, s1, s1, "Feature branch exists: " + featureBranch));
-
-            // Step 2: ENSURE_RELEASE
-            Instant s2 = Instant.now(clock);
-            if (!gitPort.getBranchStatus(cloneUrl, token, releaseBranch).exists()) {
-                boolean created = gitPort.createBranch(cloneUrl, token, releaseBranch, repo.getDefaultBranch());
-                if (!created) {
-                    item.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.FAILED, s2, s2, "Failed to create release branch: " + releaseBranch));
-                    item.setExecutedOrder(prevItem.getPlannedOrder());
-                    item.finishWith(RunItemResult.FAILED, Instant.now(clock));
-                    run.addItem(item);
-                    continue;
-                }
-                item.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.BRANCH_CREATED, s2, s2, "Created release branch: " + releaseBranch));
-            } else {
-                item.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.BRANCH_EXISTS, s2, s2, "Release branch exists: " + releaseBranch));
-            }
-
-            // Step 3: ENSURE_MR
-            Instant s3 = Instant.now(clock);
-            item.addStep(new RunStep(ActionType.ENSURE_MR, RunItemResult.SUCCESS, s3, s3, "Ready to merge " + featureBranch + " → " + releaseBranch));
-
-            // Step 4: TRY_MERGE
-            Instant s4 = Instant.now(clock);
-            GitBranchPort.MergeResult mergeResult = gitPort.mergeBranch(cloneUrl, token, featureBranch, releaseBranch,
-                    "Merge " + featureBranch + " into " + releaseBranch);
-            Instant s4End = Instant.now(clock);
-
-            RunItemResult mergeOutcome;
-            String mergeMessage;
-            switch (mergeResult.status()) {
-                case SUCCESS -> {
-                    mergeOutcome = RunItemResult.MERGED;
-                    mergeMessage = "Merged " + featureBranch + " → " + releaseBranch;
-                }
-                case CONFLICT -> {
-                    mergeOutcome = RunItemResult.MERGE_BLOCKED;
-                    mergeMessage = "Merge conflict: " + mergeResult.detail();
-                }
-                default -> {
-                    mergeOutcome = RunItemResult.FAILED;
-                    mergeMessage = "Merge failed: " + mergeResult.detail();
-                }
-            }
-            item.addStep(new RunStep(ActionType.TRY_MERGE, mergeOutcome, s4, s4End, mergeMessage));
-            item.setExecutedOrder(prevItem.getPlannedOrder());
-            item.finishWith(mergeOutcome, s4End);
-            run.addItem(item);
+            OrchestrationTask task = new OrchestrationTask(item, repo, gitPort, featureBranch, releaseBranch, false, progress);
+            run.putItem(executeOrchestrationTask(task, () -> false).item());
         }
+        log.debug("[Retry] branchStatusCacheHits={} misses={}", gitPorts.getHits(), gitPorts.getMisses());
+    }
 
-        run.finish(Instant.now(clock));
-        runPort.save(run);
-        return run;
+    /**
+     * 创建重试运行项；恢复执行时复用运行中已存在的同 ID 运行项。
+     */
+    private RunItem resolveRetryItem(Run run, Run previous, RunItem prevItem) {
+        RunItem created = RunItem.createRetry(prevItem.getWindowKey(), prevItem.getRepo(), prevItem.getIterationKey(),
+                prevItem.getPlannedOrder(), run.getId().value(), run.getStartedAt());
+        RunItem item = run.findItem(created.getId()).orElse(created);
+        addRetryTrace(item, previous, prevItem);
+        return item;
     }
 
+    /**
+     * 窗口关闭清理，在调用方事务内同步执行（不提供异步作业与断点恢复）
+     */
     @Transactional
     public Run executeCleanup(String windowId, String operator) {
-        Instant now = Instant.now(clock);
-        ReleaseWindow rw = releaseWindowPort.findById(ReleaseWindowId.of(windowId)).orElseThrow();
         log.info("Starting cleanup run for closed window {}", windowId);
+        releaseWindowPort.findById(ReleaseWindowId.of(windowId)).orElseThrow(() -> NotFoundException.releaseWindow(windowId));
+        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, operator, Instant.now(clock));
+        cleanup(run, windowId);
+        finishRun(run);
+        log.info("Cleanup run {} completed for window {}", run.getId().value(), windowId);
+        return run;
+    }
 
-        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, operator, now);
+    private void cleanup(Run run, String windowId) {
+        Instant now = Instant.now(clock);
+        ReleaseWindow rw = releaseWindowPort.findById(ReleaseWindowId.of(windowId)).orElseThrow();
         String releaseBranch = deriveReleaseBranch(rw.getWindowKey());
         List<WindowIteration> bindings = new java.util.ArrayList<>(
                 windowIterationPort.listByWindow(ReleaseWindowId.of(windowId)));
         bindings.sort(Comparator.comparing(WindowIteration::getAttachAt));
 
+        CachingGitBranchAdapterFactory gitPorts = new CachingGitBranchAdapterFactory(gitBranchAdapterFactory);
+        WindowContext context = windowContextLoader.load(bindings.stream().map(WindowIteration::getIterationKey).toList());
         int order = 0;
 
         // Phase 1: Close iterations (domain-only, no RunItems)
         for (WindowIteration wi : bindings) {
-            Iteration iteration = iterationPort.findByKey(wi.getIterationKey()).orElse(null);
+            Iteration iteration = context.iteration(wi.getIterationKey()).orElse(null);
             if (iteration == null || iteration.isClosed()) continue;
             iteration.close(now);
             iterationPort.save(iteration);
@@ -374,134 +548,129 @@ public class RunAppService {
 
         // Phase 2: Repo-level cleanup (archive → merge to master → tag → CI)
         for (WindowIteration wi : bindings) {
-            Iteration iteration = iterationPort.findByKey(wi.getIterationKey()).orElse(null);
+            Iteration iteration = context.iteration(wi.getIterationKey()).orElse(null);
             if (iteration == null) continue;
             String iterationKey = wi.getIterationKey().value();
             for (RepoId repoId : iteration.getRepos()) {
-                CodeRepository repo = codeRepositoryPort.findById(repoId).orElse(null);
+                CodeRepository repo = context.repo(repoId).orElse(null);
                 if (repo == null) continue;
-                GitBranchPort gitPort = gitBranchAdapterFactory.getAdapter(repo.getGitProvider());
-                String token = repo.getGitAccessToken();
-                String cloneUrl = repo.getCloneUrl();
 
+                RunItem item = RunItem.create(rw.getWindowKey(), repoId, wi.getIterationKey(), ++order, run.getStartedAt());
                 // Get per-repo version info
-                Optional<IterationRepoVersionInfo> repoVersionInfo = iterationRepoPort.getVersionInfo(iterationKey, repoId.value());
-                String featureBranch = repoVersionInfo.map(IterationRepoVersionInfo::getFeatureBranch).orElse(null);
-                String devVersion = repoVersionInfo.map(IterationRepoVersionInfo::getDevVersion).orElse(null);
-                String releaseVersion = devVersion != null ? versionDeriverUseCase.deriveTargetVersion(devVersion) : null;
-
-                RunItem item = RunItem.create(rw.getWindowKey(), repoId, wi.getIterationKey(), ++order, now);
-                boolean itemFailed = false;
-
-                // Step 1: UPDATE_VERSION — derive and record release version
-                Instant sv = Instant.now(clock);
-                if (releaseVersion != null) {
-                    item.addStep(new RunStep(ActionType.UPDATE_VERSION, RunItemResult.VERSION_UPDATE_SUCCESS, sv, sv,
-                            "Release version: " + releaseVersion + " (from " + devVersion + ")"));
-                } else {
-                    item.addStep(new RunStep(ActionType.UPDATE_VERSION, RunItemResult.SKIPPED, sv, sv,
-                            "No dev version found, skip version derivation"));
-                }
-
-                // Step 2: ARCHIVE_BRANCH
-                Instant sa = Instant.now(clock);
-                if (featureBranch == null) {
-                    item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.SKIPPED, sa, sa,
-                            "featureBranch 未配置，跳过归档"));
-                } else if (gitPort.getBranchStatus(cloneUrl, token, featureBranch).exists()) {
-                    boolean archived = gitPort.archiveBranch(cloneUrl, token, featureBranch, "released");
-                    if (archived) {
-                        item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.SUCCESS, sa, sa,
-                                "Archived feature branch: " + featureBranch));
-                    } else {
-                        item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.FAILED, sa, sa,
-                                "Failed to archive: " + featureBranch));
-                    }
-                } else {
-                    item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.SKIPPED, sa, sa,
-                            "Feature branch not found, skip archive"));
-                }
+                Optional<IterationRepoVersionInfo> repoVersionInfo = context.versionInfo(iterationKey, repoId.value());
+                executeCleanupItem(item, repo, gitPorts.getAdapter(repo.getGitProvider()), releaseBranch, repoVersionInfo);
+                run.addItem(item);
+            }
+        }
+        log.info("[Cleanup] windowId={} branchStatusCacheHits={} misses={}", windowId, gitPorts.getHits(), gitPorts.getMisses());
+    }
 
-                // Step 3: MERGE_TO_MASTER
-                Instant sm = Instant.now(clock);
-                if (gitPort.getBranchStatus(cloneUrl, token, releaseBranch).exists()) {
-                    String masterBranch = repo.getDefaultBranch();
-                    GitBranchPort.MergeResult mr = gitPort.mergeBranch(cloneUrl, token, releaseBranch, masterBranch,
-                            "Merge " + releaseBranch + " into " + masterBranch);
-                    Instant smEnd = Instant.now(clock);
-                    switch (mr.status()) {
-                        case SUCCESS -> item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.MERGED, sm, smEnd,
-                                "Merged " + releaseBranch + " → " + masterBranch));
-                        case CONFLICT -> {
-                            item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.MERGE_BLOCKED, sm, smEnd,
-                                    "Merge conflict: " + mr.detail()));
-                            itemFailed = true;
-                        }
-                        default -> {
-                            item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.FAILED, sm, smEnd,
-                                    "Merge failed: " + mr.detail()));
-                            itemFailed = true;
-                        }
-                    }
-                } else {
-                    item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.SKIPPED, sm, sm,
-                            "Release branch not found, skip merge to master"));
-                }
+    /**
+     * 执行单个清理项：UPDATE_VERSION → ARCHIVE_BRANCH → MERGE_TO_MASTER → CREATE_TAG → TRIGGER_CI。
+     */
+    private void executeCleanupItem(RunItem item, CodeRepository repo, GitBranchPort gitPort, String releaseBranch,
+                                    Optional<IterationRepoVersionInfo> repoVersionInfo) {
+        String token = repo.getGitAccessToken();
+        String cloneUrl = repo.getCloneUrl();
+        String featureBranch = repoVersionInfo.map(IterationRepoVersionInfo::getFeatureBranch).orElse(null);
+        String devVersion = repoVersionInfo.map(IterationRepoVersionInfo::getDevVersion).orElse(null);
+        String releaseVersion = devVersion != null ? versionDeriverUseCase.deriveTargetVersion(devVersion) : null;
+
+        // Step 1: UPDATE_VERSION — derive and record release version
+        Instant sv = Instant.now(clock);
+        if (releaseVersion != null) {
+            item.addStep(new RunStep(ActionType.UPDATE_VERSION, RunItemResult.VERSION_UPDATE_SUCCESS, sv, sv,
+                    "Release version: " + releaseVersion + " (from " + devVersion + ")"));
+        } else {
+            item.addStep(new RunStep(ActionType.UPDATE_VERSION, RunItemResult.SKIPPED, sv, sv,
+                    "No dev version found, skip version derivation"));
+        }
 
-                // Step 4: CREATE_TAG
-                Instant st = Instant.now(clock);
-                if (!itemFailed && releaseVersion != null) {
-                    String tagName = "v" + releaseVersion;
-                    boolean tagged = gitPort.createTag(cloneUrl, token, tagName, repo.getDefaultBranch(),
-                            "Release " + tagName);
-                    if (tagged) {
-                        item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.TAG_CREATED, st, st,
-                                "Tag created: " + tagName));
-                    } else {
-                        item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.FAILED, st, st,
-                                "Failed to create tag: " + tagName));
-                    }
-                } else if (releaseVersion == null) {
-                    item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.SKIPPED, st, st,
-                            "No release version, skip tag creation"));
-                } else {
-                    item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.SKIPPED_DUE_TO_BLOCK, st, st,
-                            "Skipped due to earlier failure"));
-                }
+        // Step 2: ARCHIVE_BRANCH
+        Instant sa = Instant.now(clock);
+        if (featureBranch == null) {
+            item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.SKIPPED, sa, sa,
+                    "featureBranch 未配置，跳过归档"));
+        } else if (gitPort.getBranchStatus(cloneUrl, token, featureBranch).exists()) {
+            boolean archived = gitPort.archiveBranch(cloneUrl, token, featureBranch, "released");
+            if (archived) {
+                item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.SUCCESS, sa, sa,
+                        "Archived feature branch: " + featureBranch));
+            } else {
+                item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.FAILED, sa, sa,
+                        "Failed to archive: " + featureBranch));
+            }
+        } else {
+            item.addStep(new RunStep(ActionType.ARCHIVE_BRANCH, RunItemResult.SKIPPED, sa, sa,
+                    "Feature branch not found, skip archive"));
+        }
 
-                // Step 5: TRIGGER_CI
-                Instant sc = Instant.now(clock);
-                RunItemResult ciResult = null;
-                if (!itemFailed) {
-                    String ref = releaseBranch;
-                    if (!gitPort.getBranchStatus(cloneUrl, token, ref).exists()) {
-                        ref = repo.getDefaultBranch();
-                    }
-                    String pipelineId = gitPort.triggerPipeline(cloneUrl, token, ref);
-                    if (pipelineId != null) {
-                        ciResult = RunItemResult.CI_TRIGGERED;
-                        item.addStep(new RunStep(ActionType.TRIGGER_CI, ciResult, sc, sc,
-                                "Pipeline triggered: " + pipelineId + " on " + ref));
-                    } else {
-                        ciResult = RunItemResult.CI_NOT_CONFIGURED;
-                        item.addStep(new RunStep(ActionType.TRIGGER_CI, ciResult, sc, sc,
-                                "CI not configured for provider: " + repo.getGitProvider()));
-                    }
-                } else {
-                    item.addStep(new RunStep(ActionType.TRIGGER_CI, RunItemResult.SKIPPED_DUE_TO_BLOCK, sc, sc,
-                            "Skipped due to earlier failure"));
-                }
+        // Step 3: MERGE_TO_MASTER
+        Instant sm = Instant.now(clock);
+        if (gitPort.getBranchStatus(cloneUrl, token, releaseBranch).exists()) {
+            String masterBranch = repo.getDefaultBranch();
+            GitBranchPort.MergeResult mr = gitPort.mergeBranch(cloneUrl, token, releaseBranch, masterBranch,
+                    "Merge " + releaseBranch + " into " + masterBranch);
+            Instant smEnd = Instant.now(clock);
+            switch (mr.status()) {
+                case SUCCESS -> item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.MERGED, sm, smEnd,
+                        "Merged " + releaseBranch + " → " + masterBranch));
+                case CONFLICT -> item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.MERGE_BLOCKED, sm, smEnd,
+                        "Merge conflict: " + mr.detail()));
+                default -> item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.FAILED, sm, smEnd,
+                        "Merge failed: " + mr.detail()));
+            }
+        } else {
+            item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, RunItemResult.SKIPPED, sm, sm,
+                    "Release branch not found, skip merge to master"));
+        }
+        boolean itemFailed = item.findStep(ActionType.MERGE_TO_MASTER)
+                .map(s -> s.result() == RunItemResult.MERGE_BLOCKED || s.result() == RunItemResult.FAILED)
+                .orElse(false);
+
+        // Step 4: CREATE_TAG
+        Instant st = Instant.now(clock);
+        if (!itemFailed && releaseVersion != null) {
+            String tagName = "v" + releaseVersion;
+            boolean tagged = gitPort.createTag(cloneUrl, token, tagName, repo.getDefaultBranch(),
+                    "Release " + tagName);
+            if (tagged) {
+                item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.TAG_CREATED, st, st,
+                        "Tag created: " + tagName));
+            } else {
+                item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.FAILED, st, st,
+                        "Failed to create tag: " + tagName));
+            }
+        } else if (releaseVersion == null) {
+            item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.SKIPPED, st, st,
+                    "No release version, skip tag creation"));
+        } else {
+            item.addStep(new RunStep(ActionType.CREATE_TAG, RunItemResult.SKIPPED_DUE_TO_BLOCK, st, st,
+                    "Skipped due to earlier failure"));
+        }
 
-                item.setExecutedOrder(order);
-                item.finishWith(resolveCleanupFinalResult(itemFailed, ciResult), Instant.now(clock));
-                run.addItem(item);
+        // Step 5: TRIGGER_CI
+        Instant sc = Instant.now(clock);
+        if (!itemFailed) {
+            String ref = releaseBranch;
+            if (!gitPort.getBranchStatus(cloneUrl, token, ref).exists()) {
+                ref = repo.getDefaultBranch();
+            }
+            String pipelineId = gitPort.triggerPipeline(cloneUrl, token, ref);
+            if (pipelineId != null) {
+                item.addStep(new RunStep(ActionType.TRIGGER_CI, RunItemResult.CI_TRIGGERED, sc, sc,
+                        "Pipeline triggered: " + pipelineId + " on " + ref));
+            } else {
+                item.addStep(new RunStep(ActionType.TRIGGER_CI, RunItemResult.CI_NOT_CONFIGURED, sc, sc,
+                        "CI not configured for provider: " + repo.getGitProvider()));
             }
+        } else {
+            item.addStep(new RunStep(ActionType.TRIGGER_CI, RunItemResult.SKIPPED_DUE_TO_BLOCK, sc, sc,
+                    "Skipped due to earlier failure"));
         }
+        RunItemResult ciResult = item.findStep(ActionType.TRIGGER_CI).map(RunStep::result).orElse(null);
 
-        run.finish(Instant.now(clock));
-        runPort.save(run);
-        log.info("Cleanup run {} completed for window {}", run.getId().value(), windowId);
-        return run;
+        completeItem(item, item.getPlannedOrder(), resolveCleanupFinalResult(itemFailed, ciResult), Instant.now(clock), NO_PROGRESS);
     }
 
     private RunItemResult resolveCleanupFinalResult(boolean itemFailed, RunItemResult ciResult) {
@@ -535,12 +704,7 @@ public class RunAppService {
         codeRepositoryPort.findById(RepoId.of(repoId))
                 .orElseThrow(() -> NotFoundException.repository(repoId));
 
-        ConflictReport conflictReport = conflictDetectionAppService.getLatestReport(windowId)
-                .orElseGet(() -> conflictDetectionAppService.checkWindowConflicts(windowId));
-        if (conflictReport.hasConflicts()) {
-            throw BusinessException.conflictDetected(
-                    "发布窗口存在 " + conflictReport.totalCount() + " 个冲突，请先解决所有冲突");
-        }
+        ensureNoConflicts(windowId);
 
         String branchName = deriveReleaseBranch(rw.getWindowKey());
         VersionUpdateRequest request = buildTool == BuildTool.MAVEN
@@ -598,12 +762,7 @@ public class RunAppService {
                 .orElseThrow(() -> NotFoundException.releaseWindow(windowId));
         ensureWindowNotClosed(rw);
 
-        ConflictReport conflictReport = conflictDetectionAppService.getLatestReport(windowId)
-                .orElseGet(() -> conflictDetectionAppService.checkWindowConflicts(windowId));
-        if (conflictReport.hasConflicts()) {
-            throw BusinessException.conflictDetected(
-                    "发布窗口存在 " + conflictReport.totalCount() + " 个冲突，请先解决所有冲突");
-        }
+        ensureNoConflicts(windowId);
 
         String branchName = deriveReleaseBranch(rw.getWindowKey());
         int order = 1;
@@ -655,9 +814,7 @@ public class RunAppService {
         return run;
     }
 
-    private Run retryVersionUpdate(Run previous, List<String> items, String operator, Instant now) {
-        Run run = Run.start(RunType.VERSION_UPDATE, operator, now);
-
+    private void retryVersionUpdate(Run run, Run previous, List<String> items, Consumer<RunItem> progress) {
         for (RunItem prevItem : previous.getItems()) {
             String key = prevItem.getWindowKey() + "::" + prevItem.getRepo().value() + "::" + prevItem.getIterationKey().value();
             if (items.stream().noneMatch(sel -> sel.equals(key))) {
@@ -667,15 +824,11 @@ public class RunAppService {
                 continue;
             }
 
-            RunItem item = RunItem.createRetry(
-                    prevItem.getWindowKey(),
-                    prevItem.getRepo(),
-                    prevItem.getIterationKey(),
-                    prevItem.getPlannedOrder(),
-                    run.getId().value(),
-                    now
-            );
-            addRetryTrace(item, previous, prevItem);
+            RunItem item = resolveRetryItem(run, previous, prevItem);
+            if (item.isFinished()) {
+                run.putItem(item);
+                continue;
+            }
 
             Optional<VersionUpdateRequest> requestOpt = buildVersionUpdateRequest(prevItem);
             if (requestOpt.isEmpty()) {
@@ -687,9 +840,8 @@ public class RunAppService {
                         failedAt,
                         "Missing version update retry metadata"
                 ));
-                item.setExecutedOrder(prevItem.getPlannedOrder());
-                item.finishWith(RunItemResult.VERSION_UPDATE_FAILED, failedAt);
-                run.addItem(item);
+                completeItem(item, prevItem.getPlannedOrder(), RunItemResult.VERSION_UPDATE_FAILED, failedAt, progress);
+                run.putItem(item);
                 continue;
             }
 
@@ -705,9 +857,8 @@ public class RunAppService {
                         failedAt,
                         "Repository not found: " + request.repoId().value()
                 ));
-                item.setExecutedOrder(prevItem.getPlannedOrder());
-                item.finishWith(RunItemResult.VERSION_UPDATE_FAILED, failedAt);
-                run.addItem(item);
+                completeItem(item, prevItem.getPlannedOrder(), RunItemResult.VERSION_UPDATE_FAILED, failedAt, progress);
+                run.putItem(item);
                 continue;
             }
 
@@ -720,14 +871,9 @@ public class RunAppService {
                     : RunItemResult.VERSION_UPDATE_FAILED;
 
             item.addStep(new RunStep(ActionType.UPDATE_VERSION, stepResult, stepStart, stepEnd, buildVersionUpdateStepMessage(result)));
-            item.setExecutedOrder(prevItem.getPlannedOrder());
-            item.finishWith(stepResult, stepEnd);
-            run.addItem(item);
+            completeItem(item, prevItem.getPlannedOrder(), stepResult, stepEnd, progress);
+            run.putItem(item);
         }
-
-        run.finish(Instant.now(clock));
-        runPort.save(run);
-        return run;
     }
 
     private Optional<VersionUpdateRequest> buildVersionUpdateRequest(RunItem item) {
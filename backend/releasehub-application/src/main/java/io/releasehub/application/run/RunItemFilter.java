@@ -0,0 +1,27 @@
+package io.releasehub.application.run;
+
+import io.releasehub.domain.run.ActionType;
+import io.releasehub.domain.run.RunItemResult;
+
+/**
+ * 运行项查询条件，字段为 null 表示不限
+ *
+ * @param result     运行项最终结果
+ * @param actionType 包含该类型步骤的运行项
+ * @param repoId     仓库 ID
+ * @param windowKey  发布窗口 Key
+ */
+public record RunItemFilter(RunItemResult result, ActionType actionType, String repoId, String windowKey) {
+
+    public RunItemFilter(RunItemResult result, ActionType actionType, String repoId) {
+        this(result, actionType, repoId, null);
+    }
+
+    public static RunItemFilter none() {
+        return new RunItemFilter(null, null, null, null);
+    }
+
+    public static RunItemFilter window(String windowKey) {
+        return new RunItemFilter(null, null, null, windowKey);
+    }
+}
@@ -0,0 +1,48 @@
+package io.releasehub.application.run;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 异步运行作业：保存提交时的参数，进程重启后据此恢复未完成的运行。
+ *
+ * @param runId        关联的运行 ID
+ * @param windowId     发布窗口 ID（ORCHESTRATE）
+ * @param sourceRunId  被重试的运行 ID（RETRY）
+ * @param repoIds      编排的仓库范围（ORCHESTRATE）
+ * @param iterationKeys 编排的迭代范围（ORCHESTRATE）
+ * @param retryItems   重试的运行项（RETRY）
+ */
+public record RunJob(
+        String runId,
+        RunJobType type,
+        RunJobStatus status,
+        String windowId,
+        String sourceRunId,
+        List<String> repoIds,
+        List<String> iterationKeys,
+        List<String> retryItems,
+        boolean failFast,
+        boolean parallel,
+        String operator,
+        String errorMessage,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public RunJob {
+        repoIds = repoIds == null ? List.of() : List.copyOf(repoIds);
+        iterationKeys = iterationKeys == null ? List.of() : List.copyOf(iterationKeys);
+        retryItems = retryItems == null ? List.of() : List.copyOf(retryItems);
+    }
+
+    public static RunJob orchestrate(String runId, String windowId, List<String> repoIds, List<String> iterationKeys,
+                                     boolean failFast, boolean parallel, String operator, Instant now) {
+        return new RunJob(runId, RunJobType.ORCHESTRATE, RunJobStatus.RUNNING, windowId, null,
+                repoIds, iterationKeys, null, failFast, parallel, operator, null, now, now);
+    }
+
+    public static RunJob retry(String runId, String sourceRunId, List<String> retryItems, String operator, Instant now) {
+        return new RunJob(runId, RunJobType.RETRY, RunJobStatus.RUNNING, null, sourceRunId,
+                null, null, retryItems, false, false, operator, null, now, now);
+    }
+}
@@ -0,0 +1,208 @@
+package io.releasehub.application.run;
+
+import io.releasehub.common.exception.BusinessException;
+import io.releasehub.common.exception.NotFoundException;
+import io.releasehub.domain.run.Run;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 异步运行作业服务。
+ * <p>
+ * 提交时先完成窗口状态与冲突预检，持久化运行头（finishedAt 为空即 RUNNING）与作业参数，立即返回 runId，
+ * 再交由 {@code runTaskExecutor} 执行；执行过程中每个步骤完成即落库。
+ * 作业失败时运行被中止（状态为 FAILED），失败原因可通过 {@link #getJob} 查询。
+ * <p>
+ * 派发前须以条件 UPDATE 认领作业租约，执行期间定期续租。应用启动后及此后每个租约周期，
+ * 会认领并重新派发无人持有或租约已过期的 RUNNING 作业，从最后一个已完成的步骤继续执行；
+ * 多实例部署时同一作业只会由一个实例执行；续租失败说明租约已被其他实例接管，本地执行在下一个步骤边界停止。
+ */
+@Slf4j
+@Service
+public class RunJobAppService {
+    private final RunAppService runAppService;
+    private final RunJobPort runJobPort;
+    private final RunPort runPort;
+    private final TaskExecutor runTaskExecutor;
+    private final Clock clock;
+    private final Duration lease;
+    private final String ownerId = UUID.randomUUID().toString();
+    /**
+     * 本实例正在执行的作业及其取消标记，租约丢失时置位
+     */
+    private final Map<String, AtomicBoolean> executing = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor leaseScheduler;
+    private final AtomicBoolean resumed = new AtomicBoolean(false);
+
+    public RunJobAppService(RunAppService runAppService,
+                            RunJobPort runJobPort,
+                            RunPort runPort,
+                            @Qualifier("runTaskExecutor") TaskExecutor runTaskExecutor,
+                            Clock clock,
+                            @Value("${releasehub.run.job.lease-seconds:60}") long leaseSeconds) {
+        this.runAppService = runAppService;
+        this.runJobPort = runJobPort;
+        this.runPort = runPort;
+        this.runTaskExecutor = runTaskExecutor;
+        this.clock = clock;
+        this.lease = Duration.ofSeconds(Math.max(3, leaseSeconds));
+        this.leaseScheduler = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("run-job-lease").daemon().factory());
+    }
+
+    public String submitOrchestrate(String windowId, List<String> repoIds, List<String> iterationKeys,
+                                    boolean failFast, boolean parallel, String operator) {
+        Run run = runAppService.openOrchestrate(windowId, operator);
+        String runId = run.getId().value();
+        return submit(run, RunJob.orchestrate(runId, windowId, repoIds, iterationKeys, failFast, parallel, operator, run.getStartedAt()));
+    }
+
+    public String submitRetry(String sourceRunId, List<String> items, String operator) {
+        Run run = runAppService.openRetry(sourceRunId, operator);
+        String runId = run.getId().value();
+        return submit(run, RunJob.retry(runId, sourceRunId, items, operator, run.getStartedAt()));
+    }
+
+    /**
+     * 启动续租与过期作业回收任务，并立即认领上次进程退出时仍在执行的作业
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void resumeInterruptedJobs() {
+        if (!resumed.compareAndSet(false, true)) {
+            return;
+        }
+        long leaseMs = lease.toMillis();
+        leaseScheduler.scheduleWithFixedDelay(this::renewLeases, leaseMs / 3, leaseMs / 3, TimeUnit.MILLISECONDS);
+        leaseScheduler.scheduleWithFixedDelay(this::reclaimExpiredJobs, leaseMs, leaseMs, TimeUnit.MILLISECONDS);
+        reclaimExpiredJobs();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        leaseScheduler.shutdownNow();
+    }
+
+    /**
+     * 认领并派发无人持有或租约已过期的 RUNNING 作业；认领失败说明已由其他实例执行
+     */
+    void reclaimExpiredJobs() {
+        try {
+            for (RunJob job : runJobPort.findByStatus(RunJobStatus.RUNNING)) {
+                if (executing.containsKey(job.runId()) || !claim(job)) {
+                    continue;
+                }
+                log.info("[RunJob] Resuming interrupted run {}", job.runId());
+                try {
+                    dispatch(job);
+                } catch (BusinessException e) {
+                    log.warn("[RunJob] Failed to resume run {}: {}", job.runId(), e.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[RunJob] Failed to reclaim interrupted runs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 为本实例正在执行的作业续租；租约已不属于本实例时标记取消
+     */
+    void renewLeases() {
+        Instant expiresAt = Instant.now(clock).plus(lease);
+        for (Map.Entry<String, AtomicBoolean> entry : executing.entrySet()) {
+            String runId = entry.getKey();
+            try {
+                if (!runJobPort.renewLease(runId, ownerId, expiresAt)) {
+                    entry.getValue().set(true);
+                    log.warn("[RunJob] Lease of run {} is no longer held by this instance, stopping local execution", runId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[RunJob] Failed to renew lease of run {}: {}", runId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean claim(RunJob job) {
+        Instant now = Instant.now(clock);
+        return runJobPort.claim(job.runId(), ownerId, now, now.plus(lease));
+    }
+
+    private String submit(Run run, RunJob job) {
+        runPort.save(run);
+        runJobPort.save(job);
+        if (!claim(job)) {
+            throw new IllegalStateException("Run job " + job.runId() + " was claimed before dispatch");
+        }
+        dispatch(job);
+        log.info("[RunJob] Submitted: runId={} type={} operator={}", job.runId(), job.type(), job.operator());
+        return job.runId();
+    }
+
+    private void dispatch(RunJob job) {
+        executing.put(job.runId(), new AtomicBoolean(false));
+        try {
+            runTaskExecutor.execute(() -> execute(job));
+        } catch (TaskRejectedException e) {
+            executing.remove(job.runId());
+            log.warn("[RunJob] Executor rejected run {}: {}", job.runId(), e.getMessage());
+            abandon(job, "Run executor is saturated");
+            throw BusinessException.runExecutorBusy(job.runId());
+        }
+    }
+
+    void execute(RunJob job) {
+        AtomicBoolean cancelled = executing.computeIfAbsent(job.runId(), k -> new AtomicBoolean(false));
+        try {
+            runAppService.resume(job, cancelled::get);
+            runJobPort.updateStatus(job.runId(), RunJobStatus.COMPLETED, null, Instant.now(clock));
+            log.info("[RunJob] Completed: runId={}", job.runId());
+        } catch (CancellationException e) {
+            // 租约已由其他实例接管，运行与作业状态交由新持有者维护
+            log.warn("[RunJob] Stopped: runId={} reason={}", job.runId(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("[RunJob] Failed: runId={}", job.runId(), e);
+            abandon(job, e.getMessage());
+        } finally {
+            executing.remove(job.runId());
+        }
+    }
+
+    /**
+     * 查询作业状态，作业失败时包含失败原因
+     */
+    public RunJob getJob(String runId) {
+        return runJobPort.findById(runId).orElseThrow(() -> NotFoundException.run(runId));
+    }
+
+    /**
+     * 作业失败时中止运行，运行状态记为 FAILED，失败原因记录在作业上
+     */
+    private void abandon(RunJob job, String reason) {
+        Instant now = Instant.now(clock);
+        runPort.findById(job.runId())
+                .filter(run -> !run.isFinished())
+                .ifPresent(run -> {
+                    run.abort(now);
+                    runPort.save(run);
+                });
+        runJobPort.updateStatus(job.runId(), RunJobStatus.FAILED, reason, now);
+    }
+}
@@ -0,0 +1,25 @@
+package io.releasehub.application.run;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface RunJobPort {
+    void save(RunJob job);
+
+    void updateStatus(String runId, RunJobStatus status, String errorMessage, Instant now);
+
+    Optional<RunJob> findById(String runId);
+
+    List<RunJob> findByStatus(RunJobStatus status);
+
+    /**
+     * 原子认领作业：仅当作业仍为 RUNNING 且未被认领或租约已过期时成功
+     */
+    boolean claim(String runId, String ownerId, Instant now, Instant leaseExpiresAt);
+
+    /**
+     * 续租，只有当前持有者能成功
+     */
+    boolean renewLease(String runId, String ownerId, Instant leaseExpiresAt);
+}
@@ -0,0 +1,10 @@
+package io.releasehub.application.run;
+
+/**
+ * 异步运行作业状态
+ */
+public enum RunJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package io.releasehub.application.run;
+
+/**
+ * 异步运行作业类型
+ */
+public enum RunJobType {
+    ORCHESTRATE,
+    RETRY
+}
@@ -2,14 +2,60 @@ package io.releasehub.application.run;
 
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.run.Run;
+import io.releasehub.domain.run.RunItem;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface RunPort {
     void save(Run run);
+    /**
+     * 增量保存单个运行项及其步骤，运行头需已通过 {@link #save(Run)} 持久化
+     */
+    void saveItem(String runId, RunItem item);
     Optional<Run> findById(String runId);
+    boolean existsById(String runId);
+    /**
+     * 按计划顺序分页查询运行项及其步骤，不加载运行的其他运行项
+     */
+    PageResult<RunItem> findItemsPaged(String runId, RunItemFilter filter, int page, int size);
+    /**
+     * 按计划顺序逐个回调运行项，底层使用游标读取，已回调的运行项不再驻留内存
+     */
+    void forEachItem(String runId, RunItemFilter filter, Consumer<RunItem> action);
     List<Run> findAll();
     List<Run> findByWindowKey(String windowKey);
-    PageResult<Run> findPaged(String runType, String operator, String windowKey, String repoId, String iterationKey, String status, String groupCode, int page, int size);
+    /**
+     * 包含该窗口运行项的运行摘要，按开始时间升序；摘要中的计数针对整个运行
+     */
+    List<RunSummary> findSummariesByWindowKey(String windowKey);
+    /**
+     * 按运行与最终结果分组统计该窗口的运行项数，未结束的运行项 result 为 null
+     */
+    List<RunResultCount> countItemResultsByWindowKey(String windowKey);
+    long countStepsByWindowKey(String windowKey);
+    /**
+     * 全部运行的摘要，不加载运行项
+     */
+    List<RunSummary> findAllSummaries();
+    /**
+     * 分页查询运行摘要，不加载运行项；完整运行项与步骤通过 {@link #findById(String)} 获取
+     */
+    PageResult<RunSummary> findPaged(String runType, String operator, String windowKey, String repoId, String iterationKey, String status, String groupCode, int page, int size);
+
+    long count();
+
+    /**
+     * 统计 createdAt 不早于 since 的运行数
+     */
+    long countCreatedSince(Instant since);
+
+    /**
+     * 按 UTC 自然日统计 createdAt 不早于 since 的运行数，没有运行的日期不出现在结果中
+     */
+    Map<LocalDate, Long> countCreatedByDay(Instant since);
 }
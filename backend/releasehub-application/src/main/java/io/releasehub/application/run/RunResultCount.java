@@ -0,0 +1,11 @@
+package io.releasehub.application.run;
+
+import io.releasehub.domain.run.RunItemResult;
+
+/**
+ * 单个运行内某一最终结果的运行项数
+ *
+ * @param result 运行项最终结果，尚未结束的运行项为 null
+ */
+public record RunResultCount(String runId, RunItemResult result, long count) {
+}
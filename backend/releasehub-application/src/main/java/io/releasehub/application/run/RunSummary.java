@@ -0,0 +1,28 @@
+package io.releasehub.application.run;
+
+import io.releasehub.domain.run.RunStatus;
+import io.releasehub.domain.run.RunType;
+
+import java.time.Instant;
+
+/**
+ * 运行摘要：列表页只需要运行头与运行项结果计数，不加载运行项、步骤与元数据。
+ *
+ * @param aborted      运行是否被中止
+ * @param itemCount    运行项数
+ * @param successCount 成功的运行项数
+ * @param failedCount  失败的运行项数
+ */
+public record RunSummary(
+        String id,
+        RunType runType,
+        String operator,
+        RunStatus status,
+        Instant startedAt,
+        Instant finishedAt,
+        boolean aborted,
+        int itemCount,
+        int successCount,
+        int failedCount
+) {
+}
@@ -0,0 +1,16 @@
+package io.releasehub.application.user;
+
+/**
+ * 用户变更事件。用户保存（启用/禁用、修改密码等）后发布，供认证缓存在事务提交后失效。
+ */
+public class UserChangedEvent {
+    private final String username;
+
+    public UserChangedEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
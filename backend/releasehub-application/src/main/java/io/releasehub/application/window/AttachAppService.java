@@ -2,7 +2,6 @@ package io.releasehub.application.window;
 
 import io.releasehub.application.branchrule.BranchRuleUseCase;
 import io.releasehub.application.iteration.IterationPort;
-import io.releasehub.application.iteration.IterationRepoPort;
 import io.releasehub.application.iteration.IterationRepoVersionInfo;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchPort;
@@ -45,11 +44,11 @@ public class AttachAppService {
     private final ReleaseWindowPort releaseWindowPort;
     private final IterationPort iterationPort;
     private final WindowIterationPort windowIterationPort;
-    private final IterationRepoPort iterationRepoPort;
     private final GitBranchAdapterFactory gitBranchAdapterFactory;
     private final CodeRepositoryPort codeRepositoryPort;
     private final BranchRuleUseCase branchRuleUseCase;
     private final RunPort runPort;
+    private final WindowContextLoader windowContextLoader;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
@@ -59,11 +58,12 @@ public class AttachAppService {
         Instant now = Instant.now(clock);
         Run run = Run.start(RunType.ATTACH_ITERATION, "system", now);
         int[] order = {0};
+        WindowContext context = windowContextLoader.load(iterationKeys.stream().map(IterationKey::of).toList());
 
         List<AttachResult> results = iterationKeys.stream()
                 .map(IterationKey::of)
                 .map(iterationKey -> {
-                    Iteration iteration = iterationPort.findByKey(iterationKey).orElseThrow();
+                    Iteration iteration = context.iteration(iterationKey).orElseThrow();
                     ensureIterationInWindowGroup(releaseWindow, iteration);
 
                     WindowIteration wi = windowIterationPort.attach(ReleaseWindowId.of(windowId), iterationKey, now);
@@ -72,10 +72,10 @@ public class AttachAppService {
                     for (RepoId repoId : iteration.getRepos()) {
                         RunItem item = RunItem.create(releaseWindow.getWindowKey(), repoId, iterationKey, ++order[0], now);
                         try {
-                            setupReleaseBranchForRepo(releaseWindow, iteration, iterationKey, repoId, now, item);
+                            setupReleaseBranchForRepo(context, releaseWindow, iteration, iterationKey, repoId, now, item);
                             run.addItem(item);
                         } catch (Exception e) {
-                            String repoName = codeRepositoryPort.findById(repoId)
+                            String repoName = context.repo(repoId)
                                     .map(CodeRepository::getName)
                                     .orElse(repoId.value());
                             String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
@@ -101,9 +101,9 @@ public class AttachAppService {
         return results;
     }
 
-    private void setupReleaseBranchForRepo(ReleaseWindow releaseWindow, Iteration iteration,
+    private void setupReleaseBranchForRepo(WindowContext context, ReleaseWindow releaseWindow, Iteration iteration,
             IterationKey iterationKey, RepoId repoId, Instant now, RunItem item) {
-        CodeRepository repo = codeRepositoryPort.findById(repoId)
+        CodeRepository repo = context.repo(repoId)
                 .orElseThrow(() -> NotFoundException.repository(repoId.value()));
         GitBranchPort gitBranchPort = gitBranchAdapterFactory.getAdapter(repo.getGitProvider());
         String gitToken = repo.getGitAccessToken();
@@ -114,7 +114,7 @@ public class AttachAppService {
             throw ValidationException.invalidParameter("branchName");
         }
 
-        String featureBranch = iterationRepoPort.getVersionInfo(iterationKey.value(), repoId.value())
+        String featureBranch = context.versionInfo(iterationKey.value(), repoId.value())
                 .map(IterationRepoVersionInfo::getFeatureBranch)
                 .orElse(null);
 
@@ -228,7 +228,8 @@ public class AttachAppService {
         ReleaseWindow releaseWindow = releaseWindowPort.findById(ReleaseWindowId.of(windowId)).orElseThrow();
         ensureWindowOpenForReleaseBranchOps(releaseWindow);
         IterationKey iterationKey = IterationKey.of(iterationKeyStr);
-        Iteration iteration = iterationPort.findByKey(iterationKey).orElseThrow();
+        WindowContext context = windowContextLoader.load(List.of(iterationKey));
+        Iteration iteration = context.iteration(iterationKey).orElseThrow();
         Instant now = Instant.now(clock);
 
         String releaseBranch = windowIterationPort.getReleaseBranch(windowId, iterationKeyStr);
@@ -238,13 +239,13 @@ public class AttachAppService {
 
         for (RepoId repoId : iteration.getRepos()) {
             try {
-                CodeRepository repo = codeRepositoryPort.findById(repoId)
+                CodeRepository repo = context.repo(repoId)
                         .orElseThrow(() -> NotFoundException.repository(repoId.value()));
                 GitBranchPort gitBranchPort = gitBranchAdapterFactory.getAdapter(repo.getGitProvider());
                 String gitToken = repo.getGitAccessToken();
                 String repoUrl = repo.getCloneUrl();
 
-                String featureBranch = iterationRepoPort.getVersionInfo(iterationKey.value(), repoId.value())
+                String featureBranch = context.versionInfo(iterationKey.value(), repoId.value())
                         .map(info -> info.getFeatureBranch())
                         .orElse(null);
 
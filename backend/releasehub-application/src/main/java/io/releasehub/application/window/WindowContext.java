@@ -0,0 +1,41 @@
+package io.releasehub.application.window;
+
+import io.releasehub.application.iteration.IterationRepoKey;
+import io.releasehub.application.iteration.IterationRepoVersionInfo;
+import io.releasehub.domain.iteration.Iteration;
+import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.repo.CodeRepository;
+import io.releasehub.domain.repo.RepoId;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 一次运行所需的迭代、仓库与迭代-仓库版本信息快照，由 {@link WindowContextLoader} 批量加载，
+ * 循环内按 key 取值不再访问数据库。
+ */
+public final class WindowContext {
+    private final Map<IterationKey, Iteration> iterations;
+    private final Map<RepoId, CodeRepository> repos;
+    private final Map<IterationRepoKey, IterationRepoVersionInfo> versionInfos;
+
+    WindowContext(Map<IterationKey, Iteration> iterations,
+                  Map<RepoId, CodeRepository> repos,
+                  Map<IterationRepoKey, IterationRepoVersionInfo> versionInfos) {
+        this.iterations = Map.copyOf(iterations);
+        this.repos = Map.copyOf(repos);
+        this.versionInfos = Map.copyOf(versionInfos);
+    }
+
+    public Optional<Iteration> iteration(IterationKey key) {
+        return Optional.ofNullable(iterations.get(key));
+    }
+
+    public Optional<CodeRepository> repo(RepoId repoId) {
+        return Optional.ofNullable(repos.get(repoId));
+    }
+
+    public Optional<IterationRepoVersionInfo> versionInfo(String iterationKey, String repoId) {
+        return Optional.ofNullable(versionInfos.get(new IterationRepoKey(iterationKey, repoId)));
+    }
+}
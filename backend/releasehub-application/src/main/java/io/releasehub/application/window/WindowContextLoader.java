@@ -0,0 +1,78 @@
+package io.releasehub.application.window;
+
+import io.releasehub.application.iteration.IterationPort;
+import io.releasehub.application.iteration.IterationRepoKey;
+import io.releasehub.application.iteration.IterationRepoPort;
+import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.domain.iteration.Iteration;
+import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.repo.CodeRepository;
+import io.releasehub.domain.repo.RepoId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 批量加载 {@link WindowContext}。
+ * <p>
+ * 迭代、仓库、迭代-仓库版本信息各走一次批量查询，查询次数与迭代数、仓库数无关，
+ * 替代编排/清理/冲突扫描/挂载循环内逐条的 findByKey / findById / getVersionInfo。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WindowContextLoader {
+    private final IterationPort iterationPort;
+    private final CodeRepositoryPort codeRepositoryPort;
+    private final IterationRepoPort iterationRepoPort;
+
+    /**
+     * 加载迭代及其关联的全部仓库与版本信息
+     */
+    public WindowContext load(Collection<IterationKey> iterationKeys) {
+        return load(iterationKeys, null);
+    }
+
+    /**
+     * 加载迭代，仓库与版本信息只取 {@code repoIds} 中的仓库；{@code repoIds} 为 null 时取迭代关联的全部仓库
+     */
+    public WindowContext load(Collection<IterationKey> iterationKeys, Collection<RepoId> repoIds) {
+        List<Iteration> iterations = iterationKeys.isEmpty()
+                ? List.of()
+                : iterationPort.findAllByKeys(new LinkedHashSet<>(iterationKeys));
+
+        Predicate<RepoId> selected = repoIds == null ? repoId -> true : Set.copyOf(repoIds)::contains;
+        Set<RepoId> wantedRepos = new LinkedHashSet<>();
+        List<IterationRepoKey> pairs = new ArrayList<>();
+        if (repoIds != null) {
+            wantedRepos.addAll(repoIds);
+        }
+        for (Iteration iteration : iterations) {
+            for (RepoId repoId : iteration.getRepos()) {
+                if (selected.test(repoId)) {
+                    wantedRepos.add(repoId);
+                    pairs.add(new IterationRepoKey(iteration.getId().value(), repoId.value()));
+                }
+            }
+        }
+
+        List<CodeRepository> repos = wantedRepos.isEmpty() ? List.of() : codeRepositoryPort.findAllByIds(wantedRepos);
+        WindowContext context = new WindowContext(
+                iterations.stream().collect(Collectors.toMap(Iteration::getId, Function.identity(), (a, b) -> a)),
+                repos.stream().collect(Collectors.toMap(CodeRepository::getId, Function.identity(), (a, b) -> a)),
+                pairs.isEmpty() ? Map.of() : iterationRepoPort.getVersionInfos(pairs));
+        log.debug("[WindowContext] Loaded iterations={} repos={} versionInfos={}",
+                iterations.size(), repos.size(), pairs.size());
+        return context;
+    }
+}
@@ -18,6 +18,16 @@ public interface WindowIterationPort {
 
     PageResult<WindowIteration> listByWindowPaged(ReleaseWindowId windowId, int page, int size);
 
+    /**
+     * 按迭代反查其挂载的窗口关联，走 iteration_key 索引
+     */
+    List<WindowIteration> listByIteration(IterationKey iterationKey);
+
+    /**
+     * 迭代是否已挂载到任一发布窗口
+     */
+    boolean existsByIteration(IterationKey iterationKey);
+
     // 新增方法
     Optional<WindowIteration> findByWindowIdAndIterationKey(ReleaseWindowId windowId, IterationKey iterationKey);
 
@@ -30,7 +30,9 @@ class BranchRuleAppServiceTest {
     @BeforeEach
     void setUp() {
         port = new InMemoryPort();
-        appService = new BranchRuleAppService(port);
+        BranchRuleEngine engine = new BranchRuleEngine(port, 300);
+        appService = new BranchRuleAppService(port, engine,
+                event -> engine.onRulesChanged((BranchRulesChangedEvent) event));
     }
 
     @Test
@@ -96,6 +98,24 @@ class BranchRuleAppServiceTest {
         assertThat(appService.isCompliant("release/RW-1", "project-a", "sub-2")).isTrue();
     }
 
+    @Test
+    @DisplayName("合规检查复用已编译规则集，规则变更后重新加载")
+    void should_reuse_compiled_rules_until_rules_change() {
+        BranchRule release = appService.create("release", "release/*",
+                BranchRuleType.TEMPLATE, null, BranchRuleScope.global());
+
+        assertThat(appService.isCompliant("feature/ITER-1")).isFalse();
+        assertThat(appService.isCompliant("release/RW-1")).isTrue();
+        assertThat(port.enabledQueries).isEqualTo(1);
+
+        appService.create("feature", "feature/*", BranchRuleType.TEMPLATE, null, BranchRuleScope.global());
+        assertThat(appService.isCompliant("feature/ITER-1")).isTrue();
+
+        appService.disable(release.getId().value());
+        assertThat(appService.isCompliant("release/RW-1")).isFalse();
+        assertThat(port.enabledQueries).isEqualTo(3);
+    }
+
     @Test
     @DisplayName("get 不存在时抛异常")
     void should_throw_when_rule_not_found() {
@@ -139,6 +159,7 @@ class BranchRuleAppServiceTest {
 
     static class InMemoryPort implements BranchRulePort {
         private final Map<String, BranchRule> store = new HashMap<>();
+        private int enabledQueries;
 
         @Override
         public void save(BranchRule rule) {
@@ -157,6 +178,7 @@ class BranchRuleAppServiceTest {
 
         @Override
         public List<BranchRule> findAllEnabled() {
+            enabledQueries++;
             return store.values().stream()
                     .filter(BranchRule::isEnabled)
                     .collect(Collectors.toList());
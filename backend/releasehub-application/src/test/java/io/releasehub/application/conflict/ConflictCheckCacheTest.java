@@ -0,0 +1,52 @@
+package io.releasehub.application.conflict;
+
+import io.releasehub.application.releasewindow.WindowClosedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConflictCheckCache 容量与失效测试")
+class ConflictCheckCacheTest {
+
+    private static ConflictCheckCache.Scope scope(String windowId, String repoId) {
+        return new ConflictCheckCache.Scope(windowId, repoId, "ITER-1", "feature/ITER-1", "release/" + windowId, "main");
+    }
+
+    private static ConflictCheckCache.Entry entry() {
+        return new ConflictCheckCache.Entry(new ConflictCheckCache.BranchHeads("a", "b", "c"), "1.0.0",
+                List.of(), List.of(), List.of());
+    }
+
+    @Test
+    @DisplayName("超过容量时淘汰最久未访问的条目")
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        ConflictCheckCache cache = new ConflictCheckCache(2, 60);
+        cache.put(scope("W1", "repo-1"), entry());
+        cache.put(scope("W1", "repo-2"), entry());
+        cache.get(scope("W1", "repo-1"));
+
+        cache.put(scope("W1", "repo-3"), entry());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(scope("W1", "repo-1"))).isPresent();
+        assertThat(cache.get(scope("W1", "repo-2"))).isEmpty();
+        assertThat(cache.get(scope("W1", "repo-3"))).isPresent();
+    }
+
+    @Test
+    @DisplayName("窗口关闭后移除该窗口的全部条目")
+    void shouldEvictEntriesOfClosedWindow() {
+        ConflictCheckCache cache = new ConflictCheckCache(100, 60);
+        cache.put(scope("W1", "repo-1"), entry());
+        cache.put(scope("W1", "repo-2"), entry());
+        cache.put(scope("W2", "repo-1"), entry());
+
+        cache.onWindowClosed(new WindowClosedEvent("W1"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(scope("W2", "repo-1"))).isPresent();
+    }
+}
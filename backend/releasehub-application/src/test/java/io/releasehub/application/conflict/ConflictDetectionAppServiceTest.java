@@ -10,7 +10,10 @@ import io.releasehub.application.releasewindow.ReleaseWindowPort;
 import io.releasehub.application.repo.CodeRepositoryPort;
 import io.releasehub.application.version.VersionDeriverUseCase;
 import io.releasehub.application.version.VersionExtractorUseCase;
+import io.releasehub.application.window.WindowContextLoader;
+import io.releasehub.application.window.WindowContextStubs;
 import io.releasehub.application.window.WindowIterationPort;
+import io.releasehub.domain.conflict.ConflictItem;
 import io.releasehub.domain.conflict.ConflictReport;
 import io.releasehub.domain.iteration.Iteration;
 import io.releasehub.domain.iteration.IterationKey;
@@ -37,10 +40,14 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +66,7 @@ class ConflictDetectionAppServiceTest {
     @Mock private GitBranchPort gitBranchPort;
 
     private ConflictDetectionAppService service;
+    private WindowContextStubs context;
 
     private static final String WINDOW_ID = "W001";
     private static final String ITERATION_KEY = "ITER-001";
@@ -66,9 +74,11 @@ class ConflictDetectionAppServiceTest {
     @BeforeEach
     void setUp() {
         service = new ConflictDetectionAppService(
-                releaseWindowPort, windowIterationPort, iterationPort,
-                iterationRepoPort, codeRepositoryPort, gitBranchAdapterFactory,
-                versionExtractorUseCase, versionDeriverUseCase, branchRuleUseCase, conflictDetectionPort);
+                releaseWindowPort, windowIterationPort, gitBranchAdapterFactory,
+                versionExtractorUseCase, versionDeriverUseCase, branchRuleUseCase, conflictDetectionPort,
+                new ConflictScanExecutor(4, 2), new ConflictCheckCache(1000, 60),
+                new WindowContextLoader(iterationPort, codeRepositoryPort, iterationRepoPort));
+        context = WindowContextStubs.stub(iterationPort, codeRepositoryPort, iterationRepoPort);
         when(gitBranchAdapterFactory.getAdapter(any())).thenReturn(gitBranchPort);
         when(branchRuleUseCase.isCompliant(anyString(), any(), any())).thenReturn(true);
     }
@@ -335,6 +345,155 @@ class ConflictDetectionAppServiceTest {
                 c -> c.getConflictType() == ConflictType.CROSS_REPO_VERSION_MISMATCH)).isTrue();
     }
 
+    @Test
+    void shouldStreamPerRepoProgressAndSummarizeCheckLatency() {
+        // Given
+        setupWindowWithTwoReposIteration();
+        setupRepo("R001", "repo-a", "master");
+        setupRepo("R002", "repo-b", "master");
+        setupVersionInfoForRepo("R001", "1.0.0", "1.0.0", "feature/ITER-001", "1.0.0");
+        setupVersionInfoForRepo("R002", "1.0.0", "1.0.0", "feature/ITER-001", "1.0.0");
+        when(versionExtractorUseCase.extractVersion(anyString(), anyString()))
+                .thenReturn(Optional.of(new VersionExtractorUseCase.VersionInfo("1.0.0", null)));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.BranchStatus.missing());
+        List<ConflictScanProgress> progress = new CopyOnWriteArrayList<>();
+
+        // When
+        ConflictScanResult result = service.scanWindowConflicts(WINDOW_ID, progress::add);
+
+        // Then
+        assertThat(progress).extracting(ConflictScanProgress::repoId).containsExactlyInAnyOrder("R001", "R002");
+        assertThat(progress).extracting(ConflictScanProgress::completed).containsExactlyInAnyOrder(1, 2);
+        assertThat(result.summary().repoScans()).isEqualTo(2);
+        assertThat(result.summary().checks().get(ConflictScanSummary.CheckType.BRANCH_STATUS).count()).isEqualTo(4);
+        assertThat(result.summary().checks().get(ConflictScanSummary.CheckType.MERGEABILITY).count()).isZero();
+        assertThat(result.report().hasConflicts()).isFalse();
+    }
+
+    @Test
+    void shouldReuseChecksWhenBranchHeadsUnchanged() {
+        // Given
+        setupWindowWithIteration();
+        setupRepo("R001", "test-repo", "master");
+        setupVersionInfo("1.0.0");
+        when(versionExtractorUseCase.extractVersion(anyString(), anyString()))
+                .thenReturn(Optional.of(new VersionExtractorUseCase.VersionInfo("1.0.0", null)));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.BranchStatus.present("abc"));
+        when(gitBranchPort.checkMergeability(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.MergeabilityResult.conflict("conflict in pom.xml"));
+
+        // When
+        ConflictScanResult first = service.scanWindowConflicts(WINDOW_ID, progress -> { });
+        ConflictScanResult second = service.scanWindowConflicts(WINDOW_ID, progress -> { });
+
+        // Then
+        assertThat(second.report().getConflicts()).hasSameSizeAs(first.report().getConflicts());
+        assertThat(second.summary().reusedChecks()).isEqualTo(3);
+        verify(gitBranchPort, times(2)).checkMergeability(anyString(), anyString(), anyString(), anyString());
+        verify(versionExtractorUseCase, times(1)).extractVersion(anyString(), anyString());
+    }
+
+    @Test
+    void shouldRecheckMergeabilityWhenReleaseHeadMoves() {
+        // Given
+        setupWindowWithIteration();
+        setupRepo("R001", "test-repo", "master");
+        setupVersionInfo("1.0.0");
+        when(versionExtractorUseCase.extractVersion(anyString(), anyString()))
+                .thenReturn(Optional.of(new VersionExtractorUseCase.VersionInfo("1.0.0", null)));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), eq("feature/" + ITERATION_KEY)))
+                .thenReturn(GitBranchPort.BranchStatus.present("f1"));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), eq("master")))
+                .thenReturn(GitBranchPort.BranchStatus.present("m1"));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), eq("release/rel-1.0")))
+                .thenReturn(GitBranchPort.BranchStatus.present("r1"), GitBranchPort.BranchStatus.present("r2"));
+        when(gitBranchPort.checkMergeability(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.MergeabilityResult.mergeable());
+
+        // When
+        service.checkWindowConflicts(WINDOW_ID);
+        ConflictScanResult second = service.scanWindowConflicts(WINDOW_ID, progress -> { });
+
+        // Then: 版本检测复用，两个合并预检都依赖 release SHA，需重新执行
+        assertThat(second.summary().reusedChecks()).isEqualTo(1);
+        verify(gitBranchPort, times(4)).checkMergeability(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldNotReuseTransientMergeabilityFailures() {
+        // Given
+        setupWindowWithIteration();
+        setupRepo("R001", "test-repo", "master");
+        setupVersionInfo("1.0.0");
+        when(versionExtractorUseCase.extractVersion(anyString(), anyString()))
+                .thenReturn(Optional.of(new VersionExtractorUseCase.VersionInfo("1.0.0", null)));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.BranchStatus.present("abc"));
+        when(gitBranchPort.checkMergeability(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RuntimeException("Connection refused"));
+
+        // When
+        service.checkWindowConflicts(WINDOW_ID);
+        service.checkWindowConflicts(WINDOW_ID);
+
+        // Then
+        verify(gitBranchPort, times(4)).checkMergeability(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldNotReuseInvalidBranchOrDuplicateRequestResults() {
+        // Given
+        setupWindowWithIteration();
+        setupRepo("R001", "test-repo", "master");
+        setupVersionInfo("1.0.0");
+        when(versionExtractorUseCase.extractVersion(anyString(), anyString()))
+                .thenReturn(Optional.of(new VersionExtractorUseCase.VersionInfo("1.0.0", null)));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.BranchStatus.present("abc"));
+        when(gitBranchPort.checkMergeability(anyString(), anyString(), anyString(), eq("release/rel-1.0")))
+                .thenReturn(GitBranchPort.MergeabilityResult.invalidBranch("branch not found or invalid"));
+        when(gitBranchPort.checkMergeability(anyString(), anyString(), anyString(), eq("master")))
+                .thenReturn(GitBranchPort.MergeabilityResult.duplicateRequest("merge request already exists"));
+
+        // When
+        ConflictReport first = service.checkWindowConflicts(WINDOW_ID);
+        service.checkWindowConflicts(WINDOW_ID);
+
+        // Then: 重复 MR 不是合并冲突，两类结果都不复用
+        assertThat(first.getConflicts()).anyMatch(c -> c.getConflictType() == ConflictType.MERGE_CONFLICT
+                && "release/rel-1.0".equals(c.getTargetBranch()));
+        assertThat(first.getConflicts()).anyMatch(c -> c.getConflictType() == ConflictType.GIT_UNAVAILABLE
+                && "master".equals(c.getTargetBranch()));
+        verify(gitBranchPort, times(4)).checkMergeability(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldCheckReleaseMergeabilityOncePerRepoAcrossIterations() {
+        // Given: 同一仓库挂在两个迭代下
+        setupWindowWithTwoIterationsSharingRepo();
+        setupRepo("R001", "test-repo", "master");
+        setupVersionInfo("1.0.0");
+        when(versionExtractorUseCase.extractVersion(anyString(), anyString()))
+                .thenReturn(Optional.of(new VersionExtractorUseCase.VersionInfo("1.0.0", null)));
+        when(gitBranchPort.getBranchStatus(anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.BranchStatus.present("abc"));
+        when(gitBranchPort.checkMergeability(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(GitBranchPort.MergeabilityResult.conflict("conflict in pom.xml"));
+
+        // When
+        ConflictReport report = service.checkWindowConflicts(WINDOW_ID);
+
+        // Then: release → master 只预检一次，但两个迭代都报告该冲突
+        verify(gitBranchPort, times(1)).checkMergeability(anyString(), anyString(), eq("release/rel-1.0"), eq("master"));
+        verify(gitBranchPort, times(2)).checkMergeability(anyString(), anyString(), anyString(), eq("release/rel-1.0"));
+        assertThat(report.getConflicts())
+                .filteredOn(c -> c.getConflictType() == ConflictType.MERGE_CONFLICT && "master".equals(c.getTargetBranch()))
+                .extracting(ConflictItem::getIterationKey)
+                .containsExactlyInAnyOrder(ITERATION_KEY, "ITER-002");
+    }
+
     // --- helpers ---
 
     private void setupWindowWithIteration() {
@@ -354,7 +513,26 @@ class ConflictDetectionAppServiceTest {
                 ReleaseWindowId.of(WINDOW_ID), IterationKey.of(ITERATION_KEY),
                 null, null, false, null, Instant.now(), Instant.now());
         when(windowIterationPort.listByWindow(ReleaseWindowId.of(WINDOW_ID))).thenReturn(List.of(wi));
-        when(iterationPort.findByKey(IterationKey.of(ITERATION_KEY))).thenReturn(Optional.of(it));
+        context.iteration(it);
+    }
+
+    private void setupWindowWithTwoIterationsSharingRepo() {
+        setupWindowWithIteration();
+        Iteration second = Iteration.rehydrate(
+                IterationKey.of("ITER-002"), "Iteration 2", "", null, "",
+                Set.of(RepoId.of("R001")), IterationStatus.ACTIVE,
+                Instant.now(), Instant.now());
+        List<WindowIteration> bindings = List.of(
+                WindowIteration.rehydrate(
+                        WindowIterationId.generate(ReleaseWindowId.of(WINDOW_ID), IterationKey.of(ITERATION_KEY)),
+                        ReleaseWindowId.of(WINDOW_ID), IterationKey.of(ITERATION_KEY),
+                        null, null, false, null, Instant.now(), Instant.now()),
+                WindowIteration.rehydrate(
+                        WindowIterationId.generate(ReleaseWindowId.of(WINDOW_ID), IterationKey.of("ITER-002")),
+                        ReleaseWindowId.of(WINDOW_ID), IterationKey.of("ITER-002"),
+                        null, null, false, null, Instant.now(), Instant.now()));
+        when(windowIterationPort.listByWindow(ReleaseWindowId.of(WINDOW_ID))).thenReturn(bindings);
+        context.iteration(second);
     }
 
     private void setupWindowWithTwoReposIteration() {
@@ -374,7 +552,7 @@ class ConflictDetectionAppServiceTest {
                 ReleaseWindowId.of(WINDOW_ID), IterationKey.of(ITERATION_KEY),
                 null, null, false, null, Instant.now(), Instant.now());
         when(windowIterationPort.listByWindow(ReleaseWindowId.of(WINDOW_ID))).thenReturn(List.of(wi));
-        when(iterationPort.findByKey(IterationKey.of(ITERATION_KEY))).thenReturn(Optional.of(it));
+        context.iteration(it);
     }
 
     private void setupRepo(String repoId, String repoName, String defaultBranch) {
@@ -385,7 +563,7 @@ class ConflictDetectionAppServiceTest {
                 RepoType.SERVICE, GitProvider.GITLAB, "token", false,
                 0, 0, 0, 0, 0, 0, 0, null,
                 Instant.now(), Instant.now(), 0L);
-        when(codeRepositoryPort.findById(RepoId.of(repoId))).thenReturn(Optional.of(repo));
+        context.repo(repo);
     }
 
     private void setupVersionInfo(String devVersion) {
@@ -403,6 +581,6 @@ class ConflictDetectionAppServiceTest {
                 .featureBranch(featureBranch)
                 .versionSource(VersionSource.SYSTEM)
                 .build();
-        when(iterationRepoPort.getVersionInfo(ITERATION_KEY, repoId)).thenReturn(Optional.of(info));
+        context.versionInfo(ITERATION_KEY, repoId, info);
     }
 }
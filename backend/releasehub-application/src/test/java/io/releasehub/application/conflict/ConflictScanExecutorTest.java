@@ -0,0 +1,91 @@
+package io.releasehub.application.conflict;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConflictScanExecutor 并发扫描测试")
+class ConflictScanExecutorTest {
+
+    private record Task(String host, int id) {
+    }
+
+    @Test
+    @DisplayName("结果按提交顺序返回，并逐个回调")
+    void shouldReturnResultsInTaskOrder() {
+        ConflictScanExecutor executor = new ConflictScanExecutor(4, 4);
+        List<Task> tasks = List.of(new Task("a", 1), new Task("b", 2), new Task("a", 3));
+        List<Integer> callbacks = new CopyOnWriteArrayList<>();
+
+        List<Integer> results = executor.execute(tasks, Task::host, task -> {
+            sleep(30L * (4 - task.id()));
+            return task.id() * 10;
+        }, (task, result) -> callbacks.add(result));
+
+        assertThat(results).containsExactly(10, 20, 30);
+        assertThat(callbacks).containsExactlyInAnyOrder(10, 20, 30);
+    }
+
+    @Test
+    @DisplayName("同一主机的并发不超过 per-host 限制")
+    void shouldLimitConcurrencyPerHost() {
+        ConflictScanExecutor executor = new ConflictScanExecutor(8, 2);
+        Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> peak = new ConcurrentHashMap<>();
+        List<Task> tasks = List.of(
+                new Task("gitlab-a", 1), new Task("gitlab-a", 2), new Task("gitlab-a", 3),
+                new Task("gitlab-a", 4), new Task("gitlab-b", 5), new Task("gitlab-b", 6));
+
+        executor.execute(tasks, Task::host, task -> {
+            int now = running.computeIfAbsent(task.host(), h -> new AtomicInteger()).incrementAndGet();
+            peak.computeIfAbsent(task.host(), h -> new AtomicInteger()).accumulateAndGet(now, Math::max);
+            sleep(50);
+            running.get(task.host()).decrementAndGet();
+            return task.id();
+        }, (task, result) -> { });
+
+        assertThat(peak.get("gitlab-a").get()).isLessThanOrEqualTo(2);
+        assertThat(peak.get("gitlab-b").get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("任务异常在所有任务结束后抛出")
+    void shouldPropagateTaskFailure() {
+        ConflictScanExecutor executor = new ConflictScanExecutor(2, 2);
+        AtomicInteger finished = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(List.of(new Task("a", 1), new Task("a", 2)), Task::host, task -> {
+            if (task.id() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return finished.incrementAndGet();
+        }, (task, result) -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        assertThat(finished).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("从 https/ssh clone URL 解析 Git 主机")
+    void shouldResolveGitHostFromCloneUrl() {
+        assertThat(ConflictScanExecutor.gitHost("https://GitLab.example.com/group/repo.git")).isEqualTo("gitlab.example.com");
+        assertThat(ConflictScanExecutor.gitHost("git@gitlab.example.com:group/repo.git")).isEqualTo("gitlab.example.com");
+        assertThat(ConflictScanExecutor.gitHost("http://user@localhost:8080/group/repo")).isEqualTo("localhost");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
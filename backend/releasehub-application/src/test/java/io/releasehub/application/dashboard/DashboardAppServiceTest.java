@@ -0,0 +1,109 @@
+package io.releasehub.application.dashboard;
+
+import io.releasehub.application.iteration.IterationPort;
+import io.releasehub.application.releasewindow.ReleaseWindowPort;
+import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.application.run.RunPort;
+import io.releasehub.domain.releasewindow.ReleaseWindowStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardAppServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T08:00:00Z");
+
+    @Mock
+    private ReleaseWindowPort releaseWindowPort;
+    @Mock
+    private CodeRepositoryPort codeRepositoryPort;
+    @Mock
+    private IterationPort iterationPort;
+    @Mock
+    private RunPort runPort;
+    @Mock
+    private DashboardCounterPort dashboardCounterPort;
+
+    private DashboardAppService service(boolean countersEnabled) {
+        return new DashboardAppService(releaseWindowPort, codeRepositoryPort, iterationPort, runPort,
+                dashboardCounterPort, Clock.fixed(NOW, ZoneOffset.UTC), countersEnabled);
+    }
+
+    private void stubWindowsAndRecentRuns() {
+        when(releaseWindowPort.countByStatusIn(EnumSet.of(ReleaseWindowStatus.DRAFT, ReleaseWindowStatus.PUBLISHED)))
+                .thenReturn(2L);
+        when(runPort.countCreatedSince(Instant.parse("2026-03-03T08:00:00Z"))).thenReturn(5L);
+        when(runPort.countCreatedByDay(Instant.parse("2026-03-04T00:00:00Z"))).thenReturn(Map.of(
+                LocalDate.parse("2026-03-05"), 3L,
+                LocalDate.parse("2026-03-10"), 1L));
+    }
+
+    @Test
+    void shouldReadTotalsFromCountersAndFallBackWhenCounterIsMissing() {
+        stubWindowsAndRecentRuns();
+        when(dashboardCounterPort.get(DashboardCounter.REPOSITORIES)).thenReturn(Optional.of(12L));
+        when(dashboardCounterPort.get(DashboardCounter.ITERATIONS)).thenReturn(Optional.empty());
+        when(dashboardCounterPort.get(DashboardCounter.RUNS)).thenReturn(Optional.of(40L));
+        when(iterationPort.count()).thenReturn(7L);
+
+        DashboardAppService.DashboardStats stats = service(true).getStats();
+
+        assertThat(stats.totalRepositories()).isEqualTo(12);
+        assertThat(stats.totalIterations()).isEqualTo(7);
+        assertThat(stats.activeWindows()).isEqualTo(2);
+        assertThat(stats.totalRuns()).isEqualTo(40);
+        assertThat(stats.recentRuns()).isEqualTo(5);
+        verify(codeRepositoryPort, never()).count();
+        verify(runPort, never()).findAll();
+    }
+
+    @Test
+    void shouldUseCountQueriesWhenCountersAreDisabled() {
+        stubWindowsAndRecentRuns();
+        when(codeRepositoryPort.count()).thenReturn(3L);
+        when(iterationPort.count()).thenReturn(4L);
+        when(runPort.count()).thenReturn(9L);
+
+        DashboardAppService.DashboardStats stats = service(false).getStats();
+
+        assertThat(stats.totalRepositories()).isEqualTo(3);
+        assertThat(stats.totalIterations()).isEqualTo(4);
+        assertThat(stats.totalRuns()).isEqualTo(9);
+        verify(dashboardCounterPort, never()).get(DashboardCounter.RUNS);
+    }
+
+    @Test
+    void shouldFillRecentDaysWithoutRunsWithZero() {
+        stubWindowsAndRecentRuns();
+        when(codeRepositoryPort.count()).thenReturn(0L);
+        when(iterationPort.count()).thenReturn(0L);
+        when(runPort.count()).thenReturn(4L);
+
+        DashboardAppService.DashboardStats stats = service(false).getStats();
+
+        assertThat(stats.recentRunsByDay())
+                .extracting(DashboardAppService.DailyRunCount::day)
+                .containsExactly(
+                        LocalDate.parse("2026-03-04"), LocalDate.parse("2026-03-05"), LocalDate.parse("2026-03-06"),
+                        LocalDate.parse("2026-03-07"), LocalDate.parse("2026-03-08"), LocalDate.parse("2026-03-09"),
+                        LocalDate.parse("2026-03-10"));
+        assertThat(stats.recentRunsByDay())
+                .extracting(DashboardAppService.DailyRunCount::runs)
+                .containsExactly(0L, 3L, 0L, 0L, 0L, 0L, 1L);
+    }
+}
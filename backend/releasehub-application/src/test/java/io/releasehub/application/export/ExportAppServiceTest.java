@@ -0,0 +1,146 @@
+package io.releasehub.application.export;
+
+import io.releasehub.application.releasewindow.ReleaseWindowPort;
+import io.releasehub.application.run.RunItemFilter;
+import io.releasehub.application.run.RunPort;
+import io.releasehub.application.run.RunResultCount;
+import io.releasehub.application.run.RunSummary;
+import io.releasehub.common.exception.NotFoundException;
+import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.releasewindow.ReleaseWindow;
+import io.releasehub.domain.repo.RepoId;
+import io.releasehub.domain.run.ActionType;
+import io.releasehub.domain.run.RunItem;
+import io.releasehub.domain.run.RunItemResult;
+import io.releasehub.domain.run.RunStatus;
+import io.releasehub.domain.run.RunStep;
+import io.releasehub.domain.run.RunType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportAppServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T08:00:00Z");
+
+    @Mock
+    private RunPort runPort;
+    @Mock
+    private ReleaseWindowPort releaseWindowPort;
+
+    private ExportAppService service;
+    private ReleaseWindow window;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportAppService(runPort, releaseWindowPort);
+        window = ReleaseWindow.createDraft("WK-1", "Window 1", null, null, "G1", NOW);
+    }
+
+    private RunItem item(String repo, int order, RunItemResult result, String message) {
+        RunItem item = RunItem.create("WK-1", RepoId.of(repo), IterationKey.of("IT-1"), order, NOW);
+        item.addStep(new RunStep(ActionType.CREATE_TAG, result, NOW, NOW.plusSeconds(1), message));
+        item.finishWith(result, NOW.plusSeconds(1));
+        return item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamItems(String runId, RunItemFilter filter, RunItem... items) {
+        doAnswer(invocation -> {
+            Consumer<RunItem> action = invocation.getArgument(2);
+            for (RunItem item : items) {
+                action.accept(item);
+            }
+            return null;
+        }).when(runPort).forEachItem(eq(runId), eq(filter), any(Consumer.class));
+    }
+
+    private void stubWindowRuns() {
+        when(releaseWindowPort.findById(window.getId())).thenReturn(Optional.of(window));
+        when(runPort.countItemResultsByWindowKey("WK-1")).thenReturn(List.of(
+                new RunResultCount("RUN-1", RunItemResult.SUCCESS, 1),
+                new RunResultCount("RUN-1", RunItemResult.FAILED, 1)));
+        when(runPort.findSummariesByWindowKey("WK-1")).thenReturn(List.of(
+                new RunSummary("RUN-1", RunType.WINDOW_ORCHESTRATION, "alice", RunStatus.FAILED, NOW, NOW.plusSeconds(5), false, 2, 1, 1)));
+        streamItems("RUN-1", RunItemFilter.window("WK-1"),
+                item("repo-a", 1, RunItemResult.SUCCESS, "tag v1.0"),
+                item("repo-b", 2, RunItemResult.FAILED, "conflict, \"main\" | retry"));
+    }
+
+    @Test
+    @DisplayName("运行 CSV 逐行写出并沿用原有的转义规则")
+    void shouldStreamRunCsvWithEscaping() throws Exception {
+        streamItems("RUN-1", RunItemFilter.none(),
+                item("repo-a", 1, RunItemResult.FAILED, "line1\nline2, \"quoted\""));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.writeRunCsv("RUN-1", out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", 2);
+        assertThat(lines[0]).isEqualTo("runId,windowKey,repo,iterationKey,plannedOrder,executedOrder,stepType,stepResult,stepStart,stepEnd,message,finalResult");
+        assertThat(lines[1]).isEqualTo("RUN-1,WK-1,repo-a,IT-1,1,0,CREATE_TAG,FAILED,"
+                + NOW.toEpochMilli() + "," + NOW.plusSeconds(1).toEpochMilli()
+                + ",\"line1\nline2, \"\"quoted\"\"\",FAILED");
+    }
+
+    @Test
+    @DisplayName("窗口 CSV 的运行状态取自窗口内运行项的分组计数")
+    void shouldStreamReleaseWindowCsvWithWindowScopedStatus() throws Exception {
+        stubWindowRuns();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.writeReleaseWindowCsv(window.getId().value(), out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv.split("\n")).hasSize(3);
+        assertThat(csv).contains(window.getId().value() + ",WK-1,RUN-1,WINDOW_ORCHESTRATION,FAILED,repo-a,IT-1,SUCCESS,CREATE_TAG,SUCCESS");
+        assertThat(csv).contains("\"conflict, \"\"main\"\" | retry\"");
+    }
+
+    @Test
+    @DisplayName("窗口 Markdown 写出统计与运行明细")
+    void shouldStreamReleaseWindowMarkdown() throws Exception {
+        stubWindowRuns();
+        when(runPort.countStepsByWindowKey("WK-1")).thenReturn(2L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.writeReleaseWindowMarkdown(window.getId().value(), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .startsWith("# Release Window Report: WK-1\n\n")
+                .contains("| Run Count | 1 |", "| Item Count | 2 |", "| Step Count | 2 |")
+                .contains("| FAILED | 1 |\n| SUCCESS | 1 |")
+                .contains("### RUN-1")
+                .contains("| WINDOW_ORCHESTRATION | FAILED | alice |")
+                .contains("| repo-b | IT-1 | 2 | 0 | FAILED | CREATE_TAG | FAILED | conflict, \"main\" \\| retry |");
+        verify(runPort, never()).findByWindowKey(any());
+    }
+
+    @Test
+    @DisplayName("运行不存在时在开始写出前抛出 NotFound")
+    void shouldRejectUnknownRunBeforeStreaming() {
+        when(runPort.existsById("RUN-X")).thenReturn(false);
+
+        assertThatThrownBy(() -> service.requireRun("RUN-X")).isInstanceOf(NotFoundException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package io.releasehub.application.gitlab;
+
+import io.releasehub.common.exception.AuthenticationException;
+import io.releasehub.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitLabWebhookAppService webhook 测试")
+class GitLabWebhookAppServiceTest {
+
+    private static final String WEB_URL = "https://gitlab.example.com/acme/releasehub";
+
+    @Mock private MergeReadinessPort mergeReadinessPort;
+
+    @Test
+    @DisplayName("校验通过的 merge request 事件转交给等待方")
+    void shouldForwardMergeRequestEvent() {
+        GitLabWebhookAppService service = new GitLabWebhookAppService(mergeReadinessPort, "s3cret");
+        when(mergeReadinessPort.onMergeStatus("gitlab.example.com", "acme/releasehub", 7, "can_be_merged")).thenReturn(true);
+
+        boolean completed = service.handleMergeRequestEvent("s3cret", "merge_request", WEB_URL, "acme/releasehub", 7, "can_be_merged");
+
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("令牌不匹配或未配置密钥时拒绝")
+    void shouldRejectInvalidToken() {
+        GitLabWebhookAppService service = new GitLabWebhookAppService(mergeReadinessPort, "s3cret");
+        GitLabWebhookAppService unconfigured = new GitLabWebhookAppService(mergeReadinessPort, "");
+
+        assertThatThrownBy(() -> service.handleMergeRequestEvent("wrong", "merge_request", WEB_URL, "acme/releasehub", 7, "can_be_merged"))
+                .isInstanceOf(AuthenticationException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_TOKEN_INVALID);
+        assertThatThrownBy(() -> unconfigured.handleMergeRequestEvent("", "merge_request", WEB_URL, "acme/releasehub", 7, "can_be_merged"))
+                .isInstanceOf(AuthenticationException.class);
+        verify(mergeReadinessPort, never()).onMergeStatus(anyString(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("忽略非 merge request 事件")
+    void shouldIgnoreOtherEvents() {
+        GitLabWebhookAppService service = new GitLabWebhookAppService(mergeReadinessPort, "s3cret");
+
+        assertThat(service.handleMergeRequestEvent("s3cret", "push", WEB_URL, "acme/releasehub", null, null)).isFalse();
+        verify(mergeReadinessPort, never()).onMergeStatus(anyString(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("缺少 project.web_url 时无法确定 GitLab 实例，忽略事件")
+    void shouldIgnoreEventWithoutWebUrl() {
+        GitLabWebhookAppService service = new GitLabWebhookAppService(mergeReadinessPort, "s3cret");
+
+        assertThat(service.handleMergeRequestEvent("s3cret", "merge_request", null, "acme/releasehub", 7, "can_be_merged")).isFalse();
+        verify(mergeReadinessPort, never()).onMergeStatus(anyString(), anyString(), anyInt(), anyString());
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,8 @@ class GroupAppServiceTest {
     @Test
     void childrenAndTopLevelAndTree_ShouldWork() {
         InMemoryPort port = new InMemoryPort();
-        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort());
+        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort(),
+                new GroupTreeCache(port, 300), event -> { });
         Instant now = Instant.now();
 
         Group a = Group.create("A", "A", null, now);
@@ -150,6 +152,21 @@ class GroupAppServiceTest {
         public PageResult<io.releasehub.domain.releasewindow.ReleaseWindow> findPaged(String name, io.releasehub.domain.releasewindow.ReleaseWindowStatus status, int page, int size) {
             return new PageResult<>(List.of(), 0);
         }
+
+        @Override
+        public long countByStatusIn(Collection<io.releasehub.domain.releasewindow.ReleaseWindowStatus> statuses) {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<io.releasehub.domain.releasewindow.ReleaseWindow> findPaged(String name, io.releasehub.domain.releasewindow.ReleaseWindowStatus status, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 
     static class EmptyIterationPort implements IterationPort {
@@ -175,6 +192,26 @@ class GroupAppServiceTest {
         @Override
         public void deleteByKey(io.releasehub.domain.iteration.IterationKey key) {
         }
+
+        @Override
+        public List<io.releasehub.domain.iteration.Iteration> findAllByKeys(Collection<io.releasehub.domain.iteration.IterationKey> keys) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public boolean existsByRepo(io.releasehub.domain.repo.RepoId repoId) {
+            return false;
+        }
     }
 
     static class EmptyRepoPort implements CodeRepositoryPort {
@@ -196,11 +233,6 @@ class GroupAppServiceTest {
         public void deleteById(io.releasehub.domain.repo.RepoId id) {
         }
 
-        @Override
-        public List<io.releasehub.domain.repo.CodeRepository> search(String keyword) {
-            return List.of();
-        }
-
         @Override
         public PageResult<io.releasehub.domain.repo.CodeRepository> searchPaged(String keyword, int page, int size) {
             return new PageResult<>(List.of(), 0);
@@ -214,5 +246,30 @@ class GroupAppServiceTest {
         public Optional<String> getInitialVersion(String repoId) {
             return Optional.empty();
         }
+
+        @Override
+        public List<io.releasehub.domain.repo.CodeRepository> findAllByIds(Collection<io.releasehub.domain.repo.RepoId> ids) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public Optional<io.releasehub.domain.repo.RepoId> findIdByCloneUrlKey(String canonicalKey) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<io.releasehub.domain.repo.CodeRepository> searchPaged(String keyword, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 }
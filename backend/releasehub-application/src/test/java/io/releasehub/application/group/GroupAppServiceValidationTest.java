@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,7 +41,8 @@ class GroupAppServiceValidationTest {
     @BeforeEach
     void setUp() {
         port = new InMemoryPort();
-        svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort());
+        svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort(),
+                new GroupTreeCache(port, 300), event -> { });
         now = Instant.now();
     }
 
@@ -85,6 +87,31 @@ class GroupAppServiceValidationTest {
         assertEquals("PARENT", updated.getParentCode());
     }
 
+    @Test
+    void updateShouldFailWhenParentIsDescendant() {
+        port.save(Group.create("A", "A", null, now));
+        port.save(Group.create("B", "B", "A", now));
+        port.save(Group.create("C", "C", "B", now));
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> svc.update("A", "A", "C"));
+        assertEquals("GROUP_015", ex.getCode());
+    }
+
+    @Test
+    void treeShouldBeCachedUntilGroupsChange() {
+        GroupTreeCache cache = new GroupTreeCache(port, 300);
+        GroupAppService cachedSvc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(),
+                new EmptyRepoPort(), cache, event -> cache.onGroupsChanged((GroupsChangedEvent) event));
+        cachedSvc.create("A", "A", null);
+        assertEquals(1, cachedSvc.tree().size());
+
+        port.save(Group.create("B", "B", null, now));
+        assertEquals(1, cachedSvc.tree().size());
+
+        cachedSvc.create("C", "C", null);
+        assertEquals(3, cachedSvc.tree().size());
+    }
+
     @Test
     void deleteByCodeShouldFailWhenGroupReferencedByRepository() {
         port.save(Group.create("Group", "G001", null, now));
@@ -95,7 +122,9 @@ class GroupAppServiceValidationTest {
                 port,
                 new EmptyReleaseWindowPort(),
                 new EmptyIterationPort(),
-                new FixedRepoPort(List.of(repo))
+                new FixedRepoPort(List.of(repo)),
+                new GroupTreeCache(port, 300),
+                event -> { }
         );
 
         BusinessException ex = assertThrows(BusinessException.class, () -> service.deleteByCode("G001"));
@@ -113,7 +142,9 @@ class GroupAppServiceValidationTest {
                 port,
                 new EmptyReleaseWindowPort(),
                 new FixedIterationPort(List.of(iteration)),
-                new EmptyRepoPort()
+                new EmptyRepoPort(),
+                new GroupTreeCache(port, 300),
+                event -> { }
         );
 
         BusinessException ex = assertThrows(BusinessException.class, () -> service.deleteByCode("G001"));
@@ -131,7 +162,9 @@ class GroupAppServiceValidationTest {
                 port,
                 new FixedReleaseWindowPort(List.of(window)),
                 new EmptyIterationPort(),
-                new EmptyRepoPort()
+                new EmptyRepoPort(),
+                new GroupTreeCache(port, 300),
+                event -> { }
         );
 
         BusinessException ex = assertThrows(BusinessException.class, () -> service.deleteByCode("G001"));
@@ -237,6 +270,21 @@ class GroupAppServiceValidationTest {
         public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, int page, int size) {
             return new PageResult<>(List.of(), 0);
         }
+
+        @Override
+        public long countByStatusIn(Collection<ReleaseWindowStatus> statuses) {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 
     static class FixedReleaseWindowPort extends EmptyReleaseWindowPort {
@@ -250,6 +298,11 @@ class GroupAppServiceValidationTest {
         public List<ReleaseWindow> findAll() {
             return windows;
         }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return windows.stream().anyMatch(window -> groupCode.equals(window.getGroupCode()));
+        }
     }
 
     static class EmptyIterationPort implements IterationPort {
@@ -275,6 +328,26 @@ class GroupAppServiceValidationTest {
         @Override
         public void deleteByKey(IterationKey key) {
         }
+
+        @Override
+        public List<Iteration> findAllByKeys(Collection<IterationKey> keys) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public boolean existsByRepo(RepoId repoId) {
+            return false;
+        }
     }
 
     static class FixedIterationPort extends EmptyIterationPort {
@@ -288,6 +361,11 @@ class GroupAppServiceValidationTest {
         public List<Iteration> findAll() {
             return iterations;
         }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return iterations.stream().anyMatch(iteration -> groupCode.equals(iteration.getGroupCode()));
+        }
     }
 
     static class EmptyRepoPort implements CodeRepositoryPort {
@@ -309,11 +387,6 @@ class GroupAppServiceValidationTest {
         public void deleteById(RepoId id) {
         }
 
-        @Override
-        public List<CodeRepository> search(String keyword) {
-            return List.of();
-        }
-
         @Override
         public PageResult<CodeRepository> searchPaged(String keyword, int page, int size) {
             return new PageResult<>(List.of(), 0);
@@ -327,6 +400,31 @@ class GroupAppServiceValidationTest {
         public Optional<String> getInitialVersion(String repoId) {
             return Optional.empty();
         }
+
+        @Override
+        public List<CodeRepository> findAllByIds(Collection<RepoId> ids) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public Optional<RepoId> findIdByCloneUrlKey(String canonicalKey) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<CodeRepository> searchPaged(String keyword, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 
     static class FixedRepoPort extends EmptyRepoPort {
@@ -340,5 +438,10 @@ class GroupAppServiceValidationTest {
         public List<CodeRepository> findAll() {
             return repositories;
         }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return repositories.stream().anyMatch(repo -> groupCode.equals(repo.getGroupCode()));
+        }
     }
 }
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,7 +35,8 @@ class GroupDeleteTest {
     @Test
     void deleteByCode_ShouldSucceed_ForLeaf() {
         InMemoryPort port = new InMemoryPort();
-        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort());
+        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort(),
+                new GroupTreeCache(port, 300), event -> { });
         Instant now = Instant.now();
         Group a = Group.create("A", "001", null, now);
         Group b = Group.create("B", "001001", "001", now);
@@ -47,7 +49,8 @@ class GroupDeleteTest {
     @Test
     void deleteByCode_ShouldFail_WhenHasChildren() {
         InMemoryPort port = new InMemoryPort();
-        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort());
+        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort(),
+                new GroupTreeCache(port, 300), event -> { });
         Instant now = Instant.now();
         Group a = Group.create("A", "001", null, now);
         Group b = Group.create("B", "001001", "001", now);
@@ -146,6 +149,21 @@ class GroupDeleteTest {
         public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, int page, int size) {
             return new PageResult<>(List.of(), 0);
         }
+
+        @Override
+        public long countByStatusIn(Collection<ReleaseWindowStatus> statuses) {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 
     static class EmptyIterationPort implements IterationPort {
@@ -171,6 +189,26 @@ class GroupDeleteTest {
         @Override
         public void deleteByKey(IterationKey key) {
         }
+
+        @Override
+        public List<Iteration> findAllByKeys(Collection<IterationKey> keys) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public boolean existsByRepo(RepoId repoId) {
+            return false;
+        }
     }
 
     static class EmptyRepoPort implements CodeRepositoryPort {
@@ -192,11 +230,6 @@ class GroupDeleteTest {
         public void deleteById(RepoId id) {
         }
 
-        @Override
-        public List<CodeRepository> search(String keyword) {
-            return List.of();
-        }
-
         @Override
         public PageResult<CodeRepository> searchPaged(String keyword, int page, int size) {
             return new PageResult<>(List.of(), 0);
@@ -210,5 +243,30 @@ class GroupDeleteTest {
         public Optional<String> getInitialVersion(String repoId) {
             return Optional.empty();
         }
+
+        @Override
+        public List<CodeRepository> findAllByIds(Collection<RepoId> ids) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public Optional<RepoId> findIdByCloneUrlKey(String canonicalKey) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<CodeRepository> searchPaged(String keyword, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 }
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,7 +35,8 @@ class GroupGetByCodeTest {
     @Test
     void getByCode_ShouldReturnGroup_WhenExists() {
         InMemoryPort port = new InMemoryPort();
-        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort());
+        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort(),
+                new GroupTreeCache(port, 300), event -> { });
         Instant now = Instant.now();
         Group a = Group.create("A", "001", null, now);
         Group b = Group.create("B", "001001", "001", now);
@@ -49,7 +51,8 @@ class GroupGetByCodeTest {
     @Test
     void getByCode_ShouldThrow_WhenNotExists() {
         InMemoryPort port = new InMemoryPort();
-        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort());
+        GroupAppService svc = new GroupAppService(port, new EmptyReleaseWindowPort(), new EmptyIterationPort(), new EmptyRepoPort(),
+                new GroupTreeCache(port, 300), event -> { });
 
         NotFoundException ex = assertThrows(NotFoundException.class, () -> svc.getByCode("NOPE"));
         assertEquals("GROUP_002", ex.getCode());
@@ -148,6 +151,21 @@ class GroupGetByCodeTest {
         public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, int page, int size) {
             return new PageResult<>(List.of(), 0);
         }
+
+        @Override
+        public long countByStatusIn(Collection<ReleaseWindowStatus> statuses) {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 
     static class EmptyIterationPort implements IterationPort {
@@ -173,6 +191,26 @@ class GroupGetByCodeTest {
         @Override
         public void deleteByKey(IterationKey key) {
         }
+
+        @Override
+        public List<Iteration> findAllByKeys(Collection<IterationKey> keys) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public boolean existsByRepo(RepoId repoId) {
+            return false;
+        }
     }
 
     static class EmptyRepoPort implements CodeRepositoryPort {
@@ -194,11 +232,6 @@ class GroupGetByCodeTest {
         public void deleteById(RepoId id) {
         }
 
-        @Override
-        public List<CodeRepository> search(String keyword) {
-            return List.of();
-        }
-
         @Override
         public PageResult<CodeRepository> searchPaged(String keyword, int page, int size) {
             return new PageResult<>(List.of(), 0);
@@ -212,5 +245,30 @@ class GroupGetByCodeTest {
         public Optional<String> getInitialVersion(String repoId) {
             return Optional.empty();
         }
+
+        @Override
+        public List<CodeRepository> findAllByIds(Collection<RepoId> ids) {
+            return List.of();
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public Optional<RepoId> findIdByCloneUrlKey(String canonicalKey) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return false;
+        }
+
+        @Override
+        public PageResult<CodeRepository> searchPaged(String keyword, GroupScope groupScope, int page, int size) {
+            return new PageResult<>(List.of(), 0);
+        }
     }
 }
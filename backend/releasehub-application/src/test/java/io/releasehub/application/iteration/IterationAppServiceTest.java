@@ -5,7 +5,6 @@ import io.releasehub.application.group.GroupPort;
 import io.releasehub.application.iteration.IterationRepoVersionInfo;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchPort;
-import io.releasehub.application.releasewindow.ReleaseWindowPort;
 import io.releasehub.application.repo.CodeRepositoryPort;
 import io.releasehub.application.version.VersionDeriverUseCase;
 import io.releasehub.application.version.VersionExtractorUseCase;
@@ -22,8 +21,6 @@ import io.releasehub.domain.iteration.BranchCreationMode;
 import io.releasehub.domain.iteration.Iteration;
 import io.releasehub.domain.iteration.IterationKey;
 import io.releasehub.domain.iteration.IterationStatus;
-import io.releasehub.domain.releasewindow.ReleaseWindow;
-import io.releasehub.domain.releasewindow.ReleaseWindowId;
 import io.releasehub.domain.repo.CodeRepository;
 import io.releasehub.domain.repo.GitProvider;
 import io.releasehub.domain.repo.RepoId;
@@ -31,7 +28,6 @@ import io.releasehub.domain.repo.RepoType;
 import io.releasehub.domain.version.BuildTool;
 import io.releasehub.domain.version.ConflictResolution;
 import io.releasehub.domain.version.VersionSource;
-import io.releasehub.domain.window.WindowIteration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -65,8 +61,6 @@ class IterationAppServiceTest {
     @Mock
     private IterationPort iterationPort;
     @Mock
-    private ReleaseWindowPort releaseWindowPort;
-    @Mock
     private WindowIterationPort windowIterationPort;
     @Mock
     private CodeRepositoryPort codeRepositoryPort;
@@ -96,7 +90,7 @@ class IterationAppServiceTest {
     @BeforeEach
     void setUp() {
         iterationAppService = new IterationAppService(
-                iterationPort, releaseWindowPort, windowIterationPort,
+                iterationPort, windowIterationPort,
                 codeRepositoryPort, iterationRepoPort,
                 gitBranchAdapterFactory, branchRuleUseCase, versionDeriverUseCase,
                 versionExtractorUseCase, versionUpdateAppService, groupPort, clock
@@ -202,12 +196,9 @@ class IterationAppServiceTest {
         Instant now = Instant.now();
         Iteration existing = Iteration.rehydrate(
                 IterationKey.of("ITER-1"), "Iter", "Desc", null, "G001", Set.<RepoId>of(), IterationStatus.ACTIVE, now, now);
-        ReleaseWindow window = ReleaseWindow.createDraft("RW-1", "Window", null, now, "G001", now);
-        WindowIteration wi = WindowIteration.attach(ReleaseWindowId.of(window.getId().value()), IterationKey.of("ITER-1"), now, now);
 
         when(iterationPort.findByKey(IterationKey.of("ITER-1"))).thenReturn(Optional.of(existing));
-        when(releaseWindowPort.findAll()).thenReturn(List.of(window));
-        when(windowIterationPort.listByWindow(ReleaseWindowId.of(window.getId().value()))).thenReturn(List.of(wi));
+        when(windowIterationPort.existsByIteration(IterationKey.of("ITER-1"))).thenReturn(true);
 
         assertThatThrownBy(() -> iterationAppService.addRepos("ITER-1", Set.of("repo-1"), BranchCreationMode.AUTO, null))
                 .isInstanceOf(BusinessException.class)
@@ -251,12 +242,9 @@ class IterationAppServiceTest {
         Instant now = Instant.now();
         Iteration existing = Iteration.rehydrate(
                 IterationKey.of("ITER-1"), "Iter", "Desc", null, "G001", Set.of(RepoId.of("repo-1")), IterationStatus.ACTIVE, now, now);
-        ReleaseWindow window = ReleaseWindow.createDraft("RW-1", "Window", null, now, "G001", now);
-        WindowIteration wi = WindowIteration.attach(ReleaseWindowId.of(window.getId().value()), IterationKey.of("ITER-1"), now, now);
 
         when(iterationPort.findByKey(IterationKey.of("ITER-1"))).thenReturn(Optional.of(existing));
-        when(releaseWindowPort.findAll()).thenReturn(List.of(window));
-        when(windowIterationPort.listByWindow(ReleaseWindowId.of(window.getId().value()))).thenReturn(List.of(wi));
+        when(windowIterationPort.existsByIteration(IterationKey.of("ITER-1"))).thenReturn(true);
 
         assertThatThrownBy(() -> iterationAppService.removeRepos("ITER-1", Set.of("repo-1")))
                 .isInstanceOf(BusinessException.class)
@@ -271,14 +259,11 @@ class IterationAppServiceTest {
         Instant now = Instant.now();
         Iteration existing = Iteration.rehydrate(
                 IterationKey.of("ITER-1"), "Iter", "Desc", null, "G001", Set.of(RepoId.of("repo-1")), IterationStatus.ACTIVE, now, now);
-        ReleaseWindow window = ReleaseWindow.createDraft("RW-1", "Window", null, now, "G001", now);
-        WindowIteration wi = WindowIteration.attach(ReleaseWindowId.of(window.getId().value()), IterationKey.of("ITER-1"), now, now);
 
         when(iterationPort.findByKey(IterationKey.of("ITER-1"))).thenReturn(Optional.of(existing));
         when(groupPort.findByCode("G001")).thenReturn(Optional.of(Group.rehydrate(GroupId.of("G001"), "Group", "G001", null, now, now, 0L)));
         when(groupPort.countChildren("G001")).thenReturn(0L);
-        when(releaseWindowPort.findAll()).thenReturn(List.of(window));
-        when(windowIterationPort.listByWindow(ReleaseWindowId.of(window.getId().value()))).thenReturn(List.of(wi));
+        when(windowIterationPort.existsByIteration(IterationKey.of("ITER-1"))).thenReturn(true);
 
         assertThatThrownBy(() -> iterationAppService.update("ITER-1", "Iter", "Desc", null, "G001", Set.of("repo-1", "repo-2"), null))
                 .isInstanceOf(BusinessException.class)
@@ -309,12 +294,9 @@ class IterationAppServiceTest {
         Instant now = Instant.now();
         Iteration existing = Iteration.rehydrate(
                 IterationKey.of("ITER-1"), "Iter", "Desc", null, "G001", Set.<RepoId>of(), IterationStatus.ACTIVE, now, now);
-        ReleaseWindow window = ReleaseWindow.createDraft("RW-1", "Window", null, now, "G001", now);
-        WindowIteration wi = WindowIteration.attach(ReleaseWindowId.of("window-1"), IterationKey.of("ITER-1"), now, now);
 
         when(iterationPort.findByKey(IterationKey.of("ITER-1"))).thenReturn(Optional.of(existing));
-        when(releaseWindowPort.findAll()).thenReturn(List.of(window));
-        when(windowIterationPort.listByWindow(ReleaseWindowId.of(window.getId().value()))).thenReturn(List.of(wi));
+        when(windowIterationPort.existsByIteration(IterationKey.of("ITER-1"))).thenReturn(true);
 
         assertThatThrownBy(() -> iterationAppService.delete("ITER-1"))
                 .isInstanceOf(BusinessException.class)
@@ -431,7 +413,7 @@ class IterationAppServiceTest {
                 IterationKey.of("ITER-1"), "Iter", "Desc", null, "G001", Set.<RepoId>of(), IterationStatus.ACTIVE, now, now);
 
         when(iterationPort.findByKey(IterationKey.of("ITER-1"))).thenReturn(Optional.of(existing));
-        when(releaseWindowPort.findAll()).thenReturn(List.of());
+        when(windowIterationPort.existsByIteration(IterationKey.of("ITER-1"))).thenReturn(false);
 
         iterationAppService.delete("ITER-1");
 
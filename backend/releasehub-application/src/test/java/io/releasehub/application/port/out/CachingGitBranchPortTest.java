@@ -0,0 +1,94 @@
+package io.releasehub.application.port.out;
+
+import io.releasehub.domain.repo.GitProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingGitBranchPort 分支状态缓存测试")
+class CachingGitBranchPortTest {
+
+    private static final String URL = "https://gitlab.com/test/repo.git";
+    private static final String TOKEN = "token";
+
+    @Mock private GitBranchPort delegate;
+
+    private CachingGitBranchPort port;
+
+    @BeforeEach
+    void setUp() {
+        port = new CachingGitBranchPort(delegate);
+    }
+
+    @Test
+    @DisplayName("同一分支重复查询只访问一次 Git 平台并计数")
+    void shouldMemoizeBranchStatusPerCloneUrlAndBranch() {
+        when(delegate.getBranchStatus(URL, TOKEN, "release/RW-1"))
+                .thenReturn(GitBranchPort.BranchStatus.present("abc"));
+
+        port.getBranchStatus(URL, TOKEN, "release/RW-1");
+        GitBranchPort.BranchStatus second = port.getBranchStatus(URL, TOKEN, "release/RW-1");
+
+        assertThat(second.latestCommit()).isEqualTo("abc");
+        assertThat(port.getHits()).isEqualTo(1);
+        assertThat(port.getMisses()).isEqualTo(1);
+        verify(delegate, times(1)).getBranchStatus(URL, TOKEN, "release/RW-1");
+    }
+
+    @Test
+    @DisplayName("创建分支后缓存失效")
+    void shouldInvalidateOnCreateBranch() {
+        when(delegate.getBranchStatus(URL, TOKEN, "release/RW-1"))
+                .thenReturn(GitBranchPort.BranchStatus.missing())
+                .thenReturn(GitBranchPort.BranchStatus.present("def"));
+        when(delegate.createBranch(URL, TOKEN, "release/RW-1", "main")).thenReturn(true);
+
+        assertThat(port.getBranchStatus(URL, TOKEN, "release/RW-1").exists()).isFalse();
+        port.createBranch(URL, TOKEN, "release/RW-1", "main");
+
+        assertThat(port.getBranchStatus(URL, TOKEN, "release/RW-1").exists()).isTrue();
+        assertThat(port.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("合并只使目标分支缓存失效")
+    void shouldInvalidateMergeTargetOnly() {
+        when(delegate.getBranchStatus(URL, TOKEN, "feature/A")).thenReturn(GitBranchPort.BranchStatus.present("f1"));
+        when(delegate.getBranchStatus(URL, TOKEN, "release/RW-1")).thenReturn(GitBranchPort.BranchStatus.present("r1"));
+        when(delegate.mergeBranch(URL, TOKEN, "feature/A", "release/RW-1", "msg"))
+                .thenReturn(GitBranchPort.MergeResult.success());
+
+        port.getBranchStatus(URL, TOKEN, "feature/A");
+        port.getBranchStatus(URL, TOKEN, "release/RW-1");
+        port.mergeBranch(URL, TOKEN, "feature/A", "release/RW-1", "msg");
+        port.getBranchStatus(URL, TOKEN, "feature/A");
+        port.getBranchStatus(URL, TOKEN, "release/RW-1");
+
+        verify(delegate, times(1)).getBranchStatus(URL, TOKEN, "feature/A");
+        verify(delegate, times(2)).getBranchStatus(URL, TOKEN, "release/RW-1");
+    }
+
+    @Test
+    @DisplayName("工厂在同一作用域内按 provider 复用缓存适配器")
+    void shouldReuseCachingAdapterPerProvider() {
+        GitBranchAdapterFactory factory = provider -> delegate;
+        CachingGitBranchAdapterFactory scoped = new CachingGitBranchAdapterFactory(factory);
+        when(delegate.getBranchStatus(URL, TOKEN, "main")).thenReturn(GitBranchPort.BranchStatus.present("m"));
+
+        scoped.getAdapter(GitProvider.GITLAB).getBranchStatus(URL, TOKEN, "main");
+        scoped.getAdapter(GitProvider.GITLAB).getBranchStatus(URL, TOKEN, "main");
+
+        assertThat(scoped.getAdapter(GitProvider.GITLAB)).isSameAs(scoped.getAdapter(GitProvider.GITLAB));
+        assertThat(scoped.getHits()).isEqualTo(1);
+        assertThat(scoped.getMisses()).isEqualTo(1);
+    }
+}
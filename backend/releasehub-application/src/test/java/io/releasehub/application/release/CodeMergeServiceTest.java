@@ -8,6 +8,8 @@ import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.application.port.out.GitBranchPort.MergeResult;
 import io.releasehub.application.release.CodeMergeService.CodeMergeResult;
 import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.application.window.WindowContextLoader;
+import io.releasehub.application.window.WindowContextStubs;
 import io.releasehub.application.window.WindowIterationPort;
 import io.releasehub.domain.iteration.Iteration;
 import io.releasehub.domain.iteration.IterationKey;
@@ -60,13 +62,15 @@ class CodeMergeServiceTest {
     private CodeRepositoryPort codeRepositoryPort;
 
     private CodeMergeService codeMergeService;
+    private WindowContextStubs context;
 
     @BeforeEach
     void setUp() {
         codeMergeService = new CodeMergeService(
-                gitBranchAdapterFactory, windowIterationPort, iterationPort,
-                iterationRepoPort, codeRepositoryPort
+                gitBranchAdapterFactory, windowIterationPort,
+                new WindowContextLoader(iterationPort, codeRepositoryPort, iterationRepoPort)
         );
+        context = WindowContextStubs.stub(iterationPort, codeRepositoryPort, iterationRepoPort);
         lenient().when(gitBranchAdapterFactory.getAdapter(any())).thenReturn(gitBranchPort);
     }
 
@@ -154,13 +158,13 @@ class CodeMergeServiceTest {
             when(windowIterationPort.getReleaseBranch(WINDOW_ID, ITERATION_KEY)).thenReturn(RELEASE_BRANCH);
 
             Iteration iteration = createIteration(Set.of(RepoId.of(REPO_ID)));
-            when(iterationPort.findByKey(IterationKey.of(ITERATION_KEY))).thenReturn(Optional.of(iteration));
+            context.iteration(iteration);
 
             CodeRepository repo = createRepository(REPO_ID, REPO_URL);
-            when(codeRepositoryPort.findById(RepoId.of(REPO_ID))).thenReturn(Optional.of(repo));
+            context.repo(repo);
 
             IterationRepoVersionInfo versionInfo = createVersionInfo(FEATURE_BRANCH);
-            when(iterationRepoPort.getVersionInfo(ITERATION_KEY, REPO_ID)).thenReturn(Optional.of(versionInfo));
+            context.versionInfo(ITERATION_KEY, REPO_ID, versionInfo);
         }
 
         @Test
@@ -1,11 +1,15 @@
 package io.releasehub.application.releasewindow;
 
 import io.releasehub.application.group.GroupPort;
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.application.iteration.IterationPort;
+import io.releasehub.application.iteration.IterationRepoPort;
 import io.releasehub.application.port.out.GitBranchAdapterFactory;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.application.run.RunAppService;
 import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.application.window.WindowContextLoader;
+import io.releasehub.application.window.WindowContextStubs;
 import io.releasehub.application.window.WindowIterationPort;
 import io.releasehub.common.exception.BusinessException;
 import io.releasehub.common.exception.NotFoundException;
@@ -66,17 +70,22 @@ class ReleaseWindowAppServiceTest {
     @Mock
     private CodeRepositoryPort codeRepositoryPort;
     @Mock
+    private IterationRepoPort iterationRepoPort;
+    @Mock
     private GitBranchAdapterFactory gitBranchAdapterFactory;
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
     private ReleaseWindowAppService releaseWindowAppService;
+    private WindowContextStubs context;
 
     @BeforeEach
     void setUp() {
         releaseWindowAppService = new ReleaseWindowAppService(
                 releaseWindowPort, windowIterationPort, runAppService, groupPort,
-                iterationPort, codeRepositoryPort, gitBranchAdapterFactory, eventPublisher);
+                new WindowContextLoader(iterationPort, codeRepositoryPort, iterationRepoPort),
+                gitBranchAdapterFactory, eventPublisher);
+        context = WindowContextStubs.stub(iterationPort, codeRepositoryPort, iterationRepoPort);
     }
 
     @Nested
@@ -132,18 +141,13 @@ class ReleaseWindowAppServiceTest {
         @DisplayName("按组织筛选时包含当前组织及子组织")
         void shouldFilterByGroupAndDescendants() {
             Instant now = Instant.now();
-            Group parent = Group.rehydrate(GroupId.of("parent"), "Parent", "G001", null, now, now, 0L);
-            Group child = Group.rehydrate(GroupId.of("child"), "Child", "G001001", "G001", now, now, 0L);
-            Group leaf = Group.rehydrate(GroupId.of("leaf"), "Leaf", "G001001001", "G001001", now, now, 0L);
             ReleaseWindow window = ReleaseWindow.createDraft("RW-1", "Window", null, now, "G001001001", now);
-            when(groupPort.findByCode("G001")).thenReturn(Optional.of(parent));
-            when(groupPort.findByParentCode("G001")).thenReturn(List.of(child));
-            when(groupPort.findByParentCode("G001001")).thenReturn(List.of(leaf));
-            when(groupPort.findByParentCode("G001001001")).thenReturn(List.of());
+            GroupScope scope = new GroupScope("G001", "/G001/");
+            when(groupPort.findScope("G001")).thenReturn(Optional.of(scope));
             when(releaseWindowPort.findPaged(
                     eq("Window"),
                     eq(ReleaseWindowStatus.DRAFT),
-                    eq(List.of("G001", "G001001", "G001001001")),
+                    eq(scope),
                     eq(1),
                     eq(10)
             )).thenReturn(new PageResult<>(List.of(window), 1));
@@ -159,12 +163,12 @@ class ReleaseWindowAppServiceTest {
         @Test
         @DisplayName("组织不存在时筛选失败")
         void shouldFailWhenGroupFilterDoesNotExist() {
-            when(groupPort.findByCode("G404")).thenReturn(Optional.empty());
+            when(groupPort.findScope("G404")).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> releaseWindowAppService.listPaged(null, null, "G404", 1, 10))
                     .isInstanceOf(NotFoundException.class)
                     .satisfies(ex -> assertThat(((NotFoundException) ex).getCode()).isEqualTo("GROUP_002"));
-            verify(releaseWindowPort, never()).findPaged(any(), any(), any(List.class), anyInt(), anyInt());
+            verify(releaseWindowPort, never()).findPaged(any(), any(), any(GroupScope.class), anyInt(), anyInt());
         }
     }
 
@@ -267,6 +271,9 @@ class ReleaseWindowAppServiceTest {
 
             verify(releaseWindowPort).save(any(ReleaseWindow.class));
             verify(runAppService).executeCleanup(eq("window-1"), eq("system"));
+            ArgumentCaptor<WindowClosedEvent> event = ArgumentCaptor.forClass(WindowClosedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getWindowId()).isEqualTo("window-1");
             assertThat(view.getStatus()).isEqualTo("CLOSED");
         }
 
@@ -311,7 +318,7 @@ class ReleaseWindowAppServiceTest {
             Iteration iteration = Iteration.rehydrate(
                     IterationKey.of(iterKey), "Iter", null, LocalDate.now(), "G001",
                     Set.of(RepoId.of(repoId)), IterationStatus.ACTIVE, now, now);
-            when(iterationPort.findByKey(IterationKey.of(iterKey))).thenReturn(Optional.of(iteration));
+            context.iteration(iteration);
 
             when(windowIterationPort.getReleaseBranch(windowId, iterKey)).thenReturn("release/" + windowKey);
 
@@ -319,7 +326,7 @@ class ReleaseWindowAppServiceTest {
                     RepoId.of(repoId), "my-repo", "https://github.com/org/repo.git",
                     "main", "G001", null, GitProvider.GITLAB, "token", false,
                     0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
-            when(codeRepositoryPort.findById(RepoId.of(repoId))).thenReturn(Optional.of(repo));
+            context.repo(repo);
 
             GitBranchPort mockAdapter = org.mockito.Mockito.mock(GitBranchPort.class);
             when(gitBranchAdapterFactory.getAdapter(GitProvider.GITLAB)).thenReturn(mockAdapter);
@@ -2,6 +2,7 @@ package io.releasehub.application.repo;
 
 import io.releasehub.application.gitlab.GitLabPort;
 import io.releasehub.application.group.GroupPort;
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.application.iteration.IterationPort;
 import io.releasehub.application.settings.SettingsPort;
 import io.releasehub.application.version.VersionExtractorUseCase;
@@ -10,9 +11,6 @@ import io.releasehub.common.exception.NotFoundException;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.group.Group;
 import io.releasehub.domain.group.GroupId;
-import io.releasehub.domain.iteration.Iteration;
-import io.releasehub.domain.iteration.IterationKey;
-import io.releasehub.domain.iteration.IterationStatus;
 import io.releasehub.domain.repo.CodeRepository;
 import io.releasehub.domain.repo.RepoId;
 import io.releasehub.domain.repo.RepoType;
@@ -28,13 +26,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -138,12 +134,9 @@ class CodeRepositoryAppServiceTest {
         CodeRepository repo = CodeRepository.rehydrate(
                 RepoId.of("repo-1"), "Repo", "git@gitlab.com:test/repo.git", "main", "G001",
                 RepoType.SERVICE, false, 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
-        Iteration iteration = Iteration.rehydrate(
-                IterationKey.of("ITER-1"), "Iter", null, null, "G001",
-                Set.of(RepoId.of("repo-1")), IterationStatus.ACTIVE, now, now);
 
         when(codeRepositoryPort.findById(RepoId.of("repo-1"))).thenReturn(Optional.of(repo));
-        when(iterationPort.findAll()).thenReturn(List.of(iteration));
+        when(iterationPort.existsByRepo(RepoId.of("repo-1"))).thenReturn(true);
 
         assertThatThrownBy(() -> appService.delete("repo-1"))
                 .isInstanceOf(BusinessException.class)
@@ -160,7 +153,7 @@ class CodeRepositoryAppServiceTest {
                 RepoType.SERVICE, false, 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
 
         when(codeRepositoryPort.findById(RepoId.of("repo-1"))).thenReturn(Optional.of(repo));
-        when(iterationPort.findAll()).thenReturn(List.of());
+        when(iterationPort.existsByRepo(RepoId.of("repo-1"))).thenReturn(false);
 
         appService.delete("repo-1");
 
@@ -192,10 +185,7 @@ class CodeRepositoryAppServiceTest {
     @DisplayName("创建仓库时规范化后 cloneUrl 重复则失败")
     void shouldRejectCreateWhenCloneUrlAlreadyManaged() {
         Instant now = Instant.now();
-        CodeRepository existing = CodeRepository.rehydrate(
-                RepoId.of("repo-1"), "Repo", "git@gitlab.com:Customer/Payment.git", "main", "G001",
-                RepoType.SERVICE, false, 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
-        when(codeRepositoryPort.findAll()).thenReturn(List.of(existing));
+        when(codeRepositoryPort.findIdByCloneUrlKey("gitlab.com/customer/payment")).thenReturn(Optional.of(RepoId.of("repo-1")));
         when(groupPort.findByCode("G001")).thenReturn(Optional.of(Group.rehydrate(GroupId.of("G001"), "Group", "G001", null, now, now, 0L)));
         when(groupPort.countChildren("G001")).thenReturn(0L);
 
@@ -212,11 +202,8 @@ class CodeRepositoryAppServiceTest {
         CodeRepository current = CodeRepository.rehydrate(
                 RepoId.of("repo-1"), "Repo", "git@gitlab.com:team/current.git", "main", "G001",
                 RepoType.SERVICE, false, 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
-        CodeRepository other = CodeRepository.rehydrate(
-                RepoId.of("repo-2"), "Other", "git@gitlab.com:team/other.git", "main", "G001",
-                RepoType.SERVICE, false, 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
         when(codeRepositoryPort.findById(RepoId.of("repo-1"))).thenReturn(Optional.of(current));
-        when(codeRepositoryPort.findAll()).thenReturn(List.of(current, other));
+        when(codeRepositoryPort.findIdByCloneUrlKey("gitlab.com/team/other")).thenReturn(Optional.of(RepoId.of("repo-2")));
         when(groupPort.findByCode("G001")).thenReturn(Optional.of(Group.rehydrate(GroupId.of("G001"), "Group", "G001", null, now, now, 0L)));
         when(groupPort.countChildren("G001")).thenReturn(0L);
 
@@ -234,7 +221,7 @@ class CodeRepositoryAppServiceTest {
                 RepoId.of("repo-1"), "Repo", "git@gitlab.com:team/current.git", "main", "G001",
                 RepoType.SERVICE, false, 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
         when(codeRepositoryPort.findById(RepoId.of("repo-1"))).thenReturn(Optional.of(current));
-        when(codeRepositoryPort.findAll()).thenReturn(List.of(current));
+        when(codeRepositoryPort.findIdByCloneUrlKey("gitlab.com/team/current")).thenReturn(Optional.of(RepoId.of("repo-1")));
         when(groupPort.findByCode("G001")).thenReturn(Optional.of(Group.rehydrate(GroupId.of("G001"), "Group", "G001", null, now, now, 0L)));
         when(groupPort.countChildren("G001")).thenReturn(0L);
 
@@ -243,28 +230,38 @@ class CodeRepositoryAppServiceTest {
         verify(codeRepositoryPort).save(current);
     }
 
+    @Test
+    @DisplayName("联想搜索时关键字为空不查询，limit 限制在上限内")
+    void shouldSkipBlankKeywordAndClampLimitWhenSuggest() {
+        when(codeRepositoryPort.suggest("pay", CodeRepositoryAppService.MAX_SUGGEST_LIMIT))
+                .thenReturn(List.of(new RepoSearchHit("repo-1", "payment", "git@gitlab.com:team/payment.git", "G001")));
+
+        assertThat(appService.suggest("  ", 10)).isEmpty();
+        assertThat(appService.suggest(" pay ", 1000)).extracting(RepoSearchHit::id).containsExactly("repo-1");
+        verify(codeRepositoryPort).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("不分页搜索的 limit 限制在上限内，并返回全部命中数")
+    void shouldClampLimitAndKeepTotalWhenSearch() {
+        PageResult<CodeRepository> expected = new PageResult<>(List.of(), 500);
+        when(codeRepositoryPort.searchPaged("pay", 1, CodeRepositoryAppService.MAX_SEARCH_LIMIT)).thenReturn(expected);
+
+        PageResult<CodeRepository> result = appService.search("pay", 10_000);
+
+        assertThat(result.total()).isEqualTo(500);
+    }
+
     @Test
     @DisplayName("按组织筛选仓库时包含所选组织及子组织")
     void shouldSearchPagedByGroupScopeIncludingChildren() {
-        Instant now = Instant.now();
-        Group parent = Group.rehydrate(GroupId.of("G001"), "Parent", "G001", null, now, now, 0L);
-        Group child = Group.rehydrate(GroupId.of("G001001"), "Child", "G001001", "G001", now, now, 0L);
-        Group leaf = Group.rehydrate(GroupId.of("G001001001"), "Leaf", "G001001001", "G001001", now, now, 0L);
         PageResult<CodeRepository> expected = new PageResult<>(List.of(), 0);
-        when(groupPort.findByCode("G001")).thenReturn(Optional.of(parent));
-        when(groupPort.findByParentCode("G001")).thenReturn(List.of(child));
-        when(groupPort.findByParentCode("G001001")).thenReturn(List.of(leaf));
-        when(groupPort.findByParentCode("G001001001")).thenReturn(List.of());
-        when(codeRepositoryPort.searchPaged(anyString(), anySet(), anyInt(), anyInt())).thenReturn(expected);
+        GroupScope scope = new GroupScope("G001", "/G001/");
+        when(groupPort.findScope("G001")).thenReturn(Optional.of(scope));
+        when(codeRepositoryPort.searchPaged("payment", scope, 1, 10)).thenReturn(expected);
 
         PageResult<CodeRepository> result = appService.searchPaged("payment", "G001", 1, 10);
 
         assertThat(result).isSameAs(expected);
-        verify(codeRepositoryPort).searchPaged(
-                org.mockito.ArgumentMatchers.eq("payment"),
-                org.mockito.ArgumentMatchers.argThat(codes -> codes.containsAll(Set.of("G001", "G001001", "G001001001")) && codes.size() == 3),
-                org.mockito.ArgumentMatchers.eq(1),
-                org.mockito.ArgumentMatchers.eq(10)
-        );
     }
 }
@@ -10,6 +10,8 @@ import io.releasehub.application.releasewindow.ReleaseWindowPort;
 import io.releasehub.application.repo.CodeRepositoryPort;
 import io.releasehub.application.version.VersionDeriverUseCase;
 import io.releasehub.application.version.VersionUpdateAppService;
+import io.releasehub.application.window.WindowContextLoader;
+import io.releasehub.application.window.WindowContextStubs;
 import io.releasehub.application.window.WindowIterationPort;
 import io.releasehub.domain.conflict.ConflictReport;
 import io.releasehub.domain.iteration.Iteration;
@@ -26,6 +28,7 @@ import io.releasehub.domain.run.ActionType;
 import io.releasehub.domain.run.RunItem;
 import io.releasehub.domain.run.Run;
 import io.releasehub.domain.run.RunItemResult;
+import io.releasehub.domain.run.RunStep;
 import io.releasehub.domain.run.RunType;
 import io.releasehub.domain.version.BuildTool;
 import io.releasehub.application.version.VersionUpdateRequest;
@@ -74,6 +77,7 @@ class RunAppServiceTest {
     @Mock private java.time.Clock clock;
 
     private RunAppService service;
+    private WindowContextStubs context;
 
     private final Instant now = Instant.parse("2026-05-11T10:00:00Z");
     private final String windowId = "window-1";
@@ -87,7 +91,9 @@ class RunAppServiceTest {
     void setUp() {
         service = new RunAppService(runPort, releaseWindowPort, windowIterationPort, iterationPort,
                 iterationRepoPort, codeRepositoryPort, gitBranchAdapterFactory, versionUpdateAppService,
-                conflictDetectionAppService, versionDeriverUseCase, settingsPort, clock);
+                conflictDetectionAppService, versionDeriverUseCase, settingsPort, new RepoParallelExecutor(4),
+                new WindowContextLoader(iterationPort, codeRepositoryPort, iterationRepoPort), clock);
+        context = WindowContextStubs.stub(iterationPort, codeRepositoryPort, iterationRepoPort);
         lenient().when(clock.instant()).thenReturn(now);
         lenient().when(clock.getZone()).thenReturn(java.time.ZoneId.of("UTC"));
         lenient().when(settingsPort.getNaming()).thenReturn(Optional.empty());
@@ -102,7 +108,7 @@ class RunAppServiceTest {
         Iteration iteration = Iteration.rehydrate(
                 IterationKey.of(iterationKey), "Iteration 1", "", null, "G001",
                 Set.of(RepoId.of(repoId)), IterationStatus.ACTIVE, now, now);
-        when(iterationPort.findByKey(IterationKey.of(iterationKey))).thenReturn(Optional.of(iteration));
+        context.iteration(iteration);
 
         WindowIteration wi = WindowIteration.rehydrate(
                 io.releasehub.domain.window.WindowIterationId.generate(
@@ -115,14 +121,13 @@ class RunAppServiceTest {
                 RepoId.of(repoId), "Test Repo", "https://gitlab.com/test/repo.git",
                 "main", "G001", RepoType.SERVICE, GitProvider.GITLAB, "token", false,
                 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
-        when(codeRepositoryPort.findById(RepoId.of(repoId))).thenReturn(Optional.of(repo));
+        context.repo(repo);
         when(gitBranchAdapterFactory.getAdapter(GitProvider.GITLAB)).thenReturn(gitBranchPort);
-        when(iterationRepoPort.getVersionInfo(iterationKey, repoId)).thenReturn(Optional.of(
-                IterationRepoVersionInfo.builder()
-                        .repoId(repoId)
-                        .featureBranch(featureBranch)
-                        .devVersion("1.2.0-SNAPSHOT")
-                        .build()));
+        context.versionInfo(iterationKey, repoId, IterationRepoVersionInfo.builder()
+                .repoId(repoId)
+                .featureBranch(featureBranch)
+                .devVersion("1.2.0-SNAPSHOT")
+                .build());
         when(versionDeriverUseCase.deriveTargetVersion("1.2.0-SNAPSHOT")).thenReturn("1.2.0");
         when(gitBranchPort.getBranchStatus(any(), any(), eq(featureBranch)))
                 .thenReturn(GitBranchPort.BranchStatus.present("abc123"));
@@ -144,7 +149,7 @@ class RunAppServiceTest {
         Iteration it = Iteration.rehydrate(
                 IterationKey.of(iterationKey), "Iteration 1", "", null, "G001",
                 Set.of(RepoId.of(repoId)), IterationStatus.ACTIVE, now, now);
-        when(iterationPort.findByKey(IterationKey.of(iterationKey))).thenReturn(Optional.of(it));
+        context.iteration(it);
 
         WindowIteration wi = WindowIteration.rehydrate(
                 io.releasehub.domain.window.WindowIterationId.generate(
@@ -157,10 +162,9 @@ class RunAppServiceTest {
                 RepoId.of(repoId), "Test Repo", "https://gitlab.com/test/repo.git",
                 "main", "G001", RepoType.SERVICE, GitProvider.GITLAB, "token", false,
                 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
-        when(codeRepositoryPort.findById(RepoId.of(repoId))).thenReturn(Optional.of(repo));
+        context.repo(repo);
         when(gitBranchAdapterFactory.getAdapter(GitProvider.GITLAB)).thenReturn(gitBranchPort);
-        when(iterationRepoPort.getVersionInfo(iterationKey, repoId)).thenReturn(Optional.of(
-                IterationRepoVersionInfo.builder().repoId(repoId).featureBranch(featureBranch).build()));
+        context.versionInfo(iterationKey, repoId, IterationRepoVersionInfo.builder().repoId(repoId).featureBranch(featureBranch).build());
     }
 
     @Nested
@@ -264,9 +268,8 @@ class RunAppServiceTest {
             Iteration it2 = Iteration.rehydrate(
                     IterationKey.of("ITER-2"), "Iteration 2", "", null, "G001",
                     Set.of(RepoId.of(repoId)), IterationStatus.ACTIVE, now, now);
-            lenient().when(iterationPort.findByKey(IterationKey.of("ITER-2"))).thenReturn(Optional.of(it2));
-            lenient().when(iterationRepoPort.getVersionInfo("ITER-2", repoId)).thenReturn(Optional.of(
-                    IterationRepoVersionInfo.builder().repoId(repoId).featureBranch(featureBranch).build()));
+            context.iteration(it2);
+            context.versionInfo("ITER-2", repoId, IterationRepoVersionInfo.builder().repoId(repoId).featureBranch(featureBranch).build());
 
             // First iteration will hit conflict and stop, second should never be processed
             when(gitBranchPort.getBranchStatus(any(), any(), eq(featureBranch)))
@@ -409,6 +412,84 @@ class RunAppServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("startOrchestrate 并行模式")
+    class ParallelMode {
+
+        private final String repoId2 = "repo-2";
+
+        private void setupTwoRepos() {
+            ReleaseWindow rw = ReleaseWindow.rehydrate(
+                    ReleaseWindowId.of(windowId), windowKey, "Release 1.0", "",
+                    now, "G001", ReleaseWindowStatus.PUBLISHED, now, now, false, null);
+            when(releaseWindowPort.findById(ReleaseWindowId.of(windowId))).thenReturn(Optional.of(rw));
+            when(conflictDetectionAppService.getLatestReport(windowId)).thenReturn(Optional.of(ConflictReport.empty(windowId)));
+
+            Iteration it = Iteration.rehydrate(
+                    IterationKey.of(iterationKey), "Iteration 1", "", null, "G001",
+                    Set.of(RepoId.of(repoId), RepoId.of(repoId2)), IterationStatus.ACTIVE, now, now);
+            context.iteration(it);
+
+            WindowIteration wi = WindowIteration.rehydrate(
+                    io.releasehub.domain.window.WindowIterationId.generate(
+                            ReleaseWindowId.of(windowId), IterationKey.of(iterationKey)),
+                    ReleaseWindowId.of(windowId), IterationKey.of(iterationKey),
+                    now, releaseBranch, true, now, now, now);
+            when(windowIterationPort.listByWindow(ReleaseWindowId.of(windowId))).thenReturn(List.of(wi));
+
+            for (String id : List.of(repoId, repoId2)) {
+                CodeRepository repo = CodeRepository.rehydrate(
+                        RepoId.of(id), "Repo " + id, "https://gitlab.com/test/" + id + ".git",
+                        "main", "G001", RepoType.SERVICE, GitProvider.GITLAB, "token", false,
+                        0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
+                context.repo(repo);
+                context.versionInfo(iterationKey, id, IterationRepoVersionInfo.builder().repoId(id).featureBranch(featureBranch).build());
+            }
+            when(gitBranchAdapterFactory.getAdapter(GitProvider.GITLAB)).thenReturn(gitBranchPort);
+            when(gitBranchPort.getBranchStatus(any(), any(), any()))
+                    .thenReturn(GitBranchPort.BranchStatus.present("abc123"));
+        }
+
+        @Test
+        @DisplayName("多仓库并行执行后按计划顺序汇总 RunItem")
+        void shouldKeepPlannedOrderWhenRunningInParallel() {
+            setupTwoRepos();
+            when(gitBranchPort.mergeBranch(any(), any(), eq(featureBranch), eq(releaseBranch), any()))
+                    .thenReturn(GitBranchPort.MergeResult.success());
+
+            Run result = service.startOrchestrate(windowId, List.of(repoId, repoId2), List.of(), true, true, "tester");
+
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.getItems()).extracting(item -> item.getRepo().value()).containsExactly(repoId, repoId2);
+            assertThat(result.getItems()).extracting(RunItem::getPlannedOrder).containsExactly(1, 2);
+            assertThat(result.getItems()).extracting(RunItem::getExecutedOrder).containsExactly(1, 2);
+            assertThat(result.getItems()).allSatisfy(item -> assertThat(item.getFinalResult()).isEqualTo(RunItemResult.MERGED));
+            verify(windowIterationPort, times(2)).updateLastMergeAt(eq(windowId), eq(iterationKey), any());
+            verify(runPort).save(any(Run.class));
+        }
+
+        @Test
+        @DisplayName("failFast 在并行模式下阻断后不再合并其余仓库")
+        void shouldStopOtherReposWhenFailFastBlocks() {
+            setupTwoRepos();
+            when(gitBranchPort.mergeBranch(eq("https://gitlab.com/test/" + repoId + ".git"), any(), eq(featureBranch), eq(releaseBranch), any()))
+                    .thenReturn(GitBranchPort.MergeResult.conflict("merge conflict"));
+            lenient().when(gitBranchPort.mergeBranch(eq("https://gitlab.com/test/" + repoId2 + ".git"), any(), eq(featureBranch), eq(releaseBranch), any()))
+                    .thenReturn(GitBranchPort.MergeResult.success());
+
+            RunAppService singleLane = new RunAppService(runPort, releaseWindowPort, windowIterationPort, iterationPort,
+                    iterationRepoPort, codeRepositoryPort, gitBranchAdapterFactory, versionUpdateAppService,
+                    conflictDetectionAppService, versionDeriverUseCase, settingsPort, new RepoParallelExecutor(1),
+                    new WindowContextLoader(iterationPort, codeRepositoryPort, iterationRepoPort), clock);
+
+            Run result = singleLane.startOrchestrate(windowId, List.of(repoId, repoId2), List.of(), true, true, "tester");
+
+            assertThat(result.getItems()).hasSize(1);
+            assertThat(result.getItems().get(0).getFinalResult()).isEqualTo(RunItemResult.MERGE_BLOCKED);
+            verify(gitBranchPort, never()).mergeBranch(eq("https://gitlab.com/test/" + repoId2 + ".git"), any(), any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("executeCleanup CI 触发")
     class CleanupCi {
@@ -450,5 +531,151 @@ class RunAppServiceTest {
             verify(gitBranchPort).triggerPipeline(any(), any(), eq(releaseBranch));
             verify(runPort).save(any(Run.class));
         }
+
+        @Test
+        @DisplayName("同一运行内 release 分支状态只查询一次")
+        void shouldReuseReleaseBranchStatusWithinRun() {
+            setupCleanupRun();
+            when(gitBranchPort.triggerPipeline(any(), any(), eq(releaseBranch))).thenReturn("pipeline-42");
+
+            service.executeCleanup(windowId, "system");
+
+            verify(gitBranchPort, times(1)).getBranchStatus(any(), any(), eq(releaseBranch));
+        }
+    }
+
+    @Nested
+    @DisplayName("resume 恢复执行")
+    class Resume {
+
+        @Test
+        @DisplayName("从最后一个已完成的步骤继续，并逐步增量保存运行项")
+        void shouldContinueFromLastCompletedStepAndSaveItemsIncrementally() {
+            ReleaseWindow rw = ReleaseWindow.rehydrate(
+                    ReleaseWindowId.of(windowId), windowKey, "Release 1.0", "",
+                    now, "G001", ReleaseWindowStatus.PUBLISHED, now, now, false, null);
+            when(releaseWindowPort.findById(ReleaseWindowId.of(windowId))).thenReturn(Optional.of(rw));
+            Iteration it = Iteration.rehydrate(
+                    IterationKey.of(iterationKey), "Iteration 1", "", null, "G001",
+                    Set.of(RepoId.of(repoId)), IterationStatus.ACTIVE, now, now);
+            context.iteration(it);
+            WindowIteration wi = WindowIteration.rehydrate(
+                    io.releasehub.domain.window.WindowIterationId.generate(
+                            ReleaseWindowId.of(windowId), IterationKey.of(iterationKey)),
+                    ReleaseWindowId.of(windowId), IterationKey.of(iterationKey),
+                    now, releaseBranch, true, now, now, now);
+            when(windowIterationPort.listByWindow(ReleaseWindowId.of(windowId))).thenReturn(List.of(wi));
+            CodeRepository repo = CodeRepository.rehydrate(
+                    RepoId.of(repoId), "Test Repo", "https://gitlab.com/test/repo.git",
+                    "main", "G001", RepoType.SERVICE, GitProvider.GITLAB, "token", false,
+                    0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
+            context.repo(repo);
+            when(gitBranchAdapterFactory.getAdapter(GitProvider.GITLAB)).thenReturn(gitBranchPort);
+            context.versionInfo(iterationKey, repoId, IterationRepoVersionInfo.builder().repoId(repoId).featureBranch(featureBranch).build());
+            when(gitBranchPort.getBranchStatus(any(), any(), eq(featureBranch)))
+                    .thenReturn(GitBranchPort.BranchStatus.present("abc123"));
+            when(gitBranchPort.getBranchStatus(any(), any(), eq(releaseBranch)))
+                    .thenReturn(GitBranchPort.BranchStatus.present("def456"));
+            when(gitBranchPort.mergeBranch(any(), any(), eq(featureBranch), eq(releaseBranch), any()))
+                    .thenReturn(GitBranchPort.MergeResult.success());
+
+            // 中断前已完成 ENSURE_FEATURE / ENSURE_RELEASE
+            Run interrupted = Run.start(RunType.WINDOW_ORCHESTRATION, "tester", now);
+            RunItem partial = RunItem.create(windowKey, RepoId.of(repoId), IterationKey.of(iterationKey), 1, now);
+            partial.addStep(new RunStep(ActionType.ENSURE_FEATURE, RunItemResult.SUCCESS, now, now, "Feature branch exists: " + featureBranch));
+            partial.addStep(new RunStep(ActionType.ENSURE_RELEASE, RunItemResult.BRANCH_CREATED, now, now, "Created release branch: " + releaseBranch));
+            interrupted.addItem(partial);
+            String runId = interrupted.getId().value();
+            when(runPort.findById(runId)).thenReturn(Optional.of(interrupted));
+
+            RunJob job = RunJob.orchestrate(runId, windowId, List.of(repoId), List.of(), true, false, "tester", now);
+            Run result = service.resume(job, () -> false);
+
+            assertThat(result.getFinishedAt()).isNotNull();
+            assertThat(result.getItems()).hasSize(1);
+            RunItem item = result.getItems().get(0);
+            assertThat(item.getFinalResult()).isEqualTo(RunItemResult.MERGED);
+            assertThat(item.getSteps()).extracting(RunStep::actionType).containsExactly(
+                    ActionType.ENSURE_FEATURE, ActionType.ENSURE_RELEASE, ActionType.ENSURE_MR, ActionType.TRY_MERGE);
+            verify(gitBranchPort, never()).createBranch(any(), any(), any(), any());
+            verify(conflictDetectionAppService, never()).getLatestReport(any());
+            verify(runPort, times(2)).saveItem(eq(runId), any(RunItem.class));
+            verify(windowIterationPort).updateLastMergeAt(windowId, iterationKey, now);
+            verify(runPort).save(result);
+        }
+
+        @Test
+        @DisplayName("首次执行编排作业时存在冲突则运行失败，不执行任何步骤")
+        void shouldFailOrchestrateJobWhenConflictsExist() {
+            ReleaseWindow rw = ReleaseWindow.rehydrate(
+                    ReleaseWindowId.of(windowId), windowKey, "Release 1.0", "",
+                    now, "G001", ReleaseWindowStatus.PUBLISHED, now, now, false, null);
+            when(releaseWindowPort.findById(ReleaseWindowId.of(windowId))).thenReturn(Optional.of(rw));
+            var conflictReport = io.releasehub.domain.conflict.ConflictReport.of(windowId,
+                    List.of(io.releasehub.domain.conflict.ConflictItem.branchExists(repoId, "Test", iterationKey, featureBranch)));
+            when(conflictDetectionAppService.getLatestReport(windowId)).thenReturn(Optional.of(conflictReport));
+            Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "tester", now);
+            String runId = run.getId().value();
+            when(runPort.findById(runId)).thenReturn(Optional.of(run));
+
+            RunJob job = RunJob.orchestrate(runId, windowId, List.of(repoId), List.of(), true, false, "tester", now);
+
+            assertThatThrownBy(() -> service.resume(job, () -> false))
+                    .isInstanceOf(io.releasehub.common.exception.BusinessException.class);
+            verify(windowIterationPort, never()).listByWindow(any());
+            verify(runPort, never()).saveItem(any(), any());
+        }
+
+        @Test
+        @DisplayName("提交编排时同步做冲突预检，存在冲突则直接抛出")
+        void shouldRejectOpenOrchestrateWhenConflictsExist() {
+            ReleaseWindow rw = ReleaseWindow.rehydrate(
+                    ReleaseWindowId.of(windowId), windowKey, "Release 1.0", "",
+                    now, "G001", ReleaseWindowStatus.PUBLISHED, now, now, false, null);
+            when(releaseWindowPort.findById(ReleaseWindowId.of(windowId))).thenReturn(Optional.of(rw));
+            var conflictReport = io.releasehub.domain.conflict.ConflictReport.of(windowId,
+                    List.of(io.releasehub.domain.conflict.ConflictItem.branchExists(repoId, "Test", iterationKey, featureBranch)));
+            when(conflictDetectionAppService.getLatestReport(windowId)).thenReturn(Optional.of(conflictReport));
+
+            assertThatThrownBy(() -> service.openOrchestrate(windowId, "tester"))
+                    .isInstanceOf(io.releasehub.common.exception.BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("作业已取消（租约丢失）时不结束运行")
+        void shouldNotFinishRunWhenCancelled() {
+            ReleaseWindow rw = ReleaseWindow.rehydrate(
+                    ReleaseWindowId.of(windowId), windowKey, "Release 1.0", "",
+                    now, "G001", ReleaseWindowStatus.PUBLISHED, now, now, false, null);
+            when(releaseWindowPort.findById(ReleaseWindowId.of(windowId))).thenReturn(Optional.of(rw));
+            when(conflictDetectionAppService.getLatestReport(windowId))
+                    .thenReturn(Optional.of(io.releasehub.domain.conflict.ConflictReport.empty(windowId)));
+            when(windowIterationPort.listByWindow(ReleaseWindowId.of(windowId))).thenReturn(List.of());
+            Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "tester", now);
+            String runId = run.getId().value();
+            when(runPort.findById(runId)).thenReturn(Optional.of(run));
+
+            RunJob job = RunJob.orchestrate(runId, windowId, List.of(repoId), List.of(), true, false, "tester", now);
+
+            assertThatThrownBy(() -> service.resume(job, () -> true))
+                    .isInstanceOf(java.util.concurrent.CancellationException.class);
+            assertThat(run.isFinished()).isFalse();
+            verify(runPort, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("运行已结束时不再执行")
+        void shouldSkipFinishedRun() {
+            Run finished = Run.start(RunType.WINDOW_ORCHESTRATION, "tester", now);
+            finished.finish(now);
+            String runId = finished.getId().value();
+            when(runPort.findById(runId)).thenReturn(Optional.of(finished));
+
+            Run result = service.resume(RunJob.orchestrate(runId, windowId, List.of(repoId), List.of(), true, false, "tester", now), () -> false);
+
+            assertThat(result).isSameAs(finished);
+            verify(runPort, never()).save(any(Run.class));
+            verify(releaseWindowPort, never()).findById(any());
+        }
     }
 }
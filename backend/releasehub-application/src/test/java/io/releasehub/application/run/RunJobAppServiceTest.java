@@ -0,0 +1,217 @@
+package io.releasehub.application.run;
+
+import io.releasehub.common.exception.BusinessException;
+import io.releasehub.common.exception.ErrorCode;
+import io.releasehub.common.exception.NotFoundException;
+import io.releasehub.domain.run.Run;
+import io.releasehub.domain.run.RunStatus;
+import io.releasehub.domain.run.RunType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RunJobAppService 异步运行测试")
+class RunJobAppServiceTest {
+
+    @Mock private RunAppService runAppService;
+    @Mock private RunJobPort runJobPort;
+    @Mock private RunPort runPort;
+
+    private final Instant now = Instant.parse("2026-05-11T10:00:00Z");
+    private final List<Runnable> queued = new ArrayList<>();
+    private RunJobAppService service;
+
+    @BeforeEach
+    void setUp() {
+        TaskExecutor executor = queued::add;
+        service = new RunJobAppService(runAppService, runJobPort, runPort, executor, Clock.fixed(now, ZoneOffset.UTC), 60);
+    }
+
+    @Test
+    @DisplayName("提交后立即返回 runId，运行头与作业先于执行落库")
+    void shouldPersistRunningRunBeforeDispatch() {
+        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "tester", now);
+        when(runAppService.openOrchestrate("window-1", "tester")).thenReturn(run);
+        when(runJobPort.claim(eq(run.getId().value()), any(), eq(now), eq(now.plusSeconds(60)))).thenReturn(true);
+
+        String runId = service.submitOrchestrate("window-1", List.of("repo-1"), List.of(), true, true, "tester");
+
+        assertThat(runId).isEqualTo(run.getId().value());
+        assertThat(queued).hasSize(1);
+        verify(runPort).save(run);
+        ArgumentCaptor<RunJob> captor = ArgumentCaptor.forClass(RunJob.class);
+        verify(runJobPort).save(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(RunJobType.ORCHESTRATE);
+        assertThat(captor.getValue().status()).isEqualTo(RunJobStatus.RUNNING);
+        assertThat(captor.getValue().repoIds()).containsExactly("repo-1");
+        assertThat(captor.getValue().parallel()).isTrue();
+        verify(runAppService, never()).resume(any(), any());
+
+        queued.get(0).run();
+
+        InOrder order = inOrder(runAppService, runJobPort);
+        order.verify(runJobPort).claim(eq(runId), any(), eq(now), eq(now.plusSeconds(60)));
+        order.verify(runAppService).resume(eq(captor.getValue()), any());
+        order.verify(runJobPort).updateStatus(runId, RunJobStatus.COMPLETED, null, now);
+    }
+
+    @Test
+    @DisplayName("执行失败时中止运行（FAILED）并标记作业失败")
+    void shouldFinishRunAndMarkJobFailedOnError() {
+        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "tester", now);
+        String runId = run.getId().value();
+        RunJob job = RunJob.orchestrate(runId, "window-1", List.of("repo-1"), List.of(), true, false, "tester", now);
+        when(runAppService.resume(eq(job), any())).thenThrow(new IllegalStateException("boom"));
+        when(runPort.findById(runId)).thenReturn(Optional.of(run));
+
+        service.execute(job);
+
+        assertThat(run.getFinishedAt()).isEqualTo(now);
+        assertThat(run.getStatus()).isEqualTo(RunStatus.FAILED);
+        verify(runPort).save(run);
+        verify(runJobPort).updateStatus(runId, RunJobStatus.FAILED, "boom", now);
+    }
+
+    @Test
+    @DisplayName("执行器饱和时拒绝提交并返回 RUN_005")
+    void shouldRejectWhenExecutorSaturated() {
+        service = new RunJobAppService(runAppService, runJobPort, runPort,
+                task -> { throw new TaskRejectedException("full"); }, Clock.fixed(now, ZoneOffset.UTC), 60);
+        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "tester", now);
+        String runId = run.getId().value();
+        when(runAppService.openRetry("source-run", "tester")).thenReturn(run);
+        when(runJobPort.claim(eq(runId), any(), eq(now), any())).thenReturn(true);
+        when(runPort.findById(runId)).thenReturn(Optional.of(run));
+
+        assertThatThrownBy(() -> service.submitRetry("source-run", List.of("item-1"), "tester"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RUN_EXECUTOR_BUSY);
+        verify(runJobPort).updateStatus(eq(runId), eq(RunJobStatus.FAILED), any(), eq(now));
+        assertThat(run.getFinishedAt()).isNotNull();
+        assertThat(run.getStatus()).isEqualTo(RunStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("编排存在冲突时提交直接失败，不创建运行与作业")
+    void shouldRejectSubmitWhenPrecheckFails() {
+        when(runAppService.openOrchestrate("window-1", "tester"))
+                .thenThrow(BusinessException.conflictDetected("conflicts"));
+
+        assertThatThrownBy(() -> service.submitOrchestrate("window-1", List.of(), List.of(), true, false, "tester"))
+                .isInstanceOf(BusinessException.class);
+        verify(runPort, never()).save(any());
+        verify(runJobPort, never()).save(any());
+        assertThat(queued).isEmpty();
+    }
+
+    @Test
+    @DisplayName("查询作业状态时返回失败原因，作业不存在时抛出 NotFound")
+    void shouldExposeJobStatus() {
+        RunJob failed = new RunJob("run-1", RunJobType.ORCHESTRATE, RunJobStatus.FAILED, "window-1", null,
+                List.of(), List.of(), List.of(), true, false, "tester", "conflicts", now, now);
+        when(runJobPort.findById("run-1")).thenReturn(Optional.of(failed));
+        when(runJobPort.findById("missing")).thenReturn(Optional.empty());
+
+        assertThat(service.getJob("run-1").errorMessage()).isEqualTo("conflicts");
+        assertThatThrownBy(() -> service.getJob("missing")).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("启动时认领并重新派发 RUNNING 作业，且只派发一次")
+    void shouldResumeRunningJobsOnce() {
+        RunJob job = RunJob.retry("run-1", "source-run", List.of("item-1"), "tester", now);
+        when(runJobPort.findByStatus(RunJobStatus.RUNNING)).thenReturn(List.of(job));
+        when(runJobPort.claim(eq("run-1"), any(), eq(now), eq(now.plusSeconds(60)))).thenReturn(true);
+
+        service.resumeInterruptedJobs();
+        service.resumeInterruptedJobs();
+        service.shutdown();
+
+        assertThat(queued).hasSize(1);
+        queued.get(0).run();
+        verify(runAppService).resume(eq(job), any());
+        verify(runJobPort).updateStatus(eq("run-1"), eq(RunJobStatus.COMPLETED), isNull(), eq(now));
+    }
+
+    @Test
+    @DisplayName("作业租约由其他实例持有时不派发")
+    void shouldSkipJobsClaimedByAnotherInstance() {
+        RunJob job = RunJob.retry("run-1", "source-run", List.of("item-1"), "tester", now);
+        when(runJobPort.findByStatus(RunJobStatus.RUNNING)).thenReturn(List.of(job));
+        when(runJobPort.claim(eq("run-1"), any(), eq(now), any())).thenReturn(false);
+
+        service.reclaimExpiredJobs();
+
+        assertThat(queued).isEmpty();
+        verify(runAppService, never()).resume(any(), any());
+    }
+
+    @Test
+    @DisplayName("本实例执行中的作业定期续租，且不会被重复认领")
+    void shouldRenewLeaseOfExecutingJobsWithoutReclaimingThem() {
+        RunJob job = RunJob.retry("run-1", "source-run", List.of("item-1"), "tester", now);
+        when(runJobPort.findByStatus(RunJobStatus.RUNNING)).thenReturn(List.of(job));
+        when(runJobPort.claim(eq("run-1"), any(), eq(now), any())).thenReturn(true);
+        service.reclaimExpiredJobs();
+
+        service.reclaimExpiredJobs();
+        service.renewLeases();
+
+        assertThat(queued).hasSize(1);
+        verify(runJobPort).claim(eq("run-1"), any(), eq(now), any());
+        verify(runJobPort).renewLease(eq("run-1"), any(), eq(now.plusSeconds(60)));
+
+        queued.get(0).run();
+        service.renewLeases();
+        verify(runJobPort).renewLease(eq("run-1"), any(), any());
+    }
+
+    @Test
+    @DisplayName("续租失败时标记取消，本地执行停止且不改写运行与作业状态")
+    void shouldStopLocalExecutionWhenLeaseIsLost() {
+        RunJob job = RunJob.retry("run-1", "source-run", List.of("item-1"), "tester", now);
+        when(runJobPort.findByStatus(RunJobStatus.RUNNING)).thenReturn(List.of(job));
+        when(runJobPort.claim(eq("run-1"), any(), eq(now), any())).thenReturn(true);
+        when(runJobPort.renewLease(eq("run-1"), any(), any())).thenReturn(false);
+        when(runAppService.resume(eq(job), any())).thenAnswer(invocation -> {
+            BooleanSupplier cancelled = invocation.getArgument(1);
+            assertThat(cancelled.getAsBoolean()).isTrue();
+            throw new CancellationException("lease lost");
+        });
+        service.reclaimExpiredJobs();
+
+        service.renewLeases();
+        queued.get(0).run();
+
+        verify(runJobPort, never()).updateStatus(any(), any(), any(), any());
+        verify(runPort, never()).save(any());
+    }
+}
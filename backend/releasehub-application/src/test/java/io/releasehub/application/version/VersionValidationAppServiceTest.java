@@ -2,6 +2,7 @@ package io.releasehub.application.version;
 
 import io.releasehub.application.branchrule.BranchRuleTestResult;
 import io.releasehub.application.branchrule.BranchRuleUseCase;
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.application.releasewindow.ReleaseWindowPort;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.branchrule.BranchRule;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -161,6 +163,21 @@ class VersionValidationAppServiceTest {
             List<ReleaseWindow> list = findAll();
             return new PageResult<>(list, list.size());
         }
+
+        @Override
+        public long countByStatusIn(Collection<ReleaseWindowStatus> statuses) {
+            return windows.values().stream().filter(window -> statuses.contains(window.getStatus())).count();
+        }
+
+        @Override
+        public boolean existsByGroupCode(String groupCode) {
+            return windows.values().stream().anyMatch(window -> groupCode.equals(window.getGroupCode()));
+        }
+
+        @Override
+        public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, GroupScope groupScope, int page, int size) {
+            return findPaged(name, status, page, size);
+        }
     }
 
     private static class InMemoryBranchRuleUseCase implements BranchRuleUseCase {
@@ -66,13 +66,16 @@ class AttachAppServiceTest {
     private RunPort runPort;
 
     private AttachAppService attachAppService;
+    private WindowContextStubs context;
 
     @BeforeEach
     void setUp() {
         attachAppService = new AttachAppService(
                 releaseWindowPort, iterationPort, windowIterationPort,
-                iterationRepoPort, gitBranchAdapterFactory, codeRepositoryPort, branchRuleUseCase, runPort
+                gitBranchAdapterFactory, codeRepositoryPort, branchRuleUseCase, runPort,
+                new WindowContextLoader(iterationPort, codeRepositoryPort, iterationRepoPort)
         );
+        context = WindowContextStubs.stub(iterationPort, codeRepositoryPort, iterationRepoPort);
         lenient().when(branchRuleUseCase.isCompliant(anyString(), any(), any())).thenReturn(true);
     }
 
@@ -92,13 +95,11 @@ class AttachAppServiceTest {
                 0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
 
         when(releaseWindowPort.findById(ReleaseWindowId.of("window-1"))).thenReturn(Optional.of(window));
-        when(iterationPort.findByKey(IterationKey.of("ITER-1"))).thenReturn(Optional.of(iteration));
+        context.iteration(iteration);
         when(windowIterationPort.attach(any(), any(), any())).thenReturn(
                 WindowIteration.attach(ReleaseWindowId.of("window-1"), IterationKey.of("ITER-1"), now, now));
-        when(codeRepositoryPort.findById(RepoId.of("repo-1"))).thenReturn(Optional.of(repo));
-        when(iterationRepoPort.getVersionInfo("ITER-1", "repo-1")).thenReturn(Optional.of(
-                IterationRepoVersionInfo.builder().repoId("repo-1").featureBranch("feature/ITER-1").build()
-        ));
+        context.repo(repo);
+        context.versionInfo("ITER-1", "repo-1", IterationRepoVersionInfo.builder().repoId("repo-1").featureBranch("feature/ITER-1").build());
         when(branchRuleUseCase.isCompliant("release/RW-1", "G001", "repo-1")).thenReturn(true);
         when(gitBranchAdapterFactory.getAdapter(GitProvider.GITLAB)).thenReturn(gitBranchPort);
         when(gitBranchPort.createBranch(repo.getCloneUrl(), repo.getGitAccessToken(), "release/RW-1", "master")).thenReturn(true);
@@ -205,7 +206,7 @@ class AttachAppServiceTest {
                 Set.of(RepoId.of("repo-1")), IterationStatus.ACTIVE, now, now);
 
         when(releaseWindowPort.findById(ReleaseWindowId.of("window-1"))).thenReturn(Optional.of(window));
-        when(iterationPort.findByKey(IterationKey.of("ITER-1"))).thenReturn(Optional.of(iteration));
+        context.iteration(iteration);
 
         assertThatThrownBy(() -> attachAppService.attach("window-1", List.of("ITER-1")))
                 .isInstanceOf(BusinessException.class)
@@ -0,0 +1,109 @@
+package io.releasehub.application.window;
+
+import io.releasehub.application.iteration.IterationPort;
+import io.releasehub.application.iteration.IterationRepoKey;
+import io.releasehub.application.iteration.IterationRepoPort;
+import io.releasehub.application.iteration.IterationRepoVersionInfo;
+import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.domain.iteration.Iteration;
+import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.iteration.IterationStatus;
+import io.releasehub.domain.repo.CodeRepository;
+import io.releasehub.domain.repo.GitProvider;
+import io.releasehub.domain.repo.RepoId;
+import io.releasehub.domain.repo.RepoType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WindowContextLoader 测试")
+class WindowContextLoaderTest {
+
+    @Mock
+    private IterationPort iterationPort;
+    @Mock
+    private CodeRepositoryPort codeRepositoryPort;
+    @Mock
+    private IterationRepoPort iterationRepoPort;
+
+    private WindowContextLoader loader;
+
+    private final Instant now = Instant.parse("2026-06-01T08:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        loader = new WindowContextLoader(iterationPort, codeRepositoryPort, iterationRepoPort);
+    }
+
+    @Test
+    @DisplayName("迭代、仓库、版本信息各一次批量查询")
+    void shouldLoadEverythingWithOneBatchQueryPerKind() {
+        Iteration it1 = iteration("ITER-1", "repo-1", "repo-2");
+        Iteration it2 = iteration("ITER-2", "repo-2", "repo-3");
+        when(iterationPort.findAllByKeys(anyCollection())).thenReturn(List.of(it1, it2));
+        when(codeRepositoryPort.findAllByIds(anyCollection())).thenReturn(List.of(repo("repo-1"), repo("repo-2")));
+        IterationRepoKey key = new IterationRepoKey("ITER-2", "repo-2");
+        when(iterationRepoPort.getVersionInfos(anyCollection())).thenReturn(Map.of(key,
+                IterationRepoVersionInfo.builder().iterationKey("ITER-2").repoId("repo-2").featureBranch("feature/x").build()));
+
+        WindowContext context = loader.load(List.of(IterationKey.of("ITER-1"), IterationKey.of("ITER-2")));
+
+        assertThat(context.iteration(IterationKey.of("ITER-1"))).contains(it1);
+        assertThat(context.repo(RepoId.of("repo-2"))).isPresent();
+        assertThat(context.repo(RepoId.of("repo-3"))).isEmpty();
+        assertThat(context.versionInfo("ITER-2", "repo-2")).hasValueSatisfying(
+                info -> assertThat(info.getFeatureBranch()).isEqualTo("feature/x"));
+        assertThat(context.versionInfo("ITER-1", "repo-2")).isEmpty();
+        verify(codeRepositoryPort, times(1)).findAllByIds(argThat(ids -> ids.size() == 3));
+        verify(iterationRepoPort, times(1)).getVersionInfos(argThat(keys -> keys.size() == 4));
+        verify(iterationPort, never()).findByKey(any());
+        verify(codeRepositoryPort, never()).findById(any());
+        verify(iterationRepoPort, never()).getVersionInfo(any(), any());
+    }
+
+    @Test
+    @DisplayName("指定仓库时只加载这些仓库的关联")
+    void shouldRestrictPairsToRequestedRepos() {
+        when(iterationPort.findAllByKeys(anyCollection())).thenReturn(List.of(iteration("ITER-1", "repo-1", "repo-2")));
+        when(codeRepositoryPort.findAllByIds(anyCollection())).thenReturn(List.of(repo("repo-1")));
+        when(iterationRepoPort.getVersionInfos(anyCollection())).thenReturn(Map.of());
+
+        loader.load(List.of(IterationKey.of("ITER-1")), List.of(RepoId.of("repo-1")));
+
+        verify(codeRepositoryPort).findAllByIds(argThat(ids -> ids.equals(Set.of(RepoId.of("repo-1")))));
+        verify(iterationRepoPort).getVersionInfos(argThat(keys -> keys.size() == 1
+                && keys.contains(new IterationRepoKey("ITER-1", "repo-1"))));
+    }
+
+    private Iteration iteration(String key, String... repoIds) {
+        return Iteration.rehydrate(IterationKey.of(key), key, "", null, "G001",
+                Set.of(Arrays.stream(repoIds).map(RepoId::of).toArray(RepoId[]::new)),
+                IterationStatus.ACTIVE, now, now);
+    }
+
+    private CodeRepository repo(String id) {
+        return CodeRepository.rehydrate(
+                RepoId.of(id), "Repo " + id, "https://gitlab.com/test/" + id + ".git",
+                "main", "G001", RepoType.SERVICE, GitProvider.GITLAB, "token", false,
+                0, 0, 0, 0, 0, 0, 0, null, now, now, 0L);
+    }
+}
@@ -0,0 +1,74 @@
+package io.releasehub.application.window;
+
+import io.releasehub.application.iteration.IterationPort;
+import io.releasehub.application.iteration.IterationRepoKey;
+import io.releasehub.application.iteration.IterationRepoPort;
+import io.releasehub.application.iteration.IterationRepoVersionInfo;
+import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.domain.iteration.Iteration;
+import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.repo.CodeRepository;
+import io.releasehub.domain.repo.RepoId;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * 测试用：把 {@link WindowContextLoader} 依赖的批量查询桩接到内存数据上
+ */
+public final class WindowContextStubs {
+    private final Map<IterationKey, Iteration> iterations = new HashMap<>();
+    private final Map<RepoId, CodeRepository> repos = new HashMap<>();
+    private final Map<IterationRepoKey, IterationRepoVersionInfo> versionInfos = new HashMap<>();
+
+    private WindowContextStubs() {
+    }
+
+    public static WindowContextStubs stub(IterationPort iterationPort,
+                                          CodeRepositoryPort codeRepositoryPort,
+                                          IterationRepoPort iterationRepoPort) {
+        WindowContextStubs stubs = new WindowContextStubs();
+        lenient().when(iterationPort.findAllByKeys(any()))
+                .thenAnswer(inv -> lookup(inv.getArgument(0), stubs.iterations));
+        lenient().when(codeRepositoryPort.findAllByIds(any()))
+                .thenAnswer(inv -> lookup(inv.getArgument(0), stubs.repos));
+        lenient().when(iterationRepoPort.getVersionInfos(any())).thenAnswer(inv -> {
+            Collection<IterationRepoKey> keys = inv.getArgument(0);
+            Map<IterationRepoKey, IterationRepoVersionInfo> result = new HashMap<>();
+            for (IterationRepoKey key : keys) {
+                IterationRepoVersionInfo info = stubs.versionInfos.get(key);
+                if (info != null) {
+                    result.put(key, info);
+                }
+            }
+            return result;
+        });
+        return stubs;
+    }
+
+    public WindowContextStubs iteration(Iteration iteration) {
+        iterations.put(iteration.getId(), iteration);
+        return this;
+    }
+
+    public WindowContextStubs repo(CodeRepository repo) {
+        repos.put(repo.getId(), repo);
+        return this;
+    }
+
+    public WindowContextStubs versionInfo(String iterationKey, String repoId, IterationRepoVersionInfo info) {
+        info.setIterationKey(iterationKey);
+        versionInfos.put(new IterationRepoKey(iterationKey, repoId), info);
+        return this;
+    }
+
+    private static <K, V> List<V> lookup(Collection<K> keys, Map<K, V> store) {
+        return keys.stream().map(store::get).filter(Objects::nonNull).toList();
+    }
+}
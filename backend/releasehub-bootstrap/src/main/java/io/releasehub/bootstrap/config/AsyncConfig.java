@@ -1,7 +1,10 @@
 package io.releasehub.bootstrap.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * 异步任务配置
@@ -9,6 +12,42 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-    // 使用 Spring 默认的 SimpleAsyncTaskExecutor
-    // 可以根据需要自定义线程池
+
+    /**
+     * 运行作业执行器：有界线程池 + 有界队列，队列满时拒绝提交，由调用方返回繁忙错误。
+     * 关闭时等待进行中的作业结束，未结束的作业在下次启动时恢复执行。
+     */
+    @Bean(name = "runTaskExecutor")
+    public ThreadPoolTaskExecutor runTaskExecutor(
+            @Value("${releasehub.run.executor.core-size:2}") int coreSize,
+            @Value("${releasehub.run.executor.max-size:4}") int maxSize,
+            @Value("${releasehub.run.executor.queue-capacity:50}") int queueCapacity,
+            @Value("${releasehub.run.executor.await-termination-seconds:30}") int awaitTerminationSeconds) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("run-job-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 流式冲突扫描执行器：同时进行的流式扫描数有上限，与运行作业线程池隔离，避免长时间扫描占用作业线程。
+     * 客户端断开或超时时中断对应任务，关闭时不等待进行中的扫描。
+     */
+    @Bean(name = "conflictStreamExecutor")
+    public ThreadPoolTaskExecutor conflictStreamExecutor(
+            @Value("${releasehub.conflict.stream.max-concurrent:4}") int maxConcurrent,
+            @Value("${releasehub.conflict.stream.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("conflict-stream-");
+        executor.setCorePoolSize(Math.max(1, maxConcurrent));
+        executor.setMaxPoolSize(Math.max(1, maxConcurrent));
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
 }
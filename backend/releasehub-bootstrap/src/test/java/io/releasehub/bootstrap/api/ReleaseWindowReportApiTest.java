@@ -0,0 +1,150 @@
+package io.releasehub.bootstrap.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.releasehub.application.releasewindow.ReleaseWindowPort;
+import io.releasehub.application.run.RunPort;
+import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.releasewindow.ReleaseWindow;
+import io.releasehub.domain.repo.RepoId;
+import io.releasehub.domain.run.ActionType;
+import io.releasehub.domain.run.Run;
+import io.releasehub.domain.run.RunItem;
+import io.releasehub.domain.run.RunItemResult;
+import io.releasehub.domain.run.RunStep;
+import io.releasehub.domain.run.RunType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReleaseWindowReportApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RunPort runPort;
+
+    @Autowired
+    private ReleaseWindowPort releaseWindowPort;
+
+    private String token;
+    private String windowId;
+    private String windowKey;
+    private String runId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = loginAndGetToken();
+        Instant now = Instant.now();
+        windowKey = "WK-REPORT-" + System.nanoTime();
+        ReleaseWindow window = ReleaseWindow.createDraft(windowKey, "Report Window", null, now, "G-REPORT", now);
+        releaseWindowPort.save(window);
+        windowId = window.getId().value();
+
+        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "reporter", now);
+        run.addItem(item(windowKey, "repo-a", 1, RunItemResult.SUCCESS, now));
+        run.addItem(item(windowKey, "repo-b", 2, RunItemResult.MERGE_BLOCKED, now));
+        run.addItem(item("WK-OTHER", "repo-c", 3, RunItemResult.SUCCESS, now));
+        run.finish(now.plusSeconds(5));
+        runPort.save(run);
+        runId = run.getId().value();
+    }
+
+    private String loginAndGetToken() throws Exception {
+        String body = "{\"username\":\"admin\",\"password\":\"admin\"}";
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data").get("token").asText();
+    }
+
+    private RunItem item(String itemWindowKey, String repoId, int order, RunItemResult result, Instant now) {
+        RunItem item = RunItem.create(itemWindowKey, RepoId.of(repoId), IterationKey.of("IT-REPORT"), order, now);
+        item.addStep(new RunStep(ActionType.MERGE_TO_MASTER, result, now, now.plusSeconds(1), repoId + ", done"));
+        item.finishWith(result, now.plusSeconds(1));
+        return item;
+    }
+
+    private MvcResult download(String path, String acceptEncoding) throws Exception {
+        var requestBuilder = get(path).header("Authorization", "Bearer " + token);
+        if (acceptEncoding != null) {
+            requestBuilder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MvcResult started = mockMvc.perform(requestBuilder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn();
+    }
+
+    @Test
+    void should_stream_window_csv_with_only_window_items() throws Exception {
+        String csv = download("/api/v1/release-windows/" + windowId + "/report.csv", null)
+                .getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = csv.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("windowId,windowKey,runId,runType,runStatus,repo,iterationKey,finalResult,stepType,stepResult,stepStart,stepEnd,message");
+        assertThat(lines[1]).startsWith(windowId + "," + windowKey + "," + runId + ",WINDOW_ORCHESTRATION,FAILED,repo-a,IT-REPORT,SUCCESS,MERGE_TO_MASTER,SUCCESS,");
+        assertThat(lines[1]).endsWith(",\"repo-a, done\"");
+        assertThat(csv).doesNotContain("repo-c");
+    }
+
+    @Test
+    void should_gzip_window_markdown_when_accepted() throws Exception {
+        MvcResult result = download("/api/v1/release-windows/" + windowId + "/report.md", "gzip, deflate");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        String markdown;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            markdown = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(markdown)
+                .contains("# Release Window Report: " + windowKey)
+                .contains("| Run Count | 1 |", "| Item Count | 2 |", "| Step Count | 2 |")
+                .contains("| MERGE_BLOCKED | 1 |")
+                .contains("### " + runId)
+                .doesNotContain("repo-c");
+    }
+
+    @Test
+    void should_stream_run_csv_and_return_404_for_unknown_run() throws Exception {
+        String csv = download("/api/v1/runs/" + runId + "/export.csv", null)
+                .getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csv.split("\n")).hasSize(4);
+
+        mockMvc.perform(get("/api/v1/runs/RUN-NOT-EXISTS/export.csv")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isNotFound())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+}
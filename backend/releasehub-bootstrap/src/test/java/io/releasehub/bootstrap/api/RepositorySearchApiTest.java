@@ -0,0 +1,119 @@
+package io.releasehub.bootstrap.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.releasehub.interfaces.api.repo.CreateRepoRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RepositorySearchApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldRankNameMatchesBeforeCloneUrlMatches() throws Exception {
+        String token = loginAndGetToken();
+        String groupCode = createGroupAndGetCode(token);
+        String suffix = Long.toString(System.nanoTime());
+        String keyword = "srch" + suffix;
+        createRepo(token, groupCode, "lib-" + keyword + "-core", "git@gitlab.com:search/a-" + suffix + ".git");
+        createRepo(token, groupCode, "other-" + suffix, "git@gitlab.com:search/" + keyword + ".git");
+        createRepo(token, groupCode, keyword, "git@gitlab.com:search/b-" + suffix + ".git");
+
+        mockMvc.perform(get("/api/v1/repositories/suggest")
+                        .header("Authorization", "Bearer " + token)
+                        .param("keyword", keyword.toUpperCase()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(3)))
+                .andExpect(jsonPath("$.data[0].name").value(keyword))
+                .andExpect(jsonPath("$.data[1].name").value("lib-" + keyword + "-core"))
+                .andExpect(jsonPath("$.data[2].name").value("other-" + suffix))
+                .andExpect(jsonPath("$.data[0].gitAccessTokenMasked").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/repositories/suggest")
+                        .header("Authorization", "Bearer " + token)
+                        .param("keyword", keyword)
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)));
+
+        mockMvc.perform(get("/api/v1/repositories/paged")
+                        .header("Authorization", "Bearer " + token)
+                        .param("keyword", keyword))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.total").value(3))
+                .andExpect(jsonPath("$.data[0].name").value(keyword));
+    }
+
+    @Test
+    void shouldTreatLikeWildcardsInKeywordLiterally() throws Exception {
+        String token = loginAndGetToken();
+        String groupCode = createGroupAndGetCode(token);
+        String suffix = Long.toString(System.nanoTime());
+        createRepo(token, groupCode, "order_" + suffix, "git@gitlab.com:wild/o1-" + suffix + ".git");
+        createRepo(token, groupCode, "orderx" + suffix, "git@gitlab.com:wild/o2-" + suffix + ".git");
+
+        mockMvc.perform(get("/api/v1/repositories")
+                        .header("Authorization", "Bearer " + token)
+                        .param("keyword", "order_" + suffix))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name").value("order_" + suffix));
+    }
+
+    private void createRepo(String token, String groupCode, String name, String cloneUrl) throws Exception {
+        CreateRepoRequest request = new CreateRepoRequest();
+        request.setName(name);
+        request.setCloneUrl(cloneUrl);
+        request.setDefaultBranch("main");
+        request.setMonoRepo(false);
+        request.setGroupCode(groupCode);
+        request.setInitialVersion("1.0.0");
+        mockMvc.perform(post("/api/v1/repositories")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    private String loginAndGetToken() throws Exception {
+        String body = "{\"username\":\"admin\",\"password\":\"admin\"}";
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode node = objectMapper.readTree(result.getResponse().getContentAsString());
+        return node.get("data").get("token").asText();
+    }
+
+    private String createGroupAndGetCode(String token) throws Exception {
+        String code = "G" + System.nanoTime();
+        String req = "{\"name\":\"Search-Group\",\"code\":\"" + code + "\",\"parentCode\":null}";
+        mockMvc.perform(post("/api/v1/groups")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(req))
+                .andExpect(status().isOk());
+        return code;
+    }
+}
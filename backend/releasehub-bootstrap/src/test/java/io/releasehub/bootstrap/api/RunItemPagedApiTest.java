@@ -0,0 +1,147 @@
+package io.releasehub.bootstrap.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.releasehub.application.run.RunPort;
+import io.releasehub.domain.iteration.IterationKey;
+import io.releasehub.domain.repo.RepoId;
+import io.releasehub.domain.run.ActionType;
+import io.releasehub.domain.run.Run;
+import io.releasehub.domain.run.RunItem;
+import io.releasehub.domain.run.RunItemResult;
+import io.releasehub.domain.run.RunStep;
+import io.releasehub.domain.run.RunType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RunItemPagedApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RunPort runPort;
+
+    private String token;
+    private String runId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = loginAndGetToken();
+        runId = createRunWithItems();
+    }
+
+    private String loginAndGetToken() throws Exception {
+        String body = "{\"username\":\"admin\",\"password\":\"admin\"}";
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data").get("token").asText();
+    }
+
+    @Test
+    void should_page_run_items_in_planned_order() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/runs/" + runId + "/items")
+                .header("Authorization", "Bearer " + token)
+                .param("page", "2")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andReturn();
+
+        JsonNode response = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(response.get("page").get("total").asLong()).isEqualTo(3);
+        assertThat(response.get("data").size()).isEqualTo(1);
+        assertThat(response.get("data").get(0).get("repoId").asText()).isEqualTo("repo-c");
+        assertThat(response.get("data").get(0).get("steps").size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_filter_run_items_by_result_action_type_and_repo() throws Exception {
+        assertThat(itemRepos("result", "FAILED")).containsExactly("repo-b");
+        assertThat(itemRepos("actionType", "CREATE_TAG")).containsExactly("repo-a", "repo-c");
+        assertThat(itemRepos("repoId", "repo-c")).containsExactly("repo-c");
+    }
+
+    @Test
+    void should_stream_run_items_as_ndjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/runs/" + runId + "/items.ndjson")
+                .header("Authorization", "Bearer " + token)
+                .param("result", "SUCCESS"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("repoId").asText()).isEqualTo("repo-a");
+        assertThat(objectMapper.readTree(lines[1]).get("repoId").asText()).isEqualTo("repo-c");
+    }
+
+    @Test
+    void should_return_404_for_unknown_run() throws Exception {
+        mockMvc.perform(get("/api/v1/runs/RUN-NOT-EXISTS/items")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isNotFound());
+    }
+
+    private List<String> itemRepos(String param, String value) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/runs/" + runId + "/items")
+                .header("Authorization", "Bearer " + token)
+                .param(param, value))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+        List<String> repos = new ArrayList<>();
+        data.forEach(item -> repos.add(item.get("repoId").asText()));
+        return repos;
+    }
+
+    private String createRunWithItems() {
+        Instant now = Instant.now();
+        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "items-tester", now);
+        run.addItem(item("repo-a", 1, RunItemResult.SUCCESS, ActionType.CREATE_TAG, now));
+        run.addItem(item("repo-b", 2, RunItemResult.FAILED, ActionType.MERGE_TO_MASTER, now));
+        run.addItem(item("repo-c", 3, RunItemResult.SUCCESS, ActionType.CREATE_TAG, now));
+        run.finish(now.plusSeconds(5));
+        runPort.save(run);
+        return run.getId().value();
+    }
+
+    private RunItem item(String repoId, int order, RunItemResult result, ActionType actionType, Instant now) {
+        RunItem item = RunItem.create("WK-ITEMS", RepoId.of(repoId), IterationKey.of("IT-" + System.nanoTime()), order, now);
+        item.addStep(new RunStep(actionType, result, now, now.plusSeconds(1), repoId + " " + actionType));
+        item.finishWith(result, now.plusSeconds(1));
+        return item;
+    }
+}
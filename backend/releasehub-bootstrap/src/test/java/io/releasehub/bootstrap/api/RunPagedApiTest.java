@@ -298,7 +298,15 @@ class RunPagedApiTest {
 
         JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
         assertThat(data.size()).as("Should only return runs for the selected release window group").isEqualTo(1);
-        assertThat(data.get(0).get("items").get(0).get("windowKey").asText()).isEqualTo(windowKey);
+        assertThat(data.get(0).get("items")).as("List endpoint should return run summaries only").isNull();
+        assertThat(data.get(0).get("itemCount").asInt()).isEqualTo(1);
+
+        MvcResult detail = mockMvc.perform(get("/api/v1/runs/" + data.get(0).get("id").asText())
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode items = objectMapper.readTree(detail.getResponse().getContentAsString()).get("data").get("items");
+        assertThat(items.get(0).get("windowKey").asText()).isEqualTo(windowKey);
     }
 
     @Test
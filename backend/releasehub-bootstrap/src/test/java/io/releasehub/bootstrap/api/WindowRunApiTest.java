@@ -12,6 +12,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -134,16 +135,18 @@ class WindowRunApiTest {
         JsonNode reportJson = objectMapper.readTree(windowReport.getResponse().getContentAsString());
         assertThat(reportJson.get("runs").get(0).get("items")).hasSize(2);
 
-        MvcResult windowReportCsv = mockMvc.perform(get("/api/v1/release-windows/" + windowId + "/report.csv")
+        MvcResult windowReportCsv = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/release-windows/" + windowId + "/report.csv")
                 .header("Authorization", "Bearer " + token))
+            .andReturn()))
             .andExpect(status().isOk())
             .andReturn();
         String csv = windowReportCsv.getResponse().getContentAsString();
         assertThat(csv).contains("windowId,windowKey,runId,runType,runStatus,repo,iterationKey,finalResult,stepType,stepResult,stepStart,stepEnd,message");
         assertThat(csv).contains(windowId, windowKey, runId);
 
-        MvcResult windowReportMarkdown = mockMvc.perform(get("/api/v1/release-windows/" + windowId + "/report.md")
+        MvcResult windowReportMarkdown = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/release-windows/" + windowId + "/report.md")
                 .header("Authorization", "Bearer " + token))
+            .andReturn()))
             .andExpect(status().isOk())
             .andReturn();
         String markdown = windowReportMarkdown.getResponse().getContentAsString();
@@ -73,6 +73,10 @@ public class BusinessException extends BaseException {
         return of(ErrorCode.GROUP_NOT_LEAF, code);
     }
 
+    public static BusinessException groupParentCycle(Object code, Object parentCode) {
+        return of(ErrorCode.GROUP_PARENT_CYCLE, code, parentCode);
+    }
+
     // ========== Iteration ==========
 
     public static BusinessException iterationAttached(Object key) {
@@ -119,6 +123,10 @@ public class BusinessException extends BaseException {
         return of(ErrorCode.RUN_NO_ITEMS_CREATED, iterationCount, windowId);
     }
 
+    public static BusinessException runExecutorBusy(Object runId) {
+        return of(ErrorCode.RUN_EXECUTOR_BUSY, runId);
+    }
+
     // ========== Conflict Detection ==========
 
     public static BusinessException conflictDetected(String detail) {
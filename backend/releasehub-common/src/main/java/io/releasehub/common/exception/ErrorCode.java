@@ -70,6 +70,8 @@ public enum ErrorCode {
     GROUP_ID_INVALID("GROUP_012", "error.group.id_invalid", 400),
     GROUP_REFERENCED("GROUP_013", "error.group.referenced", 400),
     GROUP_NOT_LEAF("GROUP_014", "error.group.not_leaf", 400),
+    GROUP_PARENT_CYCLE("GROUP_015", "error.group.parent_cycle", 400),
+    GROUP_CODE_INVALID("GROUP_016", "error.group.code_invalid", 400),
 
     // ========== 迭代 (ITER) ==========
     ITERATION_NOT_FOUND("ITER_001", "error.iter.not_found", 404),
@@ -93,6 +95,7 @@ public enum ErrorCode {
     RUN_ID_INVALID("RUN_002", "error.run.id_invalid", 400),
     RUN_ITEM_ID_INVALID("RUN_003", "error.run.item_id_invalid", 400),
     RUN_NO_ITEMS_CREATED("RUN_004", "error.run.no_items_created", 400),
+    RUN_EXECUTOR_BUSY("RUN_005", "error.run.executor_busy", 503),
     // ========== 窗口迭代关联 (WI) ==========
     WINDOW_ITERATION_ID_INVALID("WI_001", "error.wi.id_invalid", 400),
 
@@ -89,6 +89,10 @@ public class ValidationException extends BaseException {
         return of(ErrorCode.GROUP_CODE_TOO_LONG, maxLength);
     }
 
+    public static ValidationException groupCodeInvalid(String code) {
+        return of(ErrorCode.GROUP_CODE_INVALID, code);
+    }
+
     public static ValidationException groupParentTooLong(int maxLength) {
         return of(ErrorCode.GROUP_PARENT_TOO_LONG, maxLength);
     }
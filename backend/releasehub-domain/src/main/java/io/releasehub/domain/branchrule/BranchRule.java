@@ -2,6 +2,7 @@ package io.releasehub.domain.branchrule;
 
 import io.releasehub.common.exception.ValidationException;
 import io.releasehub.domain.base.BaseEntity;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.Instant;
@@ -22,6 +23,8 @@ public class BranchRule extends BaseEntity<BranchRuleId> {
     private String description;
     private BranchRuleScope scope;
     private boolean enabled;
+    @Getter(AccessLevel.NONE)
+    private Pattern compiledPattern;
 
     private BranchRule(BranchRuleId id, String name, String pattern, BranchRuleType type,
                        String description, BranchRuleScope scope, boolean enabled,
@@ -69,6 +72,7 @@ public class BranchRule extends BaseEntity<BranchRuleId> {
         this.type = type != null ? type : BranchRuleType.TEMPLATE;
         this.description = description;
         this.scope = scope != null ? scope : BranchRuleScope.global();
+        this.compiledPattern = null;
         touch(now);
     }
 
@@ -89,8 +93,20 @@ public class BranchRule extends BaseEntity<BranchRuleId> {
         if (branchName == null || branchName.isBlank()) {
             return false;
         }
-        String regex = type == BranchRuleType.REGEX ? pattern : templateToRegex(pattern);
-        return Pattern.compile(regex).matcher(branchName).matches();
+        return compiledPattern().matcher(branchName).matches();
+    }
+
+    /**
+     * 规则对应的已编译正则，首次使用时编译，pattern 或 type 变更后重新编译
+     */
+    public Pattern compiledPattern() {
+        Pattern compiled = compiledPattern;
+        if (compiled == null) {
+            String regex = type == BranchRuleType.REGEX ? pattern : templateToRegex(pattern);
+            compiled = Pattern.compile(regex);
+            compiledPattern = compiled;
+        }
+        return compiled;
     }
 
     private static void validateName(String name) {
@@ -23,6 +23,10 @@ public class ConflictReport {
         return new ConflictReport(windowId, Instant.now(), conflicts);
     }
 
+    public static ConflictReport rehydrate(String windowId, Instant checkedAt, List<ConflictItem> conflicts) {
+        return new ConflictReport(windowId, checkedAt, conflicts);
+    }
+
     public static ConflictReport empty(String windowId) {
         return new ConflictReport(windowId, Instant.now(), List.of());
     }
@@ -9,6 +9,8 @@ import java.time.Instant;
 
 @Getter
 public class Group extends BaseEntity<GroupId> {
+    private static final char PATH_SEPARATOR = '/';
+
     private String name;
     private final String code;
     private String parentCode;
@@ -47,6 +49,10 @@ public class Group extends BaseEntity<GroupId> {
         if (code.length() > 64) {
             throw ValidationException.groupCodeTooLong(64);
         }
+        // / 是分组路径分隔符，编码中出现会让子树路径前缀匹配串到其他分组
+        if (code.indexOf(PATH_SEPARATOR) >= 0) {
+            throw ValidationException.groupCodeInvalid(code);
+        }
     }
 
     private static void validateParentCode(String parentCode, String selfCode) {
@@ -4,6 +4,7 @@ import io.releasehub.common.exception.ValidationException;
 
 import java.net.URI;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,6 +46,17 @@ public record CloneUrl(String value, String canonicalKey) {
         }
     }
 
+    /**
+     * 解析已存储的 cloneUrl，历史数据不合法时返回空而不是抛出校验异常
+     */
+    public static Optional<CloneUrl> tryParse(String rawUrl) {
+        try {
+            return Optional.of(parse(rawUrl));
+        } catch (ValidationException e) {
+            return Optional.empty();
+        }
+    }
+
     private static String canonicalize(String host, String path) {
         String normalizedHost = host.trim().toLowerCase(Locale.ROOT);
         String normalizedPath = path.trim();
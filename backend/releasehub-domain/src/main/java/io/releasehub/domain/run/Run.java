@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author tongshuanglong
@@ -18,26 +19,35 @@ public class Run extends BaseEntity<RunId> {
     private String operator;
     private Instant startedAt;
     private Instant finishedAt;
+    /**
+     * 运行被中止（作业失败、执行器拒绝等），无论运行项结果如何均视为失败
+     */
+    private boolean aborted;
     private List<RunItem> items = new ArrayList<>();
 
-    private Run(RunId id, RunType runType, String operator, Instant startedAt, Instant finishedAt, List<RunItem> items, Instant createdAt, Instant updatedAt, long version) {
+    private Run(RunId id, RunType runType, String operator, Instant startedAt, Instant finishedAt, boolean aborted, List<RunItem> items, Instant createdAt, Instant updatedAt, long version) {
         super(id, createdAt != null ? createdAt : startedAt, updatedAt != null ? updatedAt : startedAt, version);
         this.runType = runType;
         this.operator = operator;
         this.startedAt = startedAt;
         this.finishedAt = finishedAt;
+        this.aborted = aborted;
         if (items != null) {
             this.items = new ArrayList<>(items);
         }
     }
 
     public static Run rehydrate(RunId id, RunType runType, String operator, Instant startedAt, Instant finishedAt, List<RunItem> items, Instant createdAt, Instant updatedAt, long version) {
-        return new Run(id, runType, operator, startedAt, finishedAt, items, createdAt, updatedAt, version);
+        return rehydrate(id, runType, operator, startedAt, finishedAt, false, items, createdAt, updatedAt, version);
+    }
+
+    public static Run rehydrate(RunId id, RunType runType, String operator, Instant startedAt, Instant finishedAt, boolean aborted, List<RunItem> items, Instant createdAt, Instant updatedAt, long version) {
+        return new Run(id, runType, operator, startedAt, finishedAt, aborted, items, createdAt, updatedAt, version);
     }
 
     public static Run start(RunType runType, String operator, Instant now) {
         RunId id = RunId.generate(runType, now);
-        return new Run(id, runType, operator, now, null, null, now, now, 0);
+        return new Run(id, runType, operator, now, null, false, null, now, now, 0);
     }
 
     public void finish(Instant now) {
@@ -45,6 +55,14 @@ public class Run extends BaseEntity<RunId> {
         touch(now);
     }
 
+    /**
+     * 中止运行：结束运行并标记为失败
+     */
+    public void abort(Instant now) {
+        this.aborted = true;
+        finish(now);
+    }
+
     public List<RunItem> getItems() {
         return List.copyOf(items);
     }
@@ -52,4 +70,39 @@ public class Run extends BaseEntity<RunId> {
     public void addItem(RunItem item) {
         items.add(item);
     }
+
+    /**
+     * 按 ID 写入运行项：已存在则替换，否则追加
+     */
+    public void putItem(RunItem item) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(item.getId())) {
+                items.set(i, item);
+                return;
+            }
+        }
+        items.add(item);
+    }
+
+    public Optional<RunItem> findItem(RunItemId itemId) {
+        return items.stream().filter(i -> i.getId().equals(itemId)).findFirst();
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public RunStatus getStatus() {
+        int successCount = 0;
+        int failedCount = 0;
+        for (RunItem item : items) {
+            RunItemResult result = item.getFinalResult();
+            if (result != null && result.isSuccess()) {
+                successCount++;
+            } else if (result != null && result.isFailure()) {
+                failedCount++;
+            }
+        }
+        return RunStatus.of(isFinished(), aborted, items.size(), successCount, failedCount);
+    }
 }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public class RunItem extends BaseEntity<RunItemId> {
     private final String windowKey;
@@ -97,6 +98,21 @@ public class RunItem extends BaseEntity<RunItemId> {
         steps.add(step);
     }
 
+    /**
+     * 是否已记录指定动作的步骤（恢复执行时用于跳过已完成的步骤）
+     */
+    public boolean hasStep(ActionType actionType) {
+        return findStep(actionType).isPresent();
+    }
+
+    public Optional<RunStep> findStep(ActionType actionType) {
+        return steps.stream().filter(s -> s.actionType() == actionType).findFirst();
+    }
+
+    public boolean isFinished() {
+        return finalResult != null;
+    }
+
     public Map<String, String> getMetadata() {
         return Map.copyOf(metadata);
     }
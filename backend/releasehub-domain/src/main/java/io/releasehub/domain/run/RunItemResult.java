@@ -15,5 +15,19 @@ public enum RunItemResult {
     TAG_CREATED,
     CI_TRIGGERED,
     CI_NOT_CONFIGURED,
-    ITERATION_CLOSED
+    ITERATION_CLOSED;
+
+    /**
+     * 计入运行失败的结果
+     */
+    public boolean isFailure() {
+        return this == FAILED || this == VERSION_UPDATE_FAILED || this == MERGE_BLOCKED;
+    }
+
+    /**
+     * 计入运行成功的结果
+     */
+    public boolean isSuccess() {
+        return this == SUCCESS || this == VERSION_UPDATE_SUCCESS;
+    }
 }
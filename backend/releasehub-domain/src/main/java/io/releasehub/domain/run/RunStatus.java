@@ -0,0 +1,26 @@
+package io.releasehub.domain.run;
+
+/**
+ * 运行状态，由运行项结果汇总得出：
+ * 运行被中止或任一项失败为 FAILED；全部项成功为 SUCCESS；否则按是否结束分为 COMPLETED / RUNNING
+ */
+public enum RunStatus {
+    RUNNING,
+    COMPLETED,
+    SUCCESS,
+    FAILED;
+
+    public static RunStatus of(boolean finished, int itemCount, int successCount, int failedCount) {
+        return of(finished, false, itemCount, successCount, failedCount);
+    }
+
+    public static RunStatus of(boolean finished, boolean aborted, int itemCount, int successCount, int failedCount) {
+        if (aborted || failedCount > 0) {
+            return FAILED;
+        }
+        if (itemCount > 0 && successCount == itemCount) {
+            return SUCCESS;
+        }
+        return finished ? COMPLETED : RUNNING;
+    }
+}
@@ -40,6 +40,14 @@ class GroupTest {
         assertEquals("GROUP_004", ex3.getCode());
     }
 
+    @Test
+    void create_ShouldThrow_WhenCodeContainsPathSeparator() {
+        Instant now = Instant.now();
+
+        ValidationException ex = assertThrows(ValidationException.class, () -> Group.create("Name", "RD/QA", null, now));
+        assertEquals("GROUP_016", ex.getCode());
+    }
+
     @Test
     void create_ShouldThrow_WhenCodeInvalid() {
         Instant now = Instant.now();
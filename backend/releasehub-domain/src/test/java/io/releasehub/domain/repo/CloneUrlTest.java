@@ -0,0 +1,32 @@
+package io.releasehub.domain.repo;
+
+import io.releasehub.common.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CloneUrlTest {
+
+    @Test
+    void parse_ShouldProduceSameCanonicalKey_ForScpAndHttpsForms() {
+        CloneUrl scp = CloneUrl.parse("git@GitLab.com:Team/Payment.git");
+        CloneUrl https = CloneUrl.parse("https://gitlab.com/team/payment/");
+
+        assertEquals("gitlab.com/team/payment", scp.canonicalKey());
+        assertEquals(scp.canonicalKey(), https.canonicalKey());
+    }
+
+    @Test
+    void parse_ShouldThrow_WhenSchemeUnsupported() {
+        assertThrows(ValidationException.class, () -> CloneUrl.parse("ftp://gitlab.com/team/payment.git"));
+    }
+
+    @Test
+    void tryParse_ShouldReturnEmpty_WhenUrlInvalid() {
+        assertTrue(CloneUrl.tryParse("not a url").isEmpty());
+        assertTrue(CloneUrl.tryParse(null).isEmpty());
+        assertEquals("gitlab.com/team/payment", CloneUrl.tryParse("git@gitlab.com:team/payment.git").orElseThrow().canonicalKey());
+    }
+}
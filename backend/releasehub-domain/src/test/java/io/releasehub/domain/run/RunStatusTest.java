@@ -0,0 +1,54 @@
+package io.releasehub.domain.run;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunStatusTest {
+
+    @Test
+    void of_ShouldFollowRunningOrCompleted_WhenNoItems() {
+        assertEquals(RunStatus.RUNNING, RunStatus.of(false, 0, 0, 0));
+        assertEquals(RunStatus.COMPLETED, RunStatus.of(true, 0, 0, 0));
+    }
+
+    @Test
+    void of_ShouldBeFailed_WhenAnyItemFailed() {
+        assertEquals(RunStatus.FAILED, RunStatus.of(false, 3, 2, 1));
+        assertEquals(RunStatus.FAILED, RunStatus.of(true, 3, 2, 1));
+    }
+
+    @Test
+    void of_ShouldBeSuccess_OnlyWhenAllItemsSucceeded() {
+        assertEquals(RunStatus.SUCCESS, RunStatus.of(true, 2, 2, 0));
+        assertEquals(RunStatus.COMPLETED, RunStatus.of(true, 2, 1, 0));
+        assertEquals(RunStatus.RUNNING, RunStatus.of(false, 2, 1, 0));
+    }
+
+    @Test
+    void of_ShouldBeFailed_WhenAborted() {
+        assertEquals(RunStatus.FAILED, RunStatus.of(true, true, 0, 0, 0));
+        assertEquals(RunStatus.FAILED, RunStatus.of(true, true, 2, 2, 0));
+    }
+
+    @Test
+    void abort_ShouldFinishRunAsFailed() {
+        Run run = Run.start(RunType.WINDOW_ORCHESTRATION, "alice", Instant.EPOCH);
+        run.abort(Instant.EPOCH.plusSeconds(1));
+        assertTrue(run.isFinished());
+        assertEquals(RunStatus.FAILED, run.getStatus());
+    }
+
+    @Test
+    void itemResult_ShouldClassifyFailureAndSuccess() {
+        assertTrue(RunItemResult.MERGE_BLOCKED.isFailure());
+        assertTrue(RunItemResult.VERSION_UPDATE_FAILED.isFailure());
+        assertTrue(RunItemResult.VERSION_UPDATE_SUCCESS.isSuccess());
+        assertFalse(RunItemResult.MERGED.isSuccess());
+        assertFalse(RunItemResult.SKIPPED_DUE_TO_BLOCK.isFailure());
+    }
+}
@@ -0,0 +1,94 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.net.URI;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 回填 code_repository.clone_url_key
+ * <p>
+ * 规范化规则与编写本迁移时的 CloneUrl.parse 一致，无法在 SQL 中等价实现，因此使用 Java 迁移；
+ * 规则在迁移内固定实现，不引用领域代码，后者变化不影响已执行的迁移。
+ * 历史数据中无法解析的地址保持为空；规范化后重复的地址只为最早创建的仓库回填，其余保持为空，避免唯一索引冲突。
+ */
+public class V39__backfill_code_repository_clone_url_key extends BaseJavaMigration {
+    private static final Pattern SCP_LIKE = Pattern.compile("^git@([^:]+):(.+)$");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Set<String> seen = new HashSet<>();
+        try (Statement select = context.getConnection().createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, clone_url FROM code_repository ORDER BY created_at, id");
+             PreparedStatement update = context.getConnection().prepareStatement(
+                     "UPDATE code_repository SET clone_url_key = ? WHERE id = ?")) {
+            while (rows.next()) {
+                Optional<String> key = canonicalKey(rows.getString("clone_url"));
+                if (key.isEmpty() || !seen.add(key.get())) {
+                    continue;
+                }
+                update.setString(1, key.get());
+                update.setString(2, rows.getString("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    /**
+     * 规范化为 host/path（小写、去除首尾斜杠与 .git 后缀），地址不合法时返回空
+     */
+    static Optional<String> canonicalKey(String rawUrl) {
+        if (rawUrl == null || rawUrl.isBlank()) {
+            return Optional.empty();
+        }
+        String value = rawUrl.trim();
+        if (value.length() > 512) {
+            return Optional.empty();
+        }
+        Matcher scpLike = SCP_LIKE.matcher(value);
+        if (scpLike.matches()) {
+            return canonicalize(scpLike.group(1), scpLike.group(2));
+        }
+        URI uri;
+        try {
+            uri = URI.create(value);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        String scheme = uri.getScheme() == null ? null : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!("http".equals(scheme) || "https".equals(scheme) || "ssh".equals(scheme))
+                || uri.getHost() == null || uri.getHost().isBlank()
+                || uri.getPath() == null || uri.getPath().isBlank()) {
+            return Optional.empty();
+        }
+        return canonicalize(uri.getHost(), uri.getPath());
+    }
+
+    private static Optional<String> canonicalize(String host, String path) {
+        String normalizedHost = host.trim().toLowerCase(Locale.ROOT);
+        String normalizedPath = path.trim();
+        while (normalizedPath.startsWith("/")) {
+            normalizedPath = normalizedPath.substring(1);
+        }
+        while (normalizedPath.endsWith("/")) {
+            normalizedPath = normalizedPath.substring(0, normalizedPath.length() - 1);
+        }
+        if (normalizedPath.endsWith(".git")) {
+            normalizedPath = normalizedPath.substring(0, normalizedPath.length() - 4);
+        }
+        if (normalizedHost.isBlank() || normalizedPath.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(normalizedHost + "/" + normalizedPath.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,55 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+
+/**
+ * 仓库关键字搜索索引
+ * <p>
+ * 搜索条件为 lower(name) / lower(clone_url) 的双侧通配 LIKE，B-tree 索引无法命中，
+ * 因此在 PostgreSQL 上基于 pg_trgm 创建 GIN 表达式索引。当前账号无权安装 pg_trgm 时跳过，
+ * 搜索仍然正确但退化为顺序扫描；H2 等其他数据库不支持该索引类型，同样跳过。
+ */
+public class V40__create_code_repository_search_indexes extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        if (!ensureTrigramExtension(connection)) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_code_repository_name_trgm "
+                    + "ON code_repository USING GIN (LOWER(name) gin_trgm_ops)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_code_repository_clone_url_trgm "
+                    + "ON code_repository USING GIN (LOWER(clone_url) gin_trgm_ops)");
+        }
+    }
+
+    private boolean ensureTrigramExtension(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet installed = statement.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'")) {
+            if (installed.next()) {
+                return true;
+            }
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            connection.releaseSavepoint(savepoint);
+            return true;
+        } catch (SQLException e) {
+            connection.rollback(savepoint);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 分组物化路径
+ * <p>
+ * 新增 groups.path 并按 parent_code 逐级回填（/顶级编码/.../本分组编码/），仓库、发布窗口的分组子树筛选改为对 path 的前缀匹配。
+ * 父分组缺失或存在环的历史数据从断开处视为顶级分组。PostgreSQL 上使用 varchar_pattern_ops，保证非 C 排序规则下前缀 LIKE 也能走索引。
+ * 路径拼接规则在迁移内固定实现，不引用应用代码，后者变化不影响已执行的迁移。
+ */
+public class V41__add_groups_path extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE groups ADD COLUMN path VARCHAR(1024)");
+        }
+
+        Map<String, String> parentByCode = new HashMap<>();
+        Map<String, String> idByCode = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id, code, parent_code FROM groups")) {
+            while (rows.next()) {
+                idByCode.put(rows.getString("code"), rows.getString("id"));
+                parentByCode.put(rows.getString("code"), rows.getString("parent_code"));
+            }
+        }
+
+        Map<String, String> pathByCode = new HashMap<>();
+        try (PreparedStatement update = connection.prepareStatement("UPDATE groups SET path = ? WHERE id = ?")) {
+            for (String code : idByCode.keySet()) {
+                update.setString(1, resolvePath(code, parentByCode, pathByCode, new HashSet<>()));
+                update.setString(2, idByCode.get(code));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(postgres
+                    ? "CREATE INDEX idx_groups_path ON groups(path varchar_pattern_ops)"
+                    : "CREATE INDEX idx_groups_path ON groups(path)");
+        }
+    }
+
+    private String resolvePath(String code, Map<String, String> parentByCode,
+                               Map<String, String> pathByCode, Set<String> visiting) {
+        String cached = pathByCode.get(code);
+        if (cached != null) {
+            return cached;
+        }
+        String parentCode = parentByCode.get(code);
+        String parentPath = null;
+        if (parentCode != null && parentByCode.containsKey(parentCode) && visiting.add(code)) {
+            parentPath = resolvePath(parentCode, parentByCode, pathByCode, visiting);
+        }
+        String path = (parentPath == null ? "/" : parentPath) + code + "/";
+        pathByCode.put(code, path);
+        return path;
+    }
+}
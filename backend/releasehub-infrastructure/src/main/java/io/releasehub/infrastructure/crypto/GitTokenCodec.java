@@ -0,0 +1,111 @@
+package io.releasehub.infrastructure.crypto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * gitToken 存储格式编解码，在 {@link GitTokenCrypto} 之上增加前缀识别与解密缓存。
+ * <p>
+ * <ul>
+ *     <li>写入：{@code enc:v1:} + 格式合法的密文视为已加密，原样写回；其余值加密为 {@code enc:v1:} + 密文</li>
+ *     <li>读取：带前缀的值直接解密，无前缀的值按历史密文尝试解密，失败时原样返回</li>
+ *     <li>缓存：以数据库中的原值为键缓存读取结果，同一密文只解密一次；写入产生的密文同样入缓存</li>
+ * </ul>
+ * 缓存只用于省去加解密，不影响正确性：带前缀的值按格式判断，无前缀的历史密文未命中缓存时才试探解密。
+ * 缓存按最近访问淘汰，条目数不超过 max-entries。
+ */
+public class GitTokenCodec {
+
+    static final String CIPHERTEXT_PREFIX = "enc:v1:";
+
+    private final GitTokenCrypto crypto;
+    private final int maxEntries;
+    private final Map<String, String> decrypted;
+    private final Timer encryptTimer;
+    private final Timer decryptTimer;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public GitTokenCodec(GitTokenCrypto crypto, int maxEntries, MeterRegistry meterRegistry) {
+        this.crypto = crypto;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.decrypted = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > GitTokenCodec.this.maxEntries;
+            }
+        });
+        this.encryptTimer = timer(meterRegistry, "encrypt");
+        this.decryptTimer = timer(meterRegistry, "decrypt");
+        this.cacheHits = counter(meterRegistry, "hit");
+        this.cacheMisses = counter(meterRegistry, "miss");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("releasehub.crypto.git-token")
+                .description("gitToken 加解密耗时")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("releasehub.crypto.git-token.cache")
+                .description("gitToken 解密缓存命中情况")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public String encode(String plaintext) {
+        if (plaintext == null || plaintext.isEmpty() || isStoredValue(plaintext)) {
+            return plaintext;
+        }
+        String stored = CIPHERTEXT_PREFIX + encryptTimer.record(() -> crypto.encrypt(plaintext));
+        remember(stored, plaintext);
+        return stored;
+    }
+
+    public String decode(String stored) {
+        if (stored == null || stored.isEmpty()) {
+            return stored;
+        }
+        String cached = decrypted.get(stored);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+        String ciphertext = stored.startsWith(CIPHERTEXT_PREFIX) ? stored.substring(CIPHERTEXT_PREFIX.length()) : stored;
+        String plaintext;
+        try {
+            plaintext = decryptTimer.record(() -> crypto.decrypt(ciphertext));
+        } catch (GitTokenCrypto.CryptoException e) {
+            plaintext = stored;
+        }
+        remember(stored, plaintext);
+        return plaintext;
+    }
+
+    private boolean isStoredValue(String value) {
+        if (value.startsWith(CIPHERTEXT_PREFIX)) {
+            return GitTokenCrypto.isWellFormedCiphertext(value.substring(CIPHERTEXT_PREFIX.length()));
+        }
+        if (!GitTokenCrypto.isWellFormedCiphertext(value)) {
+            return false;
+        }
+        // 无前缀的历史密文：优先用缓存判断，未命中时试探解密
+        String plaintext = decrypted.get(value);
+        if (plaintext != null) {
+            return !plaintext.equals(value);
+        }
+        return !decode(value).equals(value);
+    }
+
+    private void remember(String stored, String plaintext) {
+        decrypted.put(stored, plaintext);
+    }
+}
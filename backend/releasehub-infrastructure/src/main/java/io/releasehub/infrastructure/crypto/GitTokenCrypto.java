@@ -87,6 +87,20 @@ public final class GitTokenCrypto {
         }
     }
 
+    /**
+     * 仅按格式判断是否可能是本工具产生的密文（合法 Base64 且长度不小于 IV + 认证标签），不做解密
+     */
+    public static boolean isWellFormedCiphertext(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        try {
+            return Base64.getDecoder().decode(value).length >= GCM_IV_BYTES + GCM_TAG_BITS / 8;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * Round-trip 自检：加密后立即解密，验证结果与原文一致。
      * 用于启动时检测密钥是否正确配置，失败则阻止应用启动。
@@ -1,5 +1,6 @@
 package io.releasehub.infrastructure.crypto;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
  * <p>
  * 仅在 {@code releasehub.crypto.enabled=true} 时激活。
  * 激活后必须提供 Base64 编码的 32 字节 AES-256 密钥，并在 Bean 初始化时执行 round-trip 自检。
+ * 解密结果缓存条目数上限由 {@code releasehub.crypto.cache-max-entries} 控制。
  * <p>
  * 生成新密钥示例：openssl rand -base64 32
  */
@@ -24,4 +26,12 @@ public class TokenCryptoConfig {
         crypto.verify();
         return crypto;
     }
+
+    @Bean
+    public GitTokenCodec gitTokenCodec(
+            GitTokenCrypto gitTokenCrypto,
+            @Value("${releasehub.crypto.cache-max-entries:10000}") int cacheMaxEntries,
+            MeterRegistry meterRegistry) {
+        return new GitTokenCodec(gitTokenCrypto, cacheMaxEntries, meterRegistry);
+    }
 }
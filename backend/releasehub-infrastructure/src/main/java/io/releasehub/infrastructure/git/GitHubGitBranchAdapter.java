@@ -3,13 +3,13 @@ package io.releasehub.infrastructure.git;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.common.exception.ValidationException;
 import io.releasehub.domain.repo.GitProvider;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -26,10 +26,13 @@ import java.util.regex.Pattern;
 @Component
 public class GitHubGitBranchAdapter implements GitBranchPort {
 
+    private static final Pattern SSH_CLONE_URL = Pattern.compile("^git@([^:]+):([^/]+)/(.+?)(\\.git)?$");
+    private static final Pattern HTTP_CLONE_URL = Pattern.compile("^(https?)://([^/]+)/([^/]+)/(.+?)(\\.git)?$");
+
     private RestTemplate restTemplate;
 
-    public GitHubGitBranchAdapter(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public GitHubGitBranchAdapter(OutboundHttpClient httpClient) {
+        this.restTemplate = httpClient.restTemplate();
     }
 
     void setRestTemplate(RestTemplate restTemplate) {
@@ -184,7 +187,7 @@ public class GitHubGitBranchAdapter implements GitBranchPort {
                 return MergeabilityResult.permissionDenied(body);
             }
             if (e.getStatusCode().value() == 422 || e.getStatusCode().value() == 404) {
-                return MergeabilityResult.conflict("branch not found or no commits in common: " + body);
+                return MergeabilityResult.invalidBranch("branch not found or no commits in common: " + body);
             }
             return MergeabilityResult.error(body);
         } catch (Exception e) {
@@ -288,12 +291,12 @@ public class GitHubGitBranchAdapter implements GitBranchPort {
             throw ValidationException.invalidParameter("cloneUrl");
         }
         String trimmed = cloneUrl.trim();
-        Matcher ssh = Pattern.compile("^git@([^:]+):([^/]+)/(.+?)(\\.git)?$").matcher(trimmed);
+        Matcher ssh = SSH_CLONE_URL.matcher(trimmed);
         if (ssh.find()) {
             String host = ssh.group(1);
             return new RepoRef(resolveApiBaseUrl("https", host), ssh.group(2), ssh.group(3));
         }
-        Matcher https = Pattern.compile("^(https?)://([^/]+)/([^/]+)/(.+?)(\\.git)?$").matcher(trimmed);
+        Matcher https = HTTP_CLONE_URL.matcher(trimmed);
         if (https.find()) {
             String scheme = https.group(1);
             String host = https.group(2);
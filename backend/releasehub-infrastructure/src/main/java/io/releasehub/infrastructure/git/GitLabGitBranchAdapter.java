@@ -3,13 +3,13 @@ package io.releasehub.infrastructure.git;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.common.exception.ValidationException;
 import io.releasehub.domain.repo.GitProvider;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -20,6 +20,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,10 +30,15 @@ import java.util.regex.Pattern;
 @org.springframework.boot.autoconfigure.condition.ConditionalOnProperty(name = "releasehub.gitlab.real-adapter", havingValue = "true")
 public class GitLabGitBranchAdapter implements GitBranchPort {
 
+    private static final Pattern SSH_CLONE_URL = Pattern.compile("^git@([^:]+):(.+?)(\\.git)?$");
+    private static final Pattern HTTP_CLONE_URL = Pattern.compile("^(https?)://([^/]+)/(.+?)(\\.git)?$");
+
+    private final GitLabMergeReadinessAdapter mergeReadinessAdapter;
     private RestTemplate restTemplate;
 
-    public GitLabGitBranchAdapter(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public GitLabGitBranchAdapter(OutboundHttpClient httpClient, GitLabMergeReadinessAdapter mergeReadinessAdapter) {
+        this.restTemplate = httpClient.restTemplate();
+        this.mergeReadinessAdapter = mergeReadinessAdapter;
     }
 
     void setRestTemplate(RestTemplate restTemplate) {
@@ -152,14 +159,8 @@ public class GitLabGitBranchAdapter implements GitBranchPort {
 
     private MergeReadiness waitForMergeReadiness(RepoRef repoRef, String token, int iid, Map<String, Object> mr) {
         String initialStatus = mergeStatus(mr);
-        if (isMergeableStatus(initialStatus)) {
-            return MergeReadiness.MERGEABLE;
-        }
-        if (isConflictStatus(initialStatus)) {
-            return MergeReadiness.CONFLICT;
-        }
-        if (isNoCommitsStatus(initialStatus)) {
-            return MergeReadiness.NO_COMMITS;
+        if (isSettledStatus(initialStatus)) {
+            return readinessOf(initialStatus);
         }
         if (!isPendingStatus(initialStatus)) {
             return MergeReadiness.UNKNOWN;
@@ -167,39 +168,45 @@ public class GitLabGitBranchAdapter implements GitBranchPort {
 
         String endpoint = String.format("%s/api/v4/projects/%s/merge_requests/%d",
                 repoRef.baseUrl, repoRef.encodedPath, iid);
-        String lastStatus = initialStatus;
-        for (int attempt = 0; attempt < 20; attempt++) {
-            sleepBeforeMergeReadinessPoll();
-            try {
-                ResponseEntity<Map<String, Object>> response = restTemplate.exchange(uri(endpoint), HttpMethod.GET,
-                        new HttpEntity<>(headers(token)), new ParameterizedTypeReference<>() {});
-                String status = mergeStatus(response.getBody());
-                lastStatus = status;
-                log.debug("GitLab merge request readiness iid={} attempt={} status={}", iid, attempt + 1, status);
-                if (isMergeableStatus(status)) {
-                    return MergeReadiness.MERGEABLE;
-                }
-                if (isConflictStatus(status)) {
-                    return MergeReadiness.CONFLICT;
-                }
-                if (isNoCommitsStatus(status)) {
-                    return MergeReadiness.NO_COMMITS;
-                }
-            } catch (Exception e) {
-                log.warn("GitLab merge request readiness check failed for iid={}: {}", iid, e.getMessage());
-                return MergeReadiness.UNKNOWN;
-            }
+        String status;
+        try {
+            status = mergeReadinessAdapter.await(repoRef.baseUrl, repoRef.path, iid, initialStatus,
+                    () -> fetchMergeStatus(endpoint, token, iid), this::isSettledStatus).join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            log.warn("GitLab merge request readiness check failed for iid={}: {}", iid, cause.getMessage());
+            return MergeReadiness.UNKNOWN;
         }
-        log.warn("GitLab merge request readiness timed out for iid={} status={}", iid, lastStatus);
-        return MergeReadiness.UNKNOWN;
+        if (!isSettledStatus(status)) {
+            log.warn("GitLab merge request readiness timed out for iid={} status={}", iid, status);
+            return MergeReadiness.UNKNOWN;
+        }
+        return readinessOf(status);
     }
 
-    private void sleepBeforeMergeReadinessPoll() {
-        try {
-            Thread.sleep(250);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    private String fetchMergeStatus(String endpoint, String token, int iid) {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(uri(endpoint), HttpMethod.GET,
+                new HttpEntity<>(headers(token)), new ParameterizedTypeReference<>() {});
+        String status = mergeStatus(response.getBody());
+        log.debug("GitLab merge request readiness iid={} status={}", iid, status);
+        return status;
+    }
+
+    private MergeReadiness readinessOf(String status) {
+        if (isMergeableStatus(status)) {
+            return MergeReadiness.MERGEABLE;
         }
+        if (isConflictStatus(status)) {
+            return MergeReadiness.CONFLICT;
+        }
+        if (isNoCommitsStatus(status)) {
+            return MergeReadiness.NO_COMMITS;
+        }
+        return MergeReadiness.UNKNOWN;
+    }
+
+    private boolean isSettledStatus(String status) {
+        return isMergeableStatus(status) || isConflictStatus(status) || isNoCommitsStatus(status);
     }
 
     private String mergeStatus(Map<String, Object> mr) {
@@ -303,10 +310,10 @@ public class GitLabGitBranchAdapter implements GitBranchPort {
                 return MergeabilityResult.permissionDenied(body);
             }
             if (e.getStatusCode().value() == 400 || e.getStatusCode().value() == 404) {
-                return MergeabilityResult.conflict("branch not found or invalid: " + body);
+                return MergeabilityResult.invalidBranch("branch not found or invalid: " + body);
             }
             if (e.getStatusCode().value() == 409) {
-                return MergeabilityResult.conflict("merge conflict: " + body);
+                return MergeabilityResult.duplicateRequest("merge request already exists: " + body);
             }
             log.warn("GitLab mergeability check failed for {} -> {}: status={} body={}",
                     sourceBranch, targetBranch, e.getStatusCode().value(), body);
@@ -420,17 +427,17 @@ public class GitLabGitBranchAdapter implements GitBranchPort {
             throw ValidationException.invalidParameter("cloneUrl");
         }
         String trimmed = cloneUrl.trim();
-        Matcher ssh = Pattern.compile("^git@([^:]+):(.+?)(\\.git)?$").matcher(trimmed);
+        Matcher ssh = SSH_CLONE_URL.matcher(trimmed);
         if (ssh.find()) {
             String baseUrl = "https://" + ssh.group(1);
             String path = ssh.group(2);
-            return new RepoRef(baseUrl, urlEncode(path));
+            return new RepoRef(baseUrl, path, urlEncode(path));
         }
-        Matcher https = Pattern.compile("^(https?)://([^/]+)/(.+?)(\\.git)?$").matcher(trimmed);
+        Matcher https = HTTP_CLONE_URL.matcher(trimmed);
         if (https.find()) {
             String baseUrl = https.group(1) + "://" + https.group(2);
             String path = https.group(3);
-            return new RepoRef(baseUrl, urlEncode(path));
+            return new RepoRef(baseUrl, path, urlEncode(path));
         }
         throw ValidationException.invalidParameter("cloneUrl");
     }
@@ -458,7 +465,7 @@ public class GitLabGitBranchAdapter implements GitBranchPort {
         return Integer.parseInt(String.valueOf(value));
     }
 
-    private record RepoRef(String baseUrl, String encodedPath) {
+    private record RepoRef(String baseUrl, String path, String encodedPath) {
     }
 
     private enum MergeReadiness {
@@ -0,0 +1,184 @@
+package io.releasehub.infrastructure.git;
+
+import io.releasehub.application.gitlab.MergeReadinessPort;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * GitLab 合并请求可合并状态跟踪器。
+ * <p>
+ * 每个等待中的 (GitLab 主机, project, iid) 对应一个 {@link CompletableFuture}，两种方式都可以结束等待：
+ * <ul>
+ *     <li>merge request webhook 推送了已确定的合并状态</li>
+ *     <li>共享调度器按指数退避轮询到已确定的合并状态</li>
+ * </ul>
+ * 调度器只负责计时，轮询请求在虚拟线程上执行；到达超时时间后以最后一次观察到的状态结束。
+ */
+@Component
+public class GitLabMergeReadinessAdapter implements MergeReadinessPort {
+
+    private final ConcurrentHashMap<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ExecutorService pollExecutor;
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final long timeoutMs;
+
+    public GitLabMergeReadinessAdapter(
+            @Value("${releasehub.gitlab.merge-readiness.initial-delay-ms:250}") long initialDelayMs,
+            @Value("${releasehub.gitlab.merge-readiness.max-delay-ms:1000}") long maxDelayMs,
+            @Value("${releasehub.gitlab.merge-readiness.timeout-ms:5000}") long timeoutMs) {
+        this.initialDelayMs = Math.max(1, initialDelayMs);
+        this.maxDelayMs = Math.max(this.initialDelayMs, maxDelayMs);
+        this.timeoutMs = Math.max(1, timeoutMs);
+        this.scheduler = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("gitlab-merge-readiness").daemon().factory());
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.pollExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("gitlab-merge-readiness-poll-", 0).factory());
+    }
+
+    /**
+     * 等待合并请求进入已确定的合并状态。
+     * <p>
+     * 同一 (GitLab 主机, project, iid) 的并发等待共享同一个 future。
+     *
+     * @param baseUrl       GitLab 实例地址，取其主机名区分不同实例上同名的项目
+     * @param projectPath   项目路径
+     * @param iid           合并请求 iid
+     * @param initialStatus 创建 MR 时返回的状态，超时前未观察到新状态时作为结果
+     * @param poller        查询当前合并状态
+     * @param settled       判断状态是否已确定
+     * @return 以最终状态（或超时时的最后状态）完成的 future；轮询异常时异常完成
+     */
+    CompletableFuture<String> await(String baseUrl, String projectPath, int iid, String initialStatus,
+                                    Supplier<String> poller, Predicate<String> settled) {
+        Key key = Key.of(hostOf(baseUrl), projectPath, iid);
+        Pending created = new Pending(key, poller, settled, initialStatus);
+        Pending existing = pending.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.future;
+        }
+        try {
+            ScheduledFuture<?> deadline = scheduler.schedule(
+                    () -> complete(created, created.lastStatus), timeoutMs, TimeUnit.MILLISECONDS);
+            created.future.whenComplete((status, error) -> deadline.cancel(false));
+            schedulePoll(created, initialDelayMs);
+        } catch (RejectedExecutionException e) {
+            complete(created, created.lastStatus);
+        }
+        return created.future;
+    }
+
+    @Override
+    public boolean onMergeStatus(String host, String projectPath, int iid, String mergeStatus) {
+        Pending waiting = pending.get(Key.of(host, projectPath, iid));
+        if (waiting == null || mergeStatus == null) {
+            return false;
+        }
+        String status = mergeStatus.toLowerCase(Locale.ROOT);
+        waiting.lastStatus = status;
+        return waiting.settled.test(status) && complete(waiting, status);
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        pollExecutor.shutdownNow();
+        pending.values().forEach(p -> complete(p, p.lastStatus));
+    }
+
+    /**
+     * 先移出等待表再完成 future，保证等待方被唤醒时该 MR 已不再处于等待中
+     */
+    private boolean complete(Pending target, String status) {
+        pending.remove(target.key, target);
+        return target.future.complete(status);
+    }
+
+    private void schedulePoll(Pending target, long delayMs) {
+        scheduler.schedule(() -> {
+            try {
+                pollExecutor.execute(() -> poll(target, delayMs));
+            } catch (RejectedExecutionException e) {
+                complete(target, target.lastStatus);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(Pending target, long delayMs) {
+        if (target.future.isDone()) {
+            return;
+        }
+        try {
+            String status = target.poller.get();
+            target.lastStatus = status;
+            if (target.settled.test(status)) {
+                complete(target, status);
+                return;
+            }
+        } catch (RuntimeException e) {
+            pending.remove(target.key, target);
+            target.future.completeExceptionally(e);
+            return;
+        }
+        if (!target.future.isDone()) {
+            try {
+                schedulePoll(target, Math.min(delayMs * 2, maxDelayMs));
+            } catch (RejectedExecutionException e) {
+                complete(target, target.lastStatus);
+            }
+        }
+    }
+
+    private static String hostOf(String baseUrl) {
+        try {
+            return baseUrl == null ? null : URI.create(baseUrl.trim()).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record Key(String host, String projectPath, int iid) {
+        static Key of(String host, String projectPath, int iid) {
+            return new Key(normalize(host), normalize(projectPath), iid);
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final class Pending {
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private final Key key;
+        private final Supplier<String> poller;
+        private final Predicate<String> settled;
+        private volatile String lastStatus;
+
+        private Pending(Key key, Supplier<String> poller, Predicate<String> settled, String initialStatus) {
+            this.key = key;
+            this.poller = poller;
+            this.settled = settled;
+            this.lastStatus = initialStatus;
+        }
+    }
+}
@@ -5,7 +5,7 @@ import io.releasehub.application.settings.SettingsPort;
 import io.releasehub.common.exception.BusinessException;
 import io.releasehub.common.exception.NotFoundException;
 import io.releasehub.common.exception.ValidationException;
-import lombok.RequiredArgsConstructor;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -27,11 +27,19 @@ import java.util.regex.Pattern;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GitLabAdapter implements GitLabPort {
 
+    private static final Pattern SSH_CLONE_URL = Pattern.compile("^git@([^:]+):(.+?)(\\.git)?$");
+    private static final Pattern HTTP_CLONE_URL = Pattern.compile("^https?://([^/]+)/(.+?)(\\.git)?$");
+    private static final Pattern COMPLIANT_BRANCH = Pattern.compile("^(main|master|develop|feature/.*|fix/.*|release/.*|hotfix/.*)$");
+
     private final SettingsPort settingsPort;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+
+    public GitLabAdapter(SettingsPort settingsPort, OutboundHttpClient httpClient) {
+        this.settingsPort = settingsPort;
+        this.restTemplate = httpClient.restTemplate();
+    }
 
     @Override
     public boolean testConnection() {
@@ -288,9 +296,8 @@ public class GitLabAdapter implements GitLabPort {
             int active = activeBranches.size();
 
             // Check compliance
-            Pattern compliantPattern = Pattern.compile("^(main|master|develop|feature/.*|fix/.*|release/.*|hotfix/.*)$");
             int nonCompliant = (int) activeBranches.stream()
-                    .filter(name -> !compliantPattern.matcher(name).matches())
+                    .filter(name -> !COMPLIANT_BRANCH.matcher(name).matches())
                     .count();
 
             return new BranchStatistics(total, active, nonCompliant);
@@ -369,11 +376,11 @@ public class GitLabAdapter implements GitLabPort {
             throw ValidationException.invalidParameter("cloneUrl");
         }
 
-        Matcher sshMatch = Pattern.compile("^git@([^:]+):(.+?)(\\.git)?$").matcher(cloneUrl.trim());
+        Matcher sshMatch = SSH_CLONE_URL.matcher(cloneUrl.trim());
         if (sshMatch.find()) {
             return sshMatch.group(2);
         }
-        Matcher httpsMatch = Pattern.compile("^https?://([^/]+)/(.+?)(\\.git)?$").matcher(cloneUrl.trim());
+        Matcher httpsMatch = HTTP_CLONE_URL.matcher(cloneUrl.trim());
         if (httpsMatch.find()) {
             return httpsMatch.group(2);
         }
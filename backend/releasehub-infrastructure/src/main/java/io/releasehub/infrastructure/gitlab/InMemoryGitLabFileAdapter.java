@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -52,6 +53,16 @@ public class InMemoryGitLabFileAdapter implements GitLabFilePort {
         return true;
     }
     
+    @Override
+    public boolean updateFiles(String repoCloneUrl, String branch, Map<String, String> files, String commitMessage) {
+        Map<String, String> staged = new LinkedHashMap<>();
+        files.forEach((filePath, content) -> staged.put(buildKey(repoCloneUrl, branch, filePath), content));
+        this.files.putAll(staged);
+        log.info("In-memory update {} files in {}:{} - success, commitMessage: {}",
+                files.size(), repoCloneUrl, branch, commitMessage);
+        return true;
+    }
+    
     /**
      * 设置文件内容。
      */
@@ -4,8 +4,9 @@ import io.releasehub.application.port.out.GitLabFilePort;
 import io.releasehub.application.settings.SettingsPort;
 import io.releasehub.common.exception.BusinessException;
 import io.releasehub.common.exception.ValidationException;
-import lombok.RequiredArgsConstructor;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -19,9 +20,18 @@ import org.springframework.web.client.RestTemplate;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,65 +42,131 @@ import java.util.regex.Pattern;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "releasehub.gitlab.in-memory-file-adapter", havingValue = "false", matchIfMissing = true)
 public class RealGitLabFileAdapter implements GitLabFilePort {
 
+    private static final Pattern SSH_CLONE_URL = Pattern.compile("^git@([^:]+):(.+?)(\\.git)?$");
+    private static final Pattern HTTP_CLONE_URL = Pattern.compile("^(https?)://([^/]+)/(.+?)(\\.git)?$");
+
     private final SettingsPort settingsPort;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final int readParallelism;
+
+    public RealGitLabFileAdapter(SettingsPort settingsPort,
+                                 OutboundHttpClient httpClient,
+                                 @Value("${releasehub.gitlab.file-read.parallelism:8}") int readParallelism) {
+        this.settingsPort = settingsPort;
+        this.restTemplate = httpClient.restTemplate();
+        this.readParallelism = Math.max(1, readParallelism);
+    }
 
     @Override
     public Optional<String> readFile(String repoCloneUrl, String branch, String filePath) {
         final RepoRef ref = parseRepoRef(repoCloneUrl);
         final String token = getToken();
 
-        String encodedFilePath = urlEncode(filePath);
-        String encodedRef = urlEncode(branch);
-        URI uri = URI.create(String.format("%s/api/v4/projects/%s/repository/files/%s?ref=%s",
-                ref.baseUrl, ref.encodedPath, encodedFilePath, encodedRef));
-
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("PRIVATE-TOKEN", token);
+            return fetchFile(ref, token, branch, filePath);
+        } catch (HttpClientErrorException.Forbidden e) {
+            log.warn("Permission denied reading file {} in repo {} branch {}: {}",
+                    filePath, repoCloneUrl, branch, e.getMessage());
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Error reading file {} in repo {} branch {}: {}",
+                    filePath, repoCloneUrl, branch, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
 
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    uri, HttpMethod.GET, new HttpEntity<>(headers),
-                    new ParameterizedTypeReference<>() {});
+    /**
+     * 多个文件并行读取，同时在途的请求数不超过 file-read.parallelism。
+     * <p>
+     * 只有 404 视为文件不存在；超时、5xx、403、限流等待超时等错误不会被当作缺失，
+     * 任一文件读取出错时取消其余读取并抛出异常，调用方据此整体失败而不是基于部分文件继续。
+     */
+    @Override
+    public Map<String, String> readFiles(String repoCloneUrl, String branch, Collection<String> filePaths) {
+        final RepoRef ref = parseRepoRef(repoCloneUrl);
+        final String token = getToken();
+        List<String> paths = filePaths.stream().distinct().toList();
 
-            Map<String, Object> body = response.getBody();
-            if (body == null) {
-                log.warn("GitLab API returned empty body for file {} in repo {} branch {}",
-                        filePath, repoCloneUrl, branch);
-                return Optional.empty();
+        Map<String, String> files = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(readParallelism);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("gitlab-file-read-", 0).factory())) {
+            for (String path : paths) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        fetchFile(ref, token, branch, path).ifPresent(content -> files.put(path, content));
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
             }
-
-            String content = (String) body.get("content");
-            String encoding = (String) body.get("encoding");
-
-            if (content == null) {
-                return Optional.empty();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    futures.forEach(future -> future.cancel(true));
+                    log.error("Error reading file {} in repo {} branch {}: {}",
+                            paths.get(i), repoCloneUrl, branch, e.getCause().getMessage(), e.getCause());
+                    throw BusinessException.gitlabConnectionFailed(paths.get(i) + ": " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    futures.forEach(future -> future.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw BusinessException.gitlabConnectionFailed("interrupted while reading " + paths.get(i));
+                }
             }
+        }
+        log.debug("Read {}/{} files from repo {} branch {}", files.size(), paths.size(), repoCloneUrl, branch);
+        return files;
+    }
 
-            if ("base64".equals(encoding)) {
-                String decoded = new String(Base64.getDecoder().decode(
-                        content.replaceAll("\\s", "")), StandardCharsets.UTF_8);
-                return Optional.of(decoded);
-            }
+    /**
+     * 读取单个文件；404 返回空，其余错误原样抛出
+     */
+    private Optional<String> fetchFile(RepoRef ref, String token, String branch, String filePath) {
+        String encodedFilePath = urlEncode(filePath);
+        String encodedRef = urlEncode(branch);
+        URI uri = URI.create(String.format("%s/api/v4/projects/%s/repository/files/%s?ref=%s",
+                ref.baseUrl, ref.encodedPath, encodedFilePath, encodedRef));
 
-            return Optional.of(content);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("PRIVATE-TOKEN", token);
 
+        ResponseEntity<Map<String, Object>> response;
+        try {
+            response = restTemplate.exchange(
+                    uri, HttpMethod.GET, new HttpEntity<>(headers),
+                    new ParameterizedTypeReference<>() {});
         } catch (HttpClientErrorException.NotFound e) {
-            log.debug("File not found: {} in repo {} branch {}", filePath, repoCloneUrl, branch);
+            log.debug("File not found: {} branch {}", filePath, branch);
             return Optional.empty();
-        } catch (HttpClientErrorException.Forbidden e) {
-            log.warn("Permission denied reading file {} in repo {} branch {}: {}",
-                    filePath, repoCloneUrl, branch, e.getMessage());
+        }
+
+        Map<String, Object> body = response.getBody();
+        if (body == null) {
+            log.warn("GitLab API returned empty body for file {} branch {}", filePath, branch);
             return Optional.empty();
-        } catch (Exception e) {
-            log.error("Error reading file {} in repo {} branch {}: {}",
-                    filePath, repoCloneUrl, branch, e.getMessage(), e);
+        }
+
+        String content = (String) body.get("content");
+        String encoding = (String) body.get("encoding");
+
+        if (content == null) {
             return Optional.empty();
         }
+
+        if ("base64".equals(encoding)) {
+            String decoded = new String(Base64.getDecoder().decode(
+                    content.replaceAll("\\s", "")), StandardCharsets.UTF_8);
+            return Optional.of(decoded);
+        }
+
+        return Optional.of(content);
     }
 
     @Override
@@ -154,6 +230,48 @@ public class RealGitLabFileAdapter implements GitLabFilePort {
         }
     }
 
+    /**
+     * 通过 Commits API 的多个 actions 在一次请求中提交全部文件；GitLab 对整个提交原子生效，任一 action 失败则不产生提交
+     */
+    @Override
+    public boolean updateFiles(String repoCloneUrl, String branch, Map<String, String> files, String commitMessage) {
+        if (files.isEmpty()) {
+            return true;
+        }
+        final RepoRef ref = parseRepoRef(repoCloneUrl);
+        final String token = getToken();
+
+        URI uri = URI.create(String.format("%s/api/v4/projects/%s/repository/commits",
+                ref.baseUrl, ref.encodedPath));
+
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("PRIVATE-TOKEN", token);
+            headers.set("Content-Type", "application/json");
+
+            List<Map<String, String>> actions = files.entrySet().stream()
+                    .map(file -> Map.of(
+                            "action", "update",
+                            "file_path", file.getKey(),
+                            "content", file.getValue()))
+                    .toList();
+            Map<String, Object> body = Map.of(
+                    "branch", branch,
+                    "commit_message", commitMessage,
+                    "actions", actions
+            );
+
+            restTemplate.exchange(uri, HttpMethod.POST, new HttpEntity<>(body, headers), Void.class);
+            log.info("Successfully committed {} files to repo {} branch {}", files.size(), repoCloneUrl, branch);
+            return true;
+
+        } catch (Exception e) {
+            log.error("Error committing {} files {} to repo {} branch {}: {}",
+                    files.size(), files.keySet(), repoCloneUrl, branch, e.getMessage(), e);
+            return false;
+        }
+    }
+
     private String getToken() {
         var settings = settingsPort.getGitLab();
         if (settings.isEmpty()) {
@@ -167,13 +285,13 @@ public class RealGitLabFileAdapter implements GitLabFilePort {
             throw ValidationException.invalidParameter("cloneUrl");
         }
         String trimmed = cloneUrl.trim();
-        Matcher ssh = Pattern.compile("^git@([^:]+):(.+?)(\\.git)?$").matcher(trimmed);
+        Matcher ssh = SSH_CLONE_URL.matcher(trimmed);
         if (ssh.find()) {
             String baseUrl = "https://" + ssh.group(1);
             String path = ssh.group(2);
             return new RepoRef(baseUrl, urlEncode(path));
         }
-        Matcher https = Pattern.compile("^(https?)://([^/]+)/(.+?)(\\.git)?$").matcher(trimmed);
+        Matcher https = HTTP_CLONE_URL.matcher(trimmed);
         if (https.find()) {
             String baseUrl = https.group(1) + "://" + https.group(2);
             String path = https.group(3);
@@ -0,0 +1,345 @@
+package io.releasehub.infrastructure.http;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 按 Git 服务地址（scheme://host:port，即 GitLab baseUrl 的来源部分）限流的令牌桶。
+ * <p>
+ * 除了固定速率外，还会根据服务端返回的限流信息自适应调整：
+ * <ul>
+ *     <li>{@code RateLimit-Remaining} / {@code X-RateLimit-Remaining} 为 0 时暂停到 {@code RateLimit-Reset}</li>
+ *     <li>429 或带 {@code Retry-After} 的 503 视为被限流，按 {@code Retry-After} 与抖动退避中较大者暂停该地址；
+ *     幂等方法（GET/HEAD/OPTIONS/PUT/DELETE）随后自动重试，POST/PATCH 可能已被服务端部分处理，直接返回给调用方</li>
+ * </ul>
+ * 排队等待超过上限或重试次数用尽时拒绝请求，由调用方按普通请求失败处理。
+ * 各服务地址的排队、限流、重试与拒绝次数以 releasehub.http.rate-limit 指标导出。
+ */
+@Slf4j
+@Component
+public class HostRateLimiter implements MeterBinder {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final int maxRetries;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public HostRateLimiter(
+            @Value("${releasehub.http.rate-limit.enabled:true}") boolean enabled,
+            @Value("${releasehub.http.rate-limit.permits-per-second:10}") double permitsPerSecond,
+            @Value("${releasehub.http.rate-limit.burst:20}") int burst,
+            @Value("${releasehub.http.rate-limit.max-wait-ms:30000}") long maxWaitMs,
+            @Value("${releasehub.http.rate-limit.max-retries:3}") int maxRetries,
+            @Value("${releasehub.http.rate-limit.backoff-base-ms:500}") long backoffBaseMs,
+            @Value("${releasehub.http.rate-limit.backoff-max-ms:10000}") long backoffMaxMs) {
+        this.enabled = enabled;
+        this.permitsPerSecond = permitsPerSecond > 0 ? permitsPerSecond : 1;
+        this.burst = Math.max(1, burst);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMs));
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffBaseMs = Math.max(1, backoffBaseMs);
+        this.backoffMaxMs = Math.max(this.backoffBaseMs, backoffMaxMs);
+    }
+
+    /**
+     * 不限流、不重试的实例
+     */
+    public static HostRateLimiter disabled() {
+        return new HostRateLimiter(false, 1, 1, 0, 0, 1, 1);
+    }
+
+    /**
+     * 限流键：scheme://host:port
+     */
+    static String hostKey(URI uri) {
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        int port = uri.getPort() > 0 ? uri.getPort() : ("https".equals(scheme) ? 443 : 80);
+        return scheme + "://" + host + ":" + port;
+    }
+
+    /**
+     * 获取一个令牌，必要时排队等待
+     *
+     * @throws RateLimitRejectedException 预计等待时间超过上限
+     */
+    void acquire(String host) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Bucket bucket = bucketFor(host);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        boolean queued = false;
+        while (true) {
+            long now = System.nanoTime();
+            long waitNanos = bucket.tryAcquire(now);
+            if (waitNanos == 0) {
+                return;
+            }
+            if (now + waitNanos - deadline > 0) {
+                bucket.rejected.increment();
+                throw new RateLimitRejectedException("Rate limit wait for " + host + " exceeds "
+                        + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms");
+            }
+            if (!queued) {
+                queued = true;
+                bucket.queued.increment();
+            }
+            sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 根据响应头更新服务端剩余配额
+     */
+    void observe(String host, HttpHeaders headers) {
+        if (!enabled) {
+            return;
+        }
+        Long remaining = parseLong(header(headers, "RateLimit-Remaining"));
+        if (remaining == null || remaining > 0) {
+            return;
+        }
+        Long resetEpochSeconds = parseLong(header(headers, "RateLimit-Reset"));
+        if (resetEpochSeconds == null) {
+            return;
+        }
+        long delayMs = resetEpochSeconds * 1000 - System.currentTimeMillis();
+        if (delayMs > 0) {
+            bucketFor(host).pauseFor(TimeUnit.MILLISECONDS.toNanos(delayMs));
+            log.info("[RateLimit] {} quota exhausted, pausing {}ms until reset", host, delayMs);
+        }
+    }
+
+    /**
+     * 判断被限流的响应是否应重试
+     *
+     * @param attempt   已重试次数（首次请求为 0）
+     * @param retryable 请求方法是否幂等，非幂等请求只记录限流并暂停，不重试
+     * @return 重试前需要等待的时间；不是限流响应或不再重试时为空
+     */
+    Optional<Duration> retryDelay(String host, int attempt, boolean retryable, HttpStatusCode status, HttpHeaders headers) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Duration retryAfter = parseRetryAfter(header(headers, "Retry-After"));
+        boolean throttled = status.value() == 429 || (status.value() == 503 && retryAfter != null);
+        if (!throttled) {
+            return Optional.empty();
+        }
+        Bucket bucket = bucketFor(host);
+        bucket.throttled.increment();
+        long backoffMs = jitteredBackoffMs(attempt);
+        long delayMs = Math.max(backoffMs, retryAfter == null ? 0 : retryAfter.toMillis());
+        bucket.pauseFor(TimeUnit.MILLISECONDS.toNanos(delayMs));
+        if (!retryable) {
+            bucket.rejected.increment();
+            log.warn("[RateLimit] {} throttled ({}), not retrying non-idempotent request", host, status.value());
+            return Optional.empty();
+        }
+        if (attempt >= maxRetries || TimeUnit.MILLISECONDS.toNanos(delayMs) > maxWaitNanos) {
+            bucket.rejected.increment();
+            log.warn("[RateLimit] {} throttled ({}), giving up after {} retries", host, status.value(), attempt);
+            return Optional.empty();
+        }
+        bucket.retried.increment();
+        log.info("[RateLimit] {} throttled ({}), retry {} in {}ms", host, status.value(), attempt + 1, delayMs);
+        return Optional.of(Duration.ofMillis(delayMs));
+    }
+
+    /**
+     * 各服务地址的累计统计，按地址排序
+     */
+    public Map<String, HostSnapshot> snapshot() {
+        Map<String, HostSnapshot> result = new TreeMap<>();
+        buckets.forEach((host, bucket) -> result.put(host, new HostSnapshot(
+                bucket.queued.sum(), bucket.throttled.sum(), bucket.retried.sum(), bucket.rejected.sum())));
+        return result;
+    }
+
+    /**
+     * 注册已有服务地址的指标，此后新出现的地址在首次请求时注册
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        buckets.forEach((host, bucket) -> register(registry, host, bucket));
+    }
+
+    private static void register(MeterRegistry registry, String host, Bucket bucket) {
+        counter(registry, host, "queued", bucket, b -> b.queued);
+        counter(registry, host, "throttled", bucket, b -> b.throttled);
+        counter(registry, host, "retried", bucket, b -> b.retried);
+        counter(registry, host, "rejected", bucket, b -> b.rejected);
+    }
+
+    private static void counter(MeterRegistry registry, String host, String event, Bucket bucket,
+                                Function<Bucket, LongAdder> adder) {
+        FunctionCounter.builder("releasehub.http.rate-limit", bucket, b -> adder.apply(b).sum())
+                .description("出站 HTTP 限流事件数")
+                .tag("host", host)
+                .tag("event", event)
+                .register(registry);
+    }
+
+    /**
+     * 指数退避 + 全抖动：在 [base, min(max, base * 2^attempt)] 内随机
+     */
+    private long jitteredBackoffMs(int attempt) {
+        long ceiling = backoffBaseMs << Math.min(attempt, 20);
+        ceiling = Math.min(backoffMaxMs, ceiling);
+        return ThreadLocalRandom.current().nextLong(backoffBaseMs, ceiling + 1);
+    }
+
+    private Bucket bucketFor(String host) {
+        return buckets.computeIfAbsent(host, k -> {
+            Bucket created = new Bucket(burst, permitsPerSecond / NANOS_PER_SECOND);
+            MeterRegistry registry = meterRegistry;
+            if (registry != null) {
+                register(registry, k, created);
+            }
+            return created;
+        });
+    }
+
+    static void sleep(long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limit");
+        }
+    }
+
+    /**
+     * 同时兼容 GitLab 的 RateLimit-* 与 GitHub 的 X-RateLimit-*
+     */
+    private static String header(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        return value != null ? value : headers.getFirst("X-" + name);
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retry-After 可以是秒数或 HTTP 日期
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Long seconds = parseLong(value);
+        if (seconds != null) {
+            return Duration.ofSeconds(Math.max(0, seconds));
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            long millis = at.toInstant().toEpochMilli() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(0, millis));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static final class Bucket {
+        private final int capacity;
+        private final double permitsPerNano;
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private double tokens;
+        private long lastRefill;
+        private long pausedUntil;
+
+        private Bucket(int capacity, double permitsPerNano) {
+            this.capacity = capacity;
+            this.permitsPerNano = permitsPerNano;
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+            this.pausedUntil = lastRefill;
+        }
+
+        /**
+         * @return 0 表示已取得令牌，否则为下一次尝试前需要等待的纳秒数
+         */
+        synchronized long tryAcquire(long now) {
+            if (pausedUntil - now > 0) {
+                return pausedUntil - now;
+            }
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerNano));
+        }
+
+        synchronized void pauseFor(long nanos) {
+            long until = System.nanoTime() + nanos;
+            if (until - pausedUntil > 0) {
+                pausedUntil = until;
+            }
+        }
+    }
+
+    /**
+     * 单个服务地址的累计统计
+     *
+     * @param queued    因令牌不足排队等待的请求数
+     * @param throttled 服务端返回 429/503 的次数
+     * @param retried   被限流后重试的次数
+     * @param rejected  等待超时、重试用尽或非幂等请求被限流而放弃的请求数
+     */
+    public record HostSnapshot(long queued, long throttled, long retried, long rejected) {
+    }
+
+    /**
+     * 限流等待超过上限，RestTemplate 会包装为 ResourceAccessException
+     */
+    static final class RateLimitRejectedException extends IOException {
+        RateLimitRejectedException(String message) {
+            super(message);
+        }
+    }
+}
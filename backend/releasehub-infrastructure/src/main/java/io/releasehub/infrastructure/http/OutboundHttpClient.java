@@ -0,0 +1,354 @@
+package io.releasehub.infrastructure.http;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 出站 HTTP 客户端，GitLab / GitHub 适配器共享同一个实例。
+ * <p>
+ * 底层是单个 JDK {@link HttpClient}：连接池与 keep-alive 由其维护，HTTPS 下通过 ALPN 协商 HTTP/2，
+ * 同一主机的请求复用连接。在此之上：
+ * <ul>
+ *     <li>按主机限制同时在途的请求数，响应关闭后才释放名额</li>
+ *     <li>按服务地址限流，见 {@link HostRateLimiter}</li>
+ *     <li>按 "方法 + 主机 + 路径模板" 统计请求数、错误数和耗时，以 releasehub.http.client.* 指标导出</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient implements MeterBinder {
+
+    /**
+     * 后一个（或两个）路径段是变量的集合名，用于把具体路径归一成模板，避免统计项无限增长
+     */
+    private static final Map<String, Integer> VARIABLE_SEGMENTS_AFTER = Map.of(
+            "projects", 1,
+            "repos", 2,
+            "branches", 1,
+            "files", 1,
+            "heads", 1,
+            "merge_requests", 1,
+            "pulls", 1,
+            "tags", 1
+    );
+    private static final Set<String> NUMERIC_ONLY = Set.of("merge_requests", "pulls");
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+    private static final int MAX_ENDPOINTS = 256;
+    private static final String OTHER_ENDPOINT = "OTHER";
+
+    private final HttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final int maxRequestsPerHost;
+    private final HostRateLimiter rateLimiter;
+    private final ConcurrentHashMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public OutboundHttpClient(
+            @Value("${releasehub.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${releasehub.http.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${releasehub.http.max-requests-per-host:16}") int maxRequestsPerHost,
+            @Value("${releasehub.http.http2-enabled:true}") boolean http2Enabled,
+            HostRateLimiter rateLimiter) {
+        this.maxRequestsPerHost = Math.max(1, maxRequestsPerHost);
+        this.rateLimiter = rateLimiter;
+        this.httpClient = HttpClient.newBuilder()
+                .version(http2Enabled ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(Math.max(1, connectTimeoutMs)))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("outbound-http-", 0).factory()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(Math.max(1, readTimeoutMs)));
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.restTemplate.getInterceptors().add(new LimitingInterceptor());
+    }
+
+    /**
+     * 共享的 RestTemplate，线程安全，适配器不应再自行创建
+     */
+    public RestTemplate restTemplate() {
+        return restTemplate;
+    }
+
+    /**
+     * 各端点的累计统计，按端点名排序
+     */
+    public Map<String, EndpointSnapshot> snapshot() {
+        Map<String, EndpointSnapshot> result = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> result.put(endpoint, stats.snapshot()));
+        return result;
+    }
+
+    /**
+     * 注册已有端点的指标，此后新出现的端点在首次请求时注册
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        endpoints.forEach((endpoint, stats) -> register(registry, endpoint, stats));
+    }
+
+    private static void register(MeterRegistry registry, String endpoint, EndpointStats stats) {
+        FunctionTimer.builder("releasehub.http.client.requests", stats,
+                        s -> s.count.sum(), s -> s.totalNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("出站 HTTP 请求数与累计耗时（含读取响应体）")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        FunctionCounter.builder("releasehub.http.client.errors", stats, s -> s.errors.sum())
+                .description("出站 HTTP 4xx/5xx 响应与 I/O 失败数")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        TimeGauge.builder("releasehub.http.client.max", stats, TimeUnit.NANOSECONDS, s -> s.maxNanos.get())
+                .description("出站 HTTP 请求最大耗时")
+                .tag("endpoint", endpoint)
+                .register(registry);
+    }
+
+    /**
+     * 把请求归一成 "GET host /api/v4/projects/{}/repository/branches/{}" 形式的端点名
+     */
+    static String endpointOf(String method, URI uri) {
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        if (uri.getPort() > 0) {
+            host = host + ":" + uri.getPort();
+        }
+        String rawPath = uri.getRawPath() == null ? "" : uri.getRawPath();
+        StringBuilder path = new StringBuilder();
+        String[] segments = rawPath.split("/");
+        int skip = 0;
+        String collection = null;
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            path.append('/');
+            if (skip > 0 && !(NUMERIC_ONLY.contains(collection) && !isNumeric(segment))) {
+                path.append("{}");
+                skip--;
+                continue;
+            }
+            skip = 0;
+            if (isNumeric(segment)) {
+                path.append("{}");
+                continue;
+            }
+            path.append(segment);
+            Integer variables = VARIABLE_SEGMENTS_AFTER.get(segment);
+            if (variables != null) {
+                skip = variables;
+                collection = segment;
+            }
+        }
+        return method + " " + host + (path.isEmpty() ? "/" : path.toString());
+    }
+
+    private static boolean isNumeric(String segment) {
+        return segment.chars().allMatch(Character::isDigit);
+    }
+
+    private Semaphore permitsFor(URI uri) {
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        return hostPermits.computeIfAbsent(host + ":" + uri.getPort(), k -> new Semaphore(maxRequestsPerHost, true));
+    }
+
+    private EndpointStats statsFor(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats != null) {
+            return stats;
+        }
+        String key = endpoints.size() >= MAX_ENDPOINTS ? OTHER_ENDPOINT : endpoint;
+        return endpoints.computeIfAbsent(key, k -> {
+            EndpointStats created = new EndpointStats();
+            MeterRegistry registry = meterRegistry;
+            if (registry != null) {
+                register(registry, k, created);
+            }
+            return created;
+        });
+    }
+
+    /**
+     * 先取限流令牌再获取主机名额，然后执行请求；名额与耗时统计在响应关闭时结束。
+     * 被服务端限流时，幂等请求关闭响应、按限流器给出的等待时间重试；非幂等请求（如创建 MR、提交文件）
+     * 可能已被部分处理，直接返回限流响应，避免重复执行。
+     */
+    private final class LimitingInterceptor implements ClientHttpRequestInterceptor {
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            URI uri = request.getURI();
+            String endpoint = endpointOf(request.getMethod().name(), uri);
+            String host = HostRateLimiter.hostKey(uri);
+            boolean idempotent = IDEMPOTENT_METHODS.contains(request.getMethod());
+            for (int attempt = 0; ; attempt++) {
+                rateLimiter.acquire(host);
+                ClientHttpResponse response = executeOnce(request, body, execution, endpoint);
+                Optional<Duration> retryDelay;
+                try {
+                    rateLimiter.observe(host, response.getHeaders());
+                    retryDelay = rateLimiter.retryDelay(host, attempt, idempotent, response.getStatusCode(), response.getHeaders());
+                } catch (IOException | RuntimeException e) {
+                    response.close();
+                    throw e;
+                }
+                if (retryDelay.isEmpty()) {
+                    return response;
+                }
+                response.close();
+                HostRateLimiter.sleep(retryDelay.get().toNanos());
+            }
+        }
+
+        /**
+         * 拦截器位于链尾，每次调用 execution 都会创建新的底层请求，因此可以安全重试
+         */
+        private ClientHttpResponse executeOnce(HttpRequest request, byte[] body, ClientHttpRequestExecution execution,
+                                               String endpoint) throws IOException {
+            EndpointStats stats = statsFor(endpoint);
+            Semaphore permits = permitsFor(request.getURI());
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for HTTP permit: " + endpoint);
+            }
+            long start = System.nanoTime();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                return new TrackedResponse(response, () -> {
+                    permits.release();
+                    stats.record(System.nanoTime() - start, isError(response));
+                });
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                stats.record(System.nanoTime() - start, true);
+                log.debug("[OutboundHttp] {} failed: {}", endpoint, e.getMessage());
+                throw e;
+            }
+        }
+
+        private boolean isError(ClientHttpResponse response) {
+            try {
+                return response.getStatusCode().isError();
+            } catch (IOException e) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 关闭时执行一次回调的响应包装
+     */
+    private static final class TrackedResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private TrackedResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    onClose.run();
+                }
+            }
+        }
+    }
+
+    private static final class EndpointStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos, boolean error) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        EndpointSnapshot snapshot() {
+            long total = count.sum();
+            Duration avg = total == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / total);
+            return new EndpointSnapshot(total, errors.sum(), avg, Duration.ofNanos(maxNanos.get()));
+        }
+    }
+
+    /**
+     * 单个端点的累计统计
+     *
+     * @param count  请求数
+     * @param errors 4xx/5xx 响应与 I/O 失败数
+     * @param avg    平均耗时（含读取响应体）
+     * @param max    最大耗时
+     */
+    public record EndpointSnapshot(long count, long errors, Duration avg, Duration max) {
+    }
+}
@@ -0,0 +1,22 @@
+package io.releasehub.infrastructure.persistence.base;
+
+/**
+ * LIKE 参数转义：查询统一使用 {@code escape '\'}，关键字与分组编码中的 %、_ 按字面匹配。
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public static String startsWith(String value) {
+        return escape(value) + "%";
+    }
+
+    public static String contains(String value) {
+        return "%" + escape(value) + "%";
+    }
+}
@@ -0,0 +1,119 @@
+package io.releasehub.infrastructure.persistence.conflict;
+
+import io.releasehub.application.conflict.ConflictDetectionPort;
+import io.releasehub.domain.conflict.ConflictItem;
+import io.releasehub.domain.conflict.ConflictReport;
+import io.releasehub.domain.version.ConflictType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 冲突报告持久化适配器。
+ * <p>
+ * 报告保存在 conflict_report / conflict_report_item 表中，重启或多实例部署时均可读取；
+ * 超过 {@code releasehub.conflict.report.ttl-minutes} 的报告视为过期，不再返回。
+ * 进程内读穿缓存最多保留 {@code releasehub.conflict.report.cache-seconds}，
+ * 以限制其他实例写入新报告后本实例读到旧报告的时间。
+ */
+@Slf4j
+@Repository
+public class ConflictDetectionPersistenceAdapter implements ConflictDetectionPort {
+
+    private final ConflictReportJpaRepository repository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration cacheTtl;
+    private final ConcurrentMap<String, CachedReport> cache = new ConcurrentHashMap<>();
+
+    public ConflictDetectionPersistenceAdapter(ConflictReportJpaRepository repository,
+                                               Clock clock,
+                                               @Value("${releasehub.conflict.report.ttl-minutes:30}") long ttlMinutes,
+                                               @Value("${releasehub.conflict.report.cache-seconds:30}") long cacheSeconds) {
+        this.repository = repository;
+        this.clock = clock;
+        this.ttl = Duration.ofMinutes(Math.max(1, ttlMinutes));
+        this.cacheTtl = Duration.ofSeconds(Math.max(0, cacheSeconds));
+    }
+
+    @Override
+    @Transactional
+    public void saveReport(String windowId, ConflictReport report) {
+        ConflictReportJpaEntity entity = repository.findById(windowId).orElseGet(() -> {
+            ConflictReportJpaEntity created = new ConflictReportJpaEntity();
+            created.setWindowId(windowId);
+            return created;
+        });
+        Instant expiresAt = report.getCheckedAt().plus(ttl);
+        entity.setCheckedAt(report.getCheckedAt());
+        entity.setExpiresAt(expiresAt);
+        entity.setConflictCount(report.totalCount());
+        entity.getItems().clear();
+        report.getConflicts().forEach(item -> entity.getItems().add(toEmbeddable(item)));
+        repository.save(entity);
+        cache.put(windowId, new CachedReport(report, expiresAt, Instant.now(clock).plus(cacheTtl)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ConflictReport> getLatestReport(String windowId) {
+        Instant now = Instant.now(clock);
+        CachedReport cached = cache.get(windowId);
+        if (cached == null || !cached.cachedUntil().isAfter(now)) {
+            cached = repository.findById(windowId)
+                    .map(entity -> new CachedReport(toDomain(entity), entity.getExpiresAt(), now.plus(cacheTtl)))
+                    .orElse(null);
+            if (cached == null) {
+                cache.remove(windowId);
+                return Optional.empty();
+            }
+            cache.put(windowId, cached);
+        }
+        if (!cached.expiresAt().isAfter(now)) {
+            log.debug("Conflict report for window {} expired at {}", windowId, cached.expiresAt());
+            return Optional.empty();
+        }
+        return Optional.of(cached.report());
+    }
+
+    private ConflictReportItemJpaEmbeddable toEmbeddable(ConflictItem item) {
+        return new ConflictReportItemJpaEmbeddable(
+                item.getRepoId(),
+                item.getRepoName(),
+                item.getIterationKey(),
+                item.getConflictType().name(),
+                item.getSourceBranch(),
+                item.getTargetBranch(),
+                item.getSystemVersion(),
+                item.getRepoVersion(),
+                item.getMessage(),
+                item.getSuggestion()
+        );
+    }
+
+    private ConflictReport toDomain(ConflictReportJpaEntity entity) {
+        return ConflictReport.rehydrate(entity.getWindowId(), entity.getCheckedAt(), entity.getItems().stream()
+                .map(item -> new ConflictItem.Builder(item.getRepoId(), ConflictType.valueOf(item.getConflictType()))
+                        .repoName(item.getRepoName())
+                        .iterationKey(item.getIterationKey())
+                        .sourceBranch(item.getSourceBranch())
+                        .targetBranch(item.getTargetBranch())
+                        .systemVersion(item.getSystemVersion())
+                        .repoVersion(item.getRepoVersion())
+                        .message(item.getMessage())
+                        .suggestion(item.getSuggestion())
+                        .build())
+                .toList());
+    }
+
+    private record CachedReport(ConflictReport report, Instant expiresAt, Instant cachedUntil) {
+    }
+}
@@ -0,0 +1,36 @@
+package io.releasehub.infrastructure.persistence.conflict;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflictReportItemJpaEmbeddable {
+    @Column(name = "repo_id", nullable = false)
+    private String repoId;
+    @Column(name = "repo_name")
+    private String repoName;
+    @Column(name = "iteration_key")
+    private String iterationKey;
+    @Column(name = "conflict_type", nullable = false)
+    private String conflictType;
+    @Column(name = "source_branch")
+    private String sourceBranch;
+    @Column(name = "target_branch")
+    private String targetBranch;
+    @Column(name = "system_version")
+    private String systemVersion;
+    @Column(name = "repo_version")
+    private String repoVersion;
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+    @Column(name = "suggestion", columnDefinition = "TEXT")
+    private String suggestion;
+}
@@ -0,0 +1,40 @@
+package io.releasehub.infrastructure.persistence.conflict;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "conflict_report")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ConflictReportJpaEntity {
+    @Id
+    @Column(name = "window_id")
+    private String windowId;
+    @Column(name = "checked_at", nullable = false)
+    private Instant checkedAt;
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+    @Column(name = "conflict_count", nullable = false)
+    private int conflictCount;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "conflict_report_item", joinColumns = @JoinColumn(name = "window_id"))
+    @OrderColumn(name = "item_order")
+    private List<ConflictReportItemJpaEmbeddable> items = new ArrayList<>();
+}
@@ -0,0 +1,6 @@
+package io.releasehub.infrastructure.persistence.conflict;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ConflictReportJpaRepository extends JpaRepository<ConflictReportJpaEntity, String> {
+}
@@ -0,0 +1,25 @@
+package io.releasehub.infrastructure.persistence.dashboard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "dashboard_counter")
+@Getter
+@Setter
+@NoArgsConstructor
+public class DashboardCounterJpaEntity {
+    @Id
+    private String name;
+    @Column(name = "counter_value", nullable = false)
+    private long counterValue;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
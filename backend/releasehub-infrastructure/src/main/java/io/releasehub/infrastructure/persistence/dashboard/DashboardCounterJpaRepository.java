@@ -0,0 +1,21 @@
+package io.releasehub.infrastructure.persistence.dashboard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface DashboardCounterJpaRepository extends JpaRepository<DashboardCounterJpaEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update DashboardCounterJpaEntity c
+            set c.counterValue = c.counterValue + :delta, c.updatedAt = :now
+            where c.name = :name
+            """)
+    int increment(@Param("name") String name, @Param("delta") long delta, @Param("now") Instant now);
+}
@@ -0,0 +1,33 @@
+package io.releasehub.infrastructure.persistence.dashboard;
+
+import io.releasehub.application.dashboard.DashboardCounter;
+import io.releasehub.application.dashboard.DashboardCounterPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 仪表盘计数表适配器。计数通过单条 UPDATE 原子累加，并发新增不会丢失计数。
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardCounterPersistenceAdapter implements DashboardCounterPort {
+
+    private final DashboardCounterJpaRepository repository;
+    private final Clock clock;
+
+    @Override
+    public Optional<Long> get(DashboardCounter counter) {
+        return repository.findById(counter.name()).map(DashboardCounterJpaEntity::getCounterValue);
+    }
+
+    @Override
+    public void increment(DashboardCounter counter, long delta) {
+        if (delta != 0) {
+            repository.increment(counter.name(), delta, Instant.now(clock));
+        }
+    }
+}
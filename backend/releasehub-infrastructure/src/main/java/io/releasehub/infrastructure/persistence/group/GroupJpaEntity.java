@@ -36,4 +36,10 @@ public class GroupJpaEntity implements Serializable {
     private Instant updatedAt;
     
     private long version;
+
+    /**
+     * 物化路径（/顶级编码/.../本分组编码/），子树查询按前缀匹配
+     */
+    @Column(length = 1024)
+    private String path;
 }
@@ -1,14 +1,17 @@
 package io.releasehub.infrastructure.persistence.group;
 
 import io.releasehub.application.group.GroupPort;
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.group.Group;
 import io.releasehub.domain.group.GroupId;
+import io.releasehub.infrastructure.persistence.base.LikePatterns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,7 +25,16 @@ public class GroupJpaPersistenceAdapter implements GroupPort {
     private final GroupJpaRepository repository;
 
     @Override
+    @Transactional
     public void save(Group group) {
+        String oldPath = repository.findById(group.getId().value())
+                .map(GroupJpaEntity::getPath)
+                .orElse(null);
+        String parentPath = group.getParentCode() == null
+                ? null
+                : repository.findPathByCode(group.getParentCode())
+                        .orElseGet(() -> GroupScope.pathOf(null, group.getParentCode()));
+        String path = GroupScope.pathOf(parentPath, group.getCode());
         GroupJpaEntity entity = new GroupJpaEntity(
                 group.getId().value(),
                 group.getName(),
@@ -30,9 +42,14 @@ public class GroupJpaPersistenceAdapter implements GroupPort {
                 group.getParentCode(),
                 group.getCreatedAt(),
                 group.getUpdatedAt(),
-                group.getVersion()
+                group.getVersion(),
+                path
         );
         repository.save(entity);
+        if (oldPath != null && !oldPath.equals(path)) {
+            repository.flush();
+            repository.rewriteDescendantPaths(oldPath, oldPath.length(), path, LikePatterns.startsWith(oldPath));
+        }
     }
 
     @Override
@@ -98,6 +115,14 @@ public class GroupJpaPersistenceAdapter implements GroupPort {
         return repository.countByParentCode(parentCode);
     }
 
+    @Override
+    public Optional<GroupScope> findScope(String code) {
+        return repository.findByCode(code)
+                .map(entity -> new GroupScope(code, entity.getPath() != null
+                        ? entity.getPath()
+                        : GroupScope.pathOf(null, code)));
+    }
+
     private Group toDomain(GroupJpaEntity entity) {
         return Group.rehydrate(
                 GroupId.of(entity.getId()),
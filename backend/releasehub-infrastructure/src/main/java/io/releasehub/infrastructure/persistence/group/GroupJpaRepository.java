@@ -1,6 +1,8 @@
 package io.releasehub.infrastructure.persistence.group;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +13,19 @@ public interface GroupJpaRepository extends JpaRepository<GroupJpaEntity, String
     Optional<GroupJpaEntity> findByCode(String code);
     long countByParentCode(String parentCode);
     void deleteByCode(String code);
+
+    @Query("select g.path from GroupJpaEntity g where g.code = :code")
+    Optional<String> findPathByCode(String code);
+
+    /**
+     * 分组移动后，把子孙分组路径中的旧前缀替换为新前缀
+     */
+    @Modifying
+    @Query("""
+            update GroupJpaEntity g
+            set g.path = concat(:newPath, substring(g.path, :oldPathLength + 1))
+            where g.path like :descendantPattern escape '\\'
+              and g.path <> :oldPath
+            """)
+    int rewriteDescendantPaths(String oldPath, int oldPathLength, String newPath, String descendantPattern);
 }
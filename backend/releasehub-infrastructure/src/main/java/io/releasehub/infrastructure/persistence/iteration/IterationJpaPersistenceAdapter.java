@@ -1,5 +1,7 @@
 package io.releasehub.infrastructure.persistence.iteration;
 
+import io.releasehub.application.dashboard.DashboardCounter;
+import io.releasehub.application.dashboard.DashboardCounterPort;
 import io.releasehub.application.iteration.IterationPort;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.iteration.Iteration;
@@ -11,9 +13,12 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -25,9 +30,12 @@ public class IterationJpaPersistenceAdapter implements IterationPort {
 
     private final IterationJpaRepository iterationRepository;
     private final IterationRepoJpaRepository iterationRepoRepository;
+    private final DashboardCounterPort dashboardCounterPort;
 
     @Override
+    @Transactional
     public void save(Iteration iteration) {
+        boolean created = !iterationRepository.existsById(iteration.getId().value());
         IterationJpaEntity entity = new IterationJpaEntity(
                 iteration.getId().value(),
                 iteration.getName(),
@@ -39,6 +47,9 @@ public class IterationJpaPersistenceAdapter implements IterationPort {
                 iteration.getUpdatedAt()
         );
         iterationRepository.save(entity);
+        if (created) {
+            dashboardCounterPort.increment(DashboardCounter.ITERATIONS, 1);
+        }
         Set<String> newRepos = iteration.getRepos().stream().map(RepoId::value).collect(Collectors.toSet());
         List<IterationRepoJpaEntity> existing = iterationRepoRepository.findByIdIterationKey(iteration.getId().value());
         Set<String> oldRepos = existing.stream().map(e -> e.getId().getRepoId()).collect(Collectors.toSet());
@@ -65,11 +76,18 @@ public class IterationJpaPersistenceAdapter implements IterationPort {
                 });
     }
 
+    @Override
+    public List<Iteration> findAllByKeys(Collection<IterationKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = keys.stream().map(IterationKey::value).distinct().toList();
+        return toDomain(iterationRepository.findAllById(values));
+    }
+
     @Override
     public List<Iteration> findAll() {
-        return iterationRepository.findAll().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return toDomain(iterationRepository.findAll(), iterationRepoRepository.findAll());
     }
 
     @Override
@@ -83,23 +101,55 @@ public class IterationJpaPersistenceAdapter implements IterationPort {
             String k = keyword.trim();
             result = iterationRepository.findByKeyContainingIgnoreCaseOrNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(k, k, k, pageable);
         }
-        List<Iteration> items = result.getContent().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
-        return new PageResult<>(items, result.getTotalElements());
+        return new PageResult<>(toDomain(result.getContent()), result.getTotalElements());
+    }
+
+    @Override
+    public long count() {
+        return iterationRepository.count();
     }
 
     @Override
+    public boolean existsByGroupCode(String groupCode) {
+        return iterationRepository.existsByGroupCode(groupCode);
+    }
+
+    @Override
+    public boolean existsByRepo(RepoId repoId) {
+        return iterationRepoRepository.existsByIdRepoId(repoId.value());
+    }
+
+    @Override
+    @Transactional
     public void deleteByKey(IterationKey key) {
         iterationRepoRepository.deleteByIdIterationKey(key.value());
-        iterationRepository.deleteById(key.value());
+        if (iterationRepository.existsById(key.value())) {
+            iterationRepository.deleteById(key.value());
+            dashboardCounterPort.increment(DashboardCounter.ITERATIONS, -1);
+        }
+    }
+
+    /**
+     * 批量转换：所有迭代的关联仓库通过一次 IN 查询加载
+     */
+    private List<Iteration> toDomain(List<IterationJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        return toDomain(entities, iterationRepoRepository.findByIdIterationKeyIn(
+                entities.stream().map(IterationJpaEntity::getKey).toList()));
+    }
+
+    private List<Iteration> toDomain(List<IterationJpaEntity> entities, List<IterationRepoJpaEntity> repos) {
+        Map<String, Set<RepoId>> reposByIteration = repos.stream()
+                .collect(Collectors.groupingBy(r -> r.getId().getIterationKey(),
+                        Collectors.mapping(r -> RepoId.of(r.getId().getRepoId()), Collectors.toCollection(HashSet::new))));
+        return entities.stream()
+                .map(e -> toDomain(e, reposByIteration.getOrDefault(e.getKey(), new HashSet<>())))
+                .collect(Collectors.toList());
     }
 
-    private Iteration toDomain(IterationJpaEntity entity) {
-        List<IterationRepoJpaEntity> repos = iterationRepoRepository.findByIdIterationKey(entity.getKey());
-        Set<RepoId> repoIds = repos.stream()
-                .map(r -> RepoId.of(r.getId().getRepoId()))
-                .collect(Collectors.toCollection(HashSet::new));
+    private Iteration toDomain(IterationJpaEntity entity, Set<RepoId> repoIds) {
         IterationStatus status = parseStatus(entity.getStatus());
         return Iteration.rehydrate(
                 IterationKey.of(entity.getKey()),
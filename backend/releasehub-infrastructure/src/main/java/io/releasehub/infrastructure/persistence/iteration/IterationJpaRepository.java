@@ -5,6 +5,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface IterationJpaRepository extends JpaRepository<IterationJpaEntity, String> {
+    boolean existsByGroupCode(String groupCode);
+
     Page<IterationJpaEntity> findByKeyContainingIgnoreCaseOrNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
             String key,
             String name,
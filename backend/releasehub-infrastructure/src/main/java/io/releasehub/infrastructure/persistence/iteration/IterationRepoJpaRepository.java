@@ -2,10 +2,13 @@ package io.releasehub.infrastructure.persistence.iteration;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface IterationRepoJpaRepository extends JpaRepository<IterationRepoJpaEntity, IterationRepoId> {
     List<IterationRepoJpaEntity> findByIdIterationKey(String iterationKey);
+    List<IterationRepoJpaEntity> findByIdIterationKeyIn(Collection<String> iterationKeys);
+    boolean existsByIdRepoId(String repoId);
     void deleteByIdIterationKey(String iterationKey);
     void deleteByIdIterationKeyAndIdRepoId(String iterationKey, String repoId);
 }
@@ -1,5 +1,6 @@
 package io.releasehub.infrastructure.persistence.iteration;
 
+import io.releasehub.application.iteration.IterationRepoKey;
 import io.releasehub.application.iteration.IterationRepoPort;
 import io.releasehub.application.iteration.IterationRepoVersionInfo;
 import io.releasehub.domain.iteration.BranchCreationMode;
@@ -8,8 +9,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
@@ -59,6 +65,26 @@ public class IterationRepoPersistenceAdapter implements IterationRepoPort {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 按涉及的迭代一次 IN 查询加载关联，再筛出请求的迭代-仓库对；复合主键的 findAllById 会逐条查询，故不使用
+     */
+    @Override
+    public Map<IterationRepoKey, IterationRepoVersionInfo> getVersionInfos(Collection<IterationRepoKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Set<IterationRepoKey> wanted = new HashSet<>(keys);
+        List<String> iterationKeys = wanted.stream().map(IterationRepoKey::iterationKey).distinct().toList();
+        Map<IterationRepoKey, IterationRepoVersionInfo> result = new HashMap<>();
+        for (IterationRepoJpaEntity entity : jpaRepository.findByIdIterationKeyIn(iterationKeys)) {
+            IterationRepoKey key = new IterationRepoKey(entity.getId().getIterationKey(), entity.getId().getRepoId());
+            if (wanted.contains(key)) {
+                result.put(key, toVersionInfo(entity));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void updateVersion(String iterationKey, String repoId, String devVersion,
                                String versionSource, Instant versionSyncedAt) {
@@ -73,6 +99,7 @@ public class IterationRepoPersistenceAdapter implements IterationRepoPort {
     
     private IterationRepoVersionInfo toVersionInfo(IterationRepoJpaEntity e) {
         return IterationRepoVersionInfo.builder()
+                .iterationKey(e.getId().getIterationKey())
                 .repoId(e.getId().getRepoId())
                 .baseVersion(e.getBaseVersion())
                 .devVersion(e.getDevVersion())
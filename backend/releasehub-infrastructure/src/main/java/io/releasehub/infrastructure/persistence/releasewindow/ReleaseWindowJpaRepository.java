@@ -1,6 +1,6 @@
 package io.releasehub.infrastructure.persistence.releasewindow;
 
-import java.util.List;
+import java.util.Collection;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,13 +18,21 @@ public interface ReleaseWindowJpaRepository extends JpaRepository<ReleaseWindowJ
 
     Page<ReleaseWindowJpaEntity> findByStatus(String status, Pageable pageable);
 
+    long countByStatusIn(Collection<String> statuses);
+
+    boolean existsByGroupCode(String groupCode);
+
+    /**
+     * groupPathPattern 为分组子树路径前缀（已转义），子树筛选是对 groups.path 的单个前缀条件
+     */
     @Query("SELECT r FROM ReleaseWindowJpaEntity r WHERE " +
            "(:name IS NULL OR LOWER(r.name) LIKE LOWER(CONCAT('%', CAST(:name AS string), '%'))) AND " +
            "(:status IS NULL OR r.status = :status) AND " +
-           "(:groupCodes IS NULL OR r.groupCode IN :groupCodes)")
-    Page<ReleaseWindowJpaEntity> findByNameStatusAndGroupCodes(
+           "(:groupPathPattern IS NULL OR r.groupCode IN (" +
+           "SELECT g.code FROM GroupJpaEntity g WHERE g.path LIKE CAST(:groupPathPattern AS string) ESCAPE '\\'))")
+    Page<ReleaseWindowJpaEntity> findByNameStatusAndGroupScope(
             @Param("name") String name,
             @Param("status") String status,
-            @Param("groupCodes") List<String> groupCodes,
+            @Param("groupPathPattern") String groupPathPattern,
             Pageable pageable);
 }
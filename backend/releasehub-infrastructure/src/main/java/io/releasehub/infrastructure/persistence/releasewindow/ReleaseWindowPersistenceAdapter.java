@@ -1,15 +1,18 @@
 package io.releasehub.infrastructure.persistence.releasewindow;
 
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.application.releasewindow.ReleaseWindowPort;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.releasewindow.ReleaseWindow;
 import io.releasehub.domain.releasewindow.ReleaseWindowId;
 import io.releasehub.domain.releasewindow.ReleaseWindowStatus;
+import io.releasehub.infrastructure.persistence.base.LikePatterns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -54,21 +57,34 @@ public class ReleaseWindowPersistenceAdapter implements ReleaseWindowPort {
                             .collect(Collectors.toList());
     }
 
+    @Override
+    public long countByStatusIn(Collection<ReleaseWindowStatus> statuses) {
+        if (statuses.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.countByStatusIn(statuses.stream().map(Enum::name).toList());
+    }
+
+    @Override
+    public boolean existsByGroupCode(String groupCode) {
+        return jpaRepository.existsByGroupCode(groupCode);
+    }
+
     @Override
     public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, int page, int size) {
-        return findPaged(name, status, null, page, size);
+        return findPaged(name, status, (GroupScope) null, page, size);
     }
 
     @Override
-    public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, List<String> groupCodes, int page, int size) {
+    public PageResult<ReleaseWindow> findPaged(String name, ReleaseWindowStatus status, GroupScope groupScope, int page, int size) {
         int pageIndex = Math.max(page - 1, 0);
         PageRequest pageable = PageRequest.of(pageIndex, size);
         
         String nameParam = (name == null || name.isBlank()) ? null : name.trim();
         String statusParam = (status == null) ? null : status.name();
-        List<String> groupCodeParams = (groupCodes == null || groupCodes.isEmpty()) ? null : groupCodes;
+        String groupPathPattern = groupScope == null ? null : LikePatterns.startsWith(groupScope.path());
         
-        Page<ReleaseWindowJpaEntity> result = jpaRepository.findByNameStatusAndGroupCodes(nameParam, statusParam, groupCodeParams, pageable);
+        Page<ReleaseWindowJpaEntity> result = jpaRepository.findByNameStatusAndGroupScope(nameParam, statusParam, groupPathPattern, pageable);
         
         List<ReleaseWindow> items = result.getContent().stream()
                 .map(this::toDomain)
@@ -66,4 +66,10 @@ public class CodeRepositoryJpaEntity {
     private String initialVersion;
     @Column(name = "version_source", length = 20)
     private String versionSource;
+
+    /**
+     * 规范化后的 cloneUrl（host/path 小写、去掉 .git），唯一索引保证同一仓库不会被重复纳管
+     */
+    @Column(name = "clone_url_key", length = 512)
+    private String cloneUrlKey;
 }
@@ -5,22 +5,71 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.Collection;
+import io.releasehub.application.repo.RepoSearchHit;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface CodeRepositoryJpaRepository extends JpaRepository<CodeRepositoryJpaEntity, String> {
     void deleteById(String id);
 
-    Page<CodeRepositoryJpaEntity> findByNameContainingIgnoreCaseOrCloneUrlContainingIgnoreCase(String name, String cloneUrl, Pageable pageable);
+    @Query("select r.id from CodeRepositoryJpaEntity r where r.cloneUrlKey = :cloneUrlKey")
+    Optional<String> findIdByCloneUrlKey(String cloneUrlKey);
+
+    boolean existsByGroupCode(String groupCode);
+
+    /**
+     * 关键字搜索：lower(name) / lower(clone_url) 的 LIKE 条件可走 V40 创建的 trigram 索引；
+     * 排序依次为名称完全匹配、名称前缀匹配、名称包含、仅 cloneUrl 包含。
+     * 参数由调用方预先转小写并转义 LIKE 通配符。
+     */
+    @Query(value = """
+            select r from CodeRepositoryJpaEntity r
+            where lower(r.name) like :pattern escape '\\'
+               or lower(r.cloneUrl) like :pattern escape '\\'
+            order by case
+                       when lower(r.name) = :keyword then 0
+                       when lower(r.name) like :prefix escape '\\' then 1
+                       when lower(r.name) like :pattern escape '\\' then 2
+                       else 3
+                     end,
+                     r.name, r.id
+            """,
+            countQuery = """
+            select count(r) from CodeRepositoryJpaEntity r
+            where lower(r.name) like :pattern escape '\\'
+               or lower(r.cloneUrl) like :pattern escape '\\'
+            """)
+    Page<CodeRepositoryJpaEntity> searchByKeyword(String keyword, String prefix, String pattern, Pageable pageable);
 
+    @Query("""
+            select new io.releasehub.application.repo.RepoSearchHit(r.id, r.name, r.cloneUrl, r.groupCode)
+            from CodeRepositoryJpaEntity r
+            where lower(r.name) like :pattern escape '\\'
+               or lower(r.cloneUrl) like :pattern escape '\\'
+            order by case
+                       when lower(r.name) = :keyword then 0
+                       when lower(r.name) like :prefix escape '\\' then 1
+                       when lower(r.name) like :pattern escape '\\' then 2
+                       else 3
+                     end,
+                     r.name, r.id
+            """)
+    List<RepoSearchHit> suggestByKeyword(String keyword, String prefix, String pattern, Pageable pageable);
+
+    /**
+     * 分组范围内的关键字搜索，pattern 为 null 时不按关键字过滤；pattern 由调用方预先转小写并转义 LIKE 通配符。
+     */
     @Query("""
             select r from CodeRepositoryJpaEntity r
-            where r.groupCode in :groupCodes
+            where r.groupCode in (
+                select g.code from GroupJpaEntity g where g.path like :groupPathPattern escape '\\'
+              )
               and (
-                :keyword is null
-                or :keyword = ''
-                or lower(r.name) like lower(concat('%', :keyword, '%'))
-                or lower(r.cloneUrl) like lower(concat('%', :keyword, '%'))
+                :pattern is null
+                or lower(r.name) like :pattern escape '\\'
+                or lower(r.cloneUrl) like :pattern escape '\\'
               )
             """)
-    Page<CodeRepositoryJpaEntity> searchByGroupCodesAndKeyword(Collection<String> groupCodes, String keyword, Pageable pageable);
+    Page<CodeRepositoryJpaEntity> searchByGroupScopeAndKeyword(String groupPathPattern, String pattern, Pageable pageable);
 }
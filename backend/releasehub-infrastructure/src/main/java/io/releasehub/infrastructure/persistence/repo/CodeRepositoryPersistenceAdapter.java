@@ -1,22 +1,30 @@
 package io.releasehub.infrastructure.persistence.repo;
 
+import io.releasehub.application.dashboard.DashboardCounter;
+import io.releasehub.application.dashboard.DashboardCounterPort;
+import io.releasehub.application.group.GroupScope;
 import io.releasehub.application.repo.CodeRepositoryPort;
+import io.releasehub.application.repo.RepoSearchHit;
 import io.releasehub.common.exception.ValidationException;
 import io.releasehub.common.paging.PageResult;
+import io.releasehub.domain.repo.CloneUrl;
 import io.releasehub.domain.repo.CodeRepository;
 import io.releasehub.domain.repo.GitProvider;
 import io.releasehub.domain.repo.RepoId;
 import io.releasehub.domain.repo.RepoType;
+import io.releasehub.infrastructure.persistence.base.LikePatterns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -27,9 +35,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CodeRepositoryPersistenceAdapter implements CodeRepositoryPort {
 
+    /**
+     * 非分页关键字搜索最多返回的条数，完整结果走 searchPaged
+     */
     private final CodeRepositoryJpaRepository repository;
+    private final DashboardCounterPort dashboardCounterPort;
 
     @Override
+    @Transactional
     public void save(CodeRepository domain) {
         // 先检查是否存在，以保留版本管理字段
         CodeRepositoryJpaEntity existing = repository.findById(domain.getId().value()).orElse(null);
@@ -56,9 +69,13 @@ public class CodeRepositoryPersistenceAdapter implements CodeRepositoryPort {
                 domain.getUpdatedAt(),
                 domain.getVersion(),
                 existing != null ? existing.getInitialVersion() : null,
-                existing != null ? existing.getVersionSource() : null
+                existing != null ? existing.getVersionSource() : null,
+                CloneUrl.tryParse(domain.getCloneUrl()).map(CloneUrl::canonicalKey).orElse(null)
         );
         repository.save(entity);
+        if (existing == null) {
+            dashboardCounterPort.increment(DashboardCounter.REPOSITORIES, 1);
+        }
     }
 
     @Override
@@ -67,6 +84,17 @@ public class CodeRepositoryPersistenceAdapter implements CodeRepositoryPort {
                 .map(this::toDomain);
     }
 
+    @Override
+    public List<CodeRepository> findAllByIds(Collection<RepoId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = ids.stream().map(RepoId::value).distinct().toList();
+        return repository.findAllById(values).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<CodeRepository> findAll() {
         return repository.findAll().stream()
@@ -75,21 +103,33 @@ public class CodeRepositoryPersistenceAdapter implements CodeRepositoryPort {
     }
 
     @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    @Transactional
     public void deleteById(RepoId id) {
-        repository.deleteById(id.value());
+        if (repository.existsById(id.value())) {
+            repository.deleteById(id.value());
+            dashboardCounterPort.increment(DashboardCounter.REPOSITORIES, -1);
+        }
     }
 
     @Override
-    public List<CodeRepository> search(String keyword) {
-        String k = keyword != null ? keyword.toLowerCase() : null;
-        return repository.findAll().stream()
-                .filter(e -> {
-                    if (k == null || k.isBlank()) return true;
-                    return (e.getName() != null && e.getName().toLowerCase().contains(k))
-                            || (e.getCloneUrl() != null && e.getCloneUrl().toLowerCase().contains(k));
-                })
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+    public Optional<RepoId> findIdByCloneUrlKey(String canonicalKey) {
+        return repository.findIdByCloneUrlKey(canonicalKey).map(RepoId::of);
+    }
+
+    @Override
+    public boolean existsByGroupCode(String groupCode) {
+        return repository.existsByGroupCode(groupCode);
+    }
+
+    @Override
+    public List<RepoSearchHit> suggest(String keyword, int limit) {
+        KeywordPattern k = KeywordPattern.of(keyword);
+        return repository.suggestByKeyword(k.keyword(), k.prefix(), k.contains(), PageRequest.of(0, limit));
     }
 
     @Override
@@ -100,8 +140,8 @@ public class CodeRepositoryPersistenceAdapter implements CodeRepositoryPort {
         if (keyword == null || keyword.isBlank()) {
             result = repository.findAll(pageable);
         } else {
-            String k = keyword.trim();
-            result = repository.findByNameContainingIgnoreCaseOrCloneUrlContainingIgnoreCase(k, k, pageable);
+            KeywordPattern k = KeywordPattern.of(keyword);
+            result = repository.searchByKeyword(k.keyword(), k.prefix(), k.contains(), pageable);
         }
         List<CodeRepository> items = result.getContent().stream()
                 .map(this::toDomain)
@@ -110,18 +150,29 @@ public class CodeRepositoryPersistenceAdapter implements CodeRepositoryPort {
     }
 
     @Override
-    public PageResult<CodeRepository> searchPaged(String keyword, Set<String> groupCodes, int page, int size) {
+    public PageResult<CodeRepository> searchPaged(String keyword, GroupScope groupScope, int page, int size) {
         int pageIndex = Math.max(page - 1, 0);
         PageRequest pageable = PageRequest.of(pageIndex, size);
-        Page<CodeRepositoryJpaEntity> result = groupCodes == null || groupCodes.isEmpty()
+        Page<CodeRepositoryJpaEntity> result = groupScope == null
                 ? new PageImpl<>(List.of(), pageable, 0)
-                : repository.searchByGroupCodesAndKeyword(groupCodes, keyword == null ? null : keyword.trim(), pageable);
+                : repository.searchByGroupScopeAndKeyword(LikePatterns.startsWith(groupScope.path()),
+                        keyword == null || keyword.isBlank() ? null : KeywordPattern.of(keyword).contains(), pageable);
         List<CodeRepository> items = result.getContent().stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
         return new PageResult<>(items, result.getTotalElements());
     }
 
+    /**
+     * 小写化并转义 LIKE 通配符后的关键字，仓库名中常见的下划线不再被当作单字符通配
+     */
+    private record KeywordPattern(String keyword, String prefix, String contains) {
+        static KeywordPattern of(String raw) {
+            String keyword = raw.trim().toLowerCase(Locale.ROOT);
+            return new KeywordPattern(keyword, LikePatterns.startsWith(keyword), LikePatterns.contains(keyword));
+        }
+    }
+
     private CodeRepository toDomain(CodeRepositoryJpaEntity entity) {
         RepoType repoType;
         GitProvider gitProvider;
@@ -14,6 +14,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -52,10 +53,12 @@ public class RunItemJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @BatchSize(size = 50)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "run_step", joinColumns = @JoinColumn(name = "run_item_id"))
     private List<RunStepJpaEmbeddable> steps = new ArrayList<>();
 
+    @BatchSize(size = 50)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "run_item_metadata", joinColumns = @JoinColumn(name = "run_item_id"))
     @MapKeyColumn(name = "metadata_key")
@@ -0,0 +1,84 @@
+package io.releasehub.infrastructure.persistence.run;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface RunItemJpaRepository extends JpaRepository<RunItemJpaEntity, String> {
+
+    @Query("select i.finalResult from RunItemJpaEntity i where i.run.id = :runId")
+    List<String> findFinalResultsByRunId(@Param("runId") String runId);
+
+    @Query(value = """
+            select i from RunItemJpaEntity i
+            where i.run.id = :runId
+              and (:result is null or i.finalResult = :result)
+              and (:repoId is null or i.repoId = :repoId)
+              and (:windowKey is null or i.windowKey = :windowKey)
+              and (:actionType is null or exists (
+                select 1 from RunItemJpaEntity si join si.steps s
+                where si = i and s.actionType = :actionType
+              ))
+            order by i.plannedOrder asc, i.executedOrder asc, i.id asc
+            """,
+            countQuery = """
+                    select count(i) from RunItemJpaEntity i
+                    where i.run.id = :runId
+                      and (:result is null or i.finalResult = :result)
+                      and (:repoId is null or i.repoId = :repoId)
+                      and (:windowKey is null or i.windowKey = :windowKey)
+                      and (:actionType is null or exists (
+                        select 1 from RunItemJpaEntity si join si.steps s
+                        where si = i and s.actionType = :actionType
+                      ))
+                    """)
+    Page<RunItemJpaEntity> findPagedByRunId(@Param("runId") String runId,
+                                            @Param("result") String result,
+                                            @Param("actionType") String actionType,
+                                            @Param("repoId") String repoId,
+                                            @Param("windowKey") String windowKey,
+                                            Pageable pageable);
+
+    /**
+     * 游标读取运行项，调用方需在事务内消费并关闭流
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select i from RunItemJpaEntity i
+            where i.run.id = :runId
+              and (:result is null or i.finalResult = :result)
+              and (:repoId is null or i.repoId = :repoId)
+              and (:windowKey is null or i.windowKey = :windowKey)
+              and (:actionType is null or exists (
+                select 1 from RunItemJpaEntity si join si.steps s
+                where si = i and s.actionType = :actionType
+              ))
+            order by i.plannedOrder asc, i.executedOrder asc, i.id asc
+            """)
+    Stream<RunItemJpaEntity> streamByRunId(@Param("runId") String runId,
+                                           @Param("result") String result,
+                                           @Param("actionType") String actionType,
+                                           @Param("repoId") String repoId,
+                                           @Param("windowKey") String windowKey);
+
+    @Query("""
+            select i.run.id, i.finalResult, count(i) from RunItemJpaEntity i
+            where i.windowKey = :windowKey
+            group by i.run.id, i.finalResult
+            """)
+    List<Object[]> countResultsByWindowKey(@Param("windowKey") String windowKey);
+
+    @Query("select count(s) from RunItemJpaEntity i join i.steps s where i.windowKey = :windowKey")
+    long countStepsByWindowKey(@Param("windowKey") String windowKey);
+}
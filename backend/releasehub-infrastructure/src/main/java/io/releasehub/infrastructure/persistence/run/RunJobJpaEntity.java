@@ -0,0 +1,52 @@
+package io.releasehub.infrastructure.persistence.run;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "run_job")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RunJobJpaEntity {
+    @Id
+    @Column(name = "run_id")
+    private String runId;
+    @Column(name = "job_type", nullable = false)
+    private String jobType;
+    @Column(nullable = false)
+    private String status;
+    @Column(name = "window_id")
+    private String windowId;
+    @Column(name = "source_run_id")
+    private String sourceRunId;
+    @Column(name = "repo_ids", columnDefinition = "TEXT")
+    private String repoIds;
+    @Column(name = "iteration_keys", columnDefinition = "TEXT")
+    private String iterationKeys;
+    @Column(name = "retry_items", columnDefinition = "TEXT")
+    private String retryItems;
+    @Column(name = "fail_fast", nullable = false)
+    private boolean failFast;
+    @Column(name = "parallel_mode", nullable = false)
+    private boolean parallel;
+    @Column(nullable = false)
+    private String operator;
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+    @Column(name = "owner_id")
+    private String ownerId;
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
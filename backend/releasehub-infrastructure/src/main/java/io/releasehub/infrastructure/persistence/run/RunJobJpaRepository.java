@@ -0,0 +1,41 @@
+package io.releasehub.infrastructure.persistence.run;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RunJobJpaRepository extends JpaRepository<RunJobJpaEntity, String> {
+    List<RunJobJpaEntity> findByStatusOrderByCreatedAtAsc(String status);
+
+    /**
+     * 作业仍在执行且未被认领或租约已过期时写入持有者，返回更新行数
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update RunJobJpaEntity j
+            set j.ownerId = :ownerId, j.leaseExpiresAt = :leaseExpiresAt, j.updatedAt = :now
+            where j.runId = :runId
+              and j.status = :status
+              and (j.ownerId is null or j.leaseExpiresAt is null or j.leaseExpiresAt < :now)
+            """)
+    int claim(@Param("runId") String runId, @Param("status") String status, @Param("ownerId") String ownerId,
+              @Param("now") Instant now, @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update RunJobJpaEntity j
+            set j.leaseExpiresAt = :leaseExpiresAt
+            where j.runId = :runId
+              and j.status = :status
+              and j.ownerId = :ownerId
+            """)
+    int renewLease(@Param("runId") String runId, @Param("status") String status, @Param("ownerId") String ownerId,
+                   @Param("leaseExpiresAt") Instant leaseExpiresAt);
+}
@@ -0,0 +1,111 @@
+package io.releasehub.infrastructure.persistence.run;
+
+import io.releasehub.application.run.RunJob;
+import io.releasehub.application.run.RunJobPort;
+import io.releasehub.application.run.RunJobStatus;
+import io.releasehub.application.run.RunJobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RunJobPersistenceAdapter implements RunJobPort {
+
+    /**
+     * 列表字段按行存储，仓库 ID / 迭代 Key / 运行项 ID 均不包含换行
+     */
+    private static final String LIST_SEPARATOR = "\n";
+
+    private final RunJobJpaRepository repository;
+
+    @Override
+    public void save(RunJob job) {
+        repository.save(toEntity(job));
+    }
+
+    @Override
+    public void updateStatus(String runId, RunJobStatus status, String errorMessage, Instant now) {
+        repository.findById(runId).ifPresent(e -> {
+            e.setStatus(status.name());
+            e.setErrorMessage(errorMessage);
+            e.setUpdatedAt(now);
+            repository.save(e);
+        });
+    }
+
+    @Override
+    public boolean claim(String runId, String ownerId, Instant now, Instant leaseExpiresAt) {
+        return repository.claim(runId, RunJobStatus.RUNNING.name(), ownerId, now, leaseExpiresAt) == 1;
+    }
+
+    @Override
+    public boolean renewLease(String runId, String ownerId, Instant leaseExpiresAt) {
+        return repository.renewLease(runId, RunJobStatus.RUNNING.name(), ownerId, leaseExpiresAt) == 1;
+    }
+
+    @Override
+    public Optional<RunJob> findById(String runId) {
+        return repository.findById(runId).map(this::toDomain);
+    }
+
+    @Override
+    public List<RunJob> findByStatus(RunJobStatus status) {
+        return repository.findByStatusOrderByCreatedAtAsc(status.name()).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private RunJobJpaEntity toEntity(RunJob job) {
+        RunJobJpaEntity entity = new RunJobJpaEntity();
+        entity.setRunId(job.runId());
+        entity.setJobType(job.type().name());
+        entity.setStatus(job.status().name());
+        entity.setWindowId(job.windowId());
+        entity.setSourceRunId(job.sourceRunId());
+        entity.setRepoIds(join(job.repoIds()));
+        entity.setIterationKeys(join(job.iterationKeys()));
+        entity.setRetryItems(join(job.retryItems()));
+        entity.setFailFast(job.failFast());
+        entity.setParallel(job.parallel());
+        entity.setOperator(job.operator());
+        entity.setErrorMessage(job.errorMessage());
+        entity.setCreatedAt(job.createdAt());
+        entity.setUpdatedAt(job.updatedAt());
+        return entity;
+    }
+
+    private RunJob toDomain(RunJobJpaEntity entity) {
+        return new RunJob(
+                entity.getRunId(),
+                RunJobType.valueOf(entity.getJobType()),
+                RunJobStatus.valueOf(entity.getStatus()),
+                entity.getWindowId(),
+                entity.getSourceRunId(),
+                split(entity.getRepoIds()),
+                split(entity.getIterationKeys()),
+                split(entity.getRetryItems()),
+                entity.isFailFast(),
+                entity.isParallel(),
+                entity.getOperator(),
+                entity.getErrorMessage(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    private String join(List<String> values) {
+        return values.isEmpty() ? null : String.join(LIST_SEPARATOR, values);
+    }
+
+    private List<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(LIST_SEPARATOR)).filter(v -> !v.isBlank()).toList();
+    }
+}
@@ -32,11 +32,21 @@ public class RunJpaEntity {
     private Instant startedAt;
     @Column(name = "finished_at")
     private Instant finishedAt;
+    @Column(nullable = false)
+    private boolean aborted;
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
     private long version;
+    @Column(nullable = false)
+    private String status;
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
 
     @OneToMany(mappedBy = "run", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RunItemJpaEntity> items = new ArrayList<>();
@@ -1,6 +1,11 @@
 package io.releasehub.infrastructure.persistence.run;
 
+import io.releasehub.application.dashboard.DashboardCounter;
+import io.releasehub.application.dashboard.DashboardCounterPort;
+import io.releasehub.application.run.RunItemFilter;
 import io.releasehub.application.run.RunPort;
+import io.releasehub.application.run.RunResultCount;
+import io.releasehub.application.run.RunSummary;
 import io.releasehub.common.paging.PageResult;
 import io.releasehub.domain.iteration.IterationKey;
 import io.releasehub.domain.repo.RepoId;
@@ -10,17 +15,28 @@ import io.releasehub.domain.run.RunId;
 import io.releasehub.domain.run.RunItem;
 import io.releasehub.domain.run.RunItemId;
 import io.releasehub.domain.run.RunItemResult;
+import io.releasehub.domain.run.RunStatus;
 import io.releasehub.domain.run.RunStep;
 import io.releasehub.domain.run.RunType;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @Primary
@@ -28,18 +44,81 @@ import java.util.stream.Collectors;
 public class RunJpaPersistenceAdapter implements RunPort {
 
     private final RunJpaRepository repository;
+    private final RunItemJpaRepository itemRepository;
+    private final DashboardCounterPort dashboardCounterPort;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional
     public void save(Run run) {
+        boolean created = !repository.existsById(run.getId().value());
         RunJpaEntity entity = toEntity(run);
         repository.save(entity);
+        if (created) {
+            dashboardCounterPort.increment(DashboardCounter.RUNS, 1);
+        }
+    }
+
+    /**
+     * 独立事务提交，保证异步运行中断时已完成的步骤不随外层事务回滚
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveItem(String runId, RunItem item) {
+        RunJpaEntity run = repository.findByIdForUpdate(runId)
+                                     .orElseThrow(() -> new IllegalStateException("Run not found: " + runId));
+        itemRepository.save(toItemEntity(item, run));
+        List<RunItemResult> results = itemRepository.findFinalResultsByRunId(runId).stream()
+                                                    .map(r -> r != null ? RunItemResult.valueOf(r) : null)
+                                                    .collect(Collectors.toList());
+        applySummary(run, run.getFinishedAt() != null, run.isAborted(), results);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Run> findById(String runId) {
         return repository.findById(runId).map(this::toDomain);
     }
 
+    @Override
+    public boolean existsById(String runId) {
+        return repository.existsById(runId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResult<RunItem> findItemsPaged(String runId, RunItemFilter filter, int page, int size) {
+        Page<RunItemJpaEntity> result = itemRepository.findPagedByRunId(
+                runId,
+                filter.result() != null ? filter.result().name() : null,
+                filter.actionType() != null ? filter.actionType().name() : null,
+                normalize(filter.repoId()),
+                normalize(filter.windowKey()),
+                PageRequest.of(Math.max(page - 1, 0), size)
+        );
+        List<RunItem> items = result.getContent().stream()
+                                    .map(this::toDomainItem)
+                                    .collect(Collectors.toList());
+        return new PageResult<>(items, result.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachItem(String runId, RunItemFilter filter, Consumer<RunItem> action) {
+        try (Stream<RunItemJpaEntity> items = itemRepository.streamByRunId(
+                runId,
+                filter.result() != null ? filter.result().name() : null,
+                filter.actionType() != null ? filter.actionType().name() : null,
+                normalize(filter.repoId()),
+                normalize(filter.windowKey()))) {
+            items.forEach(entity -> {
+                action.accept(toDomainItem(entity));
+                // 回调后立即从持久化上下文移除，避免大运行的全部运行项与步骤累积在一级缓存中
+                entityManager.detach(entity);
+            });
+        }
+    }
+
     @Override
     public List<Run> findAll() {
         return repository.findAll().stream()
@@ -47,6 +126,29 @@ public class RunJpaPersistenceAdapter implements RunPort {
                          .collect(Collectors.toList());
     }
 
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public long countCreatedSince(Instant since) {
+        return repository.countByCreatedAtGreaterThanEqual(since);
+    }
+
+    @Override
+    public Map<LocalDate, Long> countCreatedByDay(Instant since) {
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        for (Object[] row : repository.countCreatedByDay(since)) {
+            counts.put(toLocalDate(row[0]), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private LocalDate toLocalDate(Object day) {
+        return day instanceof Date date ? date.toLocalDate() : (LocalDate) day;
+    }
+
     @Override
     public List<Run> findByWindowKey(String windowKey) {
         String normalizedWindowKey = normalize(windowKey);
@@ -59,7 +161,43 @@ public class RunJpaPersistenceAdapter implements RunPort {
     }
 
     @Override
-    public PageResult<Run> findPaged(String runType, String operator, String windowKey, String repoId, String iterationKey, String status, String groupCode, int page, int size) {
+    @Transactional(readOnly = true)
+    public List<RunSummary> findAllSummaries() {
+        return repository.findAll().stream()
+                         .map(this::toSummary)
+                         .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RunSummary> findSummariesByWindowKey(String windowKey) {
+        String normalizedWindowKey = normalize(windowKey);
+        if (normalizedWindowKey == null) {
+            return List.of();
+        }
+        return repository.findHeadersByWindowKey(normalizedWindowKey).stream()
+                         .map(this::toSummary)
+                         .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RunResultCount> countItemResultsByWindowKey(String windowKey) {
+        return itemRepository.countResultsByWindowKey(windowKey).stream()
+                             .map(row -> new RunResultCount(
+                                     (String) row[0],
+                                     row[1] != null ? RunItemResult.valueOf((String) row[1]) : null,
+                                     ((Number) row[2]).longValue()))
+                             .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countStepsByWindowKey(String windowKey) {
+        return itemRepository.countStepsByWindowKey(windowKey);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResult<RunSummary> findPaged(String runType, String operator, String windowKey, String repoId, String iterationKey, String status, String groupCode, int page, int size) {
         String normalizedRunType = normalize(runType);
         String normalizedOperator = normalize(operator);
         String normalizedWindowKey = normalize(windowKey);
@@ -80,9 +218,9 @@ public class RunJpaPersistenceAdapter implements RunPort {
                 normalizedGroupCode,
                 pageable
         );
-        List<Run> items = result.getContent().stream()
-                                .map(this::toDomain)
-                                .collect(Collectors.toList());
+        List<RunSummary> items = result.getContent().stream()
+                                       .map(this::toSummary)
+                                       .collect(Collectors.toList());
         return new PageResult<>(items, result.getTotalElements());
     }
 
@@ -92,6 +230,24 @@ public class RunJpaPersistenceAdapter implements RunPort {
         return trimmed.isBlank() ? null : trimmed;
     }
 
+    /**
+     * 只读取运行头上的列，不触发运行项集合的加载
+     */
+    private RunSummary toSummary(RunJpaEntity entity) {
+        return new RunSummary(
+                entity.getId(),
+                RunType.valueOf(entity.getRunType()),
+                entity.getOperator(),
+                RunStatus.valueOf(entity.getStatus()),
+                entity.getStartedAt(),
+                entity.getFinishedAt(),
+                entity.isAborted(),
+                entity.getItemCount(),
+                entity.getSuccessCount(),
+                entity.getFailedCount()
+        );
+    }
+
     private Run toDomain(RunJpaEntity entity) {
         List<RunItem> items = entity.getItems().stream()
                                     .map(this::toDomainItem)
@@ -103,6 +259,7 @@ public class RunJpaPersistenceAdapter implements RunPort {
                 entity.getOperator(),
                 entity.getStartedAt(),
                 entity.getFinishedAt(),
+                entity.isAborted(),
                 items,
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
@@ -144,42 +301,67 @@ public class RunJpaPersistenceAdapter implements RunPort {
         entity.setOperator(domain.getOperator());
         entity.setStartedAt(domain.getStartedAt());
         entity.setFinishedAt(domain.getFinishedAt());
+        entity.setAborted(domain.isAborted());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
         entity.setVersion(domain.getVersion());
+        applySummary(entity, domain.isFinished(), domain.isAborted(), domain.getItems().stream()
+                                                          .map(RunItem::getFinalResult)
+                                                          .collect(Collectors.toList()));
 
         List<RunItemJpaEntity> itemEntities = domain.getItems().stream()
-                                                    .map(item -> {
-                                                        RunItemJpaEntity itemEntity = new RunItemJpaEntity();
-                                                        itemEntity.setId(item.getId().value());
-                                                        itemEntity.setRun(entity); // Set parent reference
-                                                        itemEntity.setWindowKey(item.getWindowKey());
-                                                        itemEntity.setRepoId(item.getRepo().value());
-                                                        itemEntity.setIterationKey(item.getIterationKey().value());
-                                                        itemEntity.setPlannedOrder(item.getPlannedOrder());
-                                                        itemEntity.setExecutedOrder(item.getExecutedOrder());
-                                                        if (item.getFinalResult() != null) {
-                                                            itemEntity.setFinalResult(item.getFinalResult().name());
-                                                        }
-                                                        itemEntity.setCreatedAt(item.getCreatedAt());
-                                                        itemEntity.setUpdatedAt(item.getUpdatedAt());
-                                                        itemEntity.setMetadata(new java.util.LinkedHashMap<>(item.getMetadata()));
-
-                                                        List<RunStepJpaEmbeddable> steps = item.getSteps().stream()
-                                                                                               .map(step -> new RunStepJpaEmbeddable(
-                                                                                                       step.actionType().name(),
-                                                                                                       step.result().name(),
-                                                                                                       step.startAt(),
-                                                                                                       step.endAt(),
-                                                                                                       step.message()
-                                                                                               ))
-                                                                                               .collect(Collectors.toList());
-                                                        itemEntity.setSteps(steps);
-                                                        return itemEntity;
-                                                    })
+                                                    .map(item -> toItemEntity(item, entity))
                                                     .collect(Collectors.toList());
 
         entity.setItems(itemEntities);
         return entity;
     }
+
+    /**
+     * 按运行项结果刷新物化的状态列与计数列
+     */
+    private void applySummary(RunJpaEntity entity, boolean finished, boolean aborted, List<RunItemResult> results) {
+        int successCount = 0;
+        int failedCount = 0;
+        for (RunItemResult result : results) {
+            if (result != null && result.isSuccess()) {
+                successCount++;
+            } else if (result != null && result.isFailure()) {
+                failedCount++;
+            }
+        }
+        entity.setItemCount(results.size());
+        entity.setSuccessCount(successCount);
+        entity.setFailedCount(failedCount);
+        entity.setStatus(RunStatus.of(finished, aborted, results.size(), successCount, failedCount).name());
+    }
+
+    private RunItemJpaEntity toItemEntity(RunItem item, RunJpaEntity run) {
+        RunItemJpaEntity itemEntity = new RunItemJpaEntity();
+        itemEntity.setId(item.getId().value());
+        itemEntity.setRun(run); // Set parent reference
+        itemEntity.setWindowKey(item.getWindowKey());
+        itemEntity.setRepoId(item.getRepo().value());
+        itemEntity.setIterationKey(item.getIterationKey().value());
+        itemEntity.setPlannedOrder(item.getPlannedOrder());
+        itemEntity.setExecutedOrder(item.getExecutedOrder());
+        if (item.getFinalResult() != null) {
+            itemEntity.setFinalResult(item.getFinalResult().name());
+        }
+        itemEntity.setCreatedAt(item.getCreatedAt());
+        itemEntity.setUpdatedAt(item.getUpdatedAt());
+        itemEntity.setMetadata(new java.util.LinkedHashMap<>(item.getMetadata()));
+
+        List<RunStepJpaEmbeddable> steps = item.getSteps().stream()
+                                               .map(step -> new RunStepJpaEmbeddable(
+                                                       step.actionType().name(),
+                                                       step.result().name(),
+                                                       step.startAt(),
+                                                       step.endAt(),
+                                                       step.message()
+                                               ))
+                                               .collect(Collectors.toList());
+        itemEntity.setSteps(steps);
+        return itemEntity;
+    }
 }
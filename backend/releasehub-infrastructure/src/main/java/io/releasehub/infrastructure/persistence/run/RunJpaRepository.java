@@ -1,14 +1,37 @@
 package io.releasehub.infrastructure.persistence.run;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface RunJpaRepository extends JpaRepository<RunJpaEntity, String> {
+    long countByCreatedAtGreaterThanEqual(Instant since);
+
+    /**
+     * 追加运行项时锁定运行行，保证并行写入的运行项计数互不覆盖
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RunJpaEntity r where r.id = :id")
+    Optional<RunJpaEntity> findByIdForUpdate(@Param("id") String id);
+
+    /**
+     * 按数据库会话时区（部署约定为 UTC）的自然日分组统计运行数
+     */
+    @Query("""
+            select cast(r.createdAt as LocalDate), count(r) from RunJpaEntity r
+            where r.createdAt >= :since
+            group by cast(r.createdAt as LocalDate)
+            """)
+    List<Object[]> countCreatedByDay(@Param("since") Instant since);
+
     @Query("""
             select distinct r from RunJpaEntity r
             left join fetch r.items i
@@ -17,125 +40,53 @@ public interface RunJpaRepository extends JpaRepository<RunJpaEntity, String> {
             """)
     List<RunJpaEntity> findByWindowKey(@Param("windowKey") String windowKey);
 
+    @Query("""
+            select r from RunJpaEntity r
+            where exists (select 1 from RunItemJpaEntity i where i.run = r and i.windowKey = :windowKey)
+            order by r.startedAt asc
+            """)
+    List<RunJpaEntity> findHeadersByWindowKey(@Param("windowKey") String windowKey);
+
+    /**
+     * 运行项维度的筛选用 exists 子查询表达，结果只包含运行头，无需 distinct 去重
+     */
     @Query(value = """
-            select distinct r from RunJpaEntity r
-            left join r.items i
+            select r from RunJpaEntity r
             where (:runType is null or r.runType = :runType)
               and (:operator is null or r.operator = :operator)
-              and (:windowKey is null or i.windowKey = :windowKey)
-              and (:repoId is null or i.repoId = :repoId)
-              and (:iterationKey is null or i.iterationKey = :iterationKey)
-              and (:groupCode is null or exists (
-                select 1 from ReleaseWindowJpaEntity w
-                where w.windowKey = i.windowKey
-                  and w.groupCode = :groupCode
-              ))
-              and (
-                :status is null or
-                (
-                  (:status = 'FAILED' and exists (
-                     select 1 from RunItemJpaEntity item
-                     where item.run.id = r.id
-                       and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                   )
-                  ) or
-                  (:status = 'SUCCESS' and exists (
-                     select 1 from RunItemJpaEntity item where item.run.id = r.id
-                   ) and not exists (
-                     select 1 from RunItemJpaEntity item
-                     where item.run.id = r.id
-                       and (item.finalResult is null or item.finalResult not like '%SUCCESS%')
-                   )
-                   and not exists (
-                     select 1 from RunItemJpaEntity item
-                     where item.run.id = r.id
-                       and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                   )
-                  ) or
-                  (:status = 'COMPLETED' and r.finishedAt is not null and
-                   not exists (
-                     select 1 from RunItemJpaEntity item
-                     where item.run.id = r.id
-                       and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                   )
-                   and not (
-                     exists (select 1 from RunItemJpaEntity item where item.run.id = r.id)
-                     and not exists (
-                       select 1 from RunItemJpaEntity item
-                       where item.run.id = r.id
-                         and (item.finalResult is null or item.finalResult not like '%SUCCESS%')
-                     )
-                   )
-                  ) or
-                  (:status = 'RUNNING' and r.finishedAt is null and
-                   not exists (
-                     select 1 from RunItemJpaEntity item
-                     where item.run.id = r.id
-                       and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                   )
-                  )
-                )
-              )
+              and (:status is null or r.status = :status)
+              and ((:windowKey is null and :repoId is null and :iterationKey is null and :groupCode is null)
+                or exists (
+                  select 1 from RunItemJpaEntity i
+                  where i.run = r
+                    and (:windowKey is null or i.windowKey = :windowKey)
+                    and (:repoId is null or i.repoId = :repoId)
+                    and (:iterationKey is null or i.iterationKey = :iterationKey)
+                    and (:groupCode is null or exists (
+                      select 1 from ReleaseWindowJpaEntity w
+                      where w.windowKey = i.windowKey
+                        and w.groupCode = :groupCode
+                    ))
+                ))
             """,
             countQuery = """
-                    select count(distinct r.id) from RunJpaEntity r
-                    left join r.items i
+                    select count(r) from RunJpaEntity r
                     where (:runType is null or r.runType = :runType)
                       and (:operator is null or r.operator = :operator)
-                      and (:windowKey is null or i.windowKey = :windowKey)
-                      and (:repoId is null or i.repoId = :repoId)
-                      and (:iterationKey is null or i.iterationKey = :iterationKey)
-                      and (:groupCode is null or exists (
-                        select 1 from ReleaseWindowJpaEntity w
-                        where w.windowKey = i.windowKey
-                          and w.groupCode = :groupCode
-                      ))
-                      and (
-                        :status is null or
-                        (
-                          (:status = 'FAILED' and exists (
-                             select 1 from RunItemJpaEntity item
-                             where item.run.id = r.id
-                               and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                           )
-                          ) or
-                          (:status = 'SUCCESS' and exists (
-                             select 1 from RunItemJpaEntity item where item.run.id = r.id
-                           ) and not exists (
-                             select 1 from RunItemJpaEntity item
-                             where item.run.id = r.id
-                               and (item.finalResult is null or item.finalResult not like '%SUCCESS%')
-                           )
-                           and not exists (
-                             select 1 from RunItemJpaEntity item
-                             where item.run.id = r.id
-                               and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                           )
-                          ) or
-                          (:status = 'COMPLETED' and r.finishedAt is not null and
-                           not exists (
-                             select 1 from RunItemJpaEntity item
-                             where item.run.id = r.id
-                               and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                           )
-                           and not (
-                             exists (select 1 from RunItemJpaEntity item where item.run.id = r.id)
-                             and not exists (
-                               select 1 from RunItemJpaEntity item
-                               where item.run.id = r.id
-                                 and (item.finalResult is null or item.finalResult not like '%SUCCESS%')
-                             )
-                           )
-                          ) or
-                          (:status = 'RUNNING' and r.finishedAt is null and
-                           not exists (
-                             select 1 from RunItemJpaEntity item
-                             where item.run.id = r.id
-                               and (item.finalResult like '%FAILED%' or item.finalResult = 'MERGE_BLOCKED')
-                           )
-                          )
-                        )
-                      )
+                      and (:status is null or r.status = :status)
+                      and ((:windowKey is null and :repoId is null and :iterationKey is null and :groupCode is null)
+                        or exists (
+                          select 1 from RunItemJpaEntity i
+                          where i.run = r
+                            and (:windowKey is null or i.windowKey = :windowKey)
+                            and (:repoId is null or i.repoId = :repoId)
+                            and (:iterationKey is null or i.iterationKey = :iterationKey)
+                            and (:groupCode is null or exists (
+                              select 1 from ReleaseWindowJpaEntity w
+                              where w.windowKey = i.windowKey
+                                and w.groupCode = :groupCode
+                            ))
+                        ))
                     """)
     Page<RunJpaEntity> findPagedByFilters(@Param("runType") String runType,
                                           @Param("operator") String operator,
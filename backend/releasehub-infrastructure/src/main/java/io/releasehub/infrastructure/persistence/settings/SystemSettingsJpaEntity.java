@@ -6,6 +6,7 @@ import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
@@ -30,4 +31,11 @@ public class SystemSettingsJpaEntity {
 
     @Column(name = "default_blocking_policy")
     private String defaultBlockingPolicy;
+
+    /**
+     * 修订号，由 JPA 乐观锁在每次更新时递增；并发保存时后提交者失败，不会互相覆盖
+     */
+    @Version
+    @Column(name = "revision", nullable = false)
+    private Long revision;
 }
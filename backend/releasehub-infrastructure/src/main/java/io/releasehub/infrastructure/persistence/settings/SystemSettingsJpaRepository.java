@@ -1,8 +1,15 @@
 package io.releasehub.infrastructure.persistence.settings;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface SystemSettingsJpaRepository extends JpaRepository<SystemSettingsJpaEntity, String> {
+
+    @Query("select s.revision from SystemSettingsJpaEntity s where s.id = :id")
+    Optional<Long> findRevisionById(@Param("id") String id);
 }
@@ -1,8 +1,10 @@
 package io.releasehub.infrastructure.persistence.user;
 
 import io.releasehub.domain.user.User;
+import io.releasehub.application.user.UserChangedEvent;
 import io.releasehub.application.user.UserPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,6 +17,7 @@ import java.util.Optional;
 public class UserPersistenceAdapter implements UserPort {
 
     private final UserJpaRepository jpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Optional<User> findByUsername(String username) {
@@ -23,7 +26,10 @@ public class UserPersistenceAdapter implements UserPort {
 
     @Override
     public User save(User user) {
-        return toDomain(jpaRepository.save(toEntity(user)));
+        User saved = toDomain(jpaRepository.save(toEntity(user)));
+        // 所有用户变更都经由此处保存，在这里统一通知认证缓存失效
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getUsername()));
+        return saved;
     }
 
     @Override
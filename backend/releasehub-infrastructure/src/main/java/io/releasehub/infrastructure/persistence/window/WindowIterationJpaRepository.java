@@ -10,6 +10,8 @@ import java.util.Optional;
 public interface WindowIterationJpaRepository extends JpaRepository<WindowIterationJpaEntity, String> {
     List<WindowIterationJpaEntity> findByWindowId(String windowId);
     Page<WindowIterationJpaEntity> findByWindowId(String windowId, Pageable pageable);
+    List<WindowIterationJpaEntity> findByIterationKey(String iterationKey);
+    boolean existsByIterationKey(String iterationKey);
     Optional<WindowIterationJpaEntity> findByWindowIdAndIterationKey(String windowId, String iterationKey);
     void deleteByWindowIdAndIterationKey(String windowId, String iterationKey);
 }
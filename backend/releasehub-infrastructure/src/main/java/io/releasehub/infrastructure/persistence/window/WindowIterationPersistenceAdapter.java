@@ -97,6 +97,28 @@ public class WindowIterationPersistenceAdapter implements WindowIterationPort {
         return new PageResult<>(items, result.getTotalElements());
     }
 
+    @Override
+    public List<WindowIteration> listByIteration(IterationKey iterationKey) {
+        return jpaRepository.findByIterationKey(iterationKey.value()).stream()
+                .map(e -> WindowIteration.rehydrate(
+                        WindowIterationId.of(e.getId()),
+                        ReleaseWindowId.of(e.getWindowId()),
+                        IterationKey.of(e.getIterationKey()),
+                        e.getAttachAt(),
+                        e.getReleaseBranch(),
+                        e.getBranchCreated(),
+                        e.getLastMergeAt(),
+                        e.getCreatedAt(),
+                        e.getUpdatedAt()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsByIteration(IterationKey iterationKey) {
+        return jpaRepository.existsByIterationKey(iterationKey.value());
+    }
+
     @Override
     public Optional<WindowIteration> findByWindowIdAndIterationKey(ReleaseWindowId windowId, IterationKey iterationKey) {
         return jpaRepository.findByWindowIdAndIterationKey(windowId.value(), iterationKey.value())
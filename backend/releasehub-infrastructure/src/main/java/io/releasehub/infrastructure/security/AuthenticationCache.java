@@ -0,0 +1,120 @@
+package io.releasehub.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.releasehub.application.auth.VerifiedToken;
+import io.releasehub.application.user.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 认证缓存，避免每个请求都验签并查询用户。
+ * <p>
+ * <ul>
+ *     <li>令牌缓存：已验签令牌 → 用户名，有效期取 token-seconds 与令牌过期时间中较早者</li>
+ *     <li>用户缓存：用户名 → UserDetails，用户保存后在事务提交时失效；直接改库或其他实例的变更最迟在 user-seconds 后生效</li>
+ * </ul>
+ * 两个缓存的条目数均不超过 max-entries，写满时先清理过期条目，仍然写满则整体清空。
+ */
+@Component
+public class AuthenticationCache {
+
+    private final Map<String, Entry<String>> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Entry<UserDetails>> users = new ConcurrentHashMap<>();
+    private final Duration tokenTtl;
+    private final Duration userTtl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Counter tokenHits;
+    private final Counter tokenMisses;
+    private final Counter userHits;
+    private final Counter userMisses;
+
+    public AuthenticationCache(@Value("${releasehub.auth.cache.token-seconds:60}") long tokenSeconds,
+                               @Value("${releasehub.auth.cache.user-seconds:60}") long userSeconds,
+                               @Value("${releasehub.auth.cache.max-entries:10000}") int maxEntries,
+                               Clock clock,
+                               MeterRegistry meterRegistry) {
+        this.tokenTtl = Duration.ofSeconds(Math.max(0, tokenSeconds));
+        this.userTtl = Duration.ofSeconds(Math.max(0, userSeconds));
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+        this.tokenHits = counter(meterRegistry, "token", "hit");
+        this.tokenMisses = counter(meterRegistry, "token", "miss");
+        this.userHits = counter(meterRegistry, "user", "hit");
+        this.userMisses = counter(meterRegistry, "user", "miss");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("releasehub.auth.cache")
+                .description("JWT 认证缓存命中情况")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Optional<String> username(String token) {
+        return lookup(tokens, token, tokenHits, tokenMisses);
+    }
+
+    public void putToken(String token, VerifiedToken verified) {
+        Instant expiresAt = clock.instant().plus(tokenTtl);
+        if (verified.expiresAt() != null && verified.expiresAt().isBefore(expiresAt)) {
+            expiresAt = verified.expiresAt();
+        }
+        store(tokens, token, new Entry<>(verified.username(), expiresAt));
+    }
+
+    public Optional<UserDetails> user(String username) {
+        return lookup(users, username, userHits, userMisses);
+    }
+
+    public void putUser(UserDetails userDetails) {
+        store(users, userDetails.getUsername(), new Entry<>(userDetails, clock.instant().plus(userTtl)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        users.remove(event.getUsername());
+    }
+
+    private <V> Optional<V> lookup(Map<String, Entry<V>> entries, String key, Counter hits, Counter misses) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+            hits.increment();
+            return Optional.of(entry.value());
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    private <V> void store(Map<String, Entry<V>> entries, String key, Entry<V> entry) {
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            Instant now = clock.instant();
+            entries.values().removeIf(e -> !e.expiresAt().isAfter(now));
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, entry);
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
@@ -1,11 +1,13 @@
 package io.releasehub.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.releasehub.application.auth.TokenPort;
+import io.releasehub.application.auth.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,33 +18,72 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
+/**
+ * Bearer 令牌认证：令牌只解析一次，已验签令牌与用户信息走 {@link AuthenticationCache}，命中时不访问数据库。
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenPort tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final Timer authTimer;
+
+    public JwtAuthenticationFilter(TokenPort tokenProvider,
+                                   UserDetailsService userDetailsService,
+                                   AuthenticationCache authenticationCache,
+                                   MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.authenticationCache = authenticationCache;
+        this.authTimer = Timer.builder("releasehub.auth.duration")
+                .description("Bearer 令牌认证耗时")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            String username = tokenProvider.getUsernameFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            UserDetails userDetails = authTimer.record(() -> authenticate(token).orElse(null));
+            if (userDetails != null) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private Optional<UserDetails> authenticate(String token) {
+        Optional<String> username = authenticationCache.username(token).or(() -> verify(token));
+        if (username.isEmpty()) {
+            return Optional.empty();
+        }
+        UserDetails userDetails = authenticationCache.user(username.get())
+                .orElseGet(() -> loadUser(username.get()));
+        return userDetails.isEnabled() ? Optional.of(userDetails) : Optional.empty();
+    }
+
+    private Optional<String> verify(String token) {
+        Optional<VerifiedToken> verified = tokenProvider.verify(token);
+        verified.ifPresent(v -> authenticationCache.putToken(token, v));
+        return verified.map(VerifiedToken::username);
+    }
+
+    private UserDetails loadUser(String username) {
+        UserDetails loaded = userDetailsService.loadUserByUsername(username);
+        authenticationCache.putUser(loaded);
+        return loaded;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
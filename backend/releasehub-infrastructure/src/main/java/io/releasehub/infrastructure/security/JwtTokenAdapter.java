@@ -1,12 +1,14 @@
 package io.releasehub.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.releasehub.application.auth.TokenInfo;
 import io.releasehub.application.auth.TokenPort;
+import io.releasehub.application.auth.VerifiedToken;
 import io.releasehub.domain.user.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -16,11 +18,14 @@ import java.security.Key;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Optional;
 
 @Service
 public class JwtTokenAdapter implements TokenPort {
 
     private final Key key;
+    // JwtParser 线程安全，构建一次供所有请求复用
+    private final JwtParser parser;
     private final long ttlMinutes;
     private final long rememberMeTtlMinutes;
 
@@ -30,6 +35,7 @@ public class JwtTokenAdapter implements TokenPort {
                       @Value("${security.jwt.ttlMinutes:120}") long ttlMinutes,
                       @Value("${security.jwt.rememberMeTtlMinutes:10080}") long rememberMeTtlMinutes) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.ttlMinutes = ttlMinutes;
         this.rememberMeTtlMinutes = rememberMeTtlMinutes; // default 7 days (7 * 24 * 60)
     }
@@ -61,17 +67,25 @@ public class JwtTokenAdapter implements TokenPort {
 
     @Override
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     @Override
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-        return claims.getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Override
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null) {
+                return Optional.empty();
+            }
+            Instant expiresAt = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+            return Optional.of(new VerifiedToken(claims.getSubject(), expiresAt));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
     }
 }
@@ -49,6 +49,7 @@ public class SecurityConfig {
                     auth
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll() // 允许登录
                         .requestMatchers("/actuator/health").permitAll() // 允许健康检查
+                        .requestMatchers(HttpMethod.POST, "/api/v1/webhooks/gitlab/**").permitAll() // GitLab webhook，由 X-Gitlab-Token 校验
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll() // 允许 Swagger
                         .anyRequest().authenticated(); // 其他请求需认证
                 }
@@ -3,16 +3,47 @@ package io.releasehub.infrastructure.settings;
 import io.releasehub.application.settings.SettingsPort;
 import io.releasehub.infrastructure.persistence.settings.SystemSettingsJpaEntity;
 import io.releasehub.infrastructure.persistence.settings.SystemSettingsJpaRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 系统设置适配器。
+ * <p>
+ * GLOBAL 设置行整体缓存在进程内：本实例保存后在事务提交时失效；缓存超过 revalidate-seconds 后
+ * 先查询修订号，修订号未变则继续使用缓存，其他实例保存过设置则重新加载。
+ * 修订号即设置行的乐观锁版本，由 JPA 在更新时递增。
+ */
 @Component
-@RequiredArgsConstructor
 public class SettingsAdapter implements SettingsPort {
+    private static final String GLOBAL_ID = "GLOBAL";
+
     private final SystemSettingsJpaRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Duration revalidateAfter;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public SettingsAdapter(SystemSettingsJpaRepository repository,
+                           ApplicationEventPublisher eventPublisher,
+                           Clock clock,
+                           @Value("${releasehub.settings.cache.revalidate-seconds:5}") long revalidateSeconds) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.revalidateAfter = Duration.ofSeconds(Math.max(0, revalidateSeconds));
+    }
 
     @Override
     @Transactional
@@ -20,14 +51,12 @@ public class SettingsAdapter implements SettingsPort {
         SystemSettingsJpaEntity entity = getOrCreate();
         entity.setGitlabBaseUrl(v != null ? v.baseUrl() : null);
         entity.setGitlabToken(v != null ? v.token() : null);
-        repository.save(entity);
+        save(entity);
     }
 
     @Override
     public Optional<SettingsGitLab> getGitLab() {
-        return repository.findById("GLOBAL")
-                .filter(e -> hasText(e.getGitlabBaseUrl()) || hasText(e.getGitlabToken()))
-                .map(e -> new SettingsGitLab(e.getGitlabBaseUrl(), e.getGitlabToken()));
+        return Optional.ofNullable(current().gitLab());
     }
 
     @Override
@@ -36,13 +65,12 @@ public class SettingsAdapter implements SettingsPort {
         SystemSettingsJpaEntity entity = getOrCreate();
         entity.setFeatureTemplate(v.featureTemplate());
         entity.setReleaseTemplate(v.releaseTemplate());
-        repository.save(entity);
+        save(entity);
     }
 
     @Override
     public Optional<SettingsNaming> getNaming() {
-        return repository.findById("GLOBAL")
-                .map(e -> new SettingsNaming(e.getFeatureTemplate(), e.getReleaseTemplate()));
+        return Optional.ofNullable(current().naming());
     }
 
     @Override
@@ -60,19 +88,71 @@ public class SettingsAdapter implements SettingsPort {
     public void saveBlocking(SettingsBlocking v) {
         SystemSettingsJpaEntity entity = getOrCreate();
         entity.setDefaultBlockingPolicy(v.defaultPolicy());
-        repository.save(entity);
+        save(entity);
     }
 
     @Override
     public Optional<SettingsBlocking> getBlocking() {
-        return repository.findById("GLOBAL")
-                .map(e -> new SettingsBlocking(e.getDefaultBlockingPolicy()));
+        return Optional.ofNullable(current().blocking());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private Snapshot current() {
+        Snapshot cached = snapshot.get();
+        Instant now = clock.instant();
+        if (cached != null && now.isBefore(cached.checkedAt().plus(revalidateAfter))) {
+            return cached;
+        }
+        long loadingGeneration = generation.get();
+        Snapshot loaded;
+        if (cached != null && cached.revision() != null
+                && cached.revision().equals(repository.findRevisionById(GLOBAL_ID).orElse(null))) {
+            loaded = cached.checkedAt(now);
+        } else {
+            loaded = load(now);
+        }
+        // 加载期间设置又被保存时不缓存本次结果，避免覆盖更新后的失效
+        if (generation.get() == loadingGeneration) {
+            snapshot.compareAndSet(cached, loaded);
+        }
+        return loaded;
+    }
+
+    private Snapshot load(Instant now) {
+        Optional<SystemSettingsJpaEntity> found = repository.findById(GLOBAL_ID);
+        if (found.isEmpty()) {
+            return new Snapshot(null, null, null, null, now);
+        }
+        SystemSettingsJpaEntity e = found.get();
+        SettingsGitLab gitLab = hasText(e.getGitlabBaseUrl()) || hasText(e.getGitlabToken())
+                ? new SettingsGitLab(e.getGitlabBaseUrl(), e.getGitlabToken())
+                : null;
+        return new Snapshot(
+                gitLab,
+                new SettingsNaming(e.getFeatureTemplate(), e.getReleaseTemplate()),
+                new SettingsBlocking(e.getDefaultBlockingPolicy()),
+                e.getRevision(),
+                now);
+    }
+
+    private void save(SystemSettingsJpaEntity entity) {
+        repository.save(entity);
+        eventPublisher.publishEvent(new SettingsChangedEvent());
     }
 
     private SystemSettingsJpaEntity getOrCreate() {
-        return repository.findById("GLOBAL").orElseGet(() -> {
+        return repository.findById(GLOBAL_ID).orElseGet(() -> {
             SystemSettingsJpaEntity entity = new SystemSettingsJpaEntity();
-            entity.setId("GLOBAL");
+            entity.setId(GLOBAL_ID);
             return entity;
         });
     }
@@ -80,4 +160,11 @@ public class SettingsAdapter implements SettingsPort {
     private boolean hasText(String value) {
         return value != null && !value.isBlank();
     }
+
+    private record Snapshot(SettingsGitLab gitLab, SettingsNaming naming, SettingsBlocking blocking,
+                            Long revision, Instant checkedAt) {
+        Snapshot checkedAt(Instant at) {
+            return new Snapshot(gitLab, naming, blocking, revision, at);
+        }
+    }
 }
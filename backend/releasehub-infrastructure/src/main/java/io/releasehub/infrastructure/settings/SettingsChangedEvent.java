@@ -0,0 +1,7 @@
+package io.releasehub.infrastructure.settings;
+
+/**
+ * 系统设置变更事件。设置保存时发布，供设置缓存在事务提交后失效。
+ */
+public class SettingsChangedEvent {
+}
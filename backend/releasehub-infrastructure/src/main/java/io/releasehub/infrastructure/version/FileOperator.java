@@ -0,0 +1,27 @@
+package io.releasehub.infrastructure.version;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 版本更新器的文件读写抽象。
+ * <p>
+ * write 只暂存内容，commit 时一次性落地全部暂存文件：远程仓库产生一个提交，本地文件失败时恢复原内容。
+ */
+interface FileOperator {
+
+    /**
+     * 批量读取，已暂存的文件返回暂存内容，不存在的文件不包含在结果中
+     */
+    Map<String, String> readAll(Collection<String> paths) throws Exception;
+
+    /**
+     * 暂存文件新内容
+     */
+    void write(String path, String content);
+
+    /**
+     * 提交全部暂存文件；失败时抛出异常且不保留任何改动
+     */
+    void commit(String message) throws Exception;
+}
@@ -16,10 +16,10 @@ import org.springframework.stereotype.Component;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -39,7 +39,7 @@ public class GradleVersionUpdaterAdapter implements VersionUpdaterPort {
     @Override
     public VersionUpdateResult update(VersionUpdateRequest request) {
         try {
-            FileOperator operator = getOperator(request);
+            RepositorySnapshot snapshot = new RepositorySnapshot(getOperator(request));
             
             // 优先使用 gradle.properties
             String gradlePropertiesPath = request.gradlePropertiesPath() != null
@@ -47,20 +47,22 @@ public class GradleVersionUpdaterAdapter implements VersionUpdaterPort {
                     : (request.repoPath() != null && !request.repoPath().equals(".") 
                         ? Paths.get(request.repoPath(), "gradle.properties").toString()
                         : "gradle.properties");
+            String buildGradlePath = (request.repoPath() != null && !request.repoPath().equals(".")
+                    ? Paths.get(request.repoPath(), "build.gradle").toString()
+                    : "build.gradle");
+            // 两个候选文件一次读取，后续判断不再单独请求
+            snapshot.prefetch(List.of(gradlePropertiesPath, buildGradlePath));
             
             // 检查 gradle.properties 是否存在
-            if (operator.exists(gradlePropertiesPath)) {
-                return updateGradleProperties(operator, gradlePropertiesPath, request.targetVersion());
+            if (snapshot.exists(gradlePropertiesPath)) {
+                return updateGradleProperties(snapshot, gradlePropertiesPath, request.targetVersion());
             }
             
             // 如果 gradle.properties 不存在，检查 build.gradle
-            String buildGradlePath = (request.repoPath() != null && !request.repoPath().equals(".")
-                    ? Paths.get(request.repoPath(), "build.gradle").toString()
-                    : "build.gradle");
-            if (operator.exists(buildGradlePath)) {
+            Optional<String> buildGradleContent = snapshot.read(buildGradlePath);
+            if (buildGradleContent.isPresent()) {
                 // 检查 build.gradle 中是否有版本定义
-                String buildGradleContent = operator.read(buildGradlePath);
-                if (containsVersionDefinition(buildGradleContent)) {
+                if (containsVersionDefinition(buildGradleContent.get())) {
                     return VersionUpdateResult.failure(
                             "检测到版本定义在 build.gradle 中，当前版本不支持此场景。\n" +
                             "建议：将版本定义迁移到 gradle.properties 文件中（格式：version=1.0.0），或手动更新版本。",
@@ -97,53 +99,6 @@ public class GradleVersionUpdaterAdapter implements VersionUpdaterPort {
         return new LocalFileOperator();
     }
 
-    private interface FileOperator {
-        String read(String path) throws Exception;
-        void write(String path, String content) throws Exception;
-        boolean exists(String path);
-    }
-
-    @RequiredArgsConstructor
-    private static class RemoteFileOperator implements FileOperator {
-        private final GitLabFilePort gitLabFilePort;
-        private final String repoCloneUrl;
-        private final String branch;
-
-        @Override
-        public String read(String path) {
-            return gitLabFilePort.readFile(repoCloneUrl, branch, path)
-                    .orElseThrow(() -> new RuntimeException("File not found on GitLab: " + path));
-        }
-
-        @Override
-        public void write(String path, String content) {
-            boolean ok = gitLabFilePort.updateFile(repoCloneUrl, branch, path, content, "ReleaseHub: Update version");
-            if (!ok) throw new RuntimeException("Failed to update file on GitLab: " + path);
-        }
-
-        @Override
-        public boolean exists(String path) {
-            return gitLabFilePort.fileExists(repoCloneUrl, branch, path);
-        }
-    }
-
-    private static class LocalFileOperator implements FileOperator {
-        @Override
-        public String read(String path) throws Exception {
-            return Files.readString(Paths.get(path));
-        }
-
-        @Override
-        public void write(String path, String content) throws Exception {
-            Files.writeString(Paths.get(path), content);
-        }
-
-        @Override
-        public boolean exists(String path) {
-            return Files.exists(Paths.get(path));
-        }
-    }
-
     @Override
     public boolean supports(BuildTool buildTool) {
         return buildTool == BuildTool.GRADLE;
@@ -152,9 +107,9 @@ public class GradleVersionUpdaterAdapter implements VersionUpdaterPort {
     /**
      * 更新 gradle.properties 文件中的版本
      */
-    private VersionUpdateResult updateGradleProperties(FileOperator operator, String gradlePropertiesPath, String newVersion) throws Exception {
+    private VersionUpdateResult updateGradleProperties(RepositorySnapshot snapshot, String gradlePropertiesPath, String newVersion) throws Exception {
         // 读取原始内容
-        String originalContent = operator.read(gradlePropertiesPath);
+        String originalContent = snapshot.read(gradlePropertiesPath).orElseThrow();
         
         // 解析 Properties
         Properties properties = new Properties();
@@ -190,7 +145,8 @@ public class GradleVersionUpdaterAdapter implements VersionUpdaterPort {
         String diff = generateDiff(originalContent, updatedContent.toString());
         
         // 写回文件
-        operator.write(gradlePropertiesPath, updatedContent.toString());
+        snapshot.write(gradlePropertiesPath, updatedContent.toString());
+        snapshot.commit(String.format("ReleaseHub: Update version to %s", newVersion));
         
         log.info("Updated Gradle version from {} to {} in {}", oldVersion, newVersion, gradlePropertiesPath);
         
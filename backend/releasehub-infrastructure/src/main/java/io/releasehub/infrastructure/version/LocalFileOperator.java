@@ -0,0 +1,63 @@
+package io.releasehub.infrastructure.version;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 本地文件操作，commit 时依次写入暂存文件，任一写入失败则把已写入的文件恢复为原内容
+ */
+@Slf4j
+class LocalFileOperator implements FileOperator {
+    private final Map<String, String> pending = new LinkedHashMap<>();
+
+    @Override
+    public Map<String, String> readAll(Collection<String> paths) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        for (String path : paths) {
+            String staged = pending.get(path);
+            if (staged != null) {
+                files.put(path, staged);
+            } else if (Files.exists(Paths.get(path))) {
+                files.put(path, Files.readString(Paths.get(path)));
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public void write(String path, String content) {
+        pending.put(path, content);
+    }
+
+    @Override
+    public void commit(String message) throws IOException {
+        Map<Path, String> originals = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, String> file : pending.entrySet()) {
+                Path path = Paths.get(file.getKey());
+                String original = Files.readString(path);
+                Files.writeString(path, file.getValue());
+                originals.put(path, original);
+            }
+        } catch (IOException e) {
+            originals.forEach(this::restore);
+            throw e;
+        }
+        pending.clear();
+    }
+
+    private void restore(Path path, String original) {
+        try {
+            Files.writeString(path, original);
+        } catch (IOException e) {
+            log.error("Failed to restore {} after aborted version update: {}", path, e.getMessage());
+        }
+    }
+}
@@ -29,10 +29,8 @@ import javax.xml.transform.stream.StreamResult;
 import java.io.ByteArrayInputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +41,7 @@ import java.util.Set;
  * <p>
  * 支持单模块和多模块 Maven 项目的版本更新。
  * 对于多模块项目，更新父 POM 的版本，子模块继承父版本。
+ * 所有改动的 POM 在一次提交中写入；每个 POM 在一次更新内只读取、解析一次。
  */
 @Slf4j
 @Component
@@ -55,21 +54,21 @@ public class MavenVersionUpdaterAdapter implements VersionUpdaterPort {
     @Override
     public VersionUpdateResult update(VersionUpdateRequest request) {
         try {
-            FileOperator operator = getOperator(request);
+            RepositorySnapshot snapshot = new RepositorySnapshot(getOperator(request));
             String pomPath = request.pomPath() != null
                     ? request.pomPath()
                     : (request.repoPath() != null && !request.repoPath().equals(".") 
                         ? Paths.get(request.repoPath(), "pom.xml").toString()
                         : "pom.xml");
 
-            if (!operator.exists(pomPath)) {
+            if (!snapshot.exists(pomPath)) {
                 return VersionUpdateResult.failure(
                         String.format("POM 文件不存在: %s。请检查文件路径是否正确。", pomPath),
                         pomPath
                 );
             }
 
-            Document rootDoc = parsePom(operator.read(pomPath));
+            Document rootDoc = snapshot.parse(pomPath, this::parsePom);
             String oldVersion = extractProjectVersion(rootDoc);
 
             if (oldVersion == null) {
@@ -81,12 +80,13 @@ public class MavenVersionUpdaterAdapter implements VersionUpdaterPort {
 
             String rootGroupId = extractProjectGroupId(rootDoc);
             String rootArtifactId = extractProjectArtifactId(rootDoc);
-            List<String> pomFiles = collectModulePomFiles(operator, pomPath);
+            List<String> pomFiles = collectModulePomFiles(snapshot, pomPath);
             StringBuilder combinedDiff = new StringBuilder();
 
             for (String currentPom : pomFiles) {
-                String originalContent = operator.read(currentPom);
-                Document currentDoc = parsePom(originalContent);
+                // 模块发现阶段已读取并解析过，这里直接复用快照
+                String originalContent = snapshot.read(currentPom).orElseThrow();
+                Document currentDoc = snapshot.parse(currentPom, this::parsePom);
 
                 boolean changed = applyVersionUpdate(
                         currentDoc,
@@ -102,7 +102,7 @@ public class MavenVersionUpdaterAdapter implements VersionUpdaterPort {
                 }
 
                 String updatedContent = serializeDocument(currentDoc);
-                operator.write(currentPom, updatedContent);
+                snapshot.write(currentPom, updatedContent);
 
                 String fileDiff = generateDiff(originalContent, updatedContent);
                 if (!fileDiff.isBlank()) {
@@ -114,6 +114,10 @@ public class MavenVersionUpdaterAdapter implements VersionUpdaterPort {
                 }
             }
 
+            // 全部模块 POM 作为一个提交写入，任一文件失败则整体不生效
+            snapshot.commit(String.format(
+                    "ReleaseHub: Update version to %s to align with release window", request.targetVersion()));
+
             log.info("Updated Maven version from {} to {} in {}", oldVersion, request.targetVersion(), pomPath);
 
             return VersionUpdateResult.success(oldVersion, request.targetVersion(), combinedDiff.toString(), pomPath);
@@ -142,56 +146,6 @@ public class MavenVersionUpdaterAdapter implements VersionUpdaterPort {
         return new LocalFileOperator();
     }
 
-    private interface FileOperator {
-        String read(String path) throws Exception;
-        void write(String path, String content) throws Exception;
-        boolean exists(String path);
-    }
-
-    @RequiredArgsConstructor
-    private static class RemoteFileOperator implements FileOperator {
-        private final GitLabFilePort gitLabFilePort;
-        private final String repoCloneUrl;
-        private final String branch;
-
-        @Override
-        public String read(String path) {
-            return gitLabFilePort.readFile(repoCloneUrl, branch, path)
-                    .orElseThrow(() -> new RuntimeException("File not found on GitLab: " + path));
-        }
-
-        @Override
-        public void write(String path, String content) {
-            String commitMessage = String.format("ReleaseHub: Update %s version to align with release window", path);
-            boolean ok = gitLabFilePort.updateFile(repoCloneUrl, branch, path, content, commitMessage);
-            if (!ok) {
-                throw new RuntimeException("Failed to update file on GitLab: " + path);
-            }
-        }
-
-        @Override
-        public boolean exists(String path) {
-            return gitLabFilePort.fileExists(repoCloneUrl, branch, path);
-        }
-    }
-
-    private static class LocalFileOperator implements FileOperator {
-        @Override
-        public String read(String path) throws Exception {
-            return Files.readString(Paths.get(path));
-        }
-
-        @Override
-        public void write(String path, String content) throws Exception {
-            Files.writeString(Paths.get(path), content);
-        }
-
-        @Override
-        public boolean exists(String path) {
-            return Files.exists(Paths.get(path));
-        }
-    }
-
     @Override
     public boolean supports(BuildTool buildTool) {
         return buildTool == BuildTool.MAVEN;
@@ -237,61 +191,69 @@ public class MavenVersionUpdaterAdapter implements VersionUpdaterPort {
         return getDirectChildText(root, "artifactId");
     }
 
-    private List<String> collectModulePomFiles(FileOperator operator, String rootPomPath) throws Exception {
+    /**
+     * 按层收集模块 POM：同一层的模块 POM 经快照一次批量读取，读到的内容与解析结果供后续更新复用
+     */
+    private List<String> collectModulePomFiles(RepositorySnapshot snapshot, String rootPomPath) throws Exception {
         List<String> pomFiles = new ArrayList<>();
-        ArrayDeque<String> queue = new ArrayDeque<>();
         Set<String> visited = new HashSet<>();
+        List<String> level = List.of(rootPomPath);
 
-        queue.add(rootPomPath);
-
-        while (!queue.isEmpty()) {
-            String currentPom = queue.removeFirst();
-            if (!visited.add(currentPom)) {
-                continue;
-            }
-
-            pomFiles.add(currentPom);
-            Document doc = parsePom(operator.read(currentPom));
-            Element root = doc.getDocumentElement();
-            Element modulesElement = getDirectChildElement(root, "modules");
-            if (modulesElement == null) {
-                continue;
-            }
+        while (!level.isEmpty()) {
+            snapshot.prefetch(level);
+            List<String> nextLevel = new ArrayList<>();
 
-            NodeList children = modulesElement.getChildNodes();
-            for (int i = 0; i < children.getLength(); i++) {
-                Node child = children.item(i);
-                if (child.getNodeType() != Node.ELEMENT_NODE) {
-                    continue;
-                }
-                String localName = child.getLocalName() != null ? child.getLocalName() : child.getNodeName();
-                if (!"module".equals(localName)) {
+            for (String currentPom : level) {
+                if (!visited.add(currentPom)) {
                     continue;
                 }
-                String moduleName = child.getTextContent().trim();
-                if (moduleName.isEmpty()) {
+                if (!snapshot.exists(currentPom)) {
+                    log.warn("Module POM not found: {}", currentPom);
                     continue;
                 }
 
-                // 鲁棒的路径处理: resolve modulePom relative to currentPom
-                String modulePom;
-                Path currentPath = Paths.get(currentPom);
-                Path parentPath = currentPath.getParent();
-                if (parentPath != null) {
-                    modulePom = parentPath.resolve(moduleName).resolve("pom.xml").toString();
-                } else {
-                    modulePom = Paths.get(moduleName, "pom.xml").toString();
+                pomFiles.add(currentPom);
+                Document doc = snapshot.parse(currentPom, this::parsePom);
+                Element root = doc.getDocumentElement();
+                Element modulesElement = getDirectChildElement(root, "modules");
+                if (modulesElement == null) {
+                    continue;
                 }
 
-                // 规范化路径 (处理 ./ or ../ 并统一使用正斜杠)
-                modulePom = normalizePath(modulePom);
-
-                if (!operator.exists(modulePom)) {
-                    log.warn("Module POM not found: {}", modulePom);
-                    continue;
+                NodeList children = modulesElement.getChildNodes();
+                for (int i = 0; i < children.getLength(); i++) {
+                    Node child = children.item(i);
+                    if (child.getNodeType() != Node.ELEMENT_NODE) {
+                        continue;
+                    }
+                    String localName = child.getLocalName() != null ? child.getLocalName() : child.getNodeName();
+                    if (!"module".equals(localName)) {
+                        continue;
+                    }
+                    String moduleName = child.getTextContent().trim();
+                    if (moduleName.isEmpty()) {
+                        continue;
+                    }
+
+                    // 鲁棒的路径处理: resolve modulePom relative to currentPom
+                    String modulePom;
+                    Path currentPath = Paths.get(currentPom);
+                    Path parentPath = currentPath.getParent();
+                    if (parentPath != null) {
+                        modulePom = parentPath.resolve(moduleName).resolve("pom.xml").toString();
+                    } else {
+                        modulePom = Paths.get(moduleName, "pom.xml").toString();
+                    }
+
+                    // 规范化路径 (处理 ./ or ../ 并统一使用正斜杠)
+                    modulePom = normalizePath(modulePom);
+
+                    if (!visited.contains(modulePom)) {
+                        nextLevel.add(modulePom);
+                    }
                 }
-                queue.add(modulePom);
             }
+            level = nextLevel;
         }
 
         return pomFiles;
@@ -0,0 +1,56 @@
+package io.releasehub.infrastructure.version;
+
+import io.releasehub.application.port.out.GitLabFilePort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GitLab 仓库文件操作，暂存的文件通过 {@link GitLabFilePort#updateFiles} 作为一个提交写入
+ */
+@RequiredArgsConstructor
+class RemoteFileOperator implements FileOperator {
+    private final GitLabFilePort gitLabFilePort;
+    private final String repoCloneUrl;
+    private final String branch;
+    private final Map<String, String> pending = new LinkedHashMap<>();
+
+    @Override
+    public Map<String, String> readAll(Collection<String> paths) {
+        Map<String, String> files = new LinkedHashMap<>();
+        List<String> remote = new ArrayList<>();
+        for (String path : paths) {
+            String staged = pending.get(path);
+            if (staged != null) {
+                files.put(path, staged);
+            } else {
+                remote.add(path);
+            }
+        }
+        if (!remote.isEmpty()) {
+            files.putAll(gitLabFilePort.readFiles(repoCloneUrl, branch, remote));
+        }
+        return files;
+    }
+
+    @Override
+    public void write(String path, String content) {
+        pending.put(path, content);
+    }
+
+    @Override
+    public void commit(String message) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        boolean ok = gitLabFilePort.updateFiles(repoCloneUrl, branch, new LinkedHashMap<>(pending), message);
+        if (!ok) {
+            throw new RuntimeException("Failed to commit files on GitLab: " + pending.keySet());
+        }
+        pending.clear();
+    }
+}
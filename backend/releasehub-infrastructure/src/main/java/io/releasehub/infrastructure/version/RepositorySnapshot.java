@@ -0,0 +1,81 @@
+package io.releasehub.infrastructure.version;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 单次版本更新期间的仓库文件快照。
+ * <p>
+ * 每个文件只读取一次，原始内容与解析结果在本次更新内缓存；{@link #prefetch} 把一批文件交给
+ * {@link FileOperator#readAll} 一次读取（远程仓库并行拉取）。写入经快照暂存并使对应缓存失效，
+ * {@link #commit} 时整体提交。实例不跨请求复用，非线程安全。
+ */
+class RepositorySnapshot {
+
+    @FunctionalInterface
+    interface Parser<T> {
+        T parse(String content) throws Exception;
+    }
+
+    private final FileOperator operator;
+    private final Map<String, Optional<String>> contents = new HashMap<>();
+    private final Map<String, Object> parsed = new HashMap<>();
+
+    RepositorySnapshot(FileOperator operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * 读取尚未缓存的文件，不存在的文件同样记入缓存
+     */
+    void prefetch(Collection<String> paths) throws Exception {
+        List<String> missing = paths.stream()
+                .filter(path -> !contents.containsKey(path))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<String, String> fetched = operator.readAll(missing);
+        for (String path : missing) {
+            contents.put(path, Optional.ofNullable(fetched.get(path)));
+        }
+    }
+
+    Optional<String> read(String path) throws Exception {
+        prefetch(List.of(path));
+        return contents.get(path);
+    }
+
+    boolean exists(String path) throws Exception {
+        return read(path).isPresent();
+    }
+
+    /**
+     * 解析文件内容并缓存结果，同一文件只解析一次
+     */
+    @SuppressWarnings("unchecked")
+    <T> T parse(String path, Parser<T> parser) throws Exception {
+        Object cached = parsed.get(path);
+        if (cached != null) {
+            return (T) cached;
+        }
+        String content = read(path).orElseThrow(() -> new IllegalStateException("File not found: " + path));
+        T result = parser.parse(content);
+        parsed.put(path, result);
+        return result;
+    }
+
+    void write(String path, String content) {
+        operator.write(path, content);
+        contents.put(path, Optional.of(content));
+        parsed.remove(path);
+    }
+
+    void commit(String message) throws Exception {
+        operator.commit(message);
+    }
+}
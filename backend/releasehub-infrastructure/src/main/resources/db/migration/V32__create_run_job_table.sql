@@ -0,0 +1,20 @@
+-- 运行作业表：记录异步提交的运行参数与执行状态，用于重启后恢复未完成的运行
+CREATE TABLE run_job (
+    run_id VARCHAR(255) PRIMARY KEY,
+    job_type VARCHAR(32) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    window_id VARCHAR(255),
+    source_run_id VARCHAR(255),
+    repo_ids TEXT,
+    iteration_keys TEXT,
+    retry_items TEXT,
+    fail_fast BOOLEAN NOT NULL DEFAULT FALSE,
+    parallel_mode BOOLEAN NOT NULL DEFAULT FALSE,
+    operator VARCHAR(255) NOT NULL,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_run_job_run FOREIGN KEY (run_id) REFERENCES run(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_run_job_status ON run_job(status);
@@ -0,0 +1,26 @@
+-- 冲突报告表：持久化每个发布窗口最近一次冲突扫描结果，expires_at 之后视为过期需要重新扫描
+CREATE TABLE conflict_report (
+    window_id VARCHAR(64) PRIMARY KEY,
+    checked_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    conflict_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT fk_conflict_report_window FOREIGN KEY (window_id) REFERENCES release_window(id) ON DELETE CASCADE
+);
+
+-- 冲突项表：按扫描顺序保存报告中的冲突项
+CREATE TABLE conflict_report_item (
+    window_id VARCHAR(64) NOT NULL,
+    item_order INTEGER NOT NULL,
+    repo_id VARCHAR(255) NOT NULL,
+    repo_name VARCHAR(255),
+    iteration_key VARCHAR(255),
+    conflict_type VARCHAR(64) NOT NULL,
+    source_branch VARCHAR(255),
+    target_branch VARCHAR(255),
+    system_version VARCHAR(128),
+    repo_version VARCHAR(128),
+    message TEXT,
+    suggestion TEXT,
+    PRIMARY KEY (window_id, item_order),
+    CONSTRAINT fk_conflict_report_item_report FOREIGN KEY (window_id) REFERENCES conflict_report(window_id) ON DELETE CASCADE
+);
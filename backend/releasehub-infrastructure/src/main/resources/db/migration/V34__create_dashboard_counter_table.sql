@@ -0,0 +1,18 @@
+-- 仪表盘计数表：仓库、迭代、运行总数由持久化适配器在新增/删除时增量维护，仪表盘读取时无需 COUNT 全表
+CREATE TABLE dashboard_counter (
+    name VARCHAR(64) PRIMARY KEY,
+    counter_value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- 以现有数据初始化计数；删除某一行即可让仪表盘对该项回退到 COUNT 查询
+INSERT INTO dashboard_counter (name, counter_value, updated_at)
+SELECT 'REPOSITORIES', COUNT(*), CURRENT_TIMESTAMP FROM code_repository;
+INSERT INTO dashboard_counter (name, counter_value, updated_at)
+SELECT 'ITERATIONS', COUNT(*), CURRENT_TIMESTAMP FROM iteration;
+INSERT INTO dashboard_counter (name, counter_value, updated_at)
+SELECT 'RUNS', COUNT(*), CURRENT_TIMESTAMP FROM run;
+
+-- 近期运行数与每日运行数按创建时间范围统计；活跃窗口数按状态统计
+CREATE INDEX idx_run_created_at ON run(created_at);
+CREATE INDEX idx_release_window_status ON release_window(status);
@@ -0,0 +1,23 @@
+-- 运行状态物化：status 与运行项结果计数在保存运行 / 追加运行项时维护，分页筛选直接按索引列过滤
+ALTER TABLE run ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'RUNNING';
+ALTER TABLE run ADD COLUMN item_count INT NOT NULL DEFAULT 0;
+ALTER TABLE run ADD COLUMN success_count INT NOT NULL DEFAULT 0;
+ALTER TABLE run ADD COLUMN failed_count INT NOT NULL DEFAULT 0;
+
+-- 回填已有运行的计数：失败 = FAILED / VERSION_UPDATE_FAILED / MERGE_BLOCKED，成功 = SUCCESS / VERSION_UPDATE_SUCCESS
+UPDATE run SET
+    item_count = (SELECT COUNT(*) FROM run_item i WHERE i.run_id = run.id),
+    success_count = (SELECT COUNT(*) FROM run_item i WHERE i.run_id = run.id
+                     AND i.final_result IN ('SUCCESS', 'VERSION_UPDATE_SUCCESS')),
+    failed_count = (SELECT COUNT(*) FROM run_item i WHERE i.run_id = run.id
+                    AND i.final_result IN ('FAILED', 'VERSION_UPDATE_FAILED', 'MERGE_BLOCKED'));
+
+UPDATE run SET status = CASE
+    WHEN failed_count > 0 THEN 'FAILED'
+    WHEN item_count > 0 AND success_count = item_count THEN 'SUCCESS'
+    WHEN finished_at IS NOT NULL THEN 'COMPLETED'
+    ELSE 'RUNNING'
+END;
+
+CREATE INDEX idx_run_status ON run(status);
+CREATE INDEX idx_run_item_run_id ON run_item(run_id);
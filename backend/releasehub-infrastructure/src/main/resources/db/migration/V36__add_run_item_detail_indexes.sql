@@ -0,0 +1,3 @@
+-- 运行详情按运行项分页 / 游标读取：运行项按计划顺序排序，步骤按运行项批量加载并按动作类型筛选
+CREATE INDEX idx_run_item_run_order ON run_item(run_id, planned_order, executed_order);
+CREATE INDEX idx_run_step_item_action ON run_step(run_item_id, action_type);
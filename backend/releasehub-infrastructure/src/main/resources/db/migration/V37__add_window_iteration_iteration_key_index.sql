@@ -0,0 +1,2 @@
+-- 迭代删除/改仓库前的挂载校验与迭代详情的窗口列表按 iteration_key 反查，不再遍历全部窗口
+CREATE INDEX idx_window_iteration_iteration_key ON window_iteration(iteration_key);
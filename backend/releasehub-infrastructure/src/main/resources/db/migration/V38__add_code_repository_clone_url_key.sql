@@ -0,0 +1,9 @@
+-- 仓库规范化 cloneUrl：新增/修改仓库时按唯一索引判重，不再逐个解析全部仓库地址；存量数据由 V39 回填
+ALTER TABLE code_repository ADD COLUMN clone_url_key VARCHAR(512);
+CREATE UNIQUE INDEX ux_code_repository_clone_url_key ON code_repository(clone_url_key);
+
+-- 删除分组 / 仓库前的引用校验按分组编码、仓库 ID 做 EXISTS 查询
+CREATE INDEX idx_release_window_group_code ON release_window(group_code);
+CREATE INDEX idx_iteration_group_code ON iteration(group_code);
+CREATE INDEX idx_code_repository_group_code ON code_repository(group_code);
+CREATE INDEX idx_iteration_repo_repo_id ON iteration_repo(repo_id);
@@ -0,0 +1,2 @@
+-- 设置修订号：每次保存递增，各实例据此判断本地设置缓存是否过期
+ALTER TABLE system_settings ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
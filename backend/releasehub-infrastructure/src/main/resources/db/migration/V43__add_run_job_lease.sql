@@ -0,0 +1,3 @@
+-- 运行作业租约：派发前以条件 UPDATE 认领作业，多实例下同一作业只由持有有效租约的实例执行
+ALTER TABLE run_job ADD COLUMN owner_id VARCHAR(255);
+ALTER TABLE run_job ADD COLUMN lease_expires_at TIMESTAMP WITH TIME ZONE;
@@ -0,0 +1,2 @@
+-- 窗口运行结果统计与运行项头部列表按 window_key 过滤，不再全表扫描 run_item
+CREATE INDEX idx_run_item_window_key ON run_item(window_key);
@@ -0,0 +1,2 @@
+-- 运行中止标记：异步作业失败或被拒绝时运行直接记为 FAILED，不再按运行项结果汇总为 COMPLETED
+ALTER TABLE run ADD COLUMN aborted BOOLEAN NOT NULL DEFAULT FALSE;
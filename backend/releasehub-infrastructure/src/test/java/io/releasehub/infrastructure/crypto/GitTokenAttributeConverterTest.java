@@ -1,5 +1,6 @@
 package io.releasehub.infrastructure.crypto;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class GitTokenAttributeConverterTest {
 
     private GitTokenCrypto crypto;
+    private SimpleMeterRegistry meterRegistry;
     private GitTokenAttributeConverter converter;
 
     @BeforeEach
@@ -22,7 +24,8 @@ class GitTokenAttributeConverterTest {
             key[i] = (byte) (i + 1);
         }
         crypto = new GitTokenCrypto(Base64.getEncoder().encodeToString(key));
-        converter = new GitTokenAttributeConverter(Optional.of(crypto));
+        meterRegistry = new SimpleMeterRegistry();
+        converter = new GitTokenAttributeConverter(Optional.of(new GitTokenCodec(crypto, 100, meterRegistry)));
     }
 
     @Test
@@ -56,6 +59,74 @@ class GitTokenAttributeConverterTest {
         assertEquals(prefixedPlaintext, converter.convertToEntityAttribute(dbValue));
     }
 
+    @Test
+    void should_decrypt_each_ciphertext_once() {
+        String dbValue = "enc:v1:" + crypto.encrypt("glpat-cached-token");
+
+        assertEquals("glpat-cached-token", converter.convertToEntityAttribute(dbValue));
+        assertEquals("glpat-cached-token", converter.convertToEntityAttribute(dbValue));
+
+        assertEquals(1, meterRegistry.timer("releasehub.crypto.git-token", "operation", "decrypt").count());
+        assertEquals(1.0, meterRegistry.counter("releasehub.crypto.git-token.cache", "result", "hit").count());
+    }
+
+    @Test
+    void should_encrypt_once_and_serve_written_ciphertext_from_cache() {
+        String dbValue = converter.convertToDatabaseColumn("glpat-new-token");
+
+        assertEquals("glpat-new-token", converter.convertToEntityAttribute(dbValue));
+        assertEquals(1, meterRegistry.timer("releasehub.crypto.git-token", "operation", "encrypt").count());
+        assertEquals(0, meterRegistry.timer("releasehub.crypto.git-token", "operation", "decrypt").count());
+    }
+
+    @Test
+    void should_keep_undecryptable_prefixed_value_when_writing_back() {
+        String corrupted = "enc:v1:" + crypto.encrypt("glpat-token").substring(4);
+
+        assertEquals(corrupted, converter.convertToEntityAttribute(corrupted));
+        assertEquals(corrupted, converter.convertToDatabaseColumn(corrupted));
+    }
+
+    @Test
+    void should_not_reencrypt_prefixed_ciphertext_after_cache_eviction() {
+        GitTokenCodec codec = new GitTokenCodec(crypto, 1, meterRegistry);
+        String stored = codec.encode("glpat-token-a");
+        // 读取另一条记录把前者挤出缓存
+        codec.decode("enc:v1:" + crypto.encrypt("glpat-token-b"));
+
+        assertEquals(stored, codec.encode(stored));
+        assertEquals("glpat-token-a", codec.decode(stored));
+        assertEquals(1, meterRegistry.timer("releasehub.crypto.git-token", "operation", "encrypt").count());
+    }
+
+    @Test
+    void should_not_reencrypt_legacy_ciphertext_missing_from_cache() {
+        GitTokenCodec codec = new GitTokenCodec(crypto, 1, meterRegistry);
+        String legacyCiphertext = crypto.encrypt("glpat-legacy-token");
+
+        assertEquals(legacyCiphertext, codec.encode(legacyCiphertext));
+        assertEquals(0, meterRegistry.timer("releasehub.crypto.git-token", "operation", "encrypt").count());
+    }
+
+    @Test
+    void should_evict_least_recently_used_entry() {
+        GitTokenCodec codec = new GitTokenCodec(crypto, 2, meterRegistry);
+        String a = "enc:v1:" + crypto.encrypt("glpat-a");
+        String b = "enc:v1:" + crypto.encrypt("glpat-b");
+        String c = "enc:v1:" + crypto.encrypt("glpat-c");
+
+        codec.decode(a);
+        codec.decode(b);
+        codec.decode(a);
+        codec.decode(c);
+        codec.decode(a);
+
+        // a 最近被访问过，c 写入时淘汰的是 b
+        assertEquals(2.0, meterRegistry.counter("releasehub.crypto.git-token.cache", "result", "hit").count());
+        codec.decode(b);
+        assertEquals(4, meterRegistry.timer("releasehub.crypto.git-token", "operation", "decrypt").count());
+    }
+
     @Test
     void should_pass_through_when_crypto_is_disabled() {
         GitTokenAttributeConverter disabledConverter = new GitTokenAttributeConverter(Optional.empty());
@@ -3,8 +3,9 @@ package io.releasehub.infrastructure.git;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.common.exception.ValidationException;
 import io.releasehub.domain.repo.GitProvider;
+import io.releasehub.infrastructure.http.HostRateLimiter;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 
 import java.util.List;
 
@@ -13,12 +14,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GitBranchAdapterFactoryImplTest {
 
-    private final RestTemplateBuilder builder = new RestTemplateBuilder();
+    private final OutboundHttpClient httpClient = new OutboundHttpClient(1000, 5000, 16, false, HostRateLimiter.disabled());
 
     @Test
     void shouldReturnMatchedAdapter() {
         GitBranchPort inMemoryGitLab = new InMemoryGitLabBranchAdapter();
-        GitBranchPort github = new GitHubGitBranchAdapter(builder);
+        GitBranchPort github = new GitHubGitBranchAdapter(httpClient);
 
         GitBranchAdapterFactoryImpl factory = new GitBranchAdapterFactoryImpl(List.of(github, inMemoryGitLab));
 
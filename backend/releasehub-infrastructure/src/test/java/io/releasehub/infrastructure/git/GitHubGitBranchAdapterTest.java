@@ -5,6 +5,8 @@ import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.domain.repo.GitProvider;
 import io.releasehub.domain.run.MergeStatus;
+import io.releasehub.infrastructure.http.HostRateLimiter;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.client.RestTemplate;
@@ -24,7 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class GitHubGitBranchAdapterTest {
 
     private final GitHubGitBranchAdapter adapter = new GitHubGitBranchAdapter(
-            new org.springframework.boot.web.client.RestTemplateBuilder());
+            new OutboundHttpClient(1000, 5000, 16, false, HostRateLimiter.disabled()));
 
     @BeforeEach
     void injectRestTemplate(WireMockRuntimeInfo wm) {
@@ -5,6 +5,9 @@ import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import io.releasehub.application.port.out.GitBranchPort;
 import io.releasehub.domain.repo.GitProvider;
 import io.releasehub.domain.run.MergeStatus;
+import io.releasehub.infrastructure.http.HostRateLimiter;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.client.RestTemplate;
@@ -24,8 +27,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @WireMockTest(httpPort = 0)
 class GitLabGitBranchAdapterTest {
 
+    private final GitLabMergeReadinessAdapter mergeReadiness = new GitLabMergeReadinessAdapter(10, 40, 2000);
+
     private final GitLabGitBranchAdapter adapter = new GitLabGitBranchAdapter(
-            new org.springframework.boot.web.client.RestTemplateBuilder());
+            new OutboundHttpClient(1000, 5000, 16, false, HostRateLimiter.disabled()), mergeReadiness);
 
     /**
      * Adapter 通过 {@code uri(...)} 把 endpoint 包装为 URI，避免 RestTemplate 二次编码。
@@ -41,6 +46,11 @@ class GitLabGitBranchAdapterTest {
                 new org.springframework.http.client.JdkClientHttpRequestFactory(httpClient)));
     }
 
+    @AfterEach
+    void shutdownMergeReadiness() {
+        mergeReadiness.shutdown();
+    }
+
     private static String baseUrl(WireMockRuntimeInfo wm) {
         return "http://localhost:" + wm.getHttpPort();
     }
@@ -233,6 +243,24 @@ class GitLabGitBranchAdapterTest {
         assertTrue(result.canMerge());
     }
 
+    @Test
+    void shouldDistinguishInvalidBranchAndDuplicateMergeRequestFromConflict(WireMockRuntimeInfo wm) {
+        stubFor(post(urlPathEqualTo(ENC + "/merge_requests"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(404)
+                        .withBody("{\"message\":\"404 Branch Not Found\"}")));
+        GitBranchPort.MergeabilityResult invalid = adapter.checkMergeability(
+                baseUrl(wm) + "/acme/releasehub.git", "token", "feature/ITER-1", "release/RW-1");
+
+        stubFor(post(urlPathEqualTo(ENC + "/merge_requests"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(409)
+                        .withBody("{\"message\":[\"Another open merge request already exists for this source branch\"]}")));
+        GitBranchPort.MergeabilityResult duplicate = adapter.checkMergeability(
+                baseUrl(wm) + "/acme/releasehub.git", "token", "feature/ITER-1", "release/RW-1");
+
+        assertEquals(GitBranchPort.MergeabilityFailure.INVALID_BRANCH, invalid.failure());
+        assertEquals(GitBranchPort.MergeabilityFailure.DUPLICATE_REQUEST, duplicate.failure());
+    }
+
     @Test
     void shouldTreatGitLabCommitsStatusAsMergeable(WireMockRuntimeInfo wm) {
         stubFor(post(urlPathEqualTo(ENC + "/merge_requests"))
@@ -251,4 +279,31 @@ class GitLabGitBranchAdapterTest {
         assertTrue(result.canMerge());
         verify(putRequestedFor(urlPathEqualTo(ENC + "/merge_requests/203")));
     }
+
+    @Test
+    void shouldCompleteMergeabilityCheckFromWebhookEvent(WireMockRuntimeInfo wm) throws Exception {
+        stubFor(post(urlPathEqualTo(ENC + "/merge_requests"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(201)
+                        .withBody("{\"iid\":205,\"merge_status\":\"unchecked\"}")));
+        stubFor(get(urlPathEqualTo(ENC + "/merge_requests/205"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(200)
+                        .withBody("{\"iid\":205,\"detailed_merge_status\":\"checking\"}")));
+        stubFor(put(urlPathEqualTo(ENC + "/merge_requests/205"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(200)
+                        .withBody("{}")));
+
+        Thread webhook = Thread.ofVirtual().start(() -> {
+            while (mergeReadiness.pendingCount() == 0) {
+                Thread.onSpinWait();
+            }
+            mergeReadiness.onMergeStatus("localhost", "acme/releasehub", 205, "cannot_be_merged");
+        });
+
+        GitBranchPort.MergeabilityResult result = adapter.checkMergeability(
+                baseUrl(wm) + "/acme/releasehub.git", "token", "feature/ITER-1", "release/RW-1");
+        webhook.join();
+
+        assertFalse(result.canMerge());
+        verify(putRequestedFor(urlPathEqualTo(ENC + "/merge_requests/205")));
+    }
 }
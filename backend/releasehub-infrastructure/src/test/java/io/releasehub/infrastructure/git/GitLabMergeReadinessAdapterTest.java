@@ -0,0 +1,93 @@
+package io.releasehub.infrastructure.git;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GitLabMergeReadinessAdapterTest {
+
+    private static final Predicate<String> SETTLED = "can_be_merged"::equals;
+    private static final String GITLAB = "https://gitlab.example.com";
+
+    private final GitLabMergeReadinessAdapter tracker = new GitLabMergeReadinessAdapter(10, 40, 300);
+
+    @AfterEach
+    void tearDown() {
+        tracker.shutdown();
+    }
+
+    @Test
+    void shouldCompleteWhenPollingObservesSettledStatus() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+
+        CompletableFuture<String> future = tracker.await(GITLAB, "acme/releasehub", 1, "unchecked",
+                () -> polls.incrementAndGet() < 3 ? "checking" : "can_be_merged", SETTLED);
+
+        assertEquals("can_be_merged", future.get(2, TimeUnit.SECONDS));
+        assertEquals(3, polls.get());
+        assertEquals(0, tracker.pendingCount());
+    }
+
+    @Test
+    void shouldCompleteFromWebhookBeforePollingSettles() throws Exception {
+        CompletableFuture<String> future = tracker.await(GITLAB, "acme/releasehub", 2, "unchecked",
+                () -> "checking", SETTLED);
+
+        assertFalse(tracker.onMergeStatus("GitLab.Example.com", "ACME/ReleaseHub", 2, "checking"));
+        assertTrue(tracker.onMergeStatus("GitLab.Example.com", "ACME/ReleaseHub", 2, "CAN_BE_MERGED"));
+
+        assertEquals("can_be_merged", future.get(1, TimeUnit.SECONDS));
+        assertFalse(tracker.onMergeStatus("gitlab.example.com", "acme/releasehub", 2, "can_be_merged"));
+    }
+
+    @Test
+    void shouldIgnoreWebhookFromAnotherGitLabHost() {
+        CompletableFuture<String> future = tracker.await(GITLAB, "acme/releasehub", 6, "unchecked",
+                () -> "checking", SETTLED);
+
+        assertFalse(tracker.onMergeStatus("gitlab.other.com", "acme/releasehub", 6, "can_be_merged"));
+        assertFalse(future.isDone());
+        assertTrue(tracker.onMergeStatus("gitlab.example.com", "acme/releasehub", 6, "can_be_merged"));
+    }
+
+    @Test
+    void shouldShareFutureForConcurrentWaitersOnSameMergeRequest() {
+        CompletableFuture<String> first = tracker.await(GITLAB, "acme/releasehub", 3, "unchecked", () -> "checking", SETTLED);
+        CompletableFuture<String> second = tracker.await(GITLAB, "acme/releasehub", 3, "unchecked", () -> "checking", SETTLED);
+
+        assertSame(first, second);
+        assertEquals(1, tracker.pendingCount());
+    }
+
+    @Test
+    void shouldCompleteWithLastStatusWhenTimedOut() throws Exception {
+        CompletableFuture<String> future = tracker.await(GITLAB, "acme/releasehub", 4, "unchecked",
+                () -> "checking", SETTLED);
+
+        assertEquals("checking", future.get(2, TimeUnit.SECONDS));
+        assertEquals(0, tracker.pendingCount());
+    }
+
+    @Test
+    void shouldFailWhenPollThrows() {
+        CompletableFuture<String> future = tracker.await(GITLAB, "acme/releasehub", 5, "unchecked",
+                () -> {
+                    throw new IllegalStateException("boom");
+                }, SETTLED);
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+}
@@ -5,6 +5,8 @@ import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import io.releasehub.application.settings.SettingsPort;
 import io.releasehub.application.gitlab.GitLabPort;
 import io.releasehub.common.exception.BusinessException;
+import io.releasehub.infrastructure.http.HostRateLimiter;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -29,7 +31,7 @@ class GitLabAdapterTest {
     @BeforeEach
     void setUp() {
         settingsPort = mock(SettingsPort.class);
-        adapter = new GitLabAdapter(settingsPort);
+        adapter = new GitLabAdapter(settingsPort, new OutboundHttpClient(1000, 5000, 16, false, HostRateLimiter.disabled()));
     }
 
     private void configureBaseUrl(WireMockRuntimeInfo wm, String token) {
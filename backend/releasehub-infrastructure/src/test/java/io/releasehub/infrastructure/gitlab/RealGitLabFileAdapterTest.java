@@ -3,18 +3,32 @@ package io.releasehub.infrastructure.gitlab;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import io.releasehub.application.settings.SettingsPort;
+import io.releasehub.common.exception.BusinessException;
+import io.releasehub.infrastructure.http.HostRateLimiter;
+import io.releasehub.infrastructure.http.OutboundHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -24,6 +38,7 @@ class RealGitLabFileAdapterTest {
 
     private RealGitLabFileAdapter adapter;
     private SettingsPort settingsPort;
+    private final OutboundHttpClient httpClient = new OutboundHttpClient(1000, 5000, 16, false, HostRateLimiter.disabled());
 
     /** URI.create() 绕过 RestTemplate 二次编码，WireMock 接收到的路径为单次编码 %2F */
     private static final String ENC = "/api/v4/projects/acme%2Freleasehub";
@@ -34,13 +49,13 @@ class RealGitLabFileAdapterTest {
         when(settingsPort.getGitLab()).thenReturn(Optional.of(
                 new SettingsPort.SettingsGitLab("http://localhost:0", "test-token")));
 
-        adapter = new RealGitLabFileAdapter(settingsPort);
+        adapter = new RealGitLabFileAdapter(settingsPort, httpClient, 4);
     }
 
     private void configureBaseUrl(WireMockRuntimeInfo wm) {
         when(settingsPort.getGitLab()).thenReturn(Optional.of(
                 new SettingsPort.SettingsGitLab("http://localhost:" + wm.getHttpPort(), "test-token")));
-        adapter = new RealGitLabFileAdapter(settingsPort);
+        adapter = new RealGitLabFileAdapter(settingsPort, httpClient, 4);
     }
 
     @Test
@@ -169,4 +184,82 @@ class RealGitLabFileAdapterTest {
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void shouldCommitMultipleFilesInSingleRequest(WireMockRuntimeInfo wm) {
+        configureBaseUrl(wm);
+
+        stubFor(post(urlPathEqualTo(ENC + "/repository/commits"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(201)
+                        .withBody("{\"id\":\"abc123\"}")));
+
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("pom.xml", "<project><version>2.0.0</version></project>");
+        files.put("module1/pom.xml", "<project><parent><version>2.0.0</version></parent></project>");
+
+        assertTrue(adapter.updateFiles(
+                "http://localhost:" + wm.getHttpPort() + "/acme/releasehub.git",
+                "release/RW-1", files, "Bump version"));
+
+        verify(1, postRequestedFor(urlPathEqualTo(ENC + "/repository/commits"))
+                .withHeader("PRIVATE-TOKEN", equalTo("test-token"))
+                .withRequestBody(equalToJson("""
+                        {"branch":"release/RW-1","commit_message":"Bump version","actions":[
+                          {"action":"update","file_path":"pom.xml","content":"<project><version>2.0.0</version></project>"},
+                          {"action":"update","file_path":"module1/pom.xml","content":"<project><parent><version>2.0.0</version></parent></project>"}
+                        ]}
+                        """)));
+    }
+
+    @Test
+    void shouldReportFailureWhenCommitRejected(WireMockRuntimeInfo wm) {
+        configureBaseUrl(wm);
+
+        stubFor(post(urlPathEqualTo(ENC + "/repository/commits"))
+                .willReturn(aResponse().withStatus(400)));
+
+        assertFalse(adapter.updateFiles(
+                "http://localhost:" + wm.getHttpPort() + "/acme/releasehub.git",
+                "release/RW-1", Map.of("pom.xml", "<project/>"), "Bump version"));
+    }
+
+    @Test
+    void shouldReadMultipleFilesAndOmitMissingOnes(WireMockRuntimeInfo wm) {
+        configureBaseUrl(wm);
+        for (String module : new String[]{"module1", "module2"}) {
+            String base64Content = Base64.getEncoder().encodeToString(
+                    ("<project><artifactId>" + module + "</artifactId></project>").getBytes());
+            stubFor(get(urlPathEqualTo(ENC + "/repository/files/" + module + "%2Fpom.xml"))
+                    .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(200)
+                            .withBody("""
+                                    {"content":"%s","encoding":"base64"}
+                                    """.formatted(base64Content))));
+        }
+        stubFor(get(urlPathEqualTo(ENC + "/repository/files/missing%2Fpom.xml"))
+                .willReturn(aResponse().withStatus(404)));
+
+        Map<String, String> files = adapter.readFiles(
+                "http://localhost:" + wm.getHttpPort() + "/acme/releasehub.git",
+                "main", List.of("module1/pom.xml", "module2/pom.xml", "missing/pom.xml"));
+
+        assertEquals(Set.of("module1/pom.xml", "module2/pom.xml"), files.keySet());
+        assertTrue(files.get("module2/pom.xml").contains("<artifactId>module2</artifactId>"));
+    }
+
+    @Test
+    void shouldFailBatchReadWhenAnyFileReturnsServerError(WireMockRuntimeInfo wm) {
+        configureBaseUrl(wm);
+        String base64Content = Base64.getEncoder().encodeToString("<project/>".getBytes());
+        stubFor(get(urlPathEqualTo(ENC + "/repository/files/module1%2Fpom.xml"))
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withStatus(200)
+                        .withBody("""
+                                {"content":"%s","encoding":"base64"}
+                                """.formatted(base64Content))));
+        stubFor(get(urlPathEqualTo(ENC + "/repository/files/module2%2Fpom.xml"))
+                .willReturn(aResponse().withStatus(500)));
+
+        assertThrows(BusinessException.class, () -> adapter.readFiles(
+                "http://localhost:" + wm.getHttpPort() + "/acme/releasehub.git",
+                "main", List.of("module1/pom.xml", "module2/pom.xml")));
+    }
 }
@@ -0,0 +1,130 @@
+package io.releasehub.infrastructure.http;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest(httpPort = 0)
+class HostRateLimiterTest {
+
+    @Test
+    void shouldRetryThrottledRequestAfterRetryAfter(WireMockRuntimeInfo wm) {
+        HostRateLimiter limiter = new HostRateLimiter(true, 100, 10, 5000, 3, 1, 5);
+        OutboundHttpClient client = new OutboundHttpClient(1000, 5000, 4, false, limiter);
+        stubFor(get(urlPathEqualTo("/api/v4/user")).inScenario("throttle")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "0"))
+                .willSetStateTo("recovered"));
+        stubFor(get(urlPathEqualTo("/api/v4/user")).inScenario("throttle")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(200).withBody("ok")));
+
+        String body = client.restTemplate().getForObject("http://localhost:" + wm.getHttpPort() + "/api/v4/user", String.class);
+
+        assertEquals("ok", body);
+        verify(2, getRequestedFor(urlPathEqualTo("/api/v4/user")));
+        HostRateLimiter.HostSnapshot stats = limiter.snapshot().get("http://localhost:" + wm.getHttpPort());
+        assertEquals(1, stats.throttled());
+        assertEquals(1, stats.retried());
+        assertEquals(0, stats.rejected());
+    }
+
+    @Test
+    void shouldGiveUpWhenRetriesAreExhausted(WireMockRuntimeInfo wm) {
+        HostRateLimiter limiter = new HostRateLimiter(true, 100, 10, 5000, 2, 1, 5);
+        OutboundHttpClient client = new OutboundHttpClient(1000, 5000, 4, false, limiter);
+        stubFor(get(urlPathEqualTo("/api/v4/user")).willReturn(aResponse().withStatus(429)));
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () ->
+                client.restTemplate().getForObject("http://localhost:" + wm.getHttpPort() + "/api/v4/user", String.class));
+
+        verify(3, getRequestedFor(urlPathEqualTo("/api/v4/user")));
+        HostRateLimiter.HostSnapshot stats = limiter.snapshot().get("http://localhost:" + wm.getHttpPort());
+        assertEquals(3, stats.throttled());
+        assertEquals(2, stats.retried());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void shouldNotRetryThrottledNonIdempotentRequest(WireMockRuntimeInfo wm) {
+        HostRateLimiter limiter = new HostRateLimiter(true, 100, 10, 5000, 3, 1, 5);
+        OutboundHttpClient client = new OutboundHttpClient(1000, 5000, 4, false, limiter);
+        stubFor(post(urlPathEqualTo("/api/v4/projects/1/merge_requests"))
+                .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "0")));
+
+        assertThrows(HttpServerErrorException.ServiceUnavailable.class, () ->
+                client.restTemplate().postForObject("http://localhost:" + wm.getHttpPort() + "/api/v4/projects/1/merge_requests",
+                        "{}", String.class));
+
+        verify(1, postRequestedFor(urlPathEqualTo("/api/v4/projects/1/merge_requests")));
+        HostRateLimiter.HostSnapshot stats = limiter.snapshot().get("http://localhost:" + wm.getHttpPort());
+        assertEquals(1, stats.throttled());
+        assertEquals(0, stats.retried());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void shouldExportHostStatsAsMeters() throws Exception {
+        HostRateLimiter limiter = new HostRateLimiter(true, 1, 1, 10, 0, 1, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        limiter.acquire("https://gitlab.example.com:443");
+        assertThrows(HostRateLimiter.RateLimitRejectedException.class,
+                () -> limiter.acquire("https://gitlab.example.com:443"));
+
+        assertEquals(1, registry.get("releasehub.http.rate-limit")
+                .tag("host", "https://gitlab.example.com:443").tag("event", "rejected").functionCounter().count());
+        assertEquals(0, registry.get("releasehub.http.rate-limit")
+                .tag("host", "https://gitlab.example.com:443").tag("event", "queued").functionCounter().count());
+    }
+
+    @Test
+    void shouldQueueWhenBucketIsEmpty() throws Exception {
+        HostRateLimiter limiter = new HostRateLimiter(true, 20, 1, 5000, 0, 1, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("https://gitlab.example.com:443");
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs >= 90, "two of three requests should wait for a token, took " + elapsedMs + "ms");
+        assertEquals(2, limiter.snapshot().get("https://gitlab.example.com:443").queued());
+    }
+
+    @Test
+    void shouldRejectWhenWaitExceedsLimit() throws Exception {
+        HostRateLimiter limiter = new HostRateLimiter(true, 1, 1, 10, 0, 1, 1);
+        limiter.acquire("https://gitlab.example.com:443");
+
+        assertThrows(HostRateLimiter.RateLimitRejectedException.class,
+                () -> limiter.acquire("https://gitlab.example.com:443"));
+        assertEquals(1, limiter.snapshot().get("https://gitlab.example.com:443").rejected());
+    }
+
+    @Test
+    void shouldParseRetryAfterSeconds() {
+        assertEquals(Duration.ofSeconds(3), HostRateLimiter.parseRetryAfter("3"));
+        assertNull(HostRateLimiter.parseRetryAfter("soon"));
+    }
+}
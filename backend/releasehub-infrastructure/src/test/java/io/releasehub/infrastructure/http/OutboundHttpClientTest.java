@@ -0,0 +1,107 @@
+package io.releasehub.infrastructure.http;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest(httpPort = 0)
+class OutboundHttpClientTest {
+
+    @Test
+    void shouldNormalizeEndpointPaths() {
+        assertEquals("GET gitlab.example.com/api/v4/projects/{}/repository/branches/{}",
+                OutboundHttpClient.endpointOf("GET",
+                        URI.create("https://gitlab.example.com/api/v4/projects/acme%2Frepo/repository/branches/release%2F1.0")));
+        assertEquals("PUT gitlab.example.com/api/v4/projects/{}/merge_requests/{}/merge",
+                OutboundHttpClient.endpointOf("PUT",
+                        URI.create("https://gitlab.example.com/api/v4/projects/acme%2Frepo/merge_requests/12/merge")));
+        assertEquals("POST api.github.com/repos/{}/{}/git/refs",
+                OutboundHttpClient.endpointOf("POST", URI.create("https://api.github.com/repos/acme/repo/git/refs")));
+        assertEquals("GET gitlab.example.com:8443/api/v4/projects/{}/protected_branches",
+                OutboundHttpClient.endpointOf("GET",
+                        URI.create("https://gitlab.example.com:8443/api/v4/projects/42/protected_branches?per_page=100")));
+    }
+
+    @Test
+    void shouldRecordLatencyAndErrorsPerEndpoint(WireMockRuntimeInfo wm) {
+        OutboundHttpClient client = new OutboundHttpClient(1000, 5000, 4, false, HostRateLimiter.disabled());
+        stubFor(get(urlPathEqualTo("/api/v4/projects/1")).willReturn(aResponse().withStatus(200).withBody("{}")));
+        stubFor(get(urlPathEqualTo("/api/v4/projects/2")).willReturn(aResponse().withStatus(404)));
+        RestTemplate restTemplate = client.restTemplate();
+
+        restTemplate.getForObject("http://localhost:" + wm.getHttpPort() + "/api/v4/projects/1", String.class);
+        assertThrows(HttpClientErrorException.NotFound.class, () ->
+                restTemplate.getForObject("http://localhost:" + wm.getHttpPort() + "/api/v4/projects/2", String.class));
+
+        Map<String, OutboundHttpClient.EndpointSnapshot> snapshot = client.snapshot();
+        OutboundHttpClient.EndpointSnapshot stats = snapshot.get("GET localhost:" + wm.getHttpPort() + "/api/v4/projects/{}");
+        assertEquals(1, snapshot.size());
+        assertEquals(2, stats.count());
+        assertEquals(1, stats.errors());
+        assertTrue(stats.max().compareTo(stats.avg()) >= 0);
+    }
+
+    @Test
+    void shouldExportEndpointStatsAsMeters(WireMockRuntimeInfo wm) {
+        OutboundHttpClient client = new OutboundHttpClient(1000, 5000, 4, false, HostRateLimiter.disabled());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        stubFor(get(urlPathEqualTo("/api/v4/projects/1")).willReturn(aResponse().withStatus(200).withBody("{}")));
+        stubFor(get(urlPathEqualTo("/api/v4/user")).willReturn(aResponse().withStatus(404)));
+        RestTemplate restTemplate = client.restTemplate();
+        String base = "http://localhost:" + wm.getHttpPort();
+
+        // 绑定前已出现的端点与绑定后新出现的端点都应导出
+        restTemplate.getForObject(base + "/api/v4/projects/1", String.class);
+        client.bindTo(registry);
+        restTemplate.getForObject(base + "/api/v4/projects/1", String.class);
+        assertThrows(HttpClientErrorException.NotFound.class, () ->
+                restTemplate.getForObject(base + "/api/v4/user", String.class));
+
+        String projects = "GET localhost:" + wm.getHttpPort() + "/api/v4/projects/{}";
+        String user = "GET localhost:" + wm.getHttpPort() + "/api/v4/user";
+        assertEquals(2, registry.get("releasehub.http.client.requests").tag("endpoint", projects).functionTimer().count());
+        assertEquals(0, registry.get("releasehub.http.client.errors").tag("endpoint", projects).functionCounter().count());
+        assertEquals(1, registry.get("releasehub.http.client.requests").tag("endpoint", user).functionTimer().count());
+        assertEquals(1, registry.get("releasehub.http.client.errors").tag("endpoint", user).functionCounter().count());
+    }
+
+    @Test
+    void shouldLimitConcurrentRequestsPerHost(WireMockRuntimeInfo wm) throws Exception {
+        OutboundHttpClient client = new OutboundHttpClient(1000, 5000, 1, false, HostRateLimiter.disabled());
+        stubFor(get(urlPathEqualTo("/slow")).willReturn(aResponse().withStatus(200).withBody("ok").withFixedDelay(150)));
+        String url = "http://localhost:" + wm.getHttpPort() + "/slow";
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<String>> calls = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                calls.add(CompletableFuture.supplyAsync(() -> client.restTemplate().getForObject(url, String.class), executor));
+            }
+            for (CompletableFuture<String> call : calls) {
+                assertEquals("ok", call.get());
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs >= 450, "requests to one host should run one at a time, took " + elapsedMs + "ms");
+    }
+}
@@ -0,0 +1,124 @@
+package io.releasehub.infrastructure.persistence.conflict;
+
+import io.releasehub.domain.conflict.ConflictItem;
+import io.releasehub.domain.conflict.ConflictReport;
+import io.releasehub.domain.version.ConflictType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConflictDetectionPersistenceAdapterTest {
+
+    private static final String WINDOW_ID = "RW-1";
+
+    @Mock
+    private ConflictReportJpaRepository repository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-06-01T08:00:00Z"));
+    private ConflictDetectionPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        adapter = new ConflictDetectionPersistenceAdapter(repository, clock, 30, 10);
+    }
+
+    @Test
+    void shouldPersistReportWithExpiryAndOrderedItems() {
+        when(repository.findById(WINDOW_ID)).thenReturn(Optional.empty());
+        ConflictReport report = ConflictReport.rehydrate(WINDOW_ID, clock.instant(), List.of(
+                ConflictItem.mergeConflict("repo-1", "api", "ITER-1", "feature/ITER-1", "release/RW-1", "pom.xml"),
+                ConflictItem.branchNoncompliant("repo-2", "web", "ITER-1", "feat_x")));
+
+        adapter.saveReport(WINDOW_ID, report);
+
+        ArgumentCaptor<ConflictReportJpaEntity> captor = ArgumentCaptor.forClass(ConflictReportJpaEntity.class);
+        verify(repository).save(captor.capture());
+        ConflictReportJpaEntity saved = captor.getValue();
+        assertEquals(clock.instant().plus(Duration.ofMinutes(30)), saved.getExpiresAt());
+        assertEquals(2, saved.getConflictCount());
+        assertEquals("repo-1", saved.getItems().get(0).getRepoId());
+        assertEquals("BRANCH_NONCOMPLIANT", saved.getItems().get(1).getConflictType());
+    }
+
+    @Test
+    void shouldReadThroughAndCacheStoredReport() {
+        when(repository.findById(WINDOW_ID)).thenReturn(Optional.of(storedEntity(clock.instant().plus(Duration.ofMinutes(30)))));
+
+        ConflictReport first = adapter.getLatestReport(WINDOW_ID).orElseThrow();
+        ConflictReport second = adapter.getLatestReport(WINDOW_ID).orElseThrow();
+
+        assertEquals(ConflictType.MERGE_CONFLICT, first.getConflicts().get(0).getConflictType());
+        assertEquals("feature/ITER-1", first.getConflicts().get(0).getSourceBranch());
+        assertEquals(first, second);
+        verify(repository, times(1)).findById(WINDOW_ID);
+
+        clock.advance(Duration.ofSeconds(11));
+        adapter.getLatestReport(WINDOW_ID);
+        verify(repository, times(2)).findById(WINDOW_ID);
+    }
+
+    @Test
+    void shouldTreatExpiredReportAsMissing() {
+        when(repository.findById(WINDOW_ID)).thenReturn(Optional.of(storedEntity(clock.instant().plus(Duration.ofMinutes(1)))));
+
+        assertTrue(adapter.getLatestReport(WINDOW_ID).isPresent());
+        clock.advance(Duration.ofMinutes(2));
+
+        assertTrue(adapter.getLatestReport(WINDOW_ID).isEmpty());
+    }
+
+    private ConflictReportJpaEntity storedEntity(Instant expiresAt) {
+        ConflictReportJpaEntity entity = new ConflictReportJpaEntity();
+        entity.setWindowId(WINDOW_ID);
+        entity.setCheckedAt(clock.instant());
+        entity.setExpiresAt(expiresAt);
+        entity.setConflictCount(1);
+        entity.getItems().add(new ConflictReportItemJpaEmbeddable("repo-1", "api", "ITER-1", "MERGE_CONFLICT",
+                "feature/ITER-1", "release/RW-1", null, null, "conflict", "resolve"));
+        return entity;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
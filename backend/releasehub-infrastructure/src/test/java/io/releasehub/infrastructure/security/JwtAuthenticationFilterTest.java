@@ -0,0 +1,100 @@
+package io.releasehub.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.releasehub.application.user.UserChangedEvent;
+import io.releasehub.domain.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Clock;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-authentication-filter";
+
+    private final JwtTokenAdapter tokenAdapter = new JwtTokenAdapter(SECRET, 120, 10080);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationCache cache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AuthenticationCache(60, 60, 100, Clock.systemUTC(), meterRegistry);
+        filter = new JwtAuthenticationFilter(tokenAdapter, userDetailsService, cache, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldLoadUserOnceAndServeRepeatedRequestsFromCache() throws Exception {
+        String token = tokenAdapter.createToken(new User("u1", "alice", "hash", "Alice", true)).getToken();
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(userDetails("alice", true));
+
+        assertEquals("alice", authenticate(token).getName());
+        assertEquals("alice", authenticate(token).getName());
+
+        verify(userDetailsService, times(1)).loadUserByUsername("alice");
+        assertEquals(1.0, meterRegistry.counter("releasehub.auth.cache", "cache", "token", "result", "hit").count());
+        assertEquals(2, meterRegistry.timer("releasehub.auth.duration").count());
+    }
+
+    @Test
+    void shouldReloadUserAfterUserChanged() throws Exception {
+        String token = tokenAdapter.createToken(new User("u1", "alice", "hash", "Alice", true)).getToken();
+        when(userDetailsService.loadUserByUsername("alice"))
+                .thenReturn(userDetails("alice", true))
+                .thenReturn(userDetails("alice", false));
+
+        assertNotNull(authenticate(token));
+        cache.onUserChanged(new UserChangedEvent("alice"));
+
+        assertNull(authenticate(token));
+        verify(userDetailsService, times(2)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void shouldIgnoreTokenWithInvalidSignature() throws Exception {
+        JwtTokenAdapter otherAdapter = new JwtTokenAdapter(SECRET + "-other", 120, 10080);
+        String token = otherAdapter.createToken(new User("u1", "alice", "hash", "Alice", true)).getToken();
+
+        assertNull(authenticate(token));
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/groups");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static org.springframework.security.core.userdetails.UserDetails userDetails(String username, boolean enabled) {
+        return org.springframework.security.core.userdetails.User
+                .withUsername(username)
+                .password("hash")
+                .authorities(Collections.emptyList())
+                .disabled(!enabled)
+                .build();
+    }
+}
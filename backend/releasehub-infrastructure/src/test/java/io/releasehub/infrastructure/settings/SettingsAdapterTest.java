@@ -8,12 +8,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,12 +31,17 @@ class SettingsAdapterTest {
     @Mock
     private SystemSettingsJpaRepository repository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-06-01T08:00:00Z"));
+
     private SettingsAdapter adapter;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        adapter = new SettingsAdapter(repository);
+        adapter = new SettingsAdapter(repository, eventPublisher, clock, 5);
     }
 
     @Test
@@ -45,6 +59,8 @@ class SettingsAdapterTest {
         assertEquals("GLOBAL", saved.getId());
         assertEquals("http://gitlab.com", saved.getGitlabBaseUrl());
         assertEquals("secret-token", saved.getGitlabToken());
+        assertNull(saved.getRevision());
+        verify(eventPublisher).publishEvent(any(SettingsChangedEvent.class));
     }
 
     @Test
@@ -78,4 +94,92 @@ class SettingsAdapterTest {
         assertEquals("feat/{key}", saved.getFeatureTemplate());
         assertEquals("rel/{key}", saved.getReleaseTemplate());
     }
+
+    @Test
+    void should_serve_repeated_reads_from_cache() {
+        when(repository.findById("GLOBAL")).thenReturn(Optional.of(settings(3, "http://gitlab.com")));
+
+        adapter.getGitLab();
+        adapter.getNaming();
+        adapter.getBlocking();
+        adapter.getGitLab();
+
+        verify(repository, times(1)).findById("GLOBAL");
+        verify(repository, never()).findRevisionById("GLOBAL");
+    }
+
+    @Test
+    void should_keep_cache_when_revision_is_unchanged_after_revalidation() {
+        when(repository.findById("GLOBAL")).thenReturn(Optional.of(settings(3, "http://gitlab.com")));
+        when(repository.findRevisionById("GLOBAL")).thenReturn(Optional.of(3L));
+
+        adapter.getGitLab();
+        clock.advance(Duration.ofSeconds(6));
+        adapter.getGitLab();
+        adapter.getGitLab();
+
+        verify(repository, times(1)).findById("GLOBAL");
+        verify(repository, times(1)).findRevisionById("GLOBAL");
+    }
+
+    @Test
+    void should_reload_when_another_instance_changed_settings() {
+        when(repository.findById("GLOBAL")).thenReturn(
+                Optional.of(settings(3, "http://old.gitlab.com")),
+                Optional.of(settings(4, "http://new.gitlab.com")));
+        when(repository.findRevisionById("GLOBAL")).thenReturn(Optional.of(4L));
+
+        assertEquals("http://old.gitlab.com", adapter.getGitLab().orElseThrow().baseUrl());
+        clock.advance(Duration.ofSeconds(6));
+
+        assertEquals("http://new.gitlab.com", adapter.getGitLab().orElseThrow().baseUrl());
+    }
+
+    @Test
+    void should_reload_after_local_save_is_committed() {
+        when(repository.findById("GLOBAL")).thenReturn(
+                Optional.of(settings(3, "http://old.gitlab.com")),
+                Optional.of(settings(4, "http://new.gitlab.com")));
+
+        assertEquals("http://old.gitlab.com", adapter.getGitLab().orElseThrow().baseUrl());
+        adapter.onSettingsChanged(new SettingsChangedEvent());
+
+        assertEquals("http://new.gitlab.com", adapter.getGitLab().orElseThrow().baseUrl());
+    }
+
+    private static SystemSettingsJpaEntity settings(long revision, String baseUrl) {
+        SystemSettingsJpaEntity entity = new SystemSettingsJpaEntity();
+        entity.setId("GLOBAL");
+        entity.setGitlabBaseUrl(baseUrl);
+        entity.setGitlabToken("secret-token");
+        entity.setRevision(revision);
+        return entity;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import io.releasehub.application.port.out.GitLabFilePort;
 import io.releasehub.application.repo.CodeRepositoryPort;
 import io.releasehub.application.version.VersionUpdateRequest;
 import io.releasehub.application.version.VersionUpdateResult;
+import io.releasehub.common.exception.BusinessException;
 import io.releasehub.domain.repo.CodeRepository;
 import io.releasehub.domain.repo.GitProvider;
 import io.releasehub.domain.repo.RepoId;
@@ -12,6 +13,7 @@ import io.releasehub.domain.version.BuildTool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -19,13 +21,22 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,7 +48,7 @@ class MavenVersionUpdaterTest {
     @TempDir
     Path tempDir;
     
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private GitLabFilePort gitLabFilePort;
     
     @Mock
@@ -265,4 +276,137 @@ class MavenVersionUpdaterTest {
         assertTrue(module2Content.contains("<version>2.0.0</version>"));
         assertTrue(module2Content.contains("<version>0.9.0</version>"));
     }
+
+    @Test
+    void should_commit_all_module_poms_in_single_gitlab_commit() {
+        RepoId repoId = RepoId.newId();
+        String cloneUrl = "https://gitlab.com/acme/multi.git";
+        String branch = "release/RW-1";
+        when(codeRepositoryPort.findById(repoId)).thenReturn(Optional.of(gitlabRepo(repoId, cloneUrl)));
+        when(gitLabFilePort.readFile(cloneUrl, branch, "pom.xml")).thenReturn(Optional.of("""
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <groupId>com.example</groupId>
+                    <artifactId>parent-project</artifactId>
+                    <version>1.0.0</version>
+                    <modules>
+                        <module>module1</module>
+                        <module>module2</module>
+                    </modules>
+                </project>
+                """));
+        for (String module : new String[]{"module1", "module2"}) {
+            when(gitLabFilePort.readFile(cloneUrl, branch, module + "/pom.xml")).thenReturn(Optional.of("""
+                    <project xmlns="http://maven.apache.org/POM/4.0.0">
+                        <parent>
+                            <groupId>com.example</groupId>
+                            <artifactId>parent-project</artifactId>
+                            <version>1.0.0</version>
+                        </parent>
+                        <artifactId>%s</artifactId>
+                    </project>
+                    """.formatted(module)));
+        }
+        when(gitLabFilePort.updateFiles(eq(cloneUrl), eq(branch), anyMap(), anyString())).thenReturn(true);
+
+        VersionUpdateResult result = updater.update(
+                VersionUpdateRequest.forMaven(repoId, branch, ".", "2.0.0", "pom.xml"));
+
+        assertTrue(result.success());
+        verify(gitLabFilePort, times(1)).updateFiles(eq(cloneUrl), eq(branch),
+                argThat((Map<String, String> files) -> files.keySet().equals(
+                        Set.of("pom.xml", "module1/pom.xml", "module2/pom.xml"))
+                        && files.values().stream().allMatch(c -> c.contains("<version>2.0.0</version>"))),
+                anyString());
+        verify(gitLabFilePort, never()).updateFile(anyString(), anyString(), anyString(), anyString(), anyString());
+        // 模块发现与更新共用快照：每个 POM 只读取一次，不再逐个探测文件是否存在
+        verify(gitLabFilePort, times(1)).readFile(cloneUrl, branch, "pom.xml");
+        verify(gitLabFilePort, times(1)).readFile(cloneUrl, branch, "module1/pom.xml");
+        verify(gitLabFilePort, times(1)).readFile(cloneUrl, branch, "module2/pom.xml");
+        verify(gitLabFilePort, times(1)).readFiles(eq(cloneUrl), eq(branch),
+                argThat(paths -> paths.size() == 2 && paths.containsAll(List.of("module1/pom.xml", "module2/pom.xml"))));
+        verify(gitLabFilePort, never()).fileExists(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void should_skip_missing_module_pom() {
+        RepoId repoId = RepoId.newId();
+        String cloneUrl = "https://gitlab.com/acme/partial.git";
+        String branch = "release/RW-1";
+        when(codeRepositoryPort.findById(repoId)).thenReturn(Optional.of(gitlabRepo(repoId, cloneUrl)));
+        when(gitLabFilePort.readFile(cloneUrl, branch, "pom.xml")).thenReturn(Optional.of("""
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <groupId>com.example</groupId>
+                    <artifactId>parent-project</artifactId>
+                    <version>1.0.0</version>
+                    <modules>
+                        <module>missing</module>
+                    </modules>
+                </project>
+                """));
+        when(gitLabFilePort.readFile(cloneUrl, branch, "missing/pom.xml")).thenReturn(Optional.empty());
+        when(gitLabFilePort.updateFiles(eq(cloneUrl), eq(branch), anyMap(), anyString())).thenReturn(true);
+
+        VersionUpdateResult result = updater.update(
+                VersionUpdateRequest.forMaven(repoId, branch, ".", "2.0.0", "pom.xml"));
+
+        assertTrue(result.success());
+        verify(gitLabFilePort).updateFiles(eq(cloneUrl), eq(branch),
+                argThat((Map<String, String> files) -> files.keySet().equals(Set.of("pom.xml"))), anyString());
+    }
+
+    @Test
+    void should_fail_whole_update_when_module_pom_read_fails() {
+        RepoId repoId = RepoId.newId();
+        String cloneUrl = "https://gitlab.com/acme/flaky.git";
+        String branch = "release/RW-1";
+        when(codeRepositoryPort.findById(repoId)).thenReturn(Optional.of(gitlabRepo(repoId, cloneUrl)));
+        when(gitLabFilePort.readFile(cloneUrl, branch, "pom.xml")).thenReturn(Optional.of("""
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <groupId>com.example</groupId>
+                    <artifactId>parent-project</artifactId>
+                    <version>1.0.0</version>
+                    <modules>
+                        <module>module1</module>
+                        <module>module2</module>
+                    </modules>
+                </project>
+                """));
+        doThrow(BusinessException.gitlabConnectionFailed("module2/pom.xml: 500 Internal Server Error"))
+                .when(gitLabFilePort).readFiles(eq(cloneUrl), eq(branch), argThat(paths -> paths.size() == 2));
+
+        VersionUpdateResult result = updater.update(
+                VersionUpdateRequest.forMaven(repoId, branch, ".", "2.0.0", "pom.xml"));
+
+        assertFalse(result.success());
+        verify(gitLabFilePort, never()).updateFiles(anyString(), anyString(), anyMap(), anyString());
+    }
+
+    @Test
+    void should_fail_without_partial_update_when_gitlab_commit_rejected() {
+        RepoId repoId = RepoId.newId();
+        String cloneUrl = "https://gitlab.com/acme/single.git";
+        String branch = "release/RW-1";
+        when(codeRepositoryPort.findById(repoId)).thenReturn(Optional.of(gitlabRepo(repoId, cloneUrl)));
+        when(gitLabFilePort.readFile(cloneUrl, branch, "pom.xml")).thenReturn(Optional.of("""
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <groupId>com.example</groupId>
+                    <artifactId>single</artifactId>
+                    <version>1.0.0</version>
+                </project>
+                """));
+        when(gitLabFilePort.updateFiles(eq(cloneUrl), eq(branch), anyMap(), anyString())).thenReturn(false);
+
+        VersionUpdateResult result = updater.update(
+                VersionUpdateRequest.forMaven(repoId, branch, ".", "2.0.0", "pom.xml"));
+
+        assertFalse(result.success());
+        verify(gitLabFilePort, never()).updateFile(anyString(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    private CodeRepository gitlabRepo(RepoId repoId, String cloneUrl) {
+        return CodeRepository.rehydrate(
+                repoId, "gitlab-repo", cloneUrl, "main", "G001",
+                RepoType.SERVICE, GitProvider.GITLAB, null, false,
+                0, 0, 0, 0, 0, 0, 0, null, Instant.now(), Instant.now(), 0L);
+    }
 }
@@ -10,6 +10,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Dashboard API Controller
  */
@@ -32,7 +35,10 @@ public class DashboardController {
                 stats.totalIterations(),
                 stats.activeWindows(),
                 stats.totalRuns(),
-                stats.recentRuns()
+                stats.recentRuns(),
+                stats.recentRunsByDay().stream()
+                        .map(day -> new DailyRunCountView(day.day(), day.runs()))
+                        .toList()
         );
         
         return ApiResponse.success(view);
@@ -46,6 +52,12 @@ public class DashboardController {
             long totalIterations,
             long activeWindows,
             long totalRuns,
-            long recentRuns
+            long recentRuns,
+            List<DailyRunCountView> recentRunsByDay
     ) {}
+
+    /**
+     * 单日运行数视图，day 为 UTC 日期
+     */
+    public record DailyRunCountView(LocalDate day, long runs) {}
 }
@@ -1,24 +1,45 @@
 package io.releasehub.interfaces.api.releasewindow;
 
 import io.releasehub.application.conflict.ConflictDetectionAppService;
+import io.releasehub.application.conflict.ConflictScanProgress;
+import io.releasehub.application.conflict.ConflictScanResult;
+import io.releasehub.application.conflict.ConflictScanSummary;
 import io.releasehub.domain.conflict.ConflictItem;
 import io.releasehub.domain.conflict.ConflictReport;
 import io.releasehub.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/v1/release-windows/{id}/conflicts")
-@RequiredArgsConstructor
 @Tag(name = "发布窗口 - 冲突检测")
 public class ConflictDetectionController {
 
+    private static final long STREAM_TIMEOUT_MS = 10 * 60 * 1000L;
+
     private final ConflictDetectionAppService conflictDetectionAppService;
+    private final AsyncTaskExecutor conflictStreamExecutor;
+
+    public ConflictDetectionController(ConflictDetectionAppService conflictDetectionAppService,
+                                       @Qualifier("conflictStreamExecutor") AsyncTaskExecutor conflictStreamExecutor) {
+        this.conflictDetectionAppService = conflictDetectionAppService;
+        this.conflictStreamExecutor = conflictStreamExecutor;
+    }
 
     @PostMapping("/check")
     @Operation(summary = "触发冲突扫描", description = "对发布窗口关联的所有仓库执行四维冲突检测")
@@ -27,6 +48,47 @@ public class ConflictDetectionController {
         return ApiResponse.success(ConflictReportView.from(report));
     }
 
+    @PostMapping(value = "/check/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "流式触发冲突扫描",
+            description = "每个仓库扫描完成即推送 progress 事件，结束时推送 summary 与 report 事件")
+    public SseEmitter checkConflictsStream(@PathVariable("id") String windowId) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        Future<?> scan;
+        try {
+            scan = conflictStreamExecutor.submit(() -> {
+                try {
+                    ConflictScanResult result = conflictDetectionAppService.scanWindowConflicts(windowId,
+                            progress -> send(emitter, "progress", ConflictScanProgressView.from(progress)));
+                    send(emitter, "summary", ConflictScanSummaryView.from(result.summary()));
+                    send(emitter, "report", ConflictReportView.from(result.report()));
+                    emitter.complete();
+                } catch (RuntimeException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Conflict scan stream rejected for window {}: {}", windowId, e.getMessage());
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        // 客户端断开、超时或出错时中断仍在进行的扫描；正常结束后 cancel 不产生影响
+        emitter.onCompletion(() -> scan.cancel(true));
+        emitter.onTimeout(() -> scan.cancel(true));
+        emitter.onError(e -> scan.cancel(true));
+        return emitter;
+    }
+
+    /**
+     * 推送失败（连接已关闭）时忽略，扫描由 emitter 回调取消
+     */
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Conflict scan stream closed: {}", e.getMessage());
+        }
+    }
+
     @GetMapping
     @Operation(summary = "获取最新冲突报告", description = "返回最近一次扫描的冲突结果")
     public ApiResponse<ConflictReportView> getConflicts(@PathVariable("id") String windowId) {
@@ -64,6 +126,43 @@ public class ConflictDetectionController {
         }
     }
 
+    public record ConflictScanProgressView(
+            String repoId,
+            String iterationKey,
+            int completed,
+            int total,
+            List<ConflictItemView> conflicts
+    ) {
+        public static ConflictScanProgressView from(ConflictScanProgress progress) {
+            return new ConflictScanProgressView(
+                    progress.repoId(),
+                    progress.iterationKey(),
+                    progress.completed(),
+                    progress.total(),
+                    progress.conflicts().stream().map(ConflictItemView::from).toList()
+            );
+        }
+    }
+
+    public record ConflictScanSummaryView(
+            int repoScans,
+            int conflictCount,
+            int reusedChecks,
+            long durationMs,
+            Map<String, CheckLatencyView> checks
+    ) {
+        public static ConflictScanSummaryView from(ConflictScanSummary summary) {
+            Map<String, CheckLatencyView> checks = new LinkedHashMap<>();
+            summary.checks().forEach((type, latency) -> checks.put(type.name(),
+                    new CheckLatencyView(latency.count(), latency.avg().toMillis(), latency.max().toMillis())));
+            return new ConflictScanSummaryView(summary.repoScans(), summary.conflictCount(),
+                    summary.reusedChecks(), summary.duration().toMillis(), checks);
+        }
+    }
+
+    public record CheckLatencyView(long count, long avgMs, long maxMs) {
+    }
+
     public record ConflictItemView(
             String repoId,
             String repoName,
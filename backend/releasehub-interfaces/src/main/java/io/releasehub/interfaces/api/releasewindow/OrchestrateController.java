@@ -1,6 +1,7 @@
 package io.releasehub.interfaces.api.releasewindow;
 
 import io.releasehub.application.run.RunAppService;
+import io.releasehub.application.run.RunJobAppService;
 import io.releasehub.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,11 +21,15 @@ import java.util.List;
 @Tag(name = "发布窗口 - 编排管理")
 public class OrchestrateController {
     private final RunAppService runAppService;
+    private final RunJobAppService runJobAppService;
 
     @PostMapping("/{id}/orchestrate")
     @Operation(summary = "Start orchestration for window")
     public ApiResponse<String> orchestrate(@PathVariable("id") String windowId, @RequestBody OrchestrateRequest request) {
-        var run = runAppService.startOrchestrate(windowId, request.getRepoIds(), request.getIterationKeys(), request.isFailFast(), request.getOperator());
+        if (request.isAsync()) {
+            return ApiResponse.success(runJobAppService.submitOrchestrate(windowId, request.getRepoIds(), request.getIterationKeys(), request.isFailFast(), request.isParallel(), request.getOperator()));
+        }
+        var run = runAppService.startOrchestrate(windowId, request.getRepoIds(), request.getIterationKeys(), request.isFailFast(), request.isParallel(), request.getOperator());
         return ApiResponse.success(run.getId().value());
     }
 
@@ -33,6 +38,14 @@ public class OrchestrateController {
         private List<String> repoIds;
         private List<String> iterationKeys;
         private boolean failFast = true;
+        /**
+         * 按仓库并行编排，同一仓库内仍按迭代顺序串行
+         */
+        private boolean parallel = false;
+        /**
+         * 异步执行：立即返回 runId，运行进度通过运行记录查询，作业状态与失败原因通过 /api/v1/runs/{id}/job 查询
+         */
+        private boolean async = false;
         private String operator;
     }
 }
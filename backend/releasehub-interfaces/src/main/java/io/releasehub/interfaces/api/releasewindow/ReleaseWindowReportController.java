@@ -2,21 +2,30 @@ package io.releasehub.interfaces.api.releasewindow;
 
 import io.releasehub.application.export.ExportAppService;
 import io.releasehub.application.export.ReleaseWindowReportView;
+import io.releasehub.interfaces.rest.StreamingDownloads;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/v1/release-windows")
 @RequiredArgsConstructor
 @Tag(name = "发布窗口 - 报告导出")
 public class ReleaseWindowReportController {
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType TEXT_MARKDOWN = new MediaType("text", "markdown", StandardCharsets.UTF_8);
+
     private final ExportAppService exportAppService;
 
     @GetMapping(value = "/{id}/report.json", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -27,13 +36,17 @@ public class ReleaseWindowReportController {
 
     @GetMapping(value = "/{id}/report.csv", produces = "text/csv")
     @Operation(summary = "Export release window report as CSV")
-    public ResponseEntity<String> exportCsv(@PathVariable("id") String id) {
-        return ResponseEntity.ok(exportAppService.exportReleaseWindowCsv(id));
+    public ResponseEntity<StreamingResponseBody> exportCsv(@PathVariable("id") String id,
+                                                           @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        exportAppService.requireReleaseWindow(id);
+        return StreamingDownloads.of(TEXT_CSV, acceptEncoding, out -> exportAppService.writeReleaseWindowCsv(id, out));
     }
 
     @GetMapping(value = "/{id}/report.md", produces = "text/markdown")
     @Operation(summary = "Export release window report as Markdown")
-    public ResponseEntity<String> exportMarkdown(@PathVariable("id") String id) {
-        return ResponseEntity.ok(exportAppService.exportReleaseWindowMarkdown(id));
+    public ResponseEntity<StreamingResponseBody> exportMarkdown(@PathVariable("id") String id,
+                                                                @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        exportAppService.requireReleaseWindow(id);
+        return StreamingDownloads.of(TEXT_MARKDOWN, acceptEncoding, out -> exportAppService.writeReleaseWindowMarkdown(id, out));
     }
 }
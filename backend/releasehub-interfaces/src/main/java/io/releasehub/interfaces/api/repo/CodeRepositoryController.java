@@ -14,6 +14,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -32,6 +33,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Tag(name = "代码仓库 - 仓库管理")
 public class CodeRepositoryController {
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String TRUNCATED_HEADER = "X-Result-Truncated";
+
     private final CodeRepositoryAppService appService;
     private final CodeRepositoryPort codeRepositoryPort;
     private final GitBranchAdapterFactory gitBranchAdapterFactory;
@@ -111,9 +115,28 @@ public class CodeRepositoryController {
     }
 
     @GetMapping
-    @Operation(summary = "List repositories")
-    public ApiResponse<List<CodeRepositoryView>> list(@RequestParam(name = "keyword", required = false) String keyword) {
-        return ApiResponse.success(appService.search(keyword).stream().map(CodeRepositoryView::fromDomain).collect(Collectors.toList()));
+    @Operation(summary = "List repositories",
+            description = "最多返回 limit 条（上限 200），响应头 X-Total-Count 为全部命中数，X-Result-Truncated 标记是否截断；"
+                    + "完整结果请使用 /paged，输入联想请使用 /suggest")
+    public ResponseEntity<ApiResponse<List<CodeRepositoryView>>> list(@RequestParam(name = "keyword", required = false) String keyword,
+                                                                      @RequestParam(name = "limit", defaultValue = "200") int limit) {
+        var result = appService.search(keyword, limit);
+        List<CodeRepositoryView> views = result.items().stream()
+                .map(CodeRepositoryView::fromDomain)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.total()))
+                .header(TRUNCATED_HEADER, String.valueOf(result.total() > views.size()))
+                .body(ApiResponse.success(views));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest repositories by name or clone URL")
+    public ApiResponse<List<RepoSuggestionView>> suggest(@RequestParam(name = "keyword", required = false) String keyword,
+                                                         @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ApiResponse.success(appService.suggest(keyword, limit).stream()
+                .map(RepoSuggestionView::from)
+                .collect(Collectors.toList()));
     }
 
     @GetMapping("/paged")
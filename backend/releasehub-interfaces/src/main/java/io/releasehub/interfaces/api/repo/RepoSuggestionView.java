@@ -0,0 +1,17 @@
+package io.releasehub.interfaces.api.repo;
+
+import io.releasehub.application.repo.RepoSearchHit;
+
+/**
+ * 仓库联想搜索结果
+ */
+public record RepoSuggestionView(
+        String id,
+        String name,
+        String cloneUrl,
+        String groupCode
+) {
+    public static RepoSuggestionView from(RepoSearchHit hit) {
+        return new RepoSuggestionView(hit.id(), hit.name(), hit.cloneUrl(), hit.groupCode());
+    }
+}
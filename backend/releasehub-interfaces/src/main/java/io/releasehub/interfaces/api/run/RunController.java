@@ -1,19 +1,33 @@
 package io.releasehub.interfaces.api.run;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.releasehub.application.run.RunItemFilter;
+import io.releasehub.application.run.RunJob;
+import io.releasehub.application.run.RunJobAppService;
 import io.releasehub.application.run.RunPort;
+import io.releasehub.application.run.RunSummary;
+import io.releasehub.common.exception.NotFoundException;
 import io.releasehub.common.paging.PageMeta;
 import io.releasehub.common.response.ApiPageResponse;
 import io.releasehub.common.response.ApiResponse;
+import io.releasehub.domain.run.ActionType;
 import io.releasehub.domain.run.Run;
+import io.releasehub.domain.run.RunItemResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -21,7 +35,11 @@ import java.util.List;
 @RequiredArgsConstructor
 @Tag(name = "运行记录 - Runs")
 public class RunController {
+    private static final String NDJSON = "application/x-ndjson";
+
     private final RunPort runPort;
+    private final RunJobAppService runJobAppService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{id}")
     @Operation(summary = "Get run")
@@ -29,16 +47,72 @@ public class RunController {
         return ApiResponse.success(runPort.findById(id).map(RunView::from).orElse(null));
     }
 
+    /**
+     * 异步提交的运行对应的作业状态，作业失败时返回失败原因
+     */
+    @GetMapping("/{id}/job")
+    @Operation(summary = "Get async run job status")
+    public ApiResponse<RunJobView> getJob(@PathVariable("id") String id) {
+        return ApiResponse.success(RunJobView.from(runJobAppService.getJob(id)));
+    }
+
+    @GetMapping("/{id}/items")
+    @Operation(summary = "List run items (paged)")
+    public ApiPageResponse<List<RunItemView>> listItems(@PathVariable("id") String id,
+                                                        @RequestParam(name = "page", defaultValue = "1") int page,
+                                                        @RequestParam(name = "size", defaultValue = "20") int size,
+                                                        @RequestParam(name = "result", required = false) RunItemResult result,
+                                                        @RequestParam(name = "actionType", required = false) ActionType actionType,
+                                                        @RequestParam(name = "repoId", required = false) String repoId) {
+        requireRun(id);
+        var items = runPort.findItemsPaged(id, new RunItemFilter(result, actionType, repoId), page, size);
+        List<RunItemView> views = items.items().stream().map(RunItemView::from).toList();
+        return ApiPageResponse.success(views, new PageMeta(page, size, items.total()));
+    }
+
+    /**
+     * 以 NDJSON 逐行输出运行项，服务端按游标读取，不在内存中组装完整运行
+     */
+    @GetMapping(value = "/{id}/items.ndjson", produces = NDJSON)
+    @Operation(summary = "Stream run items as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamItems(@PathVariable("id") String id,
+                                                             @RequestParam(name = "result", required = false) RunItemResult result,
+                                                             @RequestParam(name = "actionType", required = false) ActionType actionType,
+                                                             @RequestParam(name = "repoId", required = false) String repoId) {
+        requireRun(id);
+        RunItemFilter filter = new RunItemFilter(result, actionType, repoId);
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = objectMapper.writerFor(RunItemView.class)
+                                                     .withRootValueSeparator("\n")
+                                                     .writeValues(out)) {
+                runPort.forEachItem(id, filter, item -> {
+                    try {
+                        writer.write(RunItemView.from(item));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    private void requireRun(String id) {
+        if (!runPort.existsById(id)) {
+            throw NotFoundException.run(id);
+        }
+    }
+
     @GetMapping
     @Operation(summary = "List runs")
-    public ApiResponse<List<RunView>> list() {
-        List<RunView> views = runPort.findAll().stream().map(RunView::from).toList();
+    public ApiResponse<List<RunSummaryView>> list() {
+        List<RunSummaryView> views = runPort.findAllSummaries().stream().map(RunSummaryView::from).toList();
         return ApiResponse.success(views);
     }
 
     @GetMapping("/paged")
     @Operation(summary = "List runs (paged)")
-    public ApiPageResponse<List<RunView>> listPaged(@RequestParam(name = "page", defaultValue = "1") int page,
+    public ApiPageResponse<List<RunSummaryView>> listPaged(@RequestParam(name = "page", defaultValue = "1") int page,
                                                     @RequestParam(name = "size", defaultValue = "20") int size,
                                                     @RequestParam(name = "runType", required = false) String runType,
                                                     @RequestParam(name = "operator", required = false) String operator,
@@ -48,12 +122,64 @@ public class RunController {
                                                     @RequestParam(name = "status", required = false) String status,
                                                     @RequestParam(name = "groupCode", required = false) String groupCode) {
         var result = runPort.findPaged(runType, operator, windowKey, repoId, iterationKey, status, groupCode, page, size);
-        List<RunView> views = result.items().stream().map(RunView::from).toList();
+        List<RunSummaryView> views = result.items().stream().map(RunSummaryView::from).toList();
         return ApiPageResponse.success(views, new PageMeta(page, size, result.total()));
     }
 
     /**
-     * Run 列表视图 DTO
+     * Run 列表视图 DTO，只含运行头与运行项计数
+     */
+    public record RunSummaryView(
+            String id,
+            String runType,
+            String status,
+            String startedAt,
+            String finishedAt,
+            String operator,
+            int itemCount,
+            int successCount,
+            int failedCount
+    ) {
+        public static RunSummaryView from(RunSummary run) {
+            return new RunSummaryView(
+                    run.id(),
+                    run.runType().name(),
+                    run.status().name(),
+                    run.startedAt() != null ? run.startedAt().toString() : null,
+                    run.finishedAt() != null ? run.finishedAt().toString() : null,
+                    run.operator(),
+                    run.itemCount(),
+                    run.successCount(),
+                    run.failedCount()
+            );
+        }
+    }
+
+    /**
+     * 异步作业视图 DTO
+     */
+    public record RunJobView(
+            String runId,
+            String type,
+            String status,
+            String errorMessage,
+            String createdAt,
+            String updatedAt
+    ) {
+        public static RunJobView from(RunJob job) {
+            return new RunJobView(
+                    job.runId(),
+                    job.type().name(),
+                    job.status().name(),
+                    job.errorMessage(),
+                    job.createdAt() != null ? job.createdAt().toString() : null,
+                    job.updatedAt() != null ? job.updatedAt().toString() : null
+            );
+        }
+    }
+
+    /**
+     * Run 详情视图 DTO
      */
     public record RunView(
             String id,
@@ -73,37 +199,16 @@ public class RunController {
         }
 
         public static RunView from(Run run) {
-            String status = determineStatus(run);
             return new RunView(
                     run.getId().value(),
                     run.getRunType().name(),
-                    status,
+                    run.getStatus().name(),
                     run.getStartedAt() != null ? run.getStartedAt().toString() : null,
                     run.getFinishedAt() != null ? run.getFinishedAt().toString() : null,
                     run.getOperator(),
                     run.getItems().stream().map(RunItemView::from).toList()
             );
         }
-
-        private static String determineStatus(Run run) {
-            if (run.getItems().isEmpty()) {
-                return run.getFinishedAt() != null ? "COMPLETED" : "RUNNING";
-            }
-            boolean hasFailed = run.getItems().stream()
-                    .anyMatch(item -> item.getFinalResult() != null &&
-                            (item.getFinalResult().name().contains("FAILED") ||
-                             item.getFinalResult().name().equals("MERGE_BLOCKED")));
-            if (hasFailed) {
-                return "FAILED";
-            }
-            boolean allSuccess = run.getItems().stream()
-                    .allMatch(item -> item.getFinalResult() != null &&
-                            item.getFinalResult().name().contains("SUCCESS"));
-            if (allSuccess) {
-                return "SUCCESS";
-            }
-            return run.getFinishedAt() != null ? "COMPLETED" : "RUNNING";
-        }
     }
 
     public record RunItemView(
@@ -3,15 +3,21 @@ package io.releasehub.interfaces.api.run;
 import io.releasehub.application.export.ExportAppService;
 import io.releasehub.application.export.RunJsonView;
 import io.releasehub.application.run.RunPort;
+import io.releasehub.interfaces.rest.StreamingDownloads;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author tongshuanglong
@@ -21,13 +27,17 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @Tag(name = "运行记录 - 数据导出")
 public class RunExportController {
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final ExportAppService exportAppService;
     private final RunPort runPort;
 
     @GetMapping(value = "/{id}/export.csv", produces = "text/csv")
     @Operation(summary = "Export run as CSV")
-    public ResponseEntity<String> exportCsv(@PathVariable("id") String id) {
-        return ResponseEntity.ok(exportAppService.exportCsv(id));
+    public ResponseEntity<StreamingResponseBody> exportCsv(@PathVariable("id") String id,
+                                                           @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        exportAppService.requireRun(id);
+        return StreamingDownloads.of(TEXT_CSV, acceptEncoding, out -> exportAppService.writeRunCsv(id, out));
     }
 
     @GetMapping(value = "/{id}/export.json", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -1,6 +1,7 @@
 package io.releasehub.interfaces.api.run;
 
 import io.releasehub.application.run.RunAppService;
+import io.releasehub.application.run.RunJobAppService;
 import io.releasehub.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,10 +24,14 @@ import java.util.List;
 @Tag(name = "运行记录 - 重试管理")
 public class RunRetryController {
     private final RunAppService runAppService;
+    private final RunJobAppService runJobAppService;
 
     @PostMapping("/{id}/retry")
     @Operation(summary = "Retry run with selected items")
     public ApiResponse<String> retry(@PathVariable("id") String runId, @RequestBody RetryRequest request) {
+        if (request.isAsync()) {
+            return ApiResponse.success(runJobAppService.submitRetry(runId, request.getItems(), request.getOperator()));
+        }
         var run = runAppService.retry(runId, request.getItems(), request.getOperator());
         return ApiResponse.success(run.getId().value());
     }
@@ -35,5 +40,9 @@ public class RunRetryController {
     public static class RetryRequest {
         private List<String> items;
         private String operator;
+        /**
+         * 异步执行：立即返回 runId，运行进度通过运行记录查询，作业状态与失败原因通过 /api/v1/runs/{id}/job 查询
+         */
+        private boolean async = false;
     }
 }
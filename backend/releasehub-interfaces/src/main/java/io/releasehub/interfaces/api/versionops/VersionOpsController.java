@@ -1,11 +1,17 @@
 package io.releasehub.interfaces.api.versionops;
 
+import io.releasehub.application.run.RunItemFilter;
 import io.releasehub.application.run.RunPort;
+import io.releasehub.application.run.RunSummary;
+import io.releasehub.common.exception.NotFoundException;
 import io.releasehub.common.paging.PageMeta;
 import io.releasehub.common.response.ApiPageResponse;
 import io.releasehub.common.response.ApiResponse;
+import io.releasehub.domain.run.ActionType;
 import io.releasehub.domain.run.Run;
 import io.releasehub.domain.run.RunItem;
+import io.releasehub.domain.run.RunItemResult;
+import io.releasehub.domain.run.RunStatus;
 import io.releasehub.domain.run.RunStep;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -47,6 +53,26 @@ public class VersionOpsController {
                 .orElse(ApiResponse.success(null));
     }
 
+    @GetMapping("/runs/{runId}/items")
+    @Operation(summary = "分页查询版本运维运行项")
+    public ApiPageResponse<List<ItemView>> listRunItems(
+            @PathVariable String runId,
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "result", required = false) RunItemResult result,
+            @RequestParam(name = "actionType", required = false) ActionType actionType,
+            @RequestParam(name = "repoId", required = false) String repoId) {
+
+        if (!runPort.existsById(runId)) {
+            throw NotFoundException.run(runId);
+        }
+        var items = runPort.findItemsPaged(runId, new RunItemFilter(result, actionType, repoId), page, size);
+        List<ItemView> views = items.items().stream()
+                .map(ItemView::from)
+                .toList();
+        return ApiPageResponse.success(views, new PageMeta(page, size, items.total()));
+    }
+
     @GetMapping("/runs/{runId}/logs")
     @Operation(summary = "获取运行日志行")
     public ApiResponse<RunLogsView> getRunLogs(@PathVariable String runId) {
@@ -85,32 +111,24 @@ public class VersionOpsController {
             String startedAt,
             String finishedAt
     ) {
-        public static RunSummaryView from(Run run) {
+        public static RunSummaryView from(RunSummary run) {
             return new RunSummaryView(
-                    run.getId().value(),
-                    run.getRunType().name(),
-                    determineStatus(run),
+                    run.id(),
+                    run.runType().name(),
+                    determineStatus(run.status()),
                     null,
                     null,
-                    run.getStartedAt() != null ? run.getStartedAt().toString() : null,
-                    run.getFinishedAt() != null ? run.getFinishedAt().toString() : null
+                    run.startedAt() != null ? run.startedAt().toString() : null,
+                    run.finishedAt() != null ? run.finishedAt().toString() : null
             );
         }
 
-        private static String determineStatus(Run run) {
-            if (run.getItems().isEmpty()) {
-                return run.getFinishedAt() != null ? "SUCCEEDED" : "RUNNING";
-            }
-            boolean hasFailed = run.getItems().stream()
-                    .anyMatch(item -> item.getFinalResult() != null &&
-                            (item.getFinalResult().name().contains("FAILED") ||
-                             item.getFinalResult().name().equals("MERGE_BLOCKED")));
-            if (hasFailed) return "FAILED";
-            boolean allSuccess = run.getItems().stream()
-                    .allMatch(item -> item.getFinalResult() != null &&
-                            item.getFinalResult().name().contains("SUCCESS"));
-            if (allSuccess) return "SUCCEEDED";
-            return run.getFinishedAt() != null ? "SUCCEEDED" : "RUNNING";
+        private static String determineStatus(RunStatus status) {
+            return switch (status) {
+                case FAILED -> "FAILED";
+                case RUNNING -> "RUNNING";
+                case SUCCESS, COMPLETED -> "SUCCEEDED";
+            };
         }
     }
 
@@ -135,7 +153,7 @@ public class VersionOpsController {
             return new RunDetailView(
                     run.getId().value(),
                     run.getRunType().name(),
-                    RunSummaryView.determineStatus(run),
+                    RunSummaryView.determineStatus(run.getStatus()),
                     null,
                     run.getStartedAt() != null ? run.getStartedAt().toString() : null,
                     run.getFinishedAt() != null ? run.getFinishedAt().toString() : null,
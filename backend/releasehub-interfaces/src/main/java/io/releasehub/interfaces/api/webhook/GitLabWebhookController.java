@@ -0,0 +1,77 @@
+package io.releasehub.interfaces.api.webhook;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.releasehub.application.gitlab.GitLabWebhookAppService;
+import io.releasehub.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * GitLab webhook 接收端。
+ * <p>
+ * 不走 JWT 认证，使用 {@code X-Gitlab-Token} 与 {@code releasehub.gitlab.webhook-secret} 校验来源。
+ */
+@RestController
+@RequestMapping("/api/v1/webhooks/gitlab")
+@RequiredArgsConstructor
+@Tag(name = "GitLab Webhook")
+public class GitLabWebhookController {
+    private final GitLabWebhookAppService gitLabWebhookAppService;
+
+    @PostMapping("/merge-requests")
+    @Operation(summary = "Receive GitLab merge request events")
+    public ApiResponse<Boolean> mergeRequest(@RequestHeader(value = "X-Gitlab-Token", required = false) String token,
+                                             @RequestBody MergeRequestEvent event) {
+        ObjectAttributes attributes = event.getObjectAttributes();
+        String projectWebUrl = event.getProject() == null ? null : event.getProject().getWebUrl();
+        String projectPath = event.getProject() == null ? null : event.getProject().getPathWithNamespace();
+        Integer iid = attributes == null ? null : attributes.getIid();
+        String mergeStatus = attributes == null ? null : attributes.resolvedMergeStatus();
+        return ApiResponse.success(gitLabWebhookAppService.handleMergeRequestEvent(
+                token, event.getObjectKind(), projectWebUrl, projectPath, iid, mergeStatus));
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MergeRequestEvent {
+        @JsonProperty("object_kind")
+        private String objectKind;
+        private Project project;
+        @JsonProperty("object_attributes")
+        private ObjectAttributes objectAttributes;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Project {
+        @JsonProperty("path_with_namespace")
+        private String pathWithNamespace;
+        @JsonProperty("web_url")
+        private String webUrl;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ObjectAttributes {
+        private Integer iid;
+        @JsonProperty("merge_status")
+        private String mergeStatus;
+        @JsonProperty("detailed_merge_status")
+        private String detailedMergeStatus;
+
+        /**
+         * 与轮询保持一致：优先使用 detailed_merge_status
+         */
+        String resolvedMergeStatus() {
+            return detailedMergeStatus != null ? detailedMergeStatus : mergeStatus;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.releasehub.interfaces.rest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 流式下载响应：正文由 {@link StreamingResponseBody} 边生成边写出，客户端声明支持 gzip 时压缩输出
+ */
+public final class StreamingDownloads {
+
+    private StreamingDownloads() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> of(MediaType contentType, String acceptEncoding,
+                                                           StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                                                           .contentType(contentType)
+                                                           .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!acceptsGzip(acceptEncoding)) {
+            return builder.body(body);
+        }
+        return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                      .body(out -> {
+                          GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+                          body.writeTo(gzip);
+                          gzip.finish();
+                      });
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+}
@@ -6,6 +6,13 @@ export interface DashboardStats {
   activeWindows: number
   totalRuns: number
   recentRuns: number
+  recentRunsByDay: DailyRunCount[]
+}
+
+export interface DailyRunCount {
+  /** UTC 日期，yyyy-MM-dd */
+  day: string
+  runs: number
 }
 
 export const dashboardApi = {
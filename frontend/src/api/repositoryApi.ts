@@ -26,6 +26,13 @@ export interface Repository {
   updatedAt: string
 }
 
+export interface RepositorySuggestion {
+  id: string
+  name: string
+  cloneUrl: string
+  groupCode: string
+}
+
 export interface GateSummary {
   protectedBranch: boolean
   approvalRequired: boolean
@@ -98,6 +105,14 @@ export const repositoryApi = {
     }
   },
 
+  /** 按名称 / cloneUrl 联想搜索，名称匹配优先，默认最多 20 条 */
+  async suggest(keyword: string, limit = 20): Promise<RepositorySuggestion[]> {
+    const res = await http.get<ApiResponse<RepositorySuggestion[]>>('/v1/repositories/suggest', {
+      params: { keyword, limit }
+    })
+    return res.data.data
+  },
+
   async get(id: Id): Promise<Repository> {
     const res = await http.get<ApiResponse<Repository>>(`/v1/repositories/${id}`)
     return res.data.data
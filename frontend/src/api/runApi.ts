@@ -9,6 +9,10 @@ export interface Run {
   startedAt: string
   finishedAt: string
   operator: string
+  /** 列表接口返回的运行项计数，详情接口不返回 */
+  itemCount?: number
+  successCount?: number
+  failedCount?: number
 }
 
 export interface RunDetail extends Run {
@@ -78,6 +82,22 @@ export const runApi = {
     return normalizeRunDetail(res.data, String(id))
   },
 
+  // 分页获取运行项，大运行的详情页按需加载
+  async listItems(runId: Id, query: PageQuery & { result?: string; actionType?: string; repoId?: string }): Promise<PageResult<RunItem>> {
+    const params = {
+      page: query.page,
+      size: query.pageSize,
+      result: query.result,
+      actionType: query.actionType,
+      repoId: query.repoId
+    }
+    const res = await http.get<ApiPageResponse<RunItem[]>>(`/v1/runs/${runId}/items`, { params })
+    return {
+      list: res.data.data,
+      total: res.data.page.total
+    }
+  },
+
   async retry(id: Id, items: string[], operator: string): Promise<string> {
     const res = await http.post<string>(`/v1/runs/${id}/retry`, { items, operator })
     return res.data